@@ -0,0 +1,69 @@
+package com.repodocaiagent.agent.benchmarks;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import com.repodocaiagent.agent.service.JavaParserService;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Discovery and whole-repository parsing over synthetic repositories from {@link SyntheticRepositoryGenerator}.
+ * The generator is seeded, so every run measures the same files.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DiscoveryBenchmark {
+    @Param({"1000", "10000"})
+    public int classes;
+
+    private JavaParserService parser;
+    private Path repository;
+
+    @Setup
+    public void setUp() throws IOException, GitAPIException {
+        parser = new JavaParserService(true);
+        repository = new SyntheticRepositoryGenerator(SyntheticRepositoryGenerator.Settings.parse("--classes=" + classes))
+            .generate(Files.createTempDirectory("jmh-repo"));
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Fixtures.delete(repository);
+    }
+
+    @Benchmark
+    public List<Path> findJavaFiles() throws IOException {
+        return parser.findJavaFiles(repository);
+    }
+
+    /**
+     * Discovers and parses the whole repository on all cores; one operation is one repository.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public List<JavaClassDoc> discoverAndParse() throws IOException {
+        return parser.parseAll(parser.findJavaFiles(repository));
+    }
+}
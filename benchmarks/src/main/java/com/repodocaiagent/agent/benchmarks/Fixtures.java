@@ -0,0 +1,68 @@
+package com.repodocaiagent.agent.benchmarks;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.stream.Stream;
+
+/**
+ * Checked-in Java sources the benchmarks run against. They are copied into temp directories,
+ * so the benchmarks need neither network nor a particular working directory.
+ */
+final class Fixtures {
+    /** Fixture file names by size: a small POJO, a medium service and a huge generated class. */
+    static final String SMALL = "Customer.java";
+    static final String MEDIUM = "OrderService.java";
+    static final String HUGE = "LegacyReportEngine.java";
+
+    private Fixtures() {
+    }
+
+    /**
+     * @param size small, medium or huge
+     * @return File name of the fixture of that size
+     */
+    static String named(String size) {
+        return switch (size) {
+            case "small" -> SMALL;
+            case "medium" -> MEDIUM;
+            case "huge" -> HUGE;
+            default -> throw new IllegalArgumentException("Unknown fixture size: " + size);
+        };
+    }
+
+    static byte[] read(String fixture) {
+        try (InputStream in = Fixtures.class.getResourceAsStream("/fixtures/" + fixture)) {
+            if (in == null) {
+                throw new IllegalStateException("Fixture " + fixture + " is missing from the classpath");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Copies one fixture into a new temp directory.
+     *
+     * @return Path of the copied file
+     */
+    static Path copy(String fixture) throws IOException {
+        Path dir = Files.createTempDirectory("jmh-fixture");
+        return Files.write(dir.resolve(fixture), read(fixture));
+    }
+
+    static void delete(Path dir) throws IOException {
+        if (dir == null || !Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> walk = Files.walk(dir)) {
+            for (Path path : walk.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
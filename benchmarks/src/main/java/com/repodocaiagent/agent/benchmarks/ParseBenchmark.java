@@ -0,0 +1,75 @@
+package com.repodocaiagent.agent.benchmarks;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import com.repodocaiagent.agent.service.JavaParserService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parse cost of a single file. Every fixture holds one class, so with {@code -prof gc} the
+ * gc.alloc.rate.norm column is the memory allocated per parsed class.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ParseBenchmark {
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    @Param({"false", "true"})
+    public boolean fastProfile;
+
+    private JavaParserService parser;
+    private Path file;
+    private byte[] content;
+
+    @Setup
+    public void setUp() throws IOException {
+        parser = new JavaParserService(fastProfile);
+        file = Fixtures.copy(Fixtures.named(size));
+        content = Fixtures.read(Fixtures.named(size));
+        if (parser.parseJavaFile(file) == null) {
+            throw new IllegalStateException("Fixture " + file + " does not parse");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Fixtures.delete(file.getParent());
+    }
+
+    /**
+     * Reads the file from disk (page cache after warmup) and parses it.
+     */
+    @Benchmark
+    public JavaClassDoc parseFile() {
+        return parser.parseJavaFile(file);
+    }
+
+    /**
+     * Parses bytes already in memory, as sources read from git blobs are.
+     */
+    @Benchmark
+    public JavaClassDoc parseSource() {
+        byte[] bytes = content;
+        return parser.parseSource(file, bytes, (offset, length) -> () -> new String(bytes, offset, length, StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,84 @@
+package com.repodocaiagent.agent.benchmarks;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import com.repodocaiagent.agent.service.DocumentationGeneratorService;
+import com.repodocaiagent.agent.service.JavaParserService;
+import com.repodocaiagent.agent.service.PromptBudget;
+import com.repodocaiagent.agent.service.PromptTemplates;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
+import dev.langchain4j.model.output.Response;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of turning a parsed class into prompts. The model answers instantly with a fixed text, so
+ * {@link #generateClassDocumentation()} measures prompt building, token counting, chunking of
+ * classes over the budget and writing the small result file.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PromptBenchmark {
+    private static final String ANSWER = "# Documentation\n\nGenerated by the benchmark model.\n";
+
+    @Param({"small", "medium", "huge"})
+    public String size;
+
+    private Path fixture;
+    private Path outputDir;
+    private JavaClassDoc classDoc;
+    private String sourceCode;
+    private PromptTemplates templates;
+    private DocumentationGeneratorService generator;
+
+    @Setup
+    public void setUp() throws IOException {
+        fixture = Fixtures.copy(Fixtures.named(size));
+        classDoc = new JavaParserService().parseJavaFile(fixture);
+        sourceCode = classDoc.getSourceCode();
+        outputDir = Files.createTempDirectory("jmh-docs");
+        templates = new PromptTemplates(null);
+        PromptBudget budget = new PromptBudget(new OpenAiTokenizer("gpt-4"), 12000, 20);
+        generator = new DocumentationGeneratorService(
+            messages -> Response.from(AiMessage.from(ANSWER)), budget, 1, null, templates);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Fixtures.delete(fixture.getParent());
+        Fixtures.delete(outputDir);
+    }
+
+    @Benchmark
+    public Path generateClassDocumentation() throws IOException {
+        return generator.generateClassDocumentation(classDoc, outputDir);
+    }
+
+    /**
+     * Renders the compiled class template alone, with the source as the only large value.
+     */
+    @Benchmark
+    public String renderTemplate() {
+        return templates.get("class-documentation.md")
+            .render(name -> "sourceCode".equals(name) ? sourceCode : name);
+    }
+}
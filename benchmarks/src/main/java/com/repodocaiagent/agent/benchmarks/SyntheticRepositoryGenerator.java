@@ -0,0 +1,428 @@
+package com.repodocaiagent.agent.benchmarks;
+
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.lib.PersonIdent;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.TimeZone;
+
+/**
+ * Writes a deterministic synthetic Java repository for scale testing. The same settings always produce
+ * the same files, and with {@code --git} the same commit, so parser, discovery and generation benchmarks
+ * can be rerun on identical input.
+ * <p>
+ * The repository is a multi-module Maven layout with package trees of random depth. Method counts follow
+ * a long-tailed distribution with a few huge classes, a share of members has Javadoc, some classes have
+ * nested classes, and some use constructs that are rare in practice: records, sealed interfaces, enums
+ * with bodies, annotation types, text blocks, switch expressions, local records, anonymous classes and
+ * non-ASCII identifiers.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.repodocaiagent.agent.benchmarks.SyntheticRepositoryGenerator
+ * <output-dir> [--classes=10000] [--methods-mean=12] [--methods-max=2000] [--huge-class-rate=0.001]
+ * [--javadoc=0.6] [--package-depth=6] [--nested-class-rate=0.1] [--nesting-depth=2] [--odd-construct-rate=0.05]
+ * [--classes-per-module=5000] [--seed=42] [--git]}
+ */
+public final class SyntheticRepositoryGenerator {
+    private static final String[] SEGMENTS = {
+        "api", "core", "impl", "internal", "util", "model", "service", "io", "spi", "config", "web", "data"
+    };
+    private static final String[] NOUNS = {
+        "Order", "Customer", "Invoice", "Report", "Session", "Account", "Ledger", "Token", "Route", "Schedule",
+        "Document", "Payment", "Widget", "Catalog", "Metric", "Channel"
+    };
+    private static final String[] ROLES = {
+        "Service", "Repository", "Handler", "Factory", "Builder", "Validator", "Mapper", "Client", "Manager", "Util"
+    };
+    private static final String[] VERBS = {"get", "find", "create", "update", "remove", "compute", "resolve", "load", "apply", "merge"};
+    private static final String[] TYPES = {"void", "int", "long", "String", "boolean", "List<String>", "Map<String, Integer>", "Optional<String>"};
+    private static final int CLASSES_PER_PACKAGE = 25;
+    private static final PersonIdent AUTHOR = new PersonIdent("Synthetic Generator", "generator@example.com",
+        new Date(0), TimeZone.getTimeZone("UTC"));
+
+    private final Settings settings;
+    private final Random random;
+    private final List<String> generatedClasses = new ArrayList<>();
+
+    public SyntheticRepositoryGenerator(Settings settings) {
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    public static void main(String[] args) throws IOException, GitAPIException {
+        if (args.length == 0 || args[0].startsWith("--")) {
+            System.err.println("Usage: SyntheticRepositoryGenerator <output-dir> [--classes=N] [--git] ...");
+            System.exit(1);
+        }
+        Path root = Path.of(args[0]).toAbsolutePath().normalize();
+        Settings settings = Settings.parse(Arrays.copyOfRange(args, 1, args.length));
+        long start = System.nanoTime();
+        new SyntheticRepositoryGenerator(settings).generate(root);
+        System.out.printf("Generated %d classes in %s in %.1f s%n", settings.classes(), root, (System.nanoTime() - start) / 1e9);
+        if (settings.commit()) {
+            String uri = root.toUri().toString();
+            System.out.println("Clone URL: " + (uri.endsWith("/") ? uri.substring(0, uri.length() - 1) : uri));
+        }
+    }
+
+    /**
+     * Writes the repository, and commits it when the settings ask for a git repository.
+     *
+     * @param root Directory to create the repository in; must be empty or not exist
+     * @return The root directory
+     */
+    public Path generate(Path root) throws IOException, GitAPIException {
+        Files.createDirectories(root);
+        try (var existing = Files.list(root)) {
+            if (existing.findAny().isPresent()) {
+                throw new IllegalArgumentException("Output directory is not empty: " + root);
+            }
+        }
+        Files.writeString(root.resolve(".gitignore"), "target/\n");
+        Files.writeString(root.resolve("pom.xml"), "<project>\n    <modelVersion>4.0.0</modelVersion>\n"
+            + "    <groupId>com.synthetic</groupId>\n    <artifactId>synthetic-parent</artifactId>\n</project>\n");
+
+        Set<String> packagesWithInfo = new HashSet<>();
+        List<String> modulePackages = new ArrayList<>();
+        for (int i = 0; i < settings.classes(); i++) {
+            int module = i / settings.classesPerModule();
+            Path moduleDir = root.resolve("module-" + module);
+            if (i % settings.classesPerModule() == 0) {
+                Files.createDirectories(moduleDir.resolve("src/main/resources"));
+                Files.writeString(moduleDir.resolve("pom.xml"), "<project>\n    <artifactId>module-" + module + "</artifactId>\n</project>\n");
+                Files.writeString(moduleDir.resolve("src/main/resources/application.properties"), "module.index=" + module + "\n");
+                modulePackages.clear();
+                for (int p = 0; p < Math.max(1, settings.classesPerModule() / CLASSES_PER_PACKAGE); p++) {
+                    modulePackages.add(packageName(module));
+                }
+            }
+            String packageName = modulePackages.get(random.nextInt(modulePackages.size()));
+            Path packageDir = moduleDir.resolve("src/main/java").resolve(packageName.replace('.', '/'));
+            Files.createDirectories(packageDir);
+            if (packagesWithInfo.add(packageName) && random.nextDouble() < settings.javadocDensity()) {
+                Files.writeString(packageDir.resolve("package-info.java"),
+                    "/**\n * Synthetic package " + packageName + ".\n */\npackage " + packageName + ";\n");
+            }
+            String className = NOUNS[random.nextInt(NOUNS.length)] + ROLES[random.nextInt(ROLES.length)] + i;
+            String source = classSource(packageName, className);
+            Files.writeString(packageDir.resolve(className + ".java"), source, StandardCharsets.UTF_8);
+            generatedClasses.add(packageName + "." + className);
+        }
+
+        if (settings.commit()) {
+            try (Git git = Git.init().setDirectory(root.toFile()).setInitialBranch("main").call()) {
+                git.add().addFilepattern(".").call();
+                // fixed author and time so the same settings produce the same commit id
+                git.commit().setMessage("Synthetic repository, seed " + settings.seed())
+                    .setAuthor(AUTHOR).setCommitter(AUTHOR).setSign(false).call();
+            }
+        }
+        return root;
+    }
+
+    private String packageName(int module) {
+        StringBuilder name = new StringBuilder("com.synthetic.m").append(module);
+        int depth = 1 + random.nextInt(Math.max(1, settings.packageDepth()));
+        for (int level = 0; level < depth; level++) {
+            name.append('.').append(SEGMENTS[random.nextInt(SEGMENTS.length)]);
+        }
+        return name.toString();
+    }
+
+    private String classSource(String packageName, String className) {
+        StringBuilder out = new StringBuilder(4096);
+        out.append("package ").append(packageName).append(";\n\n");
+        out.append("import java.util.ArrayList;\nimport java.util.List;\nimport java.util.Map;\nimport java.util.Optional;\n");
+        int dependencies = generatedClasses.isEmpty() ? 0 : random.nextInt(4);
+        List<String> dependencyTypes = new ArrayList<>();
+        Set<String> simpleNames = new HashSet<>();
+        for (int d = 0; d < dependencies; d++) {
+            String dependency = generatedClasses.get(random.nextInt(generatedClasses.size()));
+            // imports must not clash by simple name; same-package classes need no import
+            if (!dependency.substring(0, dependency.lastIndexOf('.')).equals(packageName)
+                    && simpleNames.add(dependency.substring(dependency.lastIndexOf('.') + 1))) {
+                out.append("import ").append(dependency).append(";\n");
+                dependencyTypes.add(dependency);
+            }
+        }
+        out.append('\n');
+
+        boolean odd = random.nextDouble() < settings.oddConstructRate();
+        if (odd && random.nextInt(3) == 0) {
+            oddTypeDeclaration(out, className);
+            return out.toString();
+        }
+        int methods = methodCount();
+        javadoc(out, "", "Synthetic " + className + " with " + methods + " methods.");
+        if (odd) {
+            out.append("@SuppressWarnings({\"unchecked\", \"rawtypes\"})\n");
+        }
+        out.append("public class ").append(className);
+        if (random.nextInt(4) == 0) {
+            out.append(" implements java.io.Serializable");
+        }
+        out.append(" {\n");
+        classBody(out, "    ", className, methods, dependencyTypes, settings.nestingDepth(), odd);
+        out.append("}\n");
+        return out.toString();
+    }
+
+    private void classBody(StringBuilder out, String indent, String className, int methods,
+                           List<String> dependencyTypes, int remainingNesting, boolean odd) {
+        int fields = 1 + random.nextInt(6);
+        for (int f = 0; f < fields; f++) {
+            String type = TYPES[1 + random.nextInt(TYPES.length - 1)];
+            javadoc(out, indent, "Field " + f + " of " + className + ".");
+            out.append(indent).append(random.nextBoolean() ? "private " : "protected ").append(type)
+                .append(" field").append(f).append(";\n");
+        }
+        for (String dependency : dependencyTypes) {
+            String simpleName = dependency.substring(dependency.lastIndexOf('.') + 1);
+            out.append(indent).append("private ").append(simpleName).append(' ')
+                .append(Character.toLowerCase(simpleName.charAt(0))).append(simpleName.substring(1)).append(";\n");
+        }
+        out.append('\n');
+        for (int m = 0; m < methods; m++) {
+            method(out, indent, m);
+        }
+        if (odd) {
+            oddMembers(out, indent, className);
+        }
+        if (remainingNesting > 0 && random.nextDouble() < settings.nestedClassRate()) {
+            int nested = 1 + random.nextInt(3);
+            for (int n = 0; n < nested; n++) {
+                // nested classes must not share the name of an enclosing class
+                String nestedName = "Level" + remainingNesting + "Part" + n;
+                javadoc(out, indent, "Nested class " + n + " of " + className + ".");
+                out.append(indent).append(random.nextBoolean() ? "public static class " : "private class ")
+                    .append(nestedName).append(" {\n");
+                classBody(out, indent + "    ", nestedName, Math.min(methods, 1 + random.nextInt(5)),
+                    List.of(), remainingNesting - 1, false);
+                out.append(indent).append("}\n\n");
+            }
+        }
+    }
+
+    private void method(StringBuilder out, String indent, int index) {
+        String returnType = TYPES[random.nextInt(TYPES.length)];
+        String name = VERBS[random.nextInt(VERBS.length)] + NOUNS[random.nextInt(NOUNS.length)] + index;
+        int parameters = random.nextInt(4);
+        boolean throwing = random.nextInt(8) == 0;
+        if (random.nextDouble() < settings.javadocDensity()) {
+            out.append(indent).append("/**\n").append(indent).append(" * Performs step ").append(index).append(".\n");
+            for (int p = 0; p < parameters; p++) {
+                out.append(indent).append(" * @param arg").append(p).append(" Input ").append(p).append('\n');
+            }
+            if (!"void".equals(returnType)) {
+                out.append(indent).append(" * @return Result of step ").append(index).append('\n');
+            }
+            if (throwing) {
+                out.append(indent).append(" * @throws IllegalStateException If the input is invalid\n");
+            }
+            out.append(indent).append(" */\n");
+        }
+        out.append(indent).append(new String[]{"public ", "public ", "protected ", "private ", "public static "}[random.nextInt(5)])
+            .append(returnType).append(' ').append(name).append('(');
+        for (int p = 0; p < parameters; p++) {
+            out.append(p > 0 ? ", " : "").append(p % 2 == 0 ? "String" : "int").append(" arg").append(p);
+        }
+        out.append(')').append(throwing ? " throws IllegalStateException" : "").append(" {\n");
+        String body = indent + "    ";
+        out.append(body).append("List<String> values = new ArrayList<>();\n");
+        int statements = 1 + random.nextInt(5);
+        for (int s = 0; s < statements; s++) {
+            out.append(body).append("values.add(\"").append(name).append(':').append(s).append("\");\n");
+        }
+        if (throwing) {
+            out.append(body).append("if (values.isEmpty()) {\n")
+                .append(body).append("    throw new IllegalStateException(\"No values in ").append(name).append("\");\n")
+                .append(body).append("}\n");
+        }
+        String result = switch (returnType) {
+            case "int" -> "values.size()";
+            case "long" -> "(long) values.size()";
+            case "String" -> "String.join(\",\", values)";
+            case "boolean" -> "values.isEmpty()";
+            case "List<String>" -> "values";
+            case "Map<String, Integer>" -> "Map.of(\"size\", values.size())";
+            case "Optional<String>" -> "values.stream().findFirst()";
+            default -> null;
+        };
+        if (result != null) {
+            out.append(body).append("return ").append(result).append(";\n");
+        }
+        out.append(indent).append("}\n\n");
+    }
+
+    /**
+     * Members using constructs that are rare in practice but legal in current Java.
+     */
+    private void oddMembers(StringBuilder out, String indent, String className) {
+        String body = indent + "    ";
+        out.append(indent).append("static {\n").append(body).append("System.setProperty(\"").append(className).append("\", \"loaded\");\n")
+            .append(indent).append("}\n\n");
+        out.append(indent).append("public <T extends Comparable<? super T>> T max(List<? extends T> values) {\n")
+            .append(body).append("T best = null;\n")
+            .append(body).append("outer:\n")
+            .append(body).append("for (T value : values) {\n")
+            .append(body).append("    if (value == null) {\n")
+            .append(body).append("        continue outer;\n")
+            .append(body).append("    }\n")
+            .append(body).append("    best = best == null || value.compareTo(best) > 0 ? value : best;\n")
+            .append(body).append("}\n")
+            .append(body).append("return best;\n")
+            .append(indent).append("}\n\n");
+        out.append(indent).append("public String describe(Object value, Object... rest) {\n")
+            .append(body).append("record Pair(Object left, int count) {\n").append(body).append("}\n")
+            .append(body).append("String query = \"\"\"\n")
+            .append(body).append("    SELECT name, \"quoted\" FROM ").append(className.toLowerCase()).append("\n")
+            .append(body).append("    WHERE id = ?\n")
+            .append(body).append("    \"\"\";\n")
+            .append(body).append("int größe = rest.length; // non-ASCII identifier: ünïcödé ✓\n")
+            .append(body).append("Runnable task = new Runnable() {\n")
+            .append(body).append("    @Override\n")
+            .append(body).append("    public void run() {\n")
+            .append(body).append("        System.out.println(query);\n")
+            .append(body).append("    }\n")
+            .append(body).append("};\n")
+            .append(body).append("task.run();\n")
+            .append(body).append("java.util.function.Function<Object, String> text = v -> switch (String.valueOf(v).length()) {\n")
+            .append(body).append("    case 0 -> \"empty\";\n")
+            .append(body).append("    case 1, 2 -> {\n")
+            .append(body).append("        yield \"short \" + v;\n")
+            .append(body).append("    }\n")
+            .append(body).append("    default -> String.valueOf(v);\n")
+            .append(body).append("};\n")
+            .append(body).append("return text.apply(new Pair(value, größe).left());\n")
+            .append(indent).append("}\n\n");
+    }
+
+    /**
+     * A file whose primary type is not a plain class.
+     */
+    private void oddTypeDeclaration(StringBuilder out, String className) {
+        switch (random.nextInt(4)) {
+            case 0 -> out.append("/** Synthetic enum with constant bodies. */\n")
+                .append("public enum ").append(className).append(" {\n")
+                .append("    FIRST(1) {\n        @Override\n        public int weight() {\n            return 10;\n        }\n    },\n")
+                .append("    SECOND(2);\n\n")
+                .append("    private final int code;\n\n")
+                .append("    ").append(className).append("(int code) {\n        this.code = code;\n    }\n\n")
+                .append("    public int weight() {\n        return code;\n    }\n}\n");
+            case 1 -> out.append("/** Synthetic record with a compact constructor. */\n")
+                .append("public record ").append(className).append("(String name, List<String> tags) {\n")
+                .append("    public ").append(className).append(" {\n        tags = List.copyOf(tags);\n    }\n\n")
+                .append("    public static ").append(className).append(" of(String name) {\n")
+                .append("        return new ").append(className).append("(name, List.of());\n    }\n}\n");
+            case 2 -> out.append("/** Synthetic sealed hierarchy. */\n")
+                .append("public sealed interface ").append(className).append(" permits ")
+                .append(className).append(".Circle, ").append(className).append(".Square {\n")
+                .append("    double area();\n\n")
+                .append("    default String label() {\n        return getClass().getSimpleName() + \" \" + area();\n    }\n\n")
+                .append("    record Circle(double radius) implements ").append(className).append(" {\n")
+                .append("        public double area() {\n            return Math.PI * radius * radius;\n        }\n    }\n\n")
+                .append("    final class Square implements ").append(className).append(" {\n")
+                .append("        private final double side = 1;\n\n")
+                .append("        public double area() {\n            return side * side;\n        }\n    }\n}\n");
+            default -> out.append("/** Synthetic annotation type. */\n")
+                .append("@java.lang.annotation.Retention(java.lang.annotation.RetentionPolicy.RUNTIME)\n")
+                .append("public @interface ").append(className).append(" {\n")
+                .append("    String value() default \"\";\n\n")
+                .append("    String[] tags() default {\"a\", \"b\"};\n\n")
+                .append("    int priority() default 0;\n}\n");
+        }
+    }
+
+    /**
+     * Method count of the next class: log-normal around the configured mean, with a small share of huge classes.
+     */
+    private int methodCount() {
+        if (random.nextDouble() < settings.hugeClassRate()) {
+            return settings.methodsMax();
+        }
+        double sigma = 0.8;
+        // mean of a log-normal distribution is exp(mu + sigma^2 / 2)
+        double mu = Math.log(Math.max(1, settings.methodsMean())) - sigma * sigma / 2;
+        long count = Math.round(Math.exp(mu + sigma * random.nextGaussian()));
+        return (int) Math.max(0, Math.min(settings.methodsMax(), count));
+    }
+
+    private void javadoc(StringBuilder out, String indent, String text) {
+        if (random.nextDouble() < settings.javadocDensity()) {
+            out.append(indent).append("/**\n").append(indent).append(" * ").append(text).append('\n')
+                .append(indent).append(" */\n");
+        }
+    }
+
+    /**
+     * Shape of the generated repository.
+     *
+     * @param classes Number of top-level types
+     * @param methodsMean Mean number of methods per class
+     * @param methodsMax Method count of huge classes, and the cap for all others
+     * @param hugeClassRate Share of classes with the maximum number of methods
+     * @param javadocDensity Share of types, fields and methods with Javadoc
+     * @param packageDepth Maximum number of package levels below the module package
+     * @param nestedClassRate Share of classes, and of nested classes, that declare nested classes
+     * @param nestingDepth Maximum depth of nested classes
+     * @param oddConstructRate Share of types using rare constructs
+     * @param classesPerModule Number of types per Maven module
+     * @param seed Seed of the generator; the same settings always produce the same repository
+     * @param commit Whether to initialize a git repository and commit the files
+     */
+    public record Settings(int classes, int methodsMean, int methodsMax, double hugeClassRate, double javadocDensity,
+                           int packageDepth, double nestedClassRate, int nestingDepth, double oddConstructRate,
+                           int classesPerModule, long seed, boolean commit) {
+        public Settings {
+            if (classes < 0 || methodsMax < 0 || classesPerModule < 1) {
+                throw new IllegalArgumentException("classes and methods-max must not be negative, classes-per-module must be positive");
+            }
+        }
+
+        /**
+         * Reads settings from {@code --name=value} arguments, using defaults for missing ones.
+         */
+        public static Settings parse(String... args) {
+            Map<String, String> values = new HashMap<>();
+            for (String arg : args) {
+                if (!arg.startsWith("--")) {
+                    throw new IllegalArgumentException("Unexpected argument: " + arg);
+                }
+                int eq = arg.indexOf('=');
+                values.put(eq < 0 ? arg.substring(2) : arg.substring(2, eq), eq < 0 ? "true" : arg.substring(eq + 1));
+            }
+            Settings settings = new Settings(
+                Integer.parseInt(values.getOrDefault("classes", "10000")),
+                Integer.parseInt(values.getOrDefault("methods-mean", "12")),
+                Integer.parseInt(values.getOrDefault("methods-max", "2000")),
+                Double.parseDouble(values.getOrDefault("huge-class-rate", "0.001")),
+                Double.parseDouble(values.getOrDefault("javadoc", "0.6")),
+                Integer.parseInt(values.getOrDefault("package-depth", "6")),
+                Double.parseDouble(values.getOrDefault("nested-class-rate", "0.1")),
+                Integer.parseInt(values.getOrDefault("nesting-depth", "2")),
+                Double.parseDouble(values.getOrDefault("odd-construct-rate", "0.05")),
+                Integer.parseInt(values.getOrDefault("classes-per-module", "5000")),
+                Long.parseLong(values.getOrDefault("seed", "42")),
+                Boolean.parseBoolean(values.getOrDefault("git", "false"))
+            );
+            values.keySet().removeAll(List.of("classes", "methods-mean", "methods-max", "huge-class-rate", "javadoc",
+                "package-depth", "nested-class-rate", "nesting-depth", "odd-construct-rate", "classes-per-module", "seed", "git"));
+            if (!values.isEmpty()) {
+                throw new IllegalArgumentException("Unknown options: " + values.keySet());
+            }
+            return settings;
+        }
+    }
+}
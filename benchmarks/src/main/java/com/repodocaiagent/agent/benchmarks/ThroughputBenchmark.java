@@ -0,0 +1,134 @@
+package com.repodocaiagent.agent.benchmarks;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import com.repodocaiagent.agent.service.ChatModelProvider;
+import com.repodocaiagent.agent.service.DocumentationGeneratorService;
+import com.repodocaiagent.agent.service.JavaParserService;
+import com.repodocaiagent.agent.service.PromptBudget;
+import com.repodocaiagent.agent.service.PromptTemplates;
+import com.repodocaiagent.agent.service.RateLimitedChatModel;
+import com.repodocaiagent.agent.service.SimulatedChatModel;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.github.cdimascio.dotenv.Dotenv;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * End-to-end throughput of class documentation for a local repository, to size CLASS_DOC_CONCURRENCY
+ * and the LLM_* rate-limit settings before running against a real deployment.
+ * <p>
+ * The repository is parsed, then every class is documented with up to the given number of classes in
+ * flight, through the request scheduler when LLM_RATE_LIMIT_ENABLED is set. The model comes from
+ * LLM_PROVIDER, which defaults to the simulated model here, so the run needs no network. The response
+ * cache and streaming are left out, so repeated runs measure the same work. Classes are documented one
+ * request each; batching of small classes is not part of the measurement.
+ * <p>
+ * Usage: {@code java -cp target/benchmarks.jar com.repodocaiagent.agent.benchmarks.ThroughputBenchmark <repo-path> [concurrency]}
+ */
+public final class ThroughputBenchmark {
+    private ThroughputBenchmark() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: ThroughputBenchmark <repo-path> [concurrency]");
+            System.exit(1);
+        }
+        Path repository = Path.of(args[0]).toAbsolutePath().normalize();
+        Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+        int concurrency = args.length > 1 ? Integer.parseInt(args[1])
+            : Integer.parseInt(dotenv.get("CLASS_DOC_CONCURRENCY", "8"));
+
+        ChatModelProvider models = "azure".equalsIgnoreCase(dotenv.get("LLM_PROVIDER", "simulated"))
+            ? ChatModelProvider.fromEnvironment(dotenv)
+            : new SimulatedChatModel(dotenv);
+        PromptBudget promptBudget = new PromptBudget(dotenv);
+        ChatLanguageModel chatModel = models.getChatModel();
+        RateLimitedChatModel scheduler = null;
+        if (Boolean.parseBoolean(dotenv.get("LLM_RATE_LIMIT_ENABLED", "false"))) {
+            scheduler = new RateLimitedChatModel(chatModel, promptBudget, models.getMaxTokens(), dotenv);
+            chatModel = scheduler;
+        }
+        DocumentationGeneratorService docs = new DocumentationGeneratorService(chatModel, promptBudget,
+            concurrency, null, new PromptTemplates(null));
+
+        long parseStart = System.nanoTime();
+        JavaParserService parser = new JavaParserService("fast".equalsIgnoreCase(dotenv.get("PARSER_PROFILE", "default")));
+        List<JavaClassDoc> classes = parser.parseAll(parser.findJavaFiles(repository));
+        long parseNanos = System.nanoTime() - parseStart;
+
+        Path output = Files.createTempDirectory("throughput-docs");
+        long[] latencies = new long[classes.size()];
+        AtomicInteger failures = new AtomicInteger();
+        Semaphore permits = new Semaphore(Math.max(1, concurrency));
+        long start = System.nanoTime();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> tasks = new ArrayList<>(classes.size());
+            for (int i = 0; i < classes.size(); i++) {
+                int index = i;
+                JavaClassDoc classDoc = classes.get(i);
+                tasks.add(executor.submit(() -> {
+                    permits.acquireUninterruptibly();
+                    long classStart = System.nanoTime();
+                    try {
+                        docs.generateClassDocumentation(classDoc, output);
+                    } catch (Exception e) {
+                        failures.incrementAndGet();
+                    } finally {
+                        latencies[index] = System.nanoTime() - classStart;
+                        permits.release();
+                    }
+                }));
+            }
+            for (Future<?> task : tasks) {
+                task.get();
+            }
+        }
+        long wallNanos = System.nanoTime() - start;
+        Fixtures.delete(output);
+
+        Arrays.sort(latencies);
+        double wallSeconds = wallNanos / 1e9;
+        System.out.printf(Locale.ROOT, "Repository:        %s%n", repository);
+        System.out.printf(Locale.ROOT, "Model:             %s%n", models.getDeploymentName());
+        System.out.printf(Locale.ROOT, "Concurrency:       %d%n", concurrency);
+        System.out.printf(Locale.ROOT, "Classes:           %d (%d failed)%n", classes.size(), failures.get());
+        System.out.printf(Locale.ROOT, "Parse time:        %.2f s%n", parseNanos / 1e9);
+        System.out.printf(Locale.ROOT, "Generation time:   %.2f s%n", wallSeconds);
+        System.out.printf(Locale.ROOT, "Total wall time:   %.2f s%n", (parseNanos + wallNanos) / 1e9);
+        System.out.printf(Locale.ROOT, "Throughput:        %.2f classes/s%n", wallSeconds > 0 ? classes.size() / wallSeconds : 0);
+        System.out.printf(Locale.ROOT, "Latency per class: p50 %d ms, p90 %d ms, p99 %d ms, max %d ms%n",
+            percentileMillis(latencies, 50), percentileMillis(latencies, 90),
+            percentileMillis(latencies, 99), percentileMillis(latencies, 100));
+        if (models instanceof SimulatedChatModel simulated) {
+            System.out.printf(Locale.ROOT, "Requests:          %d (%d throttled, %d failed), %d completion tokens%n",
+                simulated.getRequests(), simulated.getThrottledRequests(), simulated.getFailedRequests(),
+                simulated.getGeneratedTokens());
+        }
+        if (scheduler != null) {
+            System.out.printf(Locale.ROOT, "Final LLM concurrency limit: %.1f%n", scheduler.getConcurrencyLimit());
+        }
+    }
+
+    /**
+     * Nearest-rank percentile of sorted nanosecond values.
+     */
+    private static long percentileMillis(long[] sortedNanos, int percentile) {
+        if (sortedNanos.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sortedNanos.length);
+        return TimeUnit.NANOSECONDS.toMillis(sortedNanos[Math.max(0, rank - 1)]);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.shop.model;
+
+import java.util.Objects;
+
+/**
+ * A customer of the shop.
+ */
+public class Customer {
+    private final String id;
+    private String name;
+    private String email;
+
+    /**
+     * @param id Unique customer identifier
+     * @param name Display name
+     * @param email Contact address
+     */
+    public Customer(String id, String name, String email) {
+        this.id = Objects.requireNonNull(id);
+        this.name = name;
+        this.email = email;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    /**
+     * @param email New contact address
+     * @throws IllegalArgumentException If the address has no @
+     */
+    public void setEmail(String email) {
+        if (email == null || !email.contains("@")) {
+            throw new IllegalArgumentException("Invalid email: " + email);
+        }
+        this.email = email;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        return o instanceof Customer other && id.equals(other.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+}
@@ -0,0 +1,6252 @@
+package com.example.legacy.reporting;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Report engine of the legacy back office.
+ * Everything that produces, formats or exports a report ended up in this class over the years.
+ */
+@SuppressWarnings("unused")
+public class LegacyReportEngine extends AbstractEngine implements ReportSource, Exporter<Report> {
+    /** Setting 0 of the engine. */
+    protected boolean SETTING_0 = false;
+    /** Setting 1 of the engine. */
+    private final long SETTING_1 = 1000L;
+    /** Setting 2 of the engine. */
+    public static final long SETTING_2 = 2000L;
+    /** Setting 3 of the engine. */
+    private final BigDecimal SETTING_3 = new BigDecimal("3.03");
+    /** Setting 4 of the engine. */
+    private static final String SETTING_4 = "value4";
+    /** Setting 5 of the engine. */
+    protected int SETTING_5 = 5;
+    /** Setting 6 of the engine. */
+    protected BigDecimal SETTING_6 = new BigDecimal("6.06");
+    /** Setting 7 of the engine. */
+    private final long SETTING_7 = 7000L;
+    /** Setting 8 of the engine. */
+    protected BigDecimal SETTING_8 = new BigDecimal("8.08");
+    /** Setting 9 of the engine. */
+    private static final int SETTING_9 = 9;
+    /** Setting 10 of the engine. */
+    public static final int SETTING_10 = 10;
+    /** Setting 11 of the engine. */
+    public static final int SETTING_11 = 11;
+    /** Setting 12 of the engine. */
+    private static final long SETTING_12 = 12000L;
+    /** Setting 13 of the engine. */
+    private static final BigDecimal SETTING_13 = new BigDecimal("13.13");
+    /** Setting 14 of the engine. */
+    protected long SETTING_14 = 14000L;
+    /** Setting 15 of the engine. */
+    protected String SETTING_15 = "value15";
+    /** Setting 16 of the engine. */
+    public static final BigDecimal SETTING_16 = new BigDecimal("16.16");
+    /** Setting 17 of the engine. */
+    protected BigDecimal SETTING_17 = new BigDecimal("17.17");
+    /** Setting 18 of the engine. */
+    private final boolean SETTING_18 = false;
+    /** Setting 19 of the engine. */
+    protected String SETTING_19 = "value19";
+    /** Setting 20 of the engine. */
+    private static final long SETTING_20 = 20000L;
+    /** Setting 21 of the engine. */
+    private final BigDecimal SETTING_21 = new BigDecimal("21.21");
+    /** Setting 22 of the engine. */
+    protected String SETTING_22 = "value22";
+    /** Setting 23 of the engine. */
+    private static final long SETTING_23 = 23000L;
+    /** Setting 24 of the engine. */
+    public static final double SETTING_24 = 24.5;
+    /** Setting 25 of the engine. */
+    public static final String SETTING_25 = "value25";
+    /** Setting 26 of the engine. */
+    private final int SETTING_26 = 26;
+    /** Setting 27 of the engine. */
+    private final String SETTING_27 = "value27";
+    /** Setting 28 of the engine. */
+    private final String SETTING_28 = "value28";
+    /** Setting 29 of the engine. */
+    public static final int SETTING_29 = 29;
+    /** Setting 30 of the engine. */
+    private final long SETTING_30 = 30000L;
+    /** Setting 31 of the engine. */
+    private final long SETTING_31 = 31000L;
+    /** Setting 32 of the engine. */
+    private final int SETTING_32 = 32;
+    /** Setting 33 of the engine. */
+    private final String SETTING_33 = "value33";
+    /** Setting 34 of the engine. */
+    private static final long SETTING_34 = 34000L;
+    /** Setting 35 of the engine. */
+    private final String SETTING_35 = "value35";
+    /** Setting 36 of the engine. */
+    protected String SETTING_36 = "value36";
+    /** Setting 37 of the engine. */
+    private final BigDecimal SETTING_37 = new BigDecimal("37.37");
+    /** Setting 38 of the engine. */
+    private static final double SETTING_38 = 38.5;
+    /** Setting 39 of the engine. */
+    public static final BigDecimal SETTING_39 = new BigDecimal("39.39");
+    /** Setting 40 of the engine. */
+    private final long SETTING_40 = 40000L;
+    /** Setting 41 of the engine. */
+    protected String SETTING_41 = "value41";
+    /** Setting 42 of the engine. */
+    public static final String SETTING_42 = "value42";
+    /** Setting 43 of the engine. */
+    protected double SETTING_43 = 43.5;
+    /** Setting 44 of the engine. */
+    protected BigDecimal SETTING_44 = new BigDecimal("44.44");
+    /** Setting 45 of the engine. */
+    public static final int SETTING_45 = 45;
+    /** Setting 46 of the engine. */
+    public static final long SETTING_46 = 46000L;
+    /** Setting 47 of the engine. */
+    private static final BigDecimal SETTING_47 = new BigDecimal("47.47");
+    /** Setting 48 of the engine. */
+    private static final int SETTING_48 = 48;
+    /** Setting 49 of the engine. */
+    private final boolean SETTING_49 = true;
+    /** Setting 50 of the engine. */
+    private final long SETTING_50 = 50000L;
+    /** Setting 51 of the engine. */
+    public static final String SETTING_51 = "value51";
+    /** Setting 52 of the engine. */
+    private static final double SETTING_52 = 52.5;
+    /** Setting 53 of the engine. */
+    private final BigDecimal SETTING_53 = new BigDecimal("53.53");
+    /** Setting 54 of the engine. */
+    protected long SETTING_54 = 54000L;
+    /** Setting 55 of the engine. */
+    private static final double SETTING_55 = 55.5;
+    /** Setting 56 of the engine. */
+    private static final boolean SETTING_56 = false;
+    /** Setting 57 of the engine. */
+    public static final boolean SETTING_57 = true;
+    /** Setting 58 of the engine. */
+    private final int SETTING_58 = 58;
+    /** Setting 59 of the engine. */
+    public static final boolean SETTING_59 = true;
+
+    private final Map<String, List<String>> cache = new HashMap<>();
+    private final List<Report> history = new ArrayList<>();
+
+    /**
+     * Filters the totals of a report, step 0.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private Map<String, Long> filterTotals0(List<String> arg0, Map<String, Long> arg1, double arg2, Optional<Report> arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterTotals0:0" + SETTING_40);
+        trace.add("filterTotals0:1" + SETTING_28);
+        trace.add("filterTotals0:2" + SETTING_4);
+        trace.add("filterTotals0:3" + SETTING_29);
+        trace.add("filterTotals0:4" + SETTING_48);
+        trace.add("filterTotals0:5" + SETTING_13);
+        if (trace.size() > 4) {
+            cache.put("filterTotals0", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Aggregates the summary of a report, step 1.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static double aggregateSummary1(Instant arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateSummary1:0" + SETTING_33);
+        trace.add("aggregateSummary1:1" + SETTING_27);
+        trace.add("aggregateSummary1:2" + SETTING_3);
+        trace.add("aggregateSummary1:3" + SETTING_57);
+        trace.add("aggregateSummary1:4" + SETTING_53);
+        trace.add("aggregateSummary1:5" + SETTING_21);
+        if (trace.size() > 7) {
+            cache.put("aggregateSummary1", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Renders the period of a report, step 2.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected double renderPeriod2(BigDecimal arg0, BigDecimal arg1, long arg2, double arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderPeriod2:0" + SETTING_22);
+        trace.add("renderPeriod2:1" + SETTING_28);
+        trace.add("renderPeriod2:2" + SETTING_37);
+        trace.add("renderPeriod2:3" + SETTING_5);
+        trace.add("renderPeriod2:4" + SETTING_33);
+        if (trace.size() > 3) {
+            cache.put("renderPeriod2", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Formats the totals of a report, step 3.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private double formatTotals3(Optional<Report> arg0, long arg1, Map<String, Long> arg2, Map<String, Long> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatTotals3:0" + SETTING_32);
+        trace.add("formatTotals3:1" + SETTING_8);
+        trace.add("formatTotals3:2" + SETTING_34);
+        trace.add("formatTotals3:3" + SETTING_35);
+        trace.add("formatTotals3:4" + SETTING_30);
+        trace.add("formatTotals3:5" + SETTING_28);
+        trace.add("formatTotals3:6" + SETTING_0);
+        trace.add("formatTotals3:7" + SETTING_18);
+        if (trace.size() > 5) {
+            cache.put("formatTotals3", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Renders the totals of a report, step 4.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> renderTotals4(BigDecimal arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderTotals4:0" + SETTING_6);
+        trace.add("renderTotals4:1" + SETTING_33);
+        trace.add("renderTotals4:2" + SETTING_42);
+        trace.add("renderTotals4:3" + SETTING_44);
+        if (trace.size() > 3) {
+            cache.put("renderTotals4", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Loads the rows of a report, step 5.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> loadRows5(Instant arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadRows5:0" + SETTING_58);
+        trace.add("loadRows5:1" + SETTING_52);
+        trace.add("loadRows5:2" + SETTING_53);
+        trace.add("loadRows5:3" + SETTING_1);
+        trace.add("loadRows5:4" + SETTING_29);
+        trace.add("loadRows5:5" + SETTING_34);
+        trace.add("loadRows5:6" + SETTING_52);
+        trace.add("loadRows5:7" + SETTING_48);
+        if (trace.size() > 4) {
+            cache.put("loadRows5", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Loads the chart of a report, step 6.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public int loadChart6(String arg0, Optional<Report> arg1, String arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadChart6:0" + SETTING_16);
+        trace.add("loadChart6:1" + SETTING_17);
+        trace.add("loadChart6:2" + SETTING_22);
+        trace.add("loadChart6:3" + SETTING_22);
+        trace.add("loadChart6:4" + SETTING_34);
+        trace.add("loadChart6:5" + SETTING_37);
+        if (trace.size() > 9) {
+            cache.put("loadChart6", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Validates the chart of a report, step 7.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected String validateChart7(BigDecimal arg0, int arg1, String arg2, boolean arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateChart7:0" + SETTING_7);
+        trace.add("validateChart7:1" + SETTING_21);
+        trace.add("validateChart7:2" + SETTING_8);
+        trace.add("validateChart7:3" + SETTING_34);
+        if (trace.size() > 9) {
+            cache.put("validateChart7", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Merges the ledger of a report, step 8.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public boolean mergeLedger8(int arg0, boolean arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeLedger8:0" + SETTING_26);
+        trace.add("mergeLedger8:1" + SETTING_19);
+        trace.add("mergeLedger8:2" + SETTING_43);
+        trace.add("mergeLedger8:3" + SETTING_12);
+        trace.add("mergeLedger8:4" + SETTING_30);
+        trace.add("mergeLedger8:5" + SETTING_23);
+        trace.add("mergeLedger8:6" + SETTING_8);
+        if (trace.size() > 4) {
+            cache.put("mergeLedger8", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Formats the currency of a report, step 9.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private long formatCurrency9(int arg0, List<String> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatCurrency9:0" + SETTING_57);
+        trace.add("formatCurrency9:1" + SETTING_24);
+        trace.add("formatCurrency9:2" + SETTING_49);
+        trace.add("formatCurrency9:3" + SETTING_33);
+        trace.add("formatCurrency9:4" + SETTING_38);
+        trace.add("formatCurrency9:5" + SETTING_48);
+        if (trace.size() > 4) {
+            cache.put("formatCurrency9", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Formats the header of a report, step 10.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private long formatHeader10(Optional<Report> arg0, BigDecimal arg1, Map<String, Long> arg2, boolean arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatHeader10:0" + SETTING_39);
+        trace.add("formatHeader10:1" + SETTING_15);
+        if (trace.size() > 4) {
+            cache.put("formatHeader10", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Renders the footer of a report, step 11.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public List<String> renderFooter11(BigDecimal arg0, Optional<Report> arg1, Map<String, Long> arg2, Optional<Report> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderFooter11:0" + SETTING_15);
+        trace.add("renderFooter11:1" + SETTING_31);
+        trace.add("renderFooter11:2" + SETTING_16);
+        trace.add("renderFooter11:3" + SETTING_32);
+        if (trace.size() > 4) {
+            cache.put("renderFooter11", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Exports the totals of a report, step 12.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private int exportTotals12(Map<String, Long> arg0, int arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportTotals12:0" + SETTING_56);
+        trace.add("exportTotals12:1" + SETTING_32);
+        if (trace.size() > 6) {
+            cache.put("exportTotals12", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Merges the header of a report, step 13.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected int mergeHeader13(int arg0, boolean arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeHeader13:0" + SETTING_29);
+        trace.add("mergeHeader13:1" + SETTING_20);
+        trace.add("mergeHeader13:2" + SETTING_9);
+        trace.add("mergeHeader13:3" + SETTING_9);
+        trace.add("mergeHeader13:4" + SETTING_47);
+        trace.add("mergeHeader13:5" + SETTING_17);
+        trace.add("mergeHeader13:6" + SETTING_19);
+        trace.add("mergeHeader13:7" + SETTING_24);
+        if (trace.size() > 9) {
+            cache.put("mergeHeader13", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Exports the currency of a report, step 14.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Optional<Report> exportCurrency14(List<String> arg0) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportCurrency14:0" + SETTING_48);
+        trace.add("exportCurrency14:1" + SETTING_56);
+        trace.add("exportCurrency14:2" + SETTING_41);
+        trace.add("exportCurrency14:3" + SETTING_40);
+        trace.add("exportCurrency14:4" + SETTING_49);
+        trace.add("exportCurrency14:5" + SETTING_57);
+        trace.add("exportCurrency14:6" + SETTING_50);
+        trace.add("exportCurrency14:7" + SETTING_16);
+        if (trace.size() > 4) {
+            cache.put("exportCurrency14", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Merges the footer of a report, step 15.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> mergeFooter15(List<String> arg0, List<String> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter15:0" + SETTING_19);
+        trace.add("mergeFooter15:1" + SETTING_25);
+        if (trace.size() > 8) {
+            cache.put("mergeFooter15", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Merges the summary of a report, step 16.
+     * @return Result of the step
+     */
+    public static String mergeSummary16() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSummary16:0" + SETTING_3);
+        trace.add("mergeSummary16:1" + SETTING_22);
+        trace.add("mergeSummary16:2" + SETTING_43);
+        trace.add("mergeSummary16:3" + SETTING_41);
+        trace.add("mergeSummary16:4" + SETTING_31);
+        trace.add("mergeSummary16:5" + SETTING_25);
+        if (trace.size() > 6) {
+            cache.put("mergeSummary16", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Resolves the section of a report, step 17.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public boolean resolveSection17(long arg0, List<String> arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSection17:0" + SETTING_54);
+        trace.add("resolveSection17:1" + SETTING_23);
+        trace.add("resolveSection17:2" + SETTING_47);
+        if (trace.size() > 8) {
+            cache.put("resolveSection17", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Merges the footer of a report, step 18.
+     * @return Result of the step
+     */
+    private List<String> mergeFooter18() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter18:0" + SETTING_12);
+        trace.add("mergeFooter18:1" + SETTING_22);
+        trace.add("mergeFooter18:2" + SETTING_46);
+        trace.add("mergeFooter18:3" + SETTING_32);
+        trace.add("mergeFooter18:4" + SETTING_50);
+        trace.add("mergeFooter18:5" + SETTING_8);
+        trace.add("mergeFooter18:6" + SETTING_37);
+        if (trace.size() > 6) {
+            cache.put("mergeFooter18", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Aggregates the rows of a report, step 19.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private long aggregateRows19(List<String> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateRows19:0" + SETTING_43);
+        trace.add("aggregateRows19:1" + SETTING_25);
+        trace.add("aggregateRows19:2" + SETTING_24);
+        if (trace.size() > 6) {
+            cache.put("aggregateRows19", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Exports the footer of a report, step 20.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public BigDecimal exportFooter20(double arg0, long arg1, Map<String, Long> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportFooter20:0" + SETTING_6);
+        trace.add("exportFooter20:1" + SETTING_26);
+        trace.add("exportFooter20:2" + SETTING_55);
+        trace.add("exportFooter20:3" + SETTING_41);
+        trace.add("exportFooter20:4" + SETTING_30);
+        if (trace.size() > 3) {
+            cache.put("exportFooter20", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Renders the ledger of a report, step 21.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public String renderLedger21(Map<String, Long> arg0, long arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderLedger21:0" + SETTING_16);
+        trace.add("renderLedger21:1" + SETTING_9);
+        trace.add("renderLedger21:2" + SETTING_2);
+        if (trace.size() > 9) {
+            cache.put("renderLedger21", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Computes the section of a report, step 22.
+     * @return Result of the step
+     */
+    public Map<String, Long> computeSection22() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeSection22:0" + SETTING_54);
+        trace.add("computeSection22:1" + SETTING_39);
+        trace.add("computeSection22:2" + SETTING_41);
+        trace.add("computeSection22:3" + SETTING_16);
+        if (trace.size() > 7) {
+            cache.put("computeSection22", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Filters the chart of a report, step 23.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> filterChart23(Instant arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterChart23:0" + SETTING_34);
+        trace.add("filterChart23:1" + SETTING_18);
+        trace.add("filterChart23:2" + SETTING_34);
+        trace.add("filterChart23:3" + SETTING_39);
+        trace.add("filterChart23:4" + SETTING_58);
+        trace.add("filterChart23:5" + SETTING_4);
+        trace.add("filterChart23:6" + SETTING_45);
+        if (trace.size() > 3) {
+            cache.put("filterChart23", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Filters the section of a report, step 24.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static Instant filterSection24(Map<String, Long> arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterSection24:0" + SETTING_2);
+        trace.add("filterSection24:1" + SETTING_23);
+        if (trace.size() > 5) {
+            cache.put("filterSection24", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Aggregates the ledger of a report, step 25.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static BigDecimal aggregateLedger25(BigDecimal arg0, double arg1, String arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateLedger25:0" + SETTING_50);
+        trace.add("aggregateLedger25:1" + SETTING_7);
+        trace.add("aggregateLedger25:2" + SETTING_22);
+        trace.add("aggregateLedger25:3" + SETTING_33);
+        trace.add("aggregateLedger25:4" + SETTING_50);
+        trace.add("aggregateLedger25:5" + SETTING_9);
+        trace.add("aggregateLedger25:6" + SETTING_54);
+        trace.add("aggregateLedger25:7" + SETTING_24);
+        if (trace.size() > 3) {
+            cache.put("aggregateLedger25", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Resolves the period of a report, step 26.
+     * @return Result of the step
+     */
+    private int resolvePeriod26() {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolvePeriod26:0" + SETTING_43);
+        trace.add("resolvePeriod26:1" + SETTING_47);
+        if (trace.size() > 6) {
+            cache.put("resolvePeriod26", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Renders the footer of a report, step 27.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static Optional<Report> renderFooter27(String arg0, boolean arg1, String arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderFooter27:0" + SETTING_49);
+        trace.add("renderFooter27:1" + SETTING_6);
+        if (trace.size() > 4) {
+            cache.put("renderFooter27", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Aggregates the footer of a report, step 28.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected boolean aggregateFooter28(boolean arg0, Instant arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateFooter28:0" + SETTING_1);
+        trace.add("aggregateFooter28:1" + SETTING_27);
+        trace.add("aggregateFooter28:2" + SETTING_5);
+        trace.add("aggregateFooter28:3" + SETTING_24);
+        trace.add("aggregateFooter28:4" + SETTING_0);
+        trace.add("aggregateFooter28:5" + SETTING_40);
+        if (trace.size() > 6) {
+            cache.put("aggregateFooter28", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Computes the summary of a report, step 29.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> computeSummary29(Map<String, Long> arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeSummary29:0" + SETTING_34);
+        trace.add("computeSummary29:1" + SETTING_41);
+        if (trace.size() > 6) {
+            cache.put("computeSummary29", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Filters the currency of a report, step 30.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public int filterCurrency30(long arg0, int arg1, BigDecimal arg2, String arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterCurrency30:0" + SETTING_59);
+        trace.add("filterCurrency30:1" + SETTING_36);
+        trace.add("filterCurrency30:2" + SETTING_43);
+        trace.add("filterCurrency30:3" + SETTING_12);
+        trace.add("filterCurrency30:4" + SETTING_55);
+        trace.add("filterCurrency30:5" + SETTING_18);
+        trace.add("filterCurrency30:6" + SETTING_47);
+        trace.add("filterCurrency30:7" + SETTING_26);
+        if (trace.size() > 9) {
+            cache.put("filterCurrency30", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Computes the rows of a report, step 31.
+     * @return Result of the step
+     */
+    private List<String> computeRows31() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeRows31:0" + SETTING_26);
+        trace.add("computeRows31:1" + SETTING_26);
+        trace.add("computeRows31:2" + SETTING_51);
+        trace.add("computeRows31:3" + SETTING_48);
+        trace.add("computeRows31:4" + SETTING_43);
+        trace.add("computeRows31:5" + SETTING_16);
+        if (trace.size() > 7) {
+            cache.put("computeRows31", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Merges the currency of a report, step 32.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> mergeCurrency32(Instant arg0, long arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeCurrency32:0" + SETTING_14);
+        trace.add("mergeCurrency32:1" + SETTING_42);
+        trace.add("mergeCurrency32:2" + SETTING_20);
+        trace.add("mergeCurrency32:3" + SETTING_30);
+        trace.add("mergeCurrency32:4" + SETTING_20);
+        trace.add("mergeCurrency32:5" + SETTING_50);
+        trace.add("mergeCurrency32:6" + SETTING_59);
+        trace.add("mergeCurrency32:7" + SETTING_13);
+        if (trace.size() > 7) {
+            cache.put("mergeCurrency32", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Computes the footer of a report, step 33.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> computeFooter33(double arg0, Map<String, Long> arg1, List<String> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeFooter33:0" + SETTING_27);
+        trace.add("computeFooter33:1" + SETTING_39);
+        trace.add("computeFooter33:2" + SETTING_3);
+        trace.add("computeFooter33:3" + SETTING_12);
+        trace.add("computeFooter33:4" + SETTING_7);
+        trace.add("computeFooter33:5" + SETTING_15);
+        trace.add("computeFooter33:6" + SETTING_0);
+        trace.add("computeFooter33:7" + SETTING_16);
+        if (trace.size() > 3) {
+            cache.put("computeFooter33", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Filters the summary of a report, step 34.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static List<String> filterSummary34(String arg0, Optional<Report> arg1, Optional<Report> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterSummary34:0" + SETTING_0);
+        trace.add("filterSummary34:1" + SETTING_1);
+        trace.add("filterSummary34:2" + SETTING_40);
+        trace.add("filterSummary34:3" + SETTING_34);
+        trace.add("filterSummary34:4" + SETTING_48);
+        trace.add("filterSummary34:5" + SETTING_20);
+        trace.add("filterSummary34:6" + SETTING_44);
+        trace.add("filterSummary34:7" + SETTING_37);
+        if (trace.size() > 5) {
+            cache.put("filterSummary34", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the summary of a report, step 35.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public static Instant renderSummary35(BigDecimal arg0, Instant arg1, double arg2, boolean arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSummary35:0" + SETTING_59);
+        trace.add("renderSummary35:1" + SETTING_28);
+        trace.add("renderSummary35:2" + SETTING_7);
+        trace.add("renderSummary35:3" + SETTING_8);
+        trace.add("renderSummary35:4" + SETTING_1);
+        if (trace.size() > 4) {
+            cache.put("renderSummary35", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Aggregates the period of a report, step 36.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public long aggregatePeriod36(Instant arg0, String arg1, String arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregatePeriod36:0" + SETTING_24);
+        trace.add("aggregatePeriod36:1" + SETTING_42);
+        trace.add("aggregatePeriod36:2" + SETTING_44);
+        trace.add("aggregatePeriod36:3" + SETTING_25);
+        trace.add("aggregatePeriod36:4" + SETTING_6);
+        if (trace.size() > 5) {
+            cache.put("aggregatePeriod36", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Merges the footer of a report, step 37.
+     * @return Result of the step
+     */
+    public static long mergeFooter37() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter37:0" + SETTING_20);
+        trace.add("mergeFooter37:1" + SETTING_9);
+        trace.add("mergeFooter37:2" + SETTING_30);
+        trace.add("mergeFooter37:3" + SETTING_14);
+        trace.add("mergeFooter37:4" + SETTING_27);
+        if (trace.size() > 8) {
+            cache.put("mergeFooter37", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Exports the section of a report, step 38.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> exportSection38(int arg0, long arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportSection38:0" + SETTING_15);
+        trace.add("exportSection38:1" + SETTING_19);
+        trace.add("exportSection38:2" + SETTING_6);
+        trace.add("exportSection38:3" + SETTING_16);
+        trace.add("exportSection38:4" + SETTING_33);
+        if (trace.size() > 8) {
+            cache.put("exportSection38", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Resolves the section of a report, step 39.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public BigDecimal resolveSection39(boolean arg0, Optional<Report> arg1, List<String> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSection39:0" + SETTING_51);
+        trace.add("resolveSection39:1" + SETTING_57);
+        trace.add("resolveSection39:2" + SETTING_17);
+        trace.add("resolveSection39:3" + SETTING_47);
+        trace.add("resolveSection39:4" + SETTING_10);
+        if (trace.size() > 7) {
+            cache.put("resolveSection39", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Merges the footer of a report, step 40.
+     * @return Result of the step
+     */
+    protected int mergeFooter40() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter40:0" + SETTING_45);
+        trace.add("mergeFooter40:1" + SETTING_2);
+        if (trace.size() > 4) {
+            cache.put("mergeFooter40", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Exports the summary of a report, step 41.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public double exportSummary41(Optional<Report> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportSummary41:0" + SETTING_54);
+        trace.add("exportSummary41:1" + SETTING_59);
+        trace.add("exportSummary41:2" + SETTING_36);
+        if (trace.size() > 7) {
+            cache.put("exportSummary41", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Resolves the totals of a report, step 42.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private Map<String, Long> resolveTotals42() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveTotals42:0" + SETTING_26);
+        trace.add("resolveTotals42:1" + SETTING_21);
+        trace.add("resolveTotals42:2" + SETTING_33);
+        trace.add("resolveTotals42:3" + SETTING_34);
+        trace.add("resolveTotals42:4" + SETTING_29);
+        if (trace.size() > 7) {
+            cache.put("resolveTotals42", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Loads the totals of a report, step 43.
+     * @return Result of the step
+     */
+    public static int loadTotals43() {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadTotals43:0" + SETTING_18);
+        trace.add("loadTotals43:1" + SETTING_48);
+        trace.add("loadTotals43:2" + SETTING_37);
+        if (trace.size() > 9) {
+            cache.put("loadTotals43", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Validates the totals of a report, step 44.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public long validateTotals44(long arg0, BigDecimal arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateTotals44:0" + SETTING_54);
+        trace.add("validateTotals44:1" + SETTING_21);
+        trace.add("validateTotals44:2" + SETTING_59);
+        trace.add("validateTotals44:3" + SETTING_20);
+        trace.add("validateTotals44:4" + SETTING_31);
+        trace.add("validateTotals44:5" + SETTING_14);
+        trace.add("validateTotals44:6" + SETTING_36);
+        if (trace.size() > 6) {
+            cache.put("validateTotals44", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Filters the chart of a report, step 45.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static double filterChart45(Instant arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterChart45:0" + SETTING_58);
+        trace.add("filterChart45:1" + SETTING_56);
+        trace.add("filterChart45:2" + SETTING_59);
+        trace.add("filterChart45:3" + SETTING_19);
+        trace.add("filterChart45:4" + SETTING_29);
+        if (trace.size() > 7) {
+            cache.put("filterChart45", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Filters the totals of a report, step 46.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> filterTotals46(long arg0, BigDecimal arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterTotals46:0" + SETTING_46);
+        trace.add("filterTotals46:1" + SETTING_19);
+        if (trace.size() > 9) {
+            cache.put("filterTotals46", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Computes the rows of a report, step 47.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected BigDecimal computeRows47(int arg0, Optional<Report> arg1, double arg2, int arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeRows47:0" + SETTING_31);
+        trace.add("computeRows47:1" + SETTING_54);
+        trace.add("computeRows47:2" + SETTING_38);
+        if (trace.size() > 6) {
+            cache.put("computeRows47", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Exports the header of a report, step 48.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private Map<String, Long> exportHeader48(double arg0, Instant arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportHeader48:0" + SETTING_50);
+        trace.add("exportHeader48:1" + SETTING_15);
+        if (trace.size() > 9) {
+            cache.put("exportHeader48", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Formats the footer of a report, step 49.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private Optional<Report> formatFooter49() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatFooter49:0" + SETTING_15);
+        trace.add("formatFooter49:1" + SETTING_30);
+        trace.add("formatFooter49:2" + SETTING_17);
+        trace.add("formatFooter49:3" + SETTING_37);
+        trace.add("formatFooter49:4" + SETTING_18);
+        trace.add("formatFooter49:5" + SETTING_34);
+        if (trace.size() > 4) {
+            cache.put("formatFooter49", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Exports the ledger of a report, step 50.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public long exportLedger50(boolean arg0, boolean arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportLedger50:0" + SETTING_53);
+        trace.add("exportLedger50:1" + SETTING_30);
+        trace.add("exportLedger50:2" + SETTING_16);
+        trace.add("exportLedger50:3" + SETTING_58);
+        trace.add("exportLedger50:4" + SETTING_28);
+        trace.add("exportLedger50:5" + SETTING_24);
+        trace.add("exportLedger50:6" + SETTING_51);
+        if (trace.size() > 8) {
+            cache.put("exportLedger50", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Loads the period of a report, step 51.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public long loadPeriod51(BigDecimal arg0, String arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadPeriod51:0" + SETTING_18);
+        trace.add("loadPeriod51:1" + SETTING_7);
+        trace.add("loadPeriod51:2" + SETTING_39);
+        trace.add("loadPeriod51:3" + SETTING_51);
+        trace.add("loadPeriod51:4" + SETTING_40);
+        if (trace.size() > 8) {
+            cache.put("loadPeriod51", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Exports the section of a report, step 52.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> exportSection52(boolean arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportSection52:0" + SETTING_1);
+        trace.add("exportSection52:1" + SETTING_31);
+        trace.add("exportSection52:2" + SETTING_4);
+        if (trace.size() > 9) {
+            cache.put("exportSection52", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Validates the totals of a report, step 53.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static List<String> validateTotals53(Instant arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateTotals53:0" + SETTING_56);
+        trace.add("validateTotals53:1" + SETTING_16);
+        trace.add("validateTotals53:2" + SETTING_17);
+        trace.add("validateTotals53:3" + SETTING_58);
+        trace.add("validateTotals53:4" + SETTING_32);
+        trace.add("validateTotals53:5" + SETTING_18);
+        trace.add("validateTotals53:6" + SETTING_36);
+        if (trace.size() > 7) {
+            cache.put("validateTotals53", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Loads the totals of a report, step 54.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public boolean loadTotals54(String arg0, Instant arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadTotals54:0" + SETTING_52);
+        trace.add("loadTotals54:1" + SETTING_8);
+        trace.add("loadTotals54:2" + SETTING_43);
+        trace.add("loadTotals54:3" + SETTING_28);
+        trace.add("loadTotals54:4" + SETTING_2);
+        trace.add("loadTotals54:5" + SETTING_59);
+        if (trace.size() > 9) {
+            cache.put("loadTotals54", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Exports the rows of a report, step 55.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static Instant exportRows55(BigDecimal arg0, String arg1, double arg2, boolean arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportRows55:0" + SETTING_58);
+        trace.add("exportRows55:1" + SETTING_16);
+        trace.add("exportRows55:2" + SETTING_35);
+        trace.add("exportRows55:3" + SETTING_46);
+        trace.add("exportRows55:4" + SETTING_13);
+        trace.add("exportRows55:5" + SETTING_32);
+        trace.add("exportRows55:6" + SETTING_0);
+        trace.add("exportRows55:7" + SETTING_23);
+        if (trace.size() > 6) {
+            cache.put("exportRows55", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Computes the section of a report, step 56.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public static Instant computeSection56(Optional<Report> arg0, Optional<Report> arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeSection56:0" + SETTING_34);
+        trace.add("computeSection56:1" + SETTING_37);
+        trace.add("computeSection56:2" + SETTING_13);
+        trace.add("computeSection56:3" + SETTING_39);
+        trace.add("computeSection56:4" + SETTING_9);
+        if (trace.size() > 5) {
+            cache.put("computeSection56", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Loads the currency of a report, step 57.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public long loadCurrency57(Instant arg0, boolean arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadCurrency57:0" + SETTING_3);
+        trace.add("loadCurrency57:1" + SETTING_12);
+        if (trace.size() > 4) {
+            cache.put("loadCurrency57", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Merges the summary of a report, step 58.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> mergeSummary58(Map<String, Long> arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSummary58:0" + SETTING_34);
+        trace.add("mergeSummary58:1" + SETTING_28);
+        trace.add("mergeSummary58:2" + SETTING_37);
+        trace.add("mergeSummary58:3" + SETTING_45);
+        trace.add("mergeSummary58:4" + SETTING_44);
+        if (trace.size() > 8) {
+            cache.put("mergeSummary58", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Renders the rows of a report, step 59.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static BigDecimal renderRows59(List<String> arg0, Optional<Report> arg1, String arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderRows59:0" + SETTING_29);
+        trace.add("renderRows59:1" + SETTING_12);
+        trace.add("renderRows59:2" + SETTING_39);
+        trace.add("renderRows59:3" + SETTING_59);
+        trace.add("renderRows59:4" + SETTING_51);
+        if (trace.size() > 3) {
+            cache.put("renderRows59", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Computes the totals of a report, step 60.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public boolean computeTotals60(Instant arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeTotals60:0" + SETTING_56);
+        trace.add("computeTotals60:1" + SETTING_50);
+        trace.add("computeTotals60:2" + SETTING_36);
+        trace.add("computeTotals60:3" + SETTING_38);
+        trace.add("computeTotals60:4" + SETTING_12);
+        trace.add("computeTotals60:5" + SETTING_24);
+        trace.add("computeTotals60:6" + SETTING_45);
+        if (trace.size() > 8) {
+            cache.put("computeTotals60", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Computes the section of a report, step 61.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public double computeSection61(boolean arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeSection61:0" + SETTING_34);
+        trace.add("computeSection61:1" + SETTING_59);
+        trace.add("computeSection61:2" + SETTING_42);
+        trace.add("computeSection61:3" + SETTING_9);
+        if (trace.size() > 7) {
+            cache.put("computeSection61", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Filters the rows of a report, step 62.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private int filterRows62(boolean arg0, Optional<Report> arg1, List<String> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterRows62:0" + SETTING_37);
+        trace.add("filterRows62:1" + SETTING_12);
+        trace.add("filterRows62:2" + SETTING_57);
+        trace.add("filterRows62:3" + SETTING_32);
+        if (trace.size() > 8) {
+            cache.put("filterRows62", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Merges the footer of a report, step 63.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public boolean mergeFooter63(List<String> arg0, boolean arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter63:0" + SETTING_38);
+        trace.add("mergeFooter63:1" + SETTING_25);
+        trace.add("mergeFooter63:2" + SETTING_40);
+        if (trace.size() > 7) {
+            cache.put("mergeFooter63", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Exports the footer of a report, step 64.
+     * @return Result of the step
+     */
+    public boolean exportFooter64() {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportFooter64:0" + SETTING_33);
+        trace.add("exportFooter64:1" + SETTING_49);
+        trace.add("exportFooter64:2" + SETTING_22);
+        trace.add("exportFooter64:3" + SETTING_43);
+        if (trace.size() > 9) {
+            cache.put("exportFooter64", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Filters the ledger of a report, step 65.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public BigDecimal filterLedger65(Optional<Report> arg0, List<String> arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterLedger65:0" + SETTING_2);
+        trace.add("filterLedger65:1" + SETTING_39);
+        trace.add("filterLedger65:2" + SETTING_16);
+        if (trace.size() > 7) {
+            cache.put("filterLedger65", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Resolves the chart of a report, step 66.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected BigDecimal resolveChart66(long arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveChart66:0" + SETTING_50);
+        trace.add("resolveChart66:1" + SETTING_30);
+        trace.add("resolveChart66:2" + SETTING_3);
+        trace.add("resolveChart66:3" + SETTING_15);
+        trace.add("resolveChart66:4" + SETTING_11);
+        trace.add("resolveChart66:5" + SETTING_12);
+        if (trace.size() > 8) {
+            cache.put("resolveChart66", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Merges the rows of a report, step 67.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public int mergeRows67(List<String> arg0, BigDecimal arg1, String arg2, double arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeRows67:0" + SETTING_9);
+        trace.add("mergeRows67:1" + SETTING_22);
+        trace.add("mergeRows67:2" + SETTING_16);
+        trace.add("mergeRows67:3" + SETTING_1);
+        trace.add("mergeRows67:4" + SETTING_13);
+        trace.add("mergeRows67:5" + SETTING_22);
+        if (trace.size() > 9) {
+            cache.put("mergeRows67", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Validates the currency of a report, step 68.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private int validateCurrency68(BigDecimal arg0, int arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateCurrency68:0" + SETTING_22);
+        trace.add("validateCurrency68:1" + SETTING_23);
+        trace.add("validateCurrency68:2" + SETTING_15);
+        trace.add("validateCurrency68:3" + SETTING_13);
+        trace.add("validateCurrency68:4" + SETTING_20);
+        trace.add("validateCurrency68:5" + SETTING_9);
+        trace.add("validateCurrency68:6" + SETTING_45);
+        trace.add("validateCurrency68:7" + SETTING_30);
+        if (trace.size() > 6) {
+            cache.put("validateCurrency68", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the totals of a report, step 69.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public long loadTotals69(String arg0, String arg1, Instant arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadTotals69:0" + SETTING_33);
+        trace.add("loadTotals69:1" + SETTING_51);
+        trace.add("loadTotals69:2" + SETTING_26);
+        trace.add("loadTotals69:3" + SETTING_44);
+        if (trace.size() > 4) {
+            cache.put("loadTotals69", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Resolves the currency of a report, step 70.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public BigDecimal resolveCurrency70(boolean arg0, String arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveCurrency70:0" + SETTING_31);
+        trace.add("resolveCurrency70:1" + SETTING_32);
+        trace.add("resolveCurrency70:2" + SETTING_41);
+        trace.add("resolveCurrency70:3" + SETTING_11);
+        trace.add("resolveCurrency70:4" + SETTING_1);
+        if (trace.size() > 8) {
+            cache.put("resolveCurrency70", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Exports the footer of a report, step 71.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private long exportFooter71(int arg0, long arg1, Optional<Report> arg2, String arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportFooter71:0" + SETTING_50);
+        trace.add("exportFooter71:1" + SETTING_38);
+        trace.add("exportFooter71:2" + SETTING_15);
+        trace.add("exportFooter71:3" + SETTING_3);
+        trace.add("exportFooter71:4" + SETTING_21);
+        if (trace.size() > 3) {
+            cache.put("exportFooter71", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Merges the totals of a report, step 72.
+     * @return Result of the step
+     */
+    public static String mergeTotals72() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeTotals72:0" + SETTING_36);
+        trace.add("mergeTotals72:1" + SETTING_5);
+        trace.add("mergeTotals72:2" + SETTING_21);
+        if (trace.size() > 8) {
+            cache.put("mergeTotals72", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Merges the summary of a report, step 73.
+     * @return Result of the step
+     */
+    public Optional<Report> mergeSummary73() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSummary73:0" + SETTING_38);
+        trace.add("mergeSummary73:1" + SETTING_8);
+        trace.add("mergeSummary73:2" + SETTING_11);
+        trace.add("mergeSummary73:3" + SETTING_54);
+        trace.add("mergeSummary73:4" + SETTING_9);
+        if (trace.size() > 9) {
+            cache.put("mergeSummary73", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Validates the rows of a report, step 74.
+     * @return Result of the step
+     */
+    protected Optional<Report> validateRows74() {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateRows74:0" + SETTING_14);
+        trace.add("validateRows74:1" + SETTING_52);
+        trace.add("validateRows74:2" + SETTING_20);
+        trace.add("validateRows74:3" + SETTING_12);
+        trace.add("validateRows74:4" + SETTING_17);
+        trace.add("validateRows74:5" + SETTING_55);
+        trace.add("validateRows74:6" + SETTING_36);
+        trace.add("validateRows74:7" + SETTING_31);
+        if (trace.size() > 9) {
+            cache.put("validateRows74", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Formats the footer of a report, step 75.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> formatFooter75(double arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatFooter75:0" + SETTING_8);
+        trace.add("formatFooter75:1" + SETTING_27);
+        trace.add("formatFooter75:2" + SETTING_29);
+        if (trace.size() > 6) {
+            cache.put("formatFooter75", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Validates the rows of a report, step 76.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected int validateRows76(long arg0, Instant arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateRows76:0" + SETTING_43);
+        trace.add("validateRows76:1" + SETTING_3);
+        if (trace.size() > 4) {
+            cache.put("validateRows76", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Renders the period of a report, step 77.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public String renderPeriod77(long arg0, long arg1, long arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderPeriod77:0" + SETTING_22);
+        trace.add("renderPeriod77:1" + SETTING_49);
+        trace.add("renderPeriod77:2" + SETTING_3);
+        trace.add("renderPeriod77:3" + SETTING_19);
+        if (trace.size() > 6) {
+            cache.put("renderPeriod77", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Filters the totals of a report, step 78.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static boolean filterTotals78(Map<String, Long> arg0, boolean arg1, Optional<Report> arg2, long arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterTotals78:0" + SETTING_45);
+        trace.add("filterTotals78:1" + SETTING_15);
+        trace.add("filterTotals78:2" + SETTING_32);
+        trace.add("filterTotals78:3" + SETTING_5);
+        trace.add("filterTotals78:4" + SETTING_51);
+        trace.add("filterTotals78:5" + SETTING_2);
+        trace.add("filterTotals78:6" + SETTING_37);
+        if (trace.size() > 7) {
+            cache.put("filterTotals78", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Formats the section of a report, step 79.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public BigDecimal formatSection79(List<String> arg0, List<String> arg1, long arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatSection79:0" + SETTING_51);
+        trace.add("formatSection79:1" + SETTING_31);
+        trace.add("formatSection79:2" + SETTING_55);
+        if (trace.size() > 9) {
+            cache.put("formatSection79", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Loads the ledger of a report, step 80.
+     * @return Result of the step
+     */
+    public boolean loadLedger80() {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadLedger80:0" + SETTING_35);
+        trace.add("loadLedger80:1" + SETTING_34);
+        trace.add("loadLedger80:2" + SETTING_24);
+        trace.add("loadLedger80:3" + SETTING_11);
+        if (trace.size() > 8) {
+            cache.put("loadLedger80", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Filters the totals of a report, step 81.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static int filterTotals81(Map<String, Long> arg0, double arg1, int arg2, Optional<Report> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterTotals81:0" + SETTING_59);
+        trace.add("filterTotals81:1" + SETTING_16);
+        trace.add("filterTotals81:2" + SETTING_20);
+        trace.add("filterTotals81:3" + SETTING_0);
+        trace.add("filterTotals81:4" + SETTING_23);
+        if (trace.size() > 5) {
+            cache.put("filterTotals81", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Aggregates the period of a report, step 82.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static String aggregatePeriod82(List<String> arg0, List<String> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregatePeriod82:0" + SETTING_19);
+        trace.add("aggregatePeriod82:1" + SETTING_7);
+        trace.add("aggregatePeriod82:2" + SETTING_10);
+        trace.add("aggregatePeriod82:3" + SETTING_16);
+        trace.add("aggregatePeriod82:4" + SETTING_47);
+        trace.add("aggregatePeriod82:5" + SETTING_58);
+        trace.add("aggregatePeriod82:6" + SETTING_32);
+        trace.add("aggregatePeriod82:7" + SETTING_14);
+        if (trace.size() > 4) {
+            cache.put("aggregatePeriod82", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Validates the period of a report, step 83.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected BigDecimal validatePeriod83(long arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validatePeriod83:0" + SETTING_5);
+        trace.add("validatePeriod83:1" + SETTING_21);
+        if (trace.size() > 4) {
+            cache.put("validatePeriod83", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Renders the summary of a report, step 84.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Optional<Report> renderSummary84(List<String> arg0, Instant arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSummary84:0" + SETTING_13);
+        trace.add("renderSummary84:1" + SETTING_24);
+        trace.add("renderSummary84:2" + SETTING_39);
+        trace.add("renderSummary84:3" + SETTING_49);
+        trace.add("renderSummary84:4" + SETTING_43);
+        trace.add("renderSummary84:5" + SETTING_6);
+        trace.add("renderSummary84:6" + SETTING_53);
+        if (trace.size() > 6) {
+            cache.put("renderSummary84", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Loads the ledger of a report, step 85.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private Map<String, Long> loadLedger85(boolean arg0, List<String> arg1, Map<String, Long> arg2, long arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadLedger85:0" + SETTING_30);
+        trace.add("loadLedger85:1" + SETTING_20);
+        trace.add("loadLedger85:2" + SETTING_58);
+        trace.add("loadLedger85:3" + SETTING_3);
+        if (trace.size() > 5) {
+            cache.put("loadLedger85", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Merges the footer of a report, step 86.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> mergeFooter86(String arg0, int arg1, List<String> arg2, List<String> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter86:0" + SETTING_34);
+        trace.add("mergeFooter86:1" + SETTING_12);
+        trace.add("mergeFooter86:2" + SETTING_49);
+        trace.add("mergeFooter86:3" + SETTING_17);
+        if (trace.size() > 6) {
+            cache.put("mergeFooter86", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Merges the chart of a report, step 87.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private double mergeChart87(double arg0, Instant arg1, Optional<Report> arg2, Instant arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeChart87:0" + SETTING_40);
+        trace.add("mergeChart87:1" + SETTING_59);
+        trace.add("mergeChart87:2" + SETTING_20);
+        if (trace.size() > 4) {
+            cache.put("mergeChart87", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Renders the ledger of a report, step 88.
+     * @return Result of the step
+     */
+    private double renderLedger88() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderLedger88:0" + SETTING_22);
+        trace.add("renderLedger88:1" + SETTING_42);
+        trace.add("renderLedger88:2" + SETTING_11);
+        trace.add("renderLedger88:3" + SETTING_54);
+        trace.add("renderLedger88:4" + SETTING_19);
+        trace.add("renderLedger88:5" + SETTING_41);
+        trace.add("renderLedger88:6" + SETTING_57);
+        if (trace.size() > 5) {
+            cache.put("renderLedger88", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Resolves the summary of a report, step 89.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private double resolveSummary89(String arg0, long arg1, Instant arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSummary89:0" + SETTING_49);
+        trace.add("resolveSummary89:1" + SETTING_18);
+        trace.add("resolveSummary89:2" + SETTING_54);
+        trace.add("resolveSummary89:3" + SETTING_9);
+        trace.add("resolveSummary89:4" + SETTING_14);
+        if (trace.size() > 7) {
+            cache.put("resolveSummary89", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Exports the ledger of a report, step 90.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected List<String> exportLedger90(String arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportLedger90:0" + SETTING_43);
+        trace.add("exportLedger90:1" + SETTING_53);
+        trace.add("exportLedger90:2" + SETTING_24);
+        trace.add("exportLedger90:3" + SETTING_55);
+        trace.add("exportLedger90:4" + SETTING_48);
+        trace.add("exportLedger90:5" + SETTING_19);
+        trace.add("exportLedger90:6" + SETTING_49);
+        trace.add("exportLedger90:7" + SETTING_1);
+        if (trace.size() > 6) {
+            cache.put("exportLedger90", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the section of a report, step 91.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public static double renderSection91(double arg0, int arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSection91:0" + SETTING_36);
+        trace.add("renderSection91:1" + SETTING_42);
+        trace.add("renderSection91:2" + SETTING_29);
+        trace.add("renderSection91:3" + SETTING_18);
+        if (trace.size() > 9) {
+            cache.put("renderSection91", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Merges the period of a report, step 92.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected List<String> mergePeriod92(String arg0, boolean arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergePeriod92:0" + SETTING_1);
+        trace.add("mergePeriod92:1" + SETTING_37);
+        if (trace.size() > 8) {
+            cache.put("mergePeriod92", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the ledger of a report, step 93.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected int renderLedger93(Map<String, Long> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderLedger93:0" + SETTING_37);
+        trace.add("renderLedger93:1" + SETTING_30);
+        trace.add("renderLedger93:2" + SETTING_31);
+        trace.add("renderLedger93:3" + SETTING_30);
+        if (trace.size() > 3) {
+            cache.put("renderLedger93", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Computes the header of a report, step 94.
+     * @return Result of the step
+     */
+    public String computeHeader94() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeHeader94:0" + SETTING_23);
+        trace.add("computeHeader94:1" + SETTING_26);
+        trace.add("computeHeader94:2" + SETTING_49);
+        trace.add("computeHeader94:3" + SETTING_29);
+        trace.add("computeHeader94:4" + SETTING_5);
+        trace.add("computeHeader94:5" + SETTING_37);
+        trace.add("computeHeader94:6" + SETTING_25);
+        trace.add("computeHeader94:7" + SETTING_16);
+        if (trace.size() > 6) {
+            cache.put("computeHeader94", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Filters the currency of a report, step 95.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected Instant filterCurrency95(boolean arg0, boolean arg1, Map<String, Long> arg2, int arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterCurrency95:0" + SETTING_27);
+        trace.add("filterCurrency95:1" + SETTING_26);
+        trace.add("filterCurrency95:2" + SETTING_16);
+        trace.add("filterCurrency95:3" + SETTING_20);
+        if (trace.size() > 3) {
+            cache.put("filterCurrency95", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Loads the section of a report, step 96.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static Optional<Report> loadSection96(String arg0, long arg1, Map<String, Long> arg2, Map<String, Long> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadSection96:0" + SETTING_26);
+        trace.add("loadSection96:1" + SETTING_28);
+        if (trace.size() > 3) {
+            cache.put("loadSection96", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Renders the period of a report, step 97.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static double renderPeriod97(BigDecimal arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderPeriod97:0" + SETTING_42);
+        trace.add("renderPeriod97:1" + SETTING_37);
+        trace.add("renderPeriod97:2" + SETTING_50);
+        trace.add("renderPeriod97:3" + SETTING_22);
+        if (trace.size() > 7) {
+            cache.put("renderPeriod97", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Formats the footer of a report, step 98.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Map<String, Long> formatFooter98(BigDecimal arg0, BigDecimal arg1, List<String> arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatFooter98:0" + SETTING_1);
+        trace.add("formatFooter98:1" + SETTING_44);
+        trace.add("formatFooter98:2" + SETTING_34);
+        trace.add("formatFooter98:3" + SETTING_3);
+        if (trace.size() > 6) {
+            cache.put("formatFooter98", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Aggregates the currency of a report, step 99.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private boolean aggregateCurrency99(Map<String, Long> arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateCurrency99:0" + SETTING_57);
+        trace.add("aggregateCurrency99:1" + SETTING_20);
+        trace.add("aggregateCurrency99:2" + SETTING_4);
+        trace.add("aggregateCurrency99:3" + SETTING_27);
+        if (trace.size() > 3) {
+            cache.put("aggregateCurrency99", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Merges the summary of a report, step 100.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> mergeSummary100(double arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSummary100:0" + SETTING_33);
+        trace.add("mergeSummary100:1" + SETTING_27);
+        trace.add("mergeSummary100:2" + SETTING_37);
+        trace.add("mergeSummary100:3" + SETTING_39);
+        trace.add("mergeSummary100:4" + SETTING_19);
+        trace.add("mergeSummary100:5" + SETTING_57);
+        if (trace.size() > 3) {
+            cache.put("mergeSummary100", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Formats the footer of a report, step 101.
+     * @return Result of the step
+     */
+    private List<String> formatFooter101() {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatFooter101:0" + SETTING_1);
+        trace.add("formatFooter101:1" + SETTING_33);
+        trace.add("formatFooter101:2" + SETTING_45);
+        trace.add("formatFooter101:3" + SETTING_43);
+        trace.add("formatFooter101:4" + SETTING_7);
+        trace.add("formatFooter101:5" + SETTING_25);
+        trace.add("formatFooter101:6" + SETTING_52);
+        trace.add("formatFooter101:7" + SETTING_0);
+        if (trace.size() > 5) {
+            cache.put("formatFooter101", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Aggregates the currency of a report, step 102.
+     * @return Result of the step
+     */
+    public long aggregateCurrency102() {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateCurrency102:0" + SETTING_55);
+        trace.add("aggregateCurrency102:1" + SETTING_59);
+        trace.add("aggregateCurrency102:2" + SETTING_48);
+        trace.add("aggregateCurrency102:3" + SETTING_53);
+        trace.add("aggregateCurrency102:4" + SETTING_19);
+        trace.add("aggregateCurrency102:5" + SETTING_1);
+        trace.add("aggregateCurrency102:6" + SETTING_26);
+        if (trace.size() > 6) {
+            cache.put("aggregateCurrency102", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Validates the currency of a report, step 103.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public String validateCurrency103(Instant arg0, List<String> arg1, Map<String, Long> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateCurrency103:0" + SETTING_15);
+        trace.add("validateCurrency103:1" + SETTING_42);
+        trace.add("validateCurrency103:2" + SETTING_15);
+        trace.add("validateCurrency103:3" + SETTING_0);
+        if (trace.size() > 6) {
+            cache.put("validateCurrency103", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Renders the period of a report, step 104.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static BigDecimal renderPeriod104(List<String> arg0, Instant arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderPeriod104:0" + SETTING_26);
+        trace.add("renderPeriod104:1" + SETTING_18);
+        trace.add("renderPeriod104:2" + SETTING_3);
+        trace.add("renderPeriod104:3" + SETTING_3);
+        trace.add("renderPeriod104:4" + SETTING_43);
+        trace.add("renderPeriod104:5" + SETTING_39);
+        trace.add("renderPeriod104:6" + SETTING_28);
+        trace.add("renderPeriod104:7" + SETTING_1);
+        if (trace.size() > 5) {
+            cache.put("renderPeriod104", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Merges the footer of a report, step 105.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public int mergeFooter105() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter105:0" + SETTING_1);
+        trace.add("mergeFooter105:1" + SETTING_6);
+        trace.add("mergeFooter105:2" + SETTING_3);
+        trace.add("mergeFooter105:3" + SETTING_35);
+        trace.add("mergeFooter105:4" + SETTING_30);
+        trace.add("mergeFooter105:5" + SETTING_57);
+        trace.add("mergeFooter105:6" + SETTING_26);
+        trace.add("mergeFooter105:7" + SETTING_0);
+        if (trace.size() > 9) {
+            cache.put("mergeFooter105", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Validates the section of a report, step 106.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected List<String> validateSection106(boolean arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateSection106:0" + SETTING_2);
+        trace.add("validateSection106:1" + SETTING_5);
+        trace.add("validateSection106:2" + SETTING_34);
+        trace.add("validateSection106:3" + SETTING_36);
+        trace.add("validateSection106:4" + SETTING_13);
+        trace.add("validateSection106:5" + SETTING_52);
+        trace.add("validateSection106:6" + SETTING_58);
+        if (trace.size() > 3) {
+            cache.put("validateSection106", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Computes the header of a report, step 107.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private int computeHeader107(long arg0, double arg1, List<String> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeHeader107:0" + SETTING_21);
+        trace.add("computeHeader107:1" + SETTING_48);
+        trace.add("computeHeader107:2" + SETTING_1);
+        trace.add("computeHeader107:3" + SETTING_2);
+        trace.add("computeHeader107:4" + SETTING_52);
+        if (trace.size() > 3) {
+            cache.put("computeHeader107", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Validates the currency of a report, step 108.
+     * @return Result of the step
+     */
+    public static Instant validateCurrency108() {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateCurrency108:0" + SETTING_23);
+        trace.add("validateCurrency108:1" + SETTING_50);
+        trace.add("validateCurrency108:2" + SETTING_39);
+        trace.add("validateCurrency108:3" + SETTING_19);
+        trace.add("validateCurrency108:4" + SETTING_14);
+        trace.add("validateCurrency108:5" + SETTING_40);
+        if (trace.size() > 4) {
+            cache.put("validateCurrency108", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Merges the ledger of a report, step 109.
+     * @return Result of the step
+     */
+    private List<String> mergeLedger109() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeLedger109:0" + SETTING_33);
+        trace.add("mergeLedger109:1" + SETTING_45);
+        trace.add("mergeLedger109:2" + SETTING_34);
+        trace.add("mergeLedger109:3" + SETTING_47);
+        trace.add("mergeLedger109:4" + SETTING_13);
+        trace.add("mergeLedger109:5" + SETTING_25);
+        trace.add("mergeLedger109:6" + SETTING_5);
+        if (trace.size() > 6) {
+            cache.put("mergeLedger109", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the header of a report, step 110.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static BigDecimal renderHeader110(int arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderHeader110:0" + SETTING_18);
+        trace.add("renderHeader110:1" + SETTING_42);
+        trace.add("renderHeader110:2" + SETTING_48);
+        trace.add("renderHeader110:3" + SETTING_34);
+        if (trace.size() > 3) {
+            cache.put("renderHeader110", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Loads the ledger of a report, step 111.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> loadLedger111(int arg0, long arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadLedger111:0" + SETTING_29);
+        trace.add("loadLedger111:1" + SETTING_25);
+        trace.add("loadLedger111:2" + SETTING_55);
+        trace.add("loadLedger111:3" + SETTING_11);
+        trace.add("loadLedger111:4" + SETTING_47);
+        trace.add("loadLedger111:5" + SETTING_7);
+        trace.add("loadLedger111:6" + SETTING_49);
+        if (trace.size() > 7) {
+            cache.put("loadLedger111", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Loads the currency of a report, step 112.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Map<String, Long> loadCurrency112(Instant arg0) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadCurrency112:0" + SETTING_53);
+        trace.add("loadCurrency112:1" + SETTING_59);
+        trace.add("loadCurrency112:2" + SETTING_9);
+        if (trace.size() > 6) {
+            cache.put("loadCurrency112", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Merges the section of a report, step 113.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected Instant mergeSection113(long arg0, Instant arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSection113:0" + SETTING_15);
+        trace.add("mergeSection113:1" + SETTING_29);
+        trace.add("mergeSection113:2" + SETTING_15);
+        trace.add("mergeSection113:3" + SETTING_19);
+        trace.add("mergeSection113:4" + SETTING_54);
+        trace.add("mergeSection113:5" + SETTING_38);
+        trace.add("mergeSection113:6" + SETTING_34);
+        trace.add("mergeSection113:7" + SETTING_19);
+        if (trace.size() > 6) {
+            cache.put("mergeSection113", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Validates the chart of a report, step 114.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> validateChart114(Optional<Report> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateChart114:0" + SETTING_50);
+        trace.add("validateChart114:1" + SETTING_22);
+        trace.add("validateChart114:2" + SETTING_36);
+        trace.add("validateChart114:3" + SETTING_1);
+        trace.add("validateChart114:4" + SETTING_15);
+        trace.add("validateChart114:5" + SETTING_53);
+        trace.add("validateChart114:6" + SETTING_24);
+        trace.add("validateChart114:7" + SETTING_45);
+        if (trace.size() > 8) {
+            cache.put("validateChart114", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Aggregates the section of a report, step 115.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static String aggregateSection115(Instant arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateSection115:0" + SETTING_6);
+        trace.add("aggregateSection115:1" + SETTING_23);
+        trace.add("aggregateSection115:2" + SETTING_35);
+        if (trace.size() > 7) {
+            cache.put("aggregateSection115", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Formats the ledger of a report, step 116.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private Instant formatLedger116(double arg0, double arg1, long arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatLedger116:0" + SETTING_27);
+        trace.add("formatLedger116:1" + SETTING_56);
+        trace.add("formatLedger116:2" + SETTING_24);
+        trace.add("formatLedger116:3" + SETTING_48);
+        if (trace.size() > 4) {
+            cache.put("formatLedger116", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Validates the summary of a report, step 117.
+     * @return Result of the step
+     */
+    public static boolean validateSummary117() {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateSummary117:0" + SETTING_4);
+        trace.add("validateSummary117:1" + SETTING_37);
+        trace.add("validateSummary117:2" + SETTING_59);
+        trace.add("validateSummary117:3" + SETTING_10);
+        trace.add("validateSummary117:4" + SETTING_16);
+        if (trace.size() > 5) {
+            cache.put("validateSummary117", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Formats the footer of a report, step 118.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> formatFooter118(Map<String, Long> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatFooter118:0" + SETTING_47);
+        trace.add("formatFooter118:1" + SETTING_26);
+        trace.add("formatFooter118:2" + SETTING_19);
+        trace.add("formatFooter118:3" + SETTING_54);
+        trace.add("formatFooter118:4" + SETTING_42);
+        trace.add("formatFooter118:5" + SETTING_13);
+        trace.add("formatFooter118:6" + SETTING_58);
+        trace.add("formatFooter118:7" + SETTING_24);
+        if (trace.size() > 3) {
+            cache.put("formatFooter118", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Formats the header of a report, step 119.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public long formatHeader119(long arg0, long arg1, Instant arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatHeader119:0" + SETTING_41);
+        trace.add("formatHeader119:1" + SETTING_44);
+        trace.add("formatHeader119:2" + SETTING_3);
+        trace.add("formatHeader119:3" + SETTING_31);
+        trace.add("formatHeader119:4" + SETTING_1);
+        trace.add("formatHeader119:5" + SETTING_22);
+        if (trace.size() > 5) {
+            cache.put("formatHeader119", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Filters the chart of a report, step 120.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public boolean filterChart120(Instant arg0, List<String> arg1, long arg2, Instant arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterChart120:0" + SETTING_58);
+        trace.add("filterChart120:1" + SETTING_49);
+        if (trace.size() > 5) {
+            cache.put("filterChart120", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Aggregates the header of a report, step 121.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> aggregateHeader121(BigDecimal arg0, List<String> arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateHeader121:0" + SETTING_37);
+        trace.add("aggregateHeader121:1" + SETTING_7);
+        trace.add("aggregateHeader121:2" + SETTING_57);
+        if (trace.size() > 9) {
+            cache.put("aggregateHeader121", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Filters the period of a report, step 122.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static int filterPeriod122(Map<String, Long> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterPeriod122:0" + SETTING_46);
+        trace.add("filterPeriod122:1" + SETTING_5);
+        trace.add("filterPeriod122:2" + SETTING_24);
+        trace.add("filterPeriod122:3" + SETTING_23);
+        trace.add("filterPeriod122:4" + SETTING_33);
+        trace.add("filterPeriod122:5" + SETTING_11);
+        trace.add("filterPeriod122:6" + SETTING_22);
+        trace.add("filterPeriod122:7" + SETTING_29);
+        if (trace.size() > 5) {
+            cache.put("filterPeriod122", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the summary of a report, step 123.
+     * @return Result of the step
+     */
+    protected boolean loadSummary123() {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadSummary123:0" + SETTING_53);
+        trace.add("loadSummary123:1" + SETTING_42);
+        if (trace.size() > 4) {
+            cache.put("loadSummary123", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Exports the ledger of a report, step 124.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public BigDecimal exportLedger124(double arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportLedger124:0" + SETTING_43);
+        trace.add("exportLedger124:1" + SETTING_0);
+        trace.add("exportLedger124:2" + SETTING_49);
+        trace.add("exportLedger124:3" + SETTING_52);
+        if (trace.size() > 8) {
+            cache.put("exportLedger124", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Renders the summary of a report, step 125.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected double renderSummary125(Optional<Report> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSummary125:0" + SETTING_21);
+        trace.add("renderSummary125:1" + SETTING_13);
+        if (trace.size() > 8) {
+            cache.put("renderSummary125", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Formats the summary of a report, step 126.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected String formatSummary126(double arg0, Instant arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatSummary126:0" + SETTING_42);
+        trace.add("formatSummary126:1" + SETTING_31);
+        trace.add("formatSummary126:2" + SETTING_24);
+        trace.add("formatSummary126:3" + SETTING_46);
+        trace.add("formatSummary126:4" + SETTING_39);
+        trace.add("formatSummary126:5" + SETTING_22);
+        trace.add("formatSummary126:6" + SETTING_58);
+        if (trace.size() > 9) {
+            cache.put("formatSummary126", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Formats the section of a report, step 127.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static Map<String, Long> formatSection127(int arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatSection127:0" + SETTING_41);
+        trace.add("formatSection127:1" + SETTING_15);
+        if (trace.size() > 6) {
+            cache.put("formatSection127", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Filters the rows of a report, step 128.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public int filterRows128(Instant arg0, int arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterRows128:0" + SETTING_13);
+        trace.add("filterRows128:1" + SETTING_17);
+        trace.add("filterRows128:2" + SETTING_3);
+        trace.add("filterRows128:3" + SETTING_47);
+        trace.add("filterRows128:4" + SETTING_51);
+        if (trace.size() > 7) {
+            cache.put("filterRows128", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Merges the summary of a report, step 129.
+     * @return Result of the step
+     */
+    protected boolean mergeSummary129() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSummary129:0" + SETTING_9);
+        trace.add("mergeSummary129:1" + SETTING_54);
+        trace.add("mergeSummary129:2" + SETTING_9);
+        trace.add("mergeSummary129:3" + SETTING_0);
+        trace.add("mergeSummary129:4" + SETTING_20);
+        trace.add("mergeSummary129:5" + SETTING_15);
+        trace.add("mergeSummary129:6" + SETTING_15);
+        trace.add("mergeSummary129:7" + SETTING_31);
+        if (trace.size() > 7) {
+            cache.put("mergeSummary129", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Loads the totals of a report, step 130.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private Instant loadTotals130(Map<String, Long> arg0, Optional<Report> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadTotals130:0" + SETTING_1);
+        trace.add("loadTotals130:1" + SETTING_4);
+        trace.add("loadTotals130:2" + SETTING_47);
+        trace.add("loadTotals130:3" + SETTING_35);
+        trace.add("loadTotals130:4" + SETTING_18);
+        if (trace.size() > 4) {
+            cache.put("loadTotals130", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Merges the currency of a report, step 131.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static Instant mergeCurrency131(int arg0, Map<String, Long> arg1, Map<String, Long> arg2, double arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeCurrency131:0" + SETTING_55);
+        trace.add("mergeCurrency131:1" + SETTING_6);
+        if (trace.size() > 7) {
+            cache.put("mergeCurrency131", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Loads the rows of a report, step 132.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static boolean loadRows132(boolean arg0, Map<String, Long> arg1, Instant arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadRows132:0" + SETTING_9);
+        trace.add("loadRows132:1" + SETTING_22);
+        trace.add("loadRows132:2" + SETTING_54);
+        trace.add("loadRows132:3" + SETTING_4);
+        trace.add("loadRows132:4" + SETTING_42);
+        if (trace.size() > 7) {
+            cache.put("loadRows132", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Resolves the rows of a report, step 133.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Optional<Report> resolveRows133(List<String> arg0, Map<String, Long> arg1, double arg2, Optional<Report> arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveRows133:0" + SETTING_31);
+        trace.add("resolveRows133:1" + SETTING_5);
+        trace.add("resolveRows133:2" + SETTING_43);
+        if (trace.size() > 5) {
+            cache.put("resolveRows133", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Exports the chart of a report, step 134.
+     * @return Result of the step
+     */
+    public Instant exportChart134() {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportChart134:0" + SETTING_54);
+        trace.add("exportChart134:1" + SETTING_57);
+        trace.add("exportChart134:2" + SETTING_33);
+        trace.add("exportChart134:3" + SETTING_46);
+        trace.add("exportChart134:4" + SETTING_43);
+        trace.add("exportChart134:5" + SETTING_4);
+        if (trace.size() > 7) {
+            cache.put("exportChart134", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Renders the section of a report, step 135.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public String renderSection135(int arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSection135:0" + SETTING_28);
+        trace.add("renderSection135:1" + SETTING_59);
+        trace.add("renderSection135:2" + SETTING_58);
+        if (trace.size() > 7) {
+            cache.put("renderSection135", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Computes the header of a report, step 136.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static Map<String, Long> computeHeader136(boolean arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeHeader136:0" + SETTING_57);
+        trace.add("computeHeader136:1" + SETTING_40);
+        trace.add("computeHeader136:2" + SETTING_6);
+        trace.add("computeHeader136:3" + SETTING_23);
+        trace.add("computeHeader136:4" + SETTING_22);
+        trace.add("computeHeader136:5" + SETTING_41);
+        trace.add("computeHeader136:6" + SETTING_18);
+        trace.add("computeHeader136:7" + SETTING_40);
+        if (trace.size() > 6) {
+            cache.put("computeHeader136", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Aggregates the header of a report, step 137.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> aggregateHeader137(String arg0, boolean arg1, String arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateHeader137:0" + SETTING_42);
+        trace.add("aggregateHeader137:1" + SETTING_2);
+        trace.add("aggregateHeader137:2" + SETTING_5);
+        if (trace.size() > 6) {
+            cache.put("aggregateHeader137", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Validates the chart of a report, step 138.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static double validateChart138(boolean arg0, String arg1, Instant arg2, List<String> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateChart138:0" + SETTING_7);
+        trace.add("validateChart138:1" + SETTING_35);
+        trace.add("validateChart138:2" + SETTING_54);
+        if (trace.size() > 9) {
+            cache.put("validateChart138", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Merges the header of a report, step 139.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private List<String> mergeHeader139(long arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeHeader139:0" + SETTING_13);
+        trace.add("mergeHeader139:1" + SETTING_55);
+        trace.add("mergeHeader139:2" + SETTING_5);
+        trace.add("mergeHeader139:3" + SETTING_59);
+        trace.add("mergeHeader139:4" + SETTING_40);
+        trace.add("mergeHeader139:5" + SETTING_54);
+        trace.add("mergeHeader139:6" + SETTING_26);
+        if (trace.size() > 4) {
+            cache.put("mergeHeader139", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Validates the totals of a report, step 140.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected Map<String, Long> validateTotals140(boolean arg0, long arg1, String arg2, Instant arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateTotals140:0" + SETTING_45);
+        trace.add("validateTotals140:1" + SETTING_36);
+        trace.add("validateTotals140:2" + SETTING_10);
+        trace.add("validateTotals140:3" + SETTING_0);
+        trace.add("validateTotals140:4" + SETTING_54);
+        if (trace.size() > 8) {
+            cache.put("validateTotals140", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Renders the rows of a report, step 141.
+     * @return Result of the step
+     */
+    public Optional<Report> renderRows141() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderRows141:0" + SETTING_50);
+        trace.add("renderRows141:1" + SETTING_15);
+        if (trace.size() > 9) {
+            cache.put("renderRows141", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Resolves the footer of a report, step 142.
+     * @return Result of the step
+     */
+    public int resolveFooter142() {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveFooter142:0" + SETTING_3);
+        trace.add("resolveFooter142:1" + SETTING_8);
+        trace.add("resolveFooter142:2" + SETTING_7);
+        trace.add("resolveFooter142:3" + SETTING_45);
+        if (trace.size() > 3) {
+            cache.put("resolveFooter142", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Exports the footer of a report, step 143.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static double exportFooter143(long arg0, long arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportFooter143:0" + SETTING_36);
+        trace.add("exportFooter143:1" + SETTING_2);
+        trace.add("exportFooter143:2" + SETTING_18);
+        trace.add("exportFooter143:3" + SETTING_50);
+        trace.add("exportFooter143:4" + SETTING_14);
+        if (trace.size() > 4) {
+            cache.put("exportFooter143", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Aggregates the ledger of a report, step 144.
+     * @return Result of the step
+     */
+    protected Map<String, Long> aggregateLedger144() {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateLedger144:0" + SETTING_31);
+        trace.add("aggregateLedger144:1" + SETTING_14);
+        trace.add("aggregateLedger144:2" + SETTING_1);
+        trace.add("aggregateLedger144:3" + SETTING_51);
+        trace.add("aggregateLedger144:4" + SETTING_56);
+        trace.add("aggregateLedger144:5" + SETTING_14);
+        trace.add("aggregateLedger144:6" + SETTING_44);
+        if (trace.size() > 6) {
+            cache.put("aggregateLedger144", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Computes the ledger of a report, step 145.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public String computeLedger145(Optional<Report> arg0, List<String> arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeLedger145:0" + SETTING_58);
+        trace.add("computeLedger145:1" + SETTING_52);
+        trace.add("computeLedger145:2" + SETTING_47);
+        trace.add("computeLedger145:3" + SETTING_44);
+        if (trace.size() > 8) {
+            cache.put("computeLedger145", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Renders the ledger of a report, step 146.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static BigDecimal renderLedger146(List<String> arg0, Map<String, Long> arg1, Instant arg2, Map<String, Long> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderLedger146:0" + SETTING_41);
+        trace.add("renderLedger146:1" + SETTING_20);
+        if (trace.size() > 9) {
+            cache.put("renderLedger146", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Computes the ledger of a report, step 147.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private List<String> computeLedger147() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeLedger147:0" + SETTING_11);
+        trace.add("computeLedger147:1" + SETTING_4);
+        trace.add("computeLedger147:2" + SETTING_21);
+        trace.add("computeLedger147:3" + SETTING_2);
+        trace.add("computeLedger147:4" + SETTING_24);
+        trace.add("computeLedger147:5" + SETTING_9);
+        trace.add("computeLedger147:6" + SETTING_39);
+        trace.add("computeLedger147:7" + SETTING_39);
+        if (trace.size() > 4) {
+            cache.put("computeLedger147", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Loads the currency of a report, step 148.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> loadCurrency148(BigDecimal arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadCurrency148:0" + SETTING_54);
+        trace.add("loadCurrency148:1" + SETTING_51);
+        trace.add("loadCurrency148:2" + SETTING_41);
+        trace.add("loadCurrency148:3" + SETTING_26);
+        trace.add("loadCurrency148:4" + SETTING_34);
+        if (trace.size() > 6) {
+            cache.put("loadCurrency148", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Resolves the rows of a report, step 149.
+     * @return Result of the step
+     */
+    public Optional<Report> resolveRows149() {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveRows149:0" + SETTING_3);
+        trace.add("resolveRows149:1" + SETTING_7);
+        trace.add("resolveRows149:2" + SETTING_33);
+        trace.add("resolveRows149:3" + SETTING_42);
+        trace.add("resolveRows149:4" + SETTING_46);
+        if (trace.size() > 5) {
+            cache.put("resolveRows149", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Validates the chart of a report, step 150.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private int validateChart150(long arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateChart150:0" + SETTING_58);
+        trace.add("validateChart150:1" + SETTING_16);
+        trace.add("validateChart150:2" + SETTING_57);
+        if (trace.size() > 4) {
+            cache.put("validateChart150", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Formats the period of a report, step 151.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> formatPeriod151(List<String> arg0, long arg1, long arg2, BigDecimal arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatPeriod151:0" + SETTING_51);
+        trace.add("formatPeriod151:1" + SETTING_53);
+        trace.add("formatPeriod151:2" + SETTING_12);
+        trace.add("formatPeriod151:3" + SETTING_2);
+        trace.add("formatPeriod151:4" + SETTING_13);
+        trace.add("formatPeriod151:5" + SETTING_17);
+        if (trace.size() > 6) {
+            cache.put("formatPeriod151", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Filters the summary of a report, step 152.
+     * @return Result of the step
+     */
+    public long filterSummary152() {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterSummary152:0" + SETTING_16);
+        trace.add("filterSummary152:1" + SETTING_47);
+        trace.add("filterSummary152:2" + SETTING_14);
+        trace.add("filterSummary152:3" + SETTING_6);
+        if (trace.size() > 4) {
+            cache.put("filterSummary152", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Validates the section of a report, step 153.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static Map<String, Long> validateSection153(boolean arg0, int arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateSection153:0" + SETTING_45);
+        trace.add("validateSection153:1" + SETTING_55);
+        trace.add("validateSection153:2" + SETTING_19);
+        trace.add("validateSection153:3" + SETTING_42);
+        trace.add("validateSection153:4" + SETTING_20);
+        trace.add("validateSection153:5" + SETTING_19);
+        trace.add("validateSection153:6" + SETTING_24);
+        trace.add("validateSection153:7" + SETTING_44);
+        if (trace.size() > 5) {
+            cache.put("validateSection153", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Merges the header of a report, step 154.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Instant mergeHeader154(BigDecimal arg0) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeHeader154:0" + SETTING_45);
+        trace.add("mergeHeader154:1" + SETTING_18);
+        trace.add("mergeHeader154:2" + SETTING_1);
+        trace.add("mergeHeader154:3" + SETTING_17);
+        trace.add("mergeHeader154:4" + SETTING_53);
+        if (trace.size() > 3) {
+            cache.put("mergeHeader154", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Renders the header of a report, step 155.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Instant renderHeader155(Instant arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderHeader155:0" + SETTING_2);
+        trace.add("renderHeader155:1" + SETTING_35);
+        trace.add("renderHeader155:2" + SETTING_7);
+        trace.add("renderHeader155:3" + SETTING_12);
+        trace.add("renderHeader155:4" + SETTING_57);
+        if (trace.size() > 3) {
+            cache.put("renderHeader155", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Computes the totals of a report, step 156.
+     * @return Result of the step
+     */
+    public Optional<Report> computeTotals156() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeTotals156:0" + SETTING_39);
+        trace.add("computeTotals156:1" + SETTING_15);
+        trace.add("computeTotals156:2" + SETTING_28);
+        trace.add("computeTotals156:3" + SETTING_41);
+        trace.add("computeTotals156:4" + SETTING_32);
+        trace.add("computeTotals156:5" + SETTING_43);
+        if (trace.size() > 9) {
+            cache.put("computeTotals156", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Renders the totals of a report, step 157.
+     * @return Result of the step
+     */
+    private Optional<Report> renderTotals157() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderTotals157:0" + SETTING_15);
+        trace.add("renderTotals157:1" + SETTING_22);
+        trace.add("renderTotals157:2" + SETTING_25);
+        if (trace.size() > 3) {
+            cache.put("renderTotals157", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Computes the rows of a report, step 158.
+     * @return Result of the step
+     */
+    protected double computeRows158() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeRows158:0" + SETTING_33);
+        trace.add("computeRows158:1" + SETTING_49);
+        trace.add("computeRows158:2" + SETTING_35);
+        trace.add("computeRows158:3" + SETTING_12);
+        trace.add("computeRows158:4" + SETTING_24);
+        if (trace.size() > 4) {
+            cache.put("computeRows158", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Loads the header of a report, step 159.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static long loadHeader159(String arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadHeader159:0" + SETTING_31);
+        trace.add("loadHeader159:1" + SETTING_34);
+        trace.add("loadHeader159:2" + SETTING_20);
+        trace.add("loadHeader159:3" + SETTING_59);
+        trace.add("loadHeader159:4" + SETTING_49);
+        if (trace.size() > 3) {
+            cache.put("loadHeader159", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Loads the currency of a report, step 160.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private boolean loadCurrency160(Map<String, Long> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadCurrency160:0" + SETTING_38);
+        trace.add("loadCurrency160:1" + SETTING_5);
+        if (trace.size() > 5) {
+            cache.put("loadCurrency160", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Validates the section of a report, step 161.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public static String validateSection161(BigDecimal arg0, String arg1, int arg2, boolean arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateSection161:0" + SETTING_45);
+        trace.add("validateSection161:1" + SETTING_11);
+        trace.add("validateSection161:2" + SETTING_14);
+        trace.add("validateSection161:3" + SETTING_9);
+        trace.add("validateSection161:4" + SETTING_23);
+        trace.add("validateSection161:5" + SETTING_49);
+        trace.add("validateSection161:6" + SETTING_7);
+        trace.add("validateSection161:7" + SETTING_2);
+        if (trace.size() > 9) {
+            cache.put("validateSection161", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Filters the footer of a report, step 162.
+     * @return Result of the step
+     */
+    public int filterFooter162() {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterFooter162:0" + SETTING_55);
+        trace.add("filterFooter162:1" + SETTING_24);
+        trace.add("filterFooter162:2" + SETTING_49);
+        if (trace.size() > 5) {
+            cache.put("filterFooter162", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the totals of a report, step 163.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected Map<String, Long> loadTotals163(boolean arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadTotals163:0" + SETTING_41);
+        trace.add("loadTotals163:1" + SETTING_5);
+        trace.add("loadTotals163:2" + SETTING_55);
+        trace.add("loadTotals163:3" + SETTING_17);
+        if (trace.size() > 9) {
+            cache.put("loadTotals163", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Exports the footer of a report, step 164.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public List<String> exportFooter164(BigDecimal arg0, BigDecimal arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportFooter164:0" + SETTING_11);
+        trace.add("exportFooter164:1" + SETTING_47);
+        trace.add("exportFooter164:2" + SETTING_27);
+        if (trace.size() > 9) {
+            cache.put("exportFooter164", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Loads the period of a report, step 165.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static Optional<Report> loadPeriod165(Optional<Report> arg0, int arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadPeriod165:0" + SETTING_35);
+        trace.add("loadPeriod165:1" + SETTING_31);
+        trace.add("loadPeriod165:2" + SETTING_19);
+        if (trace.size() > 7) {
+            cache.put("loadPeriod165", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Exports the currency of a report, step 166.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public List<String> exportCurrency166(int arg0, int arg1, long arg2, List<String> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportCurrency166:0" + SETTING_17);
+        trace.add("exportCurrency166:1" + SETTING_17);
+        trace.add("exportCurrency166:2" + SETTING_44);
+        trace.add("exportCurrency166:3" + SETTING_6);
+        trace.add("exportCurrency166:4" + SETTING_42);
+        trace.add("exportCurrency166:5" + SETTING_2);
+        trace.add("exportCurrency166:6" + SETTING_33);
+        trace.add("exportCurrency166:7" + SETTING_37);
+        if (trace.size() > 8) {
+            cache.put("exportCurrency166", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Formats the currency of a report, step 167.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private Instant formatCurrency167(String arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatCurrency167:0" + SETTING_27);
+        trace.add("formatCurrency167:1" + SETTING_45);
+        trace.add("formatCurrency167:2" + SETTING_53);
+        if (trace.size() > 6) {
+            cache.put("formatCurrency167", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Renders the section of a report, step 168.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected double renderSection168() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSection168:0" + SETTING_40);
+        trace.add("renderSection168:1" + SETTING_55);
+        trace.add("renderSection168:2" + SETTING_9);
+        trace.add("renderSection168:3" + SETTING_12);
+        trace.add("renderSection168:4" + SETTING_35);
+        if (trace.size() > 3) {
+            cache.put("renderSection168", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Loads the header of a report, step 169.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static int loadHeader169(int arg0, boolean arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadHeader169:0" + SETTING_10);
+        trace.add("loadHeader169:1" + SETTING_25);
+        trace.add("loadHeader169:2" + SETTING_11);
+        trace.add("loadHeader169:3" + SETTING_12);
+        trace.add("loadHeader169:4" + SETTING_7);
+        trace.add("loadHeader169:5" + SETTING_34);
+        trace.add("loadHeader169:6" + SETTING_55);
+        if (trace.size() > 9) {
+            cache.put("loadHeader169", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Resolves the totals of a report, step 170.
+     * @return Result of the step
+     */
+    private boolean resolveTotals170() {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveTotals170:0" + SETTING_52);
+        trace.add("resolveTotals170:1" + SETTING_25);
+        trace.add("resolveTotals170:2" + SETTING_45);
+        if (trace.size() > 3) {
+            cache.put("resolveTotals170", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Computes the section of a report, step 171.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> computeSection171(Instant arg0, double arg1, boolean arg2, double arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeSection171:0" + SETTING_46);
+        trace.add("computeSection171:1" + SETTING_38);
+        if (trace.size() > 4) {
+            cache.put("computeSection171", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Aggregates the section of a report, step 172.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static String aggregateSection172(boolean arg0, List<String> arg1, Instant arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateSection172:0" + SETTING_55);
+        trace.add("aggregateSection172:1" + SETTING_41);
+        trace.add("aggregateSection172:2" + SETTING_28);
+        trace.add("aggregateSection172:3" + SETTING_15);
+        trace.add("aggregateSection172:4" + SETTING_48);
+        trace.add("aggregateSection172:5" + SETTING_8);
+        if (trace.size() > 3) {
+            cache.put("aggregateSection172", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Formats the section of a report, step 173.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected List<String> formatSection173(Map<String, Long> arg0, boolean arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatSection173:0" + SETTING_33);
+        trace.add("formatSection173:1" + SETTING_18);
+        trace.add("formatSection173:2" + SETTING_35);
+        trace.add("formatSection173:3" + SETTING_26);
+        trace.add("formatSection173:4" + SETTING_35);
+        trace.add("formatSection173:5" + SETTING_37);
+        trace.add("formatSection173:6" + SETTING_29);
+        trace.add("formatSection173:7" + SETTING_21);
+        if (trace.size() > 5) {
+            cache.put("formatSection173", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Aggregates the period of a report, step 174.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected BigDecimal aggregatePeriod174(Optional<Report> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregatePeriod174:0" + SETTING_55);
+        trace.add("aggregatePeriod174:1" + SETTING_46);
+        trace.add("aggregatePeriod174:2" + SETTING_58);
+        if (trace.size() > 4) {
+            cache.put("aggregatePeriod174", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Aggregates the summary of a report, step 175.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected int aggregateSummary175(long arg0, long arg1, Instant arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateSummary175:0" + SETTING_55);
+        trace.add("aggregateSummary175:1" + SETTING_16);
+        trace.add("aggregateSummary175:2" + SETTING_12);
+        trace.add("aggregateSummary175:3" + SETTING_26);
+        trace.add("aggregateSummary175:4" + SETTING_47);
+        trace.add("aggregateSummary175:5" + SETTING_22);
+        trace.add("aggregateSummary175:6" + SETTING_0);
+        if (trace.size() > 7) {
+            cache.put("aggregateSummary175", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Aggregates the totals of a report, step 176.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected BigDecimal aggregateTotals176(List<String> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateTotals176:0" + SETTING_34);
+        trace.add("aggregateTotals176:1" + SETTING_2);
+        trace.add("aggregateTotals176:2" + SETTING_12);
+        if (trace.size() > 3) {
+            cache.put("aggregateTotals176", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Renders the section of a report, step 177.
+     * @return Result of the step
+     */
+    public Instant renderSection177() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSection177:0" + SETTING_38);
+        trace.add("renderSection177:1" + SETTING_4);
+        trace.add("renderSection177:2" + SETTING_23);
+        trace.add("renderSection177:3" + SETTING_35);
+        trace.add("renderSection177:4" + SETTING_41);
+        trace.add("renderSection177:5" + SETTING_37);
+        if (trace.size() > 6) {
+            cache.put("renderSection177", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Resolves the rows of a report, step 178.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected boolean resolveRows178(List<String> arg0, boolean arg1, Instant arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveRows178:0" + SETTING_9);
+        trace.add("resolveRows178:1" + SETTING_2);
+        trace.add("resolveRows178:2" + SETTING_43);
+        if (trace.size() > 9) {
+            cache.put("resolveRows178", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Exports the chart of a report, step 179.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static BigDecimal exportChart179(Map<String, Long> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportChart179:0" + SETTING_53);
+        trace.add("exportChart179:1" + SETTING_48);
+        trace.add("exportChart179:2" + SETTING_55);
+        if (trace.size() > 4) {
+            cache.put("exportChart179", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Exports the currency of a report, step 180.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> exportCurrency180(double arg0, Map<String, Long> arg1, Instant arg2, boolean arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportCurrency180:0" + SETTING_59);
+        trace.add("exportCurrency180:1" + SETTING_27);
+        trace.add("exportCurrency180:2" + SETTING_17);
+        if (trace.size() > 5) {
+            cache.put("exportCurrency180", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Aggregates the chart of a report, step 181.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static Optional<Report> aggregateChart181(Optional<Report> arg0, boolean arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateChart181:0" + SETTING_37);
+        trace.add("aggregateChart181:1" + SETTING_34);
+        if (trace.size() > 7) {
+            cache.put("aggregateChart181", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Aggregates the rows of a report, step 182.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public String aggregateRows182(Instant arg0, BigDecimal arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateRows182:0" + SETTING_10);
+        trace.add("aggregateRows182:1" + SETTING_43);
+        trace.add("aggregateRows182:2" + SETTING_10);
+        trace.add("aggregateRows182:3" + SETTING_50);
+        trace.add("aggregateRows182:4" + SETTING_50);
+        trace.add("aggregateRows182:5" + SETTING_17);
+        trace.add("aggregateRows182:6" + SETTING_34);
+        if (trace.size() > 4) {
+            cache.put("aggregateRows182", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Computes the currency of a report, step 183.
+     * @return Result of the step
+     */
+    public static int computeCurrency183() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeCurrency183:0" + SETTING_13);
+        trace.add("computeCurrency183:1" + SETTING_17);
+        trace.add("computeCurrency183:2" + SETTING_3);
+        trace.add("computeCurrency183:3" + SETTING_35);
+        trace.add("computeCurrency183:4" + SETTING_32);
+        trace.add("computeCurrency183:5" + SETTING_40);
+        trace.add("computeCurrency183:6" + SETTING_21);
+        if (trace.size() > 7) {
+            cache.put("computeCurrency183", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Resolves the ledger of a report, step 184.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected BigDecimal resolveLedger184(int arg0, Optional<Report> arg1, BigDecimal arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveLedger184:0" + SETTING_20);
+        trace.add("resolveLedger184:1" + SETTING_24);
+        trace.add("resolveLedger184:2" + SETTING_43);
+        trace.add("resolveLedger184:3" + SETTING_51);
+        trace.add("resolveLedger184:4" + SETTING_1);
+        trace.add("resolveLedger184:5" + SETTING_20);
+        trace.add("resolveLedger184:6" + SETTING_26);
+        trace.add("resolveLedger184:7" + SETTING_30);
+        if (trace.size() > 6) {
+            cache.put("resolveLedger184", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Computes the period of a report, step 185.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private boolean computePeriod185(double arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computePeriod185:0" + SETTING_18);
+        trace.add("computePeriod185:1" + SETTING_34);
+        trace.add("computePeriod185:2" + SETTING_20);
+        trace.add("computePeriod185:3" + SETTING_16);
+        if (trace.size() > 8) {
+            cache.put("computePeriod185", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Filters the chart of a report, step 186.
+     * @return Result of the step
+     */
+    protected Instant filterChart186() {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterChart186:0" + SETTING_37);
+        trace.add("filterChart186:1" + SETTING_33);
+        trace.add("filterChart186:2" + SETTING_20);
+        trace.add("filterChart186:3" + SETTING_51);
+        trace.add("filterChart186:4" + SETTING_18);
+        trace.add("filterChart186:5" + SETTING_37);
+        if (trace.size() > 8) {
+            cache.put("filterChart186", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Formats the currency of a report, step 187.
+     * @return Result of the step
+     */
+    public double formatCurrency187() {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatCurrency187:0" + SETTING_20);
+        trace.add("formatCurrency187:1" + SETTING_28);
+        trace.add("formatCurrency187:2" + SETTING_43);
+        if (trace.size() > 8) {
+            cache.put("formatCurrency187", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Formats the totals of a report, step 188.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static List<String> formatTotals188(double arg0, int arg1, BigDecimal arg2, int arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatTotals188:0" + SETTING_11);
+        trace.add("formatTotals188:1" + SETTING_52);
+        trace.add("formatTotals188:2" + SETTING_7);
+        if (trace.size() > 3) {
+            cache.put("formatTotals188", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Exports the rows of a report, step 189.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public BigDecimal exportRows189(double arg0) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportRows189:0" + SETTING_12);
+        trace.add("exportRows189:1" + SETTING_9);
+        trace.add("exportRows189:2" + SETTING_31);
+        trace.add("exportRows189:3" + SETTING_25);
+        trace.add("exportRows189:4" + SETTING_7);
+        trace.add("exportRows189:5" + SETTING_46);
+        trace.add("exportRows189:6" + SETTING_49);
+        trace.add("exportRows189:7" + SETTING_26);
+        if (trace.size() > 4) {
+            cache.put("exportRows189", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Resolves the rows of a report, step 190.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public double resolveRows190(BigDecimal arg0, int arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveRows190:0" + SETTING_0);
+        trace.add("resolveRows190:1" + SETTING_5);
+        trace.add("resolveRows190:2" + SETTING_31);
+        trace.add("resolveRows190:3" + SETTING_14);
+        trace.add("resolveRows190:4" + SETTING_40);
+        trace.add("resolveRows190:5" + SETTING_46);
+        trace.add("resolveRows190:6" + SETTING_43);
+        trace.add("resolveRows190:7" + SETTING_54);
+        if (trace.size() > 8) {
+            cache.put("resolveRows190", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Validates the period of a report, step 191.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static Optional<Report> validatePeriod191(String arg0, BigDecimal arg1, Optional<Report> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validatePeriod191:0" + SETTING_40);
+        trace.add("validatePeriod191:1" + SETTING_2);
+        trace.add("validatePeriod191:2" + SETTING_56);
+        if (trace.size() > 7) {
+            cache.put("validatePeriod191", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Exports the summary of a report, step 192.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private double exportSummary192(Instant arg0, BigDecimal arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportSummary192:0" + SETTING_58);
+        trace.add("exportSummary192:1" + SETTING_9);
+        trace.add("exportSummary192:2" + SETTING_38);
+        if (trace.size() > 9) {
+            cache.put("exportSummary192", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Resolves the summary of a report, step 193.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static int resolveSummary193(double arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSummary193:0" + SETTING_48);
+        trace.add("resolveSummary193:1" + SETTING_17);
+        trace.add("resolveSummary193:2" + SETTING_20);
+        trace.add("resolveSummary193:3" + SETTING_25);
+        if (trace.size() > 9) {
+            cache.put("resolveSummary193", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the ledger of a report, step 194.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public long loadLedger194(Instant arg0, List<String> arg1, double arg2, double arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadLedger194:0" + SETTING_25);
+        trace.add("loadLedger194:1" + SETTING_21);
+        trace.add("loadLedger194:2" + SETTING_20);
+        trace.add("loadLedger194:3" + SETTING_9);
+        if (trace.size() > 3) {
+            cache.put("loadLedger194", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Loads the totals of a report, step 195.
+     * @return Result of the step
+     */
+    private int loadTotals195() {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadTotals195:0" + SETTING_16);
+        trace.add("loadTotals195:1" + SETTING_1);
+        trace.add("loadTotals195:2" + SETTING_47);
+        trace.add("loadTotals195:3" + SETTING_38);
+        trace.add("loadTotals195:4" + SETTING_28);
+        trace.add("loadTotals195:5" + SETTING_59);
+        trace.add("loadTotals195:6" + SETTING_46);
+        if (trace.size() > 3) {
+            cache.put("loadTotals195", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the rows of a report, step 196.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private List<String> loadRows196(int arg0) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadRows196:0" + SETTING_49);
+        trace.add("loadRows196:1" + SETTING_37);
+        trace.add("loadRows196:2" + SETTING_36);
+        trace.add("loadRows196:3" + SETTING_21);
+        trace.add("loadRows196:4" + SETTING_47);
+        if (trace.size() > 8) {
+            cache.put("loadRows196", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Aggregates the ledger of a report, step 197.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public BigDecimal aggregateLedger197(Optional<Report> arg0, BigDecimal arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateLedger197:0" + SETTING_52);
+        trace.add("aggregateLedger197:1" + SETTING_33);
+        if (trace.size() > 3) {
+            cache.put("aggregateLedger197", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Validates the header of a report, step 198.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private String validateHeader198(Optional<Report> arg0, BigDecimal arg1, List<String> arg2, String arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateHeader198:0" + SETTING_5);
+        trace.add("validateHeader198:1" + SETTING_49);
+        trace.add("validateHeader198:2" + SETTING_18);
+        trace.add("validateHeader198:3" + SETTING_40);
+        trace.add("validateHeader198:4" + SETTING_26);
+        if (trace.size() > 5) {
+            cache.put("validateHeader198", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Aggregates the header of a report, step 199.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> aggregateHeader199(List<String> arg0, boolean arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateHeader199:0" + SETTING_56);
+        trace.add("aggregateHeader199:1" + SETTING_37);
+        trace.add("aggregateHeader199:2" + SETTING_8);
+        trace.add("aggregateHeader199:3" + SETTING_34);
+        if (trace.size() > 9) {
+            cache.put("aggregateHeader199", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Formats the ledger of a report, step 200.
+     * @return Result of the step
+     */
+    public static boolean formatLedger200() {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatLedger200:0" + SETTING_27);
+        trace.add("formatLedger200:1" + SETTING_27);
+        trace.add("formatLedger200:2" + SETTING_30);
+        trace.add("formatLedger200:3" + SETTING_9);
+        if (trace.size() > 4) {
+            cache.put("formatLedger200", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Filters the ledger of a report, step 201.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private Map<String, Long> filterLedger201(BigDecimal arg0, BigDecimal arg1, List<String> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterLedger201:0" + SETTING_10);
+        trace.add("filterLedger201:1" + SETTING_42);
+        trace.add("filterLedger201:2" + SETTING_4);
+        trace.add("filterLedger201:3" + SETTING_33);
+        if (trace.size() > 6) {
+            cache.put("filterLedger201", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Renders the currency of a report, step 202.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static int renderCurrency202(long arg0, List<String> arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderCurrency202:0" + SETTING_52);
+        trace.add("renderCurrency202:1" + SETTING_2);
+        trace.add("renderCurrency202:2" + SETTING_27);
+        if (trace.size() > 8) {
+            cache.put("renderCurrency202", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the header of a report, step 203.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private Instant loadHeader203(double arg0, BigDecimal arg1, Optional<Report> arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadHeader203:0" + SETTING_34);
+        trace.add("loadHeader203:1" + SETTING_24);
+        trace.add("loadHeader203:2" + SETTING_17);
+        trace.add("loadHeader203:3" + SETTING_31);
+        trace.add("loadHeader203:4" + SETTING_17);
+        if (trace.size() > 4) {
+            cache.put("loadHeader203", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Exports the totals of a report, step 204.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public Instant exportTotals204(String arg0, List<String> arg1, int arg2, List<String> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportTotals204:0" + SETTING_14);
+        trace.add("exportTotals204:1" + SETTING_45);
+        if (trace.size() > 9) {
+            cache.put("exportTotals204", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Validates the header of a report, step 205.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private int validateHeader205(List<String> arg0, List<String> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateHeader205:0" + SETTING_42);
+        trace.add("validateHeader205:1" + SETTING_16);
+        trace.add("validateHeader205:2" + SETTING_57);
+        trace.add("validateHeader205:3" + SETTING_38);
+        if (trace.size() > 7) {
+            cache.put("validateHeader205", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Validates the period of a report, step 206.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private Map<String, Long> validatePeriod206(Instant arg0, BigDecimal arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validatePeriod206:0" + SETTING_22);
+        trace.add("validatePeriod206:1" + SETTING_34);
+        trace.add("validatePeriod206:2" + SETTING_6);
+        trace.add("validatePeriod206:3" + SETTING_7);
+        trace.add("validatePeriod206:4" + SETTING_55);
+        trace.add("validatePeriod206:5" + SETTING_50);
+        trace.add("validatePeriod206:6" + SETTING_54);
+        if (trace.size() > 4) {
+            cache.put("validatePeriod206", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Filters the totals of a report, step 207.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private Map<String, Long> filterTotals207(int arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterTotals207:0" + SETTING_7);
+        trace.add("filterTotals207:1" + SETTING_18);
+        trace.add("filterTotals207:2" + SETTING_10);
+        trace.add("filterTotals207:3" + SETTING_2);
+        trace.add("filterTotals207:4" + SETTING_34);
+        trace.add("filterTotals207:5" + SETTING_12);
+        if (trace.size() > 6) {
+            cache.put("filterTotals207", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Loads the footer of a report, step 208.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public String loadFooter208(String arg0, Map<String, Long> arg1, Map<String, Long> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadFooter208:0" + SETTING_34);
+        trace.add("loadFooter208:1" + SETTING_5);
+        trace.add("loadFooter208:2" + SETTING_33);
+        trace.add("loadFooter208:3" + SETTING_7);
+        trace.add("loadFooter208:4" + SETTING_41);
+        trace.add("loadFooter208:5" + SETTING_10);
+        trace.add("loadFooter208:6" + SETTING_46);
+        if (trace.size() > 8) {
+            cache.put("loadFooter208", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Resolves the currency of a report, step 209.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected String resolveCurrency209(Optional<Report> arg0, Optional<Report> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveCurrency209:0" + SETTING_42);
+        trace.add("resolveCurrency209:1" + SETTING_0);
+        if (trace.size() > 5) {
+            cache.put("resolveCurrency209", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Loads the currency of a report, step 210.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public static Optional<Report> loadCurrency210(Optional<Report> arg0) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadCurrency210:0" + SETTING_12);
+        trace.add("loadCurrency210:1" + SETTING_18);
+        trace.add("loadCurrency210:2" + SETTING_14);
+        trace.add("loadCurrency210:3" + SETTING_22);
+        trace.add("loadCurrency210:4" + SETTING_50);
+        trace.add("loadCurrency210:5" + SETTING_59);
+        if (trace.size() > 5) {
+            cache.put("loadCurrency210", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Renders the footer of a report, step 211.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static double renderFooter211(long arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderFooter211:0" + SETTING_13);
+        trace.add("renderFooter211:1" + SETTING_39);
+        trace.add("renderFooter211:2" + SETTING_55);
+        trace.add("renderFooter211:3" + SETTING_53);
+        if (trace.size() > 4) {
+            cache.put("renderFooter211", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Resolves the section of a report, step 212.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public Instant resolveSection212(Map<String, Long> arg0, long arg1, Map<String, Long> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSection212:0" + SETTING_36);
+        trace.add("resolveSection212:1" + SETTING_44);
+        trace.add("resolveSection212:2" + SETTING_20);
+        if (trace.size() > 9) {
+            cache.put("resolveSection212", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Loads the ledger of a report, step 213.
+     * @return Result of the step
+     */
+    public boolean loadLedger213() {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadLedger213:0" + SETTING_9);
+        trace.add("loadLedger213:1" + SETTING_40);
+        trace.add("loadLedger213:2" + SETTING_53);
+        trace.add("loadLedger213:3" + SETTING_57);
+        trace.add("loadLedger213:4" + SETTING_35);
+        trace.add("loadLedger213:5" + SETTING_51);
+        if (trace.size() > 3) {
+            cache.put("loadLedger213", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Exports the totals of a report, step 214.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public String exportTotals214(long arg0, BigDecimal arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportTotals214:0" + SETTING_25);
+        trace.add("exportTotals214:1" + SETTING_58);
+        if (trace.size() > 4) {
+            cache.put("exportTotals214", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Validates the ledger of a report, step 215.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static Optional<Report> validateLedger215(boolean arg0, BigDecimal arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateLedger215:0" + SETTING_29);
+        trace.add("validateLedger215:1" + SETTING_53);
+        trace.add("validateLedger215:2" + SETTING_44);
+        trace.add("validateLedger215:3" + SETTING_54);
+        if (trace.size() > 5) {
+            cache.put("validateLedger215", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Exports the footer of a report, step 216.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public Instant exportFooter216(long arg0, boolean arg1, Instant arg2, List<String> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportFooter216:0" + SETTING_46);
+        trace.add("exportFooter216:1" + SETTING_8);
+        trace.add("exportFooter216:2" + SETTING_31);
+        if (trace.size() > 5) {
+            cache.put("exportFooter216", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Renders the rows of a report, step 217.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private Instant renderRows217(long arg0) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderRows217:0" + SETTING_49);
+        trace.add("renderRows217:1" + SETTING_18);
+        trace.add("renderRows217:2" + SETTING_16);
+        trace.add("renderRows217:3" + SETTING_13);
+        trace.add("renderRows217:4" + SETTING_10);
+        trace.add("renderRows217:5" + SETTING_26);
+        if (trace.size() > 4) {
+            cache.put("renderRows217", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Exports the section of a report, step 218.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private boolean exportSection218(Optional<Report> arg0, List<String> arg1, Optional<Report> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportSection218:0" + SETTING_46);
+        trace.add("exportSection218:1" + SETTING_4);
+        trace.add("exportSection218:2" + SETTING_19);
+        trace.add("exportSection218:3" + SETTING_21);
+        trace.add("exportSection218:4" + SETTING_23);
+        trace.add("exportSection218:5" + SETTING_54);
+        trace.add("exportSection218:6" + SETTING_49);
+        if (trace.size() > 6) {
+            cache.put("exportSection218", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Loads the header of a report, step 219.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public boolean loadHeader219(double arg0, int arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadHeader219:0" + SETTING_38);
+        trace.add("loadHeader219:1" + SETTING_44);
+        trace.add("loadHeader219:2" + SETTING_6);
+        trace.add("loadHeader219:3" + SETTING_17);
+        trace.add("loadHeader219:4" + SETTING_38);
+        if (trace.size() > 5) {
+            cache.put("loadHeader219", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Resolves the ledger of a report, step 220.
+     * @return Result of the step
+     */
+    public static boolean resolveLedger220() {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveLedger220:0" + SETTING_51);
+        trace.add("resolveLedger220:1" + SETTING_10);
+        trace.add("resolveLedger220:2" + SETTING_12);
+        trace.add("resolveLedger220:3" + SETTING_33);
+        trace.add("resolveLedger220:4" + SETTING_33);
+        trace.add("resolveLedger220:5" + SETTING_19);
+        trace.add("resolveLedger220:6" + SETTING_28);
+        trace.add("resolveLedger220:7" + SETTING_31);
+        if (trace.size() > 9) {
+            cache.put("resolveLedger220", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Exports the totals of a report, step 221.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private int exportTotals221(Instant arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportTotals221:0" + SETTING_22);
+        trace.add("exportTotals221:1" + SETTING_39);
+        trace.add("exportTotals221:2" + SETTING_16);
+        trace.add("exportTotals221:3" + SETTING_38);
+        trace.add("exportTotals221:4" + SETTING_11);
+        trace.add("exportTotals221:5" + SETTING_35);
+        if (trace.size() > 4) {
+            cache.put("exportTotals221", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Merges the footer of a report, step 222.
+     * @return Result of the step
+     */
+    public List<String> mergeFooter222() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter222:0" + SETTING_0);
+        trace.add("mergeFooter222:1" + SETTING_0);
+        trace.add("mergeFooter222:2" + SETTING_39);
+        trace.add("mergeFooter222:3" + SETTING_48);
+        if (trace.size() > 3) {
+            cache.put("mergeFooter222", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Filters the chart of a report, step 223.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static BigDecimal filterChart223(long arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterChart223:0" + SETTING_26);
+        trace.add("filterChart223:1" + SETTING_13);
+        trace.add("filterChart223:2" + SETTING_24);
+        trace.add("filterChart223:3" + SETTING_45);
+        trace.add("filterChart223:4" + SETTING_13);
+        trace.add("filterChart223:5" + SETTING_36);
+        if (trace.size() > 6) {
+            cache.put("filterChart223", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Resolves the header of a report, step 224.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public long resolveHeader224() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveHeader224:0" + SETTING_50);
+        trace.add("resolveHeader224:1" + SETTING_39);
+        trace.add("resolveHeader224:2" + SETTING_8);
+        trace.add("resolveHeader224:3" + SETTING_35);
+        trace.add("resolveHeader224:4" + SETTING_15);
+        trace.add("resolveHeader224:5" + SETTING_28);
+        trace.add("resolveHeader224:6" + SETTING_56);
+        if (trace.size() > 7) {
+            cache.put("resolveHeader224", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Filters the totals of a report, step 225.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public double filterTotals225(int arg0, Optional<Report> arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterTotals225:0" + SETTING_44);
+        trace.add("filterTotals225:1" + SETTING_22);
+        trace.add("filterTotals225:2" + SETTING_52);
+        trace.add("filterTotals225:3" + SETTING_29);
+        trace.add("filterTotals225:4" + SETTING_23);
+        trace.add("filterTotals225:5" + SETTING_43);
+        trace.add("filterTotals225:6" + SETTING_51);
+        trace.add("filterTotals225:7" + SETTING_55);
+        if (trace.size() > 3) {
+            cache.put("filterTotals225", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Aggregates the header of a report, step 226.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected long aggregateHeader226(Optional<Report> arg0, boolean arg1, List<String> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateHeader226:0" + SETTING_35);
+        trace.add("aggregateHeader226:1" + SETTING_56);
+        trace.add("aggregateHeader226:2" + SETTING_19);
+        trace.add("aggregateHeader226:3" + SETTING_46);
+        trace.add("aggregateHeader226:4" + SETTING_56);
+        if (trace.size() > 6) {
+            cache.put("aggregateHeader226", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Computes the chart of a report, step 227.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private int computeChart227(String arg0, BigDecimal arg1, long arg2, BigDecimal arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeChart227:0" + SETTING_5);
+        trace.add("computeChart227:1" + SETTING_50);
+        trace.add("computeChart227:2" + SETTING_10);
+        if (trace.size() > 9) {
+            cache.put("computeChart227", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Merges the rows of a report, step 228.
+     * @return Result of the step
+     */
+    private BigDecimal mergeRows228() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeRows228:0" + SETTING_36);
+        trace.add("mergeRows228:1" + SETTING_51);
+        trace.add("mergeRows228:2" + SETTING_28);
+        trace.add("mergeRows228:3" + SETTING_43);
+        trace.add("mergeRows228:4" + SETTING_52);
+        if (trace.size() > 8) {
+            cache.put("mergeRows228", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Computes the period of a report, step 229.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public double computePeriod229(double arg0, Optional<Report> arg1, List<String> arg2, Map<String, Long> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computePeriod229:0" + SETTING_49);
+        trace.add("computePeriod229:1" + SETTING_1);
+        trace.add("computePeriod229:2" + SETTING_13);
+        if (trace.size() > 6) {
+            cache.put("computePeriod229", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Loads the period of a report, step 230.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private String loadPeriod230(double arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadPeriod230:0" + SETTING_13);
+        trace.add("loadPeriod230:1" + SETTING_53);
+        trace.add("loadPeriod230:2" + SETTING_47);
+        trace.add("loadPeriod230:3" + SETTING_43);
+        trace.add("loadPeriod230:4" + SETTING_8);
+        trace.add("loadPeriod230:5" + SETTING_21);
+        trace.add("loadPeriod230:6" + SETTING_57);
+        trace.add("loadPeriod230:7" + SETTING_48);
+        if (trace.size() > 5) {
+            cache.put("loadPeriod230", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Resolves the header of a report, step 231.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public int resolveHeader231(Map<String, Long> arg0, Instant arg1, boolean arg2, boolean arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveHeader231:0" + SETTING_41);
+        trace.add("resolveHeader231:1" + SETTING_58);
+        trace.add("resolveHeader231:2" + SETTING_39);
+        trace.add("resolveHeader231:3" + SETTING_46);
+        if (trace.size() > 4) {
+            cache.put("resolveHeader231", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Validates the ledger of a report, step 232.
+     * @return Result of the step
+     */
+    public Optional<Report> validateLedger232() {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateLedger232:0" + SETTING_14);
+        trace.add("validateLedger232:1" + SETTING_56);
+        trace.add("validateLedger232:2" + SETTING_55);
+        trace.add("validateLedger232:3" + SETTING_52);
+        if (trace.size() > 8) {
+            cache.put("validateLedger232", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Merges the rows of a report, step 233.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> mergeRows233(Instant arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeRows233:0" + SETTING_3);
+        trace.add("mergeRows233:1" + SETTING_49);
+        trace.add("mergeRows233:2" + SETTING_38);
+        trace.add("mergeRows233:3" + SETTING_54);
+        trace.add("mergeRows233:4" + SETTING_55);
+        if (trace.size() > 4) {
+            cache.put("mergeRows233", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Formats the chart of a report, step 234.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private int formatChart234(Instant arg0, long arg1, Map<String, Long> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatChart234:0" + SETTING_59);
+        trace.add("formatChart234:1" + SETTING_49);
+        trace.add("formatChart234:2" + SETTING_54);
+        trace.add("formatChart234:3" + SETTING_11);
+        if (trace.size() > 4) {
+            cache.put("formatChart234", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Filters the chart of a report, step 235.
+     * @return Result of the step
+     */
+    public static Optional<Report> filterChart235() {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterChart235:0" + SETTING_47);
+        trace.add("filterChart235:1" + SETTING_4);
+        trace.add("filterChart235:2" + SETTING_6);
+        trace.add("filterChart235:3" + SETTING_59);
+        if (trace.size() > 7) {
+            cache.put("filterChart235", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Loads the section of a report, step 236.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public long loadSection236(BigDecimal arg0, Instant arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadSection236:0" + SETTING_18);
+        trace.add("loadSection236:1" + SETTING_54);
+        trace.add("loadSection236:2" + SETTING_51);
+        trace.add("loadSection236:3" + SETTING_51);
+        trace.add("loadSection236:4" + SETTING_57);
+        trace.add("loadSection236:5" + SETTING_12);
+        trace.add("loadSection236:6" + SETTING_46);
+        trace.add("loadSection236:7" + SETTING_39);
+        if (trace.size() > 8) {
+            cache.put("loadSection236", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Filters the currency of a report, step 237.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> filterCurrency237(List<String> arg0, int arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterCurrency237:0" + SETTING_54);
+        trace.add("filterCurrency237:1" + SETTING_53);
+        trace.add("filterCurrency237:2" + SETTING_50);
+        trace.add("filterCurrency237:3" + SETTING_35);
+        trace.add("filterCurrency237:4" + SETTING_34);
+        trace.add("filterCurrency237:5" + SETTING_26);
+        trace.add("filterCurrency237:6" + SETTING_42);
+        trace.add("filterCurrency237:7" + SETTING_38);
+        if (trace.size() > 3) {
+            cache.put("filterCurrency237", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Formats the period of a report, step 238.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public static boolean formatPeriod238(Instant arg0, String arg1, Instant arg2, boolean arg3) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatPeriod238:0" + SETTING_50);
+        trace.add("formatPeriod238:1" + SETTING_50);
+        trace.add("formatPeriod238:2" + SETTING_42);
+        trace.add("formatPeriod238:3" + SETTING_45);
+        trace.add("formatPeriod238:4" + SETTING_41);
+        trace.add("formatPeriod238:5" + SETTING_1);
+        trace.add("formatPeriod238:6" + SETTING_46);
+        if (trace.size() > 3) {
+            cache.put("formatPeriod238", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Merges the rows of a report, step 239.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected List<String> mergeRows239(Instant arg0, long arg1, Instant arg2, double arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeRows239:0" + SETTING_55);
+        trace.add("mergeRows239:1" + SETTING_38);
+        trace.add("mergeRows239:2" + SETTING_18);
+        trace.add("mergeRows239:3" + SETTING_44);
+        if (trace.size() > 8) {
+            cache.put("mergeRows239", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Resolves the summary of a report, step 240.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected Instant resolveSummary240(Instant arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSummary240:0" + SETTING_48);
+        trace.add("resolveSummary240:1" + SETTING_23);
+        trace.add("resolveSummary240:2" + SETTING_58);
+        trace.add("resolveSummary240:3" + SETTING_8);
+        trace.add("resolveSummary240:4" + SETTING_44);
+        trace.add("resolveSummary240:5" + SETTING_7);
+        trace.add("resolveSummary240:6" + SETTING_7);
+        if (trace.size() > 9) {
+            cache.put("resolveSummary240", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Renders the ledger of a report, step 241.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static List<String> renderLedger241(double arg0, Map<String, Long> arg1, Optional<Report> arg2, long arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderLedger241:0" + SETTING_50);
+        trace.add("renderLedger241:1" + SETTING_0);
+        trace.add("renderLedger241:2" + SETTING_4);
+        trace.add("renderLedger241:3" + SETTING_5);
+        if (trace.size() > 6) {
+            cache.put("renderLedger241", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Aggregates the totals of a report, step 242.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static double aggregateTotals242(BigDecimal arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateTotals242:0" + SETTING_47);
+        trace.add("aggregateTotals242:1" + SETTING_40);
+        if (trace.size() > 7) {
+            cache.put("aggregateTotals242", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Computes the currency of a report, step 243.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static Map<String, Long> computeCurrency243(BigDecimal arg0, Instant arg1, double arg2, Instant arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeCurrency243:0" + SETTING_24);
+        trace.add("computeCurrency243:1" + SETTING_41);
+        trace.add("computeCurrency243:2" + SETTING_41);
+        if (trace.size() > 3) {
+            cache.put("computeCurrency243", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Validates the ledger of a report, step 244.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static int validateLedger244(boolean arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateLedger244:0" + SETTING_43);
+        trace.add("validateLedger244:1" + SETTING_54);
+        trace.add("validateLedger244:2" + SETTING_28);
+        trace.add("validateLedger244:3" + SETTING_42);
+        trace.add("validateLedger244:4" + SETTING_38);
+        trace.add("validateLedger244:5" + SETTING_2);
+        if (trace.size() > 6) {
+            cache.put("validateLedger244", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the chart of a report, step 245.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public static double loadChart245(long arg0, BigDecimal arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadChart245:0" + SETTING_15);
+        trace.add("loadChart245:1" + SETTING_28);
+        trace.add("loadChart245:2" + SETTING_24);
+        trace.add("loadChart245:3" + SETTING_34);
+        trace.add("loadChart245:4" + SETTING_53);
+        trace.add("loadChart245:5" + SETTING_18);
+        if (trace.size() > 6) {
+            cache.put("loadChart245", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Merges the rows of a report, step 246.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected String mergeRows246(String arg0, BigDecimal arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeRows246:0" + SETTING_54);
+        trace.add("mergeRows246:1" + SETTING_15);
+        trace.add("mergeRows246:2" + SETTING_54);
+        if (trace.size() > 5) {
+            cache.put("mergeRows246", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Loads the chart of a report, step 247.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected Map<String, Long> loadChart247(Instant arg0, Map<String, Long> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadChart247:0" + SETTING_50);
+        trace.add("loadChart247:1" + SETTING_18);
+        trace.add("loadChart247:2" + SETTING_1);
+        trace.add("loadChart247:3" + SETTING_18);
+        trace.add("loadChart247:4" + SETTING_10);
+        trace.add("loadChart247:5" + SETTING_39);
+        if (trace.size() > 4) {
+            cache.put("loadChart247", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Resolves the header of a report, step 248.
+     * @return Result of the step
+     */
+    public Instant resolveHeader248() {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveHeader248:0" + SETTING_12);
+        trace.add("resolveHeader248:1" + SETTING_24);
+        if (trace.size() > 7) {
+            cache.put("resolveHeader248", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Filters the ledger of a report, step 249.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public boolean filterLedger249(long arg0, Optional<Report> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterLedger249:0" + SETTING_10);
+        trace.add("filterLedger249:1" + SETTING_14);
+        trace.add("filterLedger249:2" + SETTING_11);
+        trace.add("filterLedger249:3" + SETTING_34);
+        trace.add("filterLedger249:4" + SETTING_5);
+        trace.add("filterLedger249:5" + SETTING_54);
+        trace.add("filterLedger249:6" + SETTING_38);
+        trace.add("filterLedger249:7" + SETTING_49);
+        if (trace.size() > 4) {
+            cache.put("filterLedger249", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Renders the rows of a report, step 250.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected double renderRows250(Instant arg0, List<String> arg1, String arg2, Optional<Report> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderRows250:0" + SETTING_29);
+        trace.add("renderRows250:1" + SETTING_5);
+        trace.add("renderRows250:2" + SETTING_38);
+        trace.add("renderRows250:3" + SETTING_36);
+        if (trace.size() > 9) {
+            cache.put("renderRows250", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Loads the chart of a report, step 251.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected int loadChart251(boolean arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadChart251:0" + SETTING_3);
+        trace.add("loadChart251:1" + SETTING_29);
+        trace.add("loadChart251:2" + SETTING_11);
+        if (trace.size() > 7) {
+            cache.put("loadChart251", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Computes the section of a report, step 252.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public double computeSection252() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeSection252:0" + SETTING_24);
+        trace.add("computeSection252:1" + SETTING_5);
+        trace.add("computeSection252:2" + SETTING_10);
+        trace.add("computeSection252:3" + SETTING_51);
+        if (trace.size() > 9) {
+            cache.put("computeSection252", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Computes the totals of a report, step 253.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public BigDecimal computeTotals253(List<String> arg0, Optional<Report> arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeTotals253:0" + SETTING_33);
+        trace.add("computeTotals253:1" + SETTING_45);
+        trace.add("computeTotals253:2" + SETTING_5);
+        trace.add("computeTotals253:3" + SETTING_53);
+        if (trace.size() > 3) {
+            cache.put("computeTotals253", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Formats the period of a report, step 254.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public boolean formatPeriod254(Optional<Report> arg0, long arg1, double arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatPeriod254:0" + SETTING_31);
+        trace.add("formatPeriod254:1" + SETTING_9);
+        if (trace.size() > 9) {
+            cache.put("formatPeriod254", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Resolves the period of a report, step 255.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected double resolvePeriod255(String arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolvePeriod255:0" + SETTING_43);
+        trace.add("resolvePeriod255:1" + SETTING_38);
+        trace.add("resolvePeriod255:2" + SETTING_3);
+        trace.add("resolvePeriod255:3" + SETTING_47);
+        trace.add("resolvePeriod255:4" + SETTING_12);
+        trace.add("resolvePeriod255:5" + SETTING_21);
+        if (trace.size() > 7) {
+            cache.put("resolvePeriod255", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Computes the period of a report, step 256.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private Instant computePeriod256(Instant arg0, int arg1, boolean arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computePeriod256:0" + SETTING_6);
+        trace.add("computePeriod256:1" + SETTING_55);
+        trace.add("computePeriod256:2" + SETTING_30);
+        trace.add("computePeriod256:3" + SETTING_54);
+        trace.add("computePeriod256:4" + SETTING_47);
+        trace.add("computePeriod256:5" + SETTING_46);
+        trace.add("computePeriod256:6" + SETTING_51);
+        if (trace.size() > 8) {
+            cache.put("computePeriod256", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Exports the ledger of a report, step 257.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static Instant exportLedger257(Optional<Report> arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportLedger257:0" + SETTING_10);
+        trace.add("exportLedger257:1" + SETTING_22);
+        trace.add("exportLedger257:2" + SETTING_52);
+        trace.add("exportLedger257:3" + SETTING_37);
+        trace.add("exportLedger257:4" + SETTING_7);
+        trace.add("exportLedger257:5" + SETTING_23);
+        trace.add("exportLedger257:6" + SETTING_58);
+        trace.add("exportLedger257:7" + SETTING_59);
+        if (trace.size() > 8) {
+            cache.put("exportLedger257", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Formats the currency of a report, step 258.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> formatCurrency258(Optional<Report> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatCurrency258:0" + SETTING_57);
+        trace.add("formatCurrency258:1" + SETTING_42);
+        trace.add("formatCurrency258:2" + SETTING_43);
+        trace.add("formatCurrency258:3" + SETTING_25);
+        trace.add("formatCurrency258:4" + SETTING_24);
+        trace.add("formatCurrency258:5" + SETTING_20);
+        trace.add("formatCurrency258:6" + SETTING_51);
+        trace.add("formatCurrency258:7" + SETTING_57);
+        if (trace.size() > 6) {
+            cache.put("formatCurrency258", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Computes the totals of a report, step 259.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected int computeTotals259(List<String> arg0, int arg1, int arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeTotals259:0" + SETTING_21);
+        trace.add("computeTotals259:1" + SETTING_11);
+        trace.add("computeTotals259:2" + SETTING_23);
+        trace.add("computeTotals259:3" + SETTING_40);
+        trace.add("computeTotals259:4" + SETTING_37);
+        trace.add("computeTotals259:5" + SETTING_36);
+        trace.add("computeTotals259:6" + SETTING_38);
+        if (trace.size() > 3) {
+            cache.put("computeTotals259", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Formats the rows of a report, step 260.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected Map<String, Long> formatRows260(String arg0, long arg1, boolean arg2, int arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatRows260:0" + SETTING_28);
+        trace.add("formatRows260:1" + SETTING_34);
+        trace.add("formatRows260:2" + SETTING_13);
+        trace.add("formatRows260:3" + SETTING_15);
+        trace.add("formatRows260:4" + SETTING_9);
+        trace.add("formatRows260:5" + SETTING_1);
+        trace.add("formatRows260:6" + SETTING_23);
+        if (trace.size() > 9) {
+            cache.put("formatRows260", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Merges the chart of a report, step 261.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static long mergeChart261(Optional<Report> arg0, double arg1, List<String> arg2, long arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeChart261:0" + SETTING_17);
+        trace.add("mergeChart261:1" + SETTING_18);
+        trace.add("mergeChart261:2" + SETTING_3);
+        trace.add("mergeChart261:3" + SETTING_41);
+        trace.add("mergeChart261:4" + SETTING_29);
+        if (trace.size() > 7) {
+            cache.put("mergeChart261", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Resolves the section of a report, step 262.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> resolveSection262(double arg0, boolean arg1, BigDecimal arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSection262:0" + SETTING_21);
+        trace.add("resolveSection262:1" + SETTING_10);
+        trace.add("resolveSection262:2" + SETTING_22);
+        trace.add("resolveSection262:3" + SETTING_53);
+        trace.add("resolveSection262:4" + SETTING_46);
+        trace.add("resolveSection262:5" + SETTING_7);
+        trace.add("resolveSection262:6" + SETTING_55);
+        trace.add("resolveSection262:7" + SETTING_12);
+        if (trace.size() > 9) {
+            cache.put("resolveSection262", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Renders the ledger of a report, step 263.
+     * @return Result of the step
+     */
+    private BigDecimal renderLedger263() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderLedger263:0" + SETTING_0);
+        trace.add("renderLedger263:1" + SETTING_15);
+        trace.add("renderLedger263:2" + SETTING_28);
+        if (trace.size() > 4) {
+            cache.put("renderLedger263", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Renders the footer of a report, step 264.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    private List<String> renderFooter264(boolean arg0, BigDecimal arg1, List<String> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderFooter264:0" + SETTING_11);
+        trace.add("renderFooter264:1" + SETTING_15);
+        if (trace.size() > 9) {
+            cache.put("renderFooter264", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Resolves the summary of a report, step 265.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static Instant resolveSummary265(double arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveSummary265:0" + SETTING_28);
+        trace.add("resolveSummary265:1" + SETTING_13);
+        trace.add("resolveSummary265:2" + SETTING_11);
+        trace.add("resolveSummary265:3" + SETTING_46);
+        trace.add("resolveSummary265:4" + SETTING_29);
+        trace.add("resolveSummary265:5" + SETTING_44);
+        trace.add("resolveSummary265:6" + SETTING_58);
+        if (trace.size() > 9) {
+            cache.put("resolveSummary265", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Renders the summary of a report, step 266.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Map<String, Long> renderSummary266(long arg0, List<String> arg1, long arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSummary266:0" + SETTING_39);
+        trace.add("renderSummary266:1" + SETTING_33);
+        trace.add("renderSummary266:2" + SETTING_37);
+        trace.add("renderSummary266:3" + SETTING_18);
+        if (trace.size() > 7) {
+            cache.put("renderSummary266", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Aggregates the section of a report, step 267.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected List<String> aggregateSection267(long arg0, Instant arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateSection267:0" + SETTING_46);
+        trace.add("aggregateSection267:1" + SETTING_31);
+        if (trace.size() > 9) {
+            cache.put("aggregateSection267", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Resolves the rows of a report, step 268.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    protected Instant resolveRows268(double arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveRows268:0" + SETTING_54);
+        trace.add("resolveRows268:1" + SETTING_53);
+        trace.add("resolveRows268:2" + SETTING_47);
+        trace.add("resolveRows268:3" + SETTING_2);
+        trace.add("resolveRows268:4" + SETTING_32);
+        if (trace.size() > 6) {
+            cache.put("resolveRows268", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Computes the totals of a report, step 269.
+     * @return Result of the step
+     */
+    public static boolean computeTotals269() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeTotals269:0" + SETTING_52);
+        trace.add("computeTotals269:1" + SETTING_34);
+        trace.add("computeTotals269:2" + SETTING_53);
+        trace.add("computeTotals269:3" + SETTING_25);
+        if (trace.size() > 3) {
+            cache.put("computeTotals269", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Aggregates the rows of a report, step 270.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private boolean aggregateRows270(String arg0, int arg1, BigDecimal arg2, Optional<Report> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateRows270:0" + SETTING_54);
+        trace.add("aggregateRows270:1" + SETTING_37);
+        trace.add("aggregateRows270:2" + SETTING_30);
+        trace.add("aggregateRows270:3" + SETTING_36);
+        trace.add("aggregateRows270:4" + SETTING_10);
+        trace.add("aggregateRows270:5" + SETTING_9);
+        if (trace.size() > 8) {
+            cache.put("aggregateRows270", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Resolves the currency of a report, step 271.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public List<String> resolveCurrency271(BigDecimal arg0, int arg1, Optional<Report> arg2, String arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveCurrency271:0" + SETTING_44);
+        trace.add("resolveCurrency271:1" + SETTING_37);
+        if (trace.size() > 9) {
+            cache.put("resolveCurrency271", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the currency of a report, step 272.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Map<String, Long> renderCurrency272(int arg0, Map<String, Long> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderCurrency272:0" + SETTING_13);
+        trace.add("renderCurrency272:1" + SETTING_10);
+        trace.add("renderCurrency272:2" + SETTING_55);
+        trace.add("renderCurrency272:3" + SETTING_12);
+        trace.add("renderCurrency272:4" + SETTING_33);
+        trace.add("renderCurrency272:5" + SETTING_28);
+        trace.add("renderCurrency272:6" + SETTING_53);
+        trace.add("renderCurrency272:7" + SETTING_33);
+        if (trace.size() > 8) {
+            cache.put("renderCurrency272", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Validates the rows of a report, step 273.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    private String validateRows273(long arg0, int arg1, double arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateRows273:0" + SETTING_41);
+        trace.add("validateRows273:1" + SETTING_29);
+        trace.add("validateRows273:2" + SETTING_27);
+        if (trace.size() > 4) {
+            cache.put("validateRows273", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Merges the rows of a report, step 274.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected long mergeRows274(BigDecimal arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeRows274:0" + SETTING_57);
+        trace.add("mergeRows274:1" + SETTING_41);
+        trace.add("mergeRows274:2" + SETTING_2);
+        trace.add("mergeRows274:3" + SETTING_46);
+        trace.add("mergeRows274:4" + SETTING_28);
+        trace.add("mergeRows274:5" + SETTING_26);
+        if (trace.size() > 4) {
+            cache.put("mergeRows274", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Validates the chart of a report, step 275.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private Map<String, Long> validateChart275(List<String> arg0, BigDecimal arg1, List<String> arg2, Optional<Report> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateChart275:0" + SETTING_33);
+        trace.add("validateChart275:1" + SETTING_31);
+        if (trace.size() > 3) {
+            cache.put("validateChart275", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Computes the ledger of a report, step 276.
+     * @return Result of the step
+     */
+    private boolean computeLedger276() {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeLedger276:0" + SETTING_12);
+        trace.add("computeLedger276:1" + SETTING_20);
+        trace.add("computeLedger276:2" + SETTING_47);
+        trace.add("computeLedger276:3" + SETTING_48);
+        trace.add("computeLedger276:4" + SETTING_3);
+        if (trace.size() > 8) {
+            cache.put("computeLedger276", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Validates the header of a report, step 277.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public long validateHeader277(int arg0, double arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateHeader277:0" + SETTING_49);
+        trace.add("validateHeader277:1" + SETTING_13);
+        trace.add("validateHeader277:2" + SETTING_45);
+        trace.add("validateHeader277:3" + SETTING_45);
+        trace.add("validateHeader277:4" + SETTING_43);
+        if (trace.size() > 5) {
+            cache.put("validateHeader277", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Renders the section of a report, step 278.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    protected String renderSection278(BigDecimal arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSection278:0" + SETTING_29);
+        trace.add("renderSection278:1" + SETTING_58);
+        trace.add("renderSection278:2" + SETTING_6);
+        trace.add("renderSection278:3" + SETTING_19);
+        trace.add("renderSection278:4" + SETTING_59);
+        trace.add("renderSection278:5" + SETTING_29);
+        trace.add("renderSection278:6" + SETTING_32);
+        trace.add("renderSection278:7" + SETTING_30);
+        if (trace.size() > 4) {
+            cache.put("renderSection278", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Validates the currency of a report, step 279.
+     * @return Result of the step
+     */
+    public static Instant validateCurrency279() {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateCurrency279:0" + SETTING_32);
+        trace.add("validateCurrency279:1" + SETTING_9);
+        trace.add("validateCurrency279:2" + SETTING_56);
+        trace.add("validateCurrency279:3" + SETTING_14);
+        if (trace.size() > 9) {
+            cache.put("validateCurrency279", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Formats the chart of a report, step 280.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public boolean formatChart280(Optional<Report> arg0, Map<String, Long> arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatChart280:0" + SETTING_28);
+        trace.add("formatChart280:1" + SETTING_52);
+        trace.add("formatChart280:2" + SETTING_14);
+        trace.add("formatChart280:3" + SETTING_19);
+        trace.add("formatChart280:4" + SETTING_39);
+        trace.add("formatChart280:5" + SETTING_49);
+        trace.add("formatChart280:6" + SETTING_26);
+        trace.add("formatChart280:7" + SETTING_48);
+        if (trace.size() > 9) {
+            cache.put("formatChart280", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Resolves the ledger of a report, step 281.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public static int resolveLedger281(Instant arg0, boolean arg1, List<String> arg2, String arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveLedger281:0" + SETTING_28);
+        trace.add("resolveLedger281:1" + SETTING_53);
+        trace.add("resolveLedger281:2" + SETTING_25);
+        trace.add("resolveLedger281:3" + SETTING_27);
+        trace.add("resolveLedger281:4" + SETTING_4);
+        trace.add("resolveLedger281:5" + SETTING_42);
+        trace.add("resolveLedger281:6" + SETTING_31);
+        trace.add("resolveLedger281:7" + SETTING_2);
+        if (trace.size() > 4) {
+            cache.put("resolveLedger281", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Resolves the footer of a report, step 282.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static double resolveFooter282(Instant arg0, long arg1, Optional<Report> arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveFooter282:0" + SETTING_20);
+        trace.add("resolveFooter282:1" + SETTING_5);
+        if (trace.size() > 7) {
+            cache.put("resolveFooter282", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Validates the header of a report, step 283.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private BigDecimal validateHeader283(int arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateHeader283:0" + SETTING_52);
+        trace.add("validateHeader283:1" + SETTING_2);
+        trace.add("validateHeader283:2" + SETTING_45);
+        trace.add("validateHeader283:3" + SETTING_56);
+        if (trace.size() > 8) {
+            cache.put("validateHeader283", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Exports the section of a report, step 284.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private int exportSection284(BigDecimal arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportSection284:0" + SETTING_39);
+        trace.add("exportSection284:1" + SETTING_22);
+        trace.add("exportSection284:2" + SETTING_33);
+        trace.add("exportSection284:3" + SETTING_42);
+        if (trace.size() > 9) {
+            cache.put("exportSection284", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Formats the summary of a report, step 285.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private double formatSummary285(double arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatSummary285:0" + SETTING_18);
+        trace.add("formatSummary285:1" + SETTING_17);
+        if (trace.size() > 9) {
+            cache.put("formatSummary285", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Validates the period of a report, step 286.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> validatePeriod286(List<String> arg0, Instant arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("validatePeriod286:0" + SETTING_19);
+        trace.add("validatePeriod286:1" + SETTING_55);
+        trace.add("validatePeriod286:2" + SETTING_29);
+        if (trace.size() > 5) {
+            cache.put("validatePeriod286", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Resolves the period of a report, step 287.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public Map<String, Long> resolvePeriod287(Map<String, Long> arg0, int arg1) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolvePeriod287:0" + SETTING_26);
+        trace.add("resolvePeriod287:1" + SETTING_31);
+        trace.add("resolvePeriod287:2" + SETTING_53);
+        trace.add("resolvePeriod287:3" + SETTING_37);
+        trace.add("resolvePeriod287:4" + SETTING_32);
+        trace.add("resolvePeriod287:5" + SETTING_47);
+        trace.add("resolvePeriod287:6" + SETTING_46);
+        if (trace.size() > 6) {
+            cache.put("resolvePeriod287", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Merges the currency of a report, step 288.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected Optional<Report> mergeCurrency288(boolean arg0, int arg1, long arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeCurrency288:0" + SETTING_52);
+        trace.add("mergeCurrency288:1" + SETTING_29);
+        trace.add("mergeCurrency288:2" + SETTING_23);
+        trace.add("mergeCurrency288:3" + SETTING_33);
+        trace.add("mergeCurrency288:4" + SETTING_35);
+        if (trace.size() > 9) {
+            cache.put("mergeCurrency288", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Renders the header of a report, step 289.
+     * @return Result of the step
+     */
+    public List<String> renderHeader289() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderHeader289:0" + SETTING_4);
+        trace.add("renderHeader289:1" + SETTING_22);
+        trace.add("renderHeader289:2" + SETTING_30);
+        trace.add("renderHeader289:3" + SETTING_49);
+        trace.add("renderHeader289:4" + SETTING_15);
+        trace.add("renderHeader289:5" + SETTING_58);
+        trace.add("renderHeader289:6" + SETTING_40);
+        trace.add("renderHeader289:7" + SETTING_4);
+        if (trace.size() > 5) {
+            cache.put("renderHeader289", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Computes the rows of a report, step 290.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private double computeRows290(long arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeRows290:0" + SETTING_39);
+        trace.add("computeRows290:1" + SETTING_27);
+        trace.add("computeRows290:2" + SETTING_30);
+        if (trace.size() > 8) {
+            cache.put("computeRows290", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Computes the chart of a report, step 291.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private long computeChart291(String arg0, List<String> arg1, List<String> arg2, Map<String, Long> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeChart291:0" + SETTING_15);
+        trace.add("computeChart291:1" + SETTING_29);
+        trace.add("computeChart291:2" + SETTING_55);
+        trace.add("computeChart291:3" + SETTING_9);
+        trace.add("computeChart291:4" + SETTING_50);
+        trace.add("computeChart291:5" + SETTING_55);
+        if (trace.size() > 8) {
+            cache.put("computeChart291", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Renders the rows of a report, step 292.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected List<String> renderRows292(BigDecimal arg0, Instant arg1, Instant arg2, String arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderRows292:0" + SETTING_6);
+        trace.add("renderRows292:1" + SETTING_40);
+        trace.add("renderRows292:2" + SETTING_42);
+        if (trace.size() > 5) {
+            cache.put("renderRows292", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Filters the period of a report, step 293.
+     * @return Result of the step
+     */
+    private BigDecimal filterPeriod293() {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterPeriod293:0" + SETTING_56);
+        trace.add("filterPeriod293:1" + SETTING_56);
+        trace.add("filterPeriod293:2" + SETTING_51);
+        if (trace.size() > 3) {
+            cache.put("filterPeriod293", trace);
+        }
+        return BigDecimal.valueOf(trace.size()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    /**
+     * Merges the header of a report, step 294.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected double mergeHeader294() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeHeader294:0" + SETTING_51);
+        trace.add("mergeHeader294:1" + SETTING_5);
+        trace.add("mergeHeader294:2" + SETTING_59);
+        trace.add("mergeHeader294:3" + SETTING_59);
+        trace.add("mergeHeader294:4" + SETTING_9);
+        trace.add("mergeHeader294:5" + SETTING_39);
+        trace.add("mergeHeader294:6" + SETTING_45);
+        trace.add("mergeHeader294:7" + SETTING_29);
+        if (trace.size() > 7) {
+            cache.put("mergeHeader294", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Filters the ledger of a report, step 295.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    private int filterLedger295(boolean arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterLedger295:0" + SETTING_3);
+        trace.add("filterLedger295:1" + SETTING_19);
+        trace.add("filterLedger295:2" + SETTING_24);
+        trace.add("filterLedger295:3" + SETTING_31);
+        trace.add("filterLedger295:4" + SETTING_33);
+        trace.add("filterLedger295:5" + SETTING_19);
+        if (trace.size() > 7) {
+            cache.put("filterLedger295", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Loads the chart of a report, step 296.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private int loadChart296(Map<String, Long> arg0, double arg1, boolean arg2, List<String> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadChart296:0" + SETTING_42);
+        trace.add("loadChart296:1" + SETTING_45);
+        trace.add("loadChart296:2" + SETTING_3);
+        trace.add("loadChart296:3" + SETTING_1);
+        trace.add("loadChart296:4" + SETTING_54);
+        if (trace.size() > 5) {
+            cache.put("loadChart296", trace);
+        }
+        return trace.size();
+    }
+
+    /**
+     * Merges the summary of a report, step 297.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static long mergeSummary297(long arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSummary297:0" + SETTING_26);
+        trace.add("mergeSummary297:1" + SETTING_6);
+        trace.add("mergeSummary297:2" + SETTING_28);
+        trace.add("mergeSummary297:3" + SETTING_3);
+        trace.add("mergeSummary297:4" + SETTING_20);
+        if (trace.size() > 9) {
+            cache.put("mergeSummary297", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Aggregates the summary of a report, step 298.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public static long aggregateSummary298(String arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateSummary298:0" + SETTING_32);
+        trace.add("aggregateSummary298:1" + SETTING_19);
+        trace.add("aggregateSummary298:2" + SETTING_57);
+        trace.add("aggregateSummary298:3" + SETTING_46);
+        trace.add("aggregateSummary298:4" + SETTING_51);
+        trace.add("aggregateSummary298:5" + SETTING_18);
+        trace.add("aggregateSummary298:6" + SETTING_51);
+        trace.add("aggregateSummary298:7" + SETTING_7);
+        if (trace.size() > 5) {
+            cache.put("aggregateSummary298", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Aggregates the ledger of a report, step 299.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    public static Map<String, Long> aggregateLedger299(double arg0, double arg1, long arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateLedger299:0" + SETTING_21);
+        trace.add("aggregateLedger299:1" + SETTING_42);
+        trace.add("aggregateLedger299:2" + SETTING_29);
+        trace.add("aggregateLedger299:3" + SETTING_38);
+        trace.add("aggregateLedger299:4" + SETTING_55);
+        trace.add("aggregateLedger299:5" + SETTING_19);
+        trace.add("aggregateLedger299:6" + SETTING_33);
+        if (trace.size() > 6) {
+            cache.put("aggregateLedger299", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Exports the ledger of a report, step 300.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public static long exportLedger300(Map<String, Long> arg0, long arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("exportLedger300:0" + SETTING_16);
+        trace.add("exportLedger300:1" + SETTING_21);
+        trace.add("exportLedger300:2" + SETTING_13);
+        trace.add("exportLedger300:3" + SETTING_26);
+        trace.add("exportLedger300:4" + SETTING_36);
+        trace.add("exportLedger300:5" + SETTING_57);
+        trace.add("exportLedger300:6" + SETTING_5);
+        if (trace.size() > 7) {
+            cache.put("exportLedger300", trace);
+        }
+        return (long) trace.size();
+    }
+
+    /**
+     * Loads the rows of a report, step 301.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected Optional<Report> loadRows301(Instant arg0, List<String> arg1, Optional<Report> arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadRows301:0" + SETTING_51);
+        trace.add("loadRows301:1" + SETTING_36);
+        if (trace.size() > 9) {
+            cache.put("loadRows301", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Computes the ledger of a report, step 302.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public Instant computeLedger302(Map<String, Long> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeLedger302:0" + SETTING_59);
+        trace.add("computeLedger302:1" + SETTING_43);
+        trace.add("computeLedger302:2" + SETTING_29);
+        if (trace.size() > 3) {
+            cache.put("computeLedger302", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Aggregates the ledger of a report, step 303.
+     * @param arg0 Input arg0 of the step
+     * @return Result of the step
+     */
+    public Instant aggregateLedger303(List<String> arg0) {
+        List<String> trace = new ArrayList<>();
+        trace.add("aggregateLedger303:0" + SETTING_35);
+        trace.add("aggregateLedger303:1" + SETTING_2);
+        trace.add("aggregateLedger303:2" + SETTING_12);
+        trace.add("aggregateLedger303:3" + SETTING_37);
+        trace.add("aggregateLedger303:4" + SETTING_6);
+        trace.add("aggregateLedger303:5" + SETTING_13);
+        if (trace.size() > 8) {
+            cache.put("aggregateLedger303", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Renders the currency of a report, step 304.
+     * @return Result of the step
+     */
+    protected Map<String, Long> renderCurrency304() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderCurrency304:0" + SETTING_54);
+        trace.add("renderCurrency304:1" + SETTING_50);
+        trace.add("renderCurrency304:2" + SETTING_59);
+        trace.add("renderCurrency304:3" + SETTING_13);
+        trace.add("renderCurrency304:4" + SETTING_14);
+        trace.add("renderCurrency304:5" + SETTING_56);
+        if (trace.size() > 5) {
+            cache.put("renderCurrency304", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Computes the footer of a report, step 305.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected Instant computeFooter305(boolean arg0, Map<String, Long> arg1, int arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("computeFooter305:0" + SETTING_55);
+        trace.add("computeFooter305:1" + SETTING_39);
+        if (trace.size() > 8) {
+            cache.put("computeFooter305", trace);
+        }
+        return Instant.ofEpochSecond(trace.size());
+    }
+
+    /**
+     * Filters the footer of a report, step 306.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> filterFooter306(Map<String, Long> arg0, double arg1, Instant arg2, double arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterFooter306:0" + SETTING_13);
+        trace.add("filterFooter306:1" + SETTING_48);
+        trace.add("filterFooter306:2" + SETTING_54);
+        trace.add("filterFooter306:3" + SETTING_6);
+        trace.add("filterFooter306:4" + SETTING_47);
+        if (trace.size() > 4) {
+            cache.put("filterFooter306", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Loads the section of a report, step 307.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private List<String> loadSection307(double arg0, double arg1, boolean arg2, Map<String, Long> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("loadSection307:0" + SETTING_31);
+        trace.add("loadSection307:1" + SETTING_19);
+        trace.add("loadSection307:2" + SETTING_52);
+        trace.add("loadSection307:3" + SETTING_12);
+        trace.add("loadSection307:4" + SETTING_25);
+        trace.add("loadSection307:5" + SETTING_24);
+        if (trace.size() > 8) {
+            cache.put("loadSection307", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the footer of a report, step 308.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    public List<String> renderFooter308(BigDecimal arg0, Optional<Report> arg1, List<String> arg2) throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderFooter308:0" + SETTING_50);
+        trace.add("renderFooter308:1" + SETTING_11);
+        if (trace.size() > 4) {
+            cache.put("renderFooter308", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the section of a report, step 309.
+     * @return Result of the step
+     */
+    protected Map<String, Long> renderSection309() {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderSection309:0" + SETTING_53);
+        trace.add("renderSection309:1" + SETTING_8);
+        trace.add("renderSection309:2" + SETTING_4);
+        trace.add("renderSection309:3" + SETTING_17);
+        trace.add("renderSection309:4" + SETTING_9);
+        if (trace.size() > 9) {
+            cache.put("renderSection309", trace);
+        }
+        return Map.of("size", (long) trace.size());
+    }
+
+    /**
+     * Resolves the totals of a report, step 310.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    private boolean resolveTotals310(boolean arg0, String arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveTotals310:0" + SETTING_52);
+        trace.add("resolveTotals310:1" + SETTING_35);
+        trace.add("resolveTotals310:2" + SETTING_29);
+        trace.add("resolveTotals310:3" + SETTING_39);
+        trace.add("resolveTotals310:4" + SETTING_2);
+        if (trace.size() > 5) {
+            cache.put("resolveTotals310", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Formats the ledger of a report, step 311.
+     * @return Result of the step
+     */
+    public boolean formatLedger311() {
+        List<String> trace = new ArrayList<>();
+        trace.add("formatLedger311:0" + SETTING_34);
+        trace.add("formatLedger311:1" + SETTING_3);
+        trace.add("formatLedger311:2" + SETTING_34);
+        trace.add("formatLedger311:3" + SETTING_11);
+        trace.add("formatLedger311:4" + SETTING_56);
+        trace.add("formatLedger311:5" + SETTING_2);
+        if (trace.size() > 8) {
+            cache.put("formatLedger311", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Merges the summary of a report, step 312.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @return Result of the step
+     */
+    protected List<String> mergeSummary312(Optional<Report> arg0, long arg1, Instant arg2) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeSummary312:0" + SETTING_20);
+        trace.add("mergeSummary312:1" + SETTING_59);
+        trace.add("mergeSummary312:2" + SETTING_2);
+        trace.add("mergeSummary312:3" + SETTING_34);
+        if (trace.size() > 5) {
+            cache.put("mergeSummary312", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Resolves the totals of a report, step 313.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    private Optional<Report> resolveTotals313(double arg0, BigDecimal arg1, Instant arg2, boolean arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("resolveTotals313:0" + SETTING_9);
+        trace.add("resolveTotals313:1" + SETTING_42);
+        trace.add("resolveTotals313:2" + SETTING_10);
+        trace.add("resolveTotals313:3" + SETTING_29);
+        trace.add("resolveTotals313:4" + SETTING_40);
+        trace.add("resolveTotals313:5" + SETTING_50);
+        if (trace.size() > 7) {
+            cache.put("resolveTotals313", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Filters the rows of a report, step 314.
+     * @return Result of the step
+     */
+    public boolean filterRows314() {
+        List<String> trace = new ArrayList<>();
+        trace.add("filterRows314:0" + SETTING_44);
+        trace.add("filterRows314:1" + SETTING_19);
+        if (trace.size() > 6) {
+            cache.put("filterRows314", trace);
+        }
+        return trace.isEmpty();
+    }
+
+    /**
+     * Validates the ledger of a report, step 315.
+     * @return Result of the step
+     * @throws IllegalStateException If the engine is not ready
+     */
+    protected List<String> validateLedger315() throws IllegalStateException {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateLedger315:0" + SETTING_46);
+        trace.add("validateLedger315:1" + SETTING_25);
+        trace.add("validateLedger315:2" + SETTING_9);
+        trace.add("validateLedger315:3" + SETTING_21);
+        trace.add("validateLedger315:4" + SETTING_54);
+        if (trace.size() > 8) {
+            cache.put("validateLedger315", trace);
+        }
+        return trace;
+    }
+
+    /**
+     * Renders the footer of a report, step 316.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @return Result of the step
+     */
+    public Optional<Report> renderFooter316(double arg0, Map<String, Long> arg1) {
+        List<String> trace = new ArrayList<>();
+        trace.add("renderFooter316:0" + SETTING_42);
+        trace.add("renderFooter316:1" + SETTING_9);
+        trace.add("renderFooter316:2" + SETTING_24);
+        trace.add("renderFooter316:3" + SETTING_14);
+        trace.add("renderFooter316:4" + SETTING_32);
+        trace.add("renderFooter316:5" + SETTING_43);
+        trace.add("renderFooter316:6" + SETTING_46);
+        trace.add("renderFooter316:7" + SETTING_17);
+        if (trace.size() > 5) {
+            cache.put("renderFooter316", trace);
+        }
+        return history.isEmpty() ? Optional.empty() : Optional.of(history.get(0));
+    }
+
+    /**
+     * Validates the summary of a report, step 317.
+     * @return Result of the step
+     */
+    private String validateSummary317() {
+        List<String> trace = new ArrayList<>();
+        trace.add("validateSummary317:0" + SETTING_44);
+        trace.add("validateSummary317:1" + SETTING_35);
+        trace.add("validateSummary317:2" + SETTING_27);
+        trace.add("validateSummary317:3" + SETTING_46);
+        if (trace.size() > 6) {
+            cache.put("validateSummary317", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    /**
+     * Merges the footer of a report, step 318.
+     * @param arg0 Input arg0 of the step
+     * @param arg1 Input arg1 of the step
+     * @param arg2 Input arg2 of the step
+     * @param arg3 Input arg3 of the step
+     * @return Result of the step
+     */
+    protected double mergeFooter318(BigDecimal arg0, long arg1, BigDecimal arg2, Optional<Report> arg3) {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeFooter318:0" + SETTING_23);
+        trace.add("mergeFooter318:1" + SETTING_53);
+        trace.add("mergeFooter318:2" + SETTING_45);
+        trace.add("mergeFooter318:3" + SETTING_27);
+        trace.add("mergeFooter318:4" + SETTING_27);
+        trace.add("mergeFooter318:5" + SETTING_17);
+        if (trace.size() > 8) {
+            cache.put("mergeFooter318", trace);
+        }
+        return trace.size() / 2.0;
+    }
+
+    /**
+     * Merges the header of a report, step 319.
+     * @return Result of the step
+     */
+    private String mergeHeader319() {
+        List<String> trace = new ArrayList<>();
+        trace.add("mergeHeader319:0" + SETTING_54);
+        trace.add("mergeHeader319:1" + SETTING_8);
+        trace.add("mergeHeader319:2" + SETTING_47);
+        trace.add("mergeHeader319:3" + SETTING_3);
+        trace.add("mergeHeader319:4" + SETTING_6);
+        trace.add("mergeHeader319:5" + SETTING_44);
+        trace.add("mergeHeader319:6" + SETTING_14);
+        if (trace.size() > 6) {
+            cache.put("mergeHeader319", trace);
+        }
+        return String.join(",", trace);
+    }
+
+    @Override
+    public List<Report> reports() {
+        return history;
+    }
+
+    @Override
+    public byte[] export(Report report, Function<Report, String> formatter) {
+        return formatter.apply(report).getBytes();
+    }
+}
@@ -0,0 +1,203 @@
+package com.example.shop.service;
+
+import com.example.shop.model.Customer;
+import com.example.shop.model.Order;
+import com.example.shop.model.OrderLine;
+import com.example.shop.repository.OrderRepository;
+import com.example.shop.payment.PaymentGateway;
+import com.example.shop.payment.PaymentException;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Places, pays and cancels orders.
+ * Orders are validated before they are stored, and payment failures leave the order open so it can be retried.
+ */
+public class OrderService implements AutoCloseable {
+    /** Largest number of lines accepted in a single order. */
+    public static final int MAX_LINES = 200;
+    private static final BigDecimal FREE_SHIPPING_THRESHOLD = new BigDecimal("50.00");
+    private static final BigDecimal SHIPPING_FEE = new BigDecimal("4.95");
+
+    private final OrderRepository repository;
+    private final PaymentGateway payments;
+    private final Clock clock;
+    private final Map<String, Instant> locks = new ConcurrentHashMap<>();
+    private volatile boolean closed;
+
+    /**
+     * @param repository Store for orders
+     * @param payments Gateway that charges customers
+     * @param clock Clock used to timestamp orders
+     */
+    public OrderService(OrderRepository repository, PaymentGateway payments, Clock clock) {
+        this.repository = repository;
+        this.payments = payments;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates an order for a customer.
+     *
+     * @param customer Customer placing the order
+     * @param lines Ordered products and quantities
+     * @return The stored order
+     * @throws IllegalArgumentException If the order has no lines or too many lines
+     * @throws IllegalStateException If the service has been closed
+     */
+    public Order placeOrder(Customer customer, List<OrderLine> lines) {
+        ensureOpen();
+        if (lines == null || lines.isEmpty()) {
+            throw new IllegalArgumentException("An order needs at least one line");
+        }
+        if (lines.size() > MAX_LINES) {
+            throw new IllegalArgumentException("An order has at most " + MAX_LINES + " lines");
+        }
+        for (OrderLine line : lines) {
+            validate(line);
+        }
+        Order order = new Order(repository.nextId(), customer, new ArrayList<>(lines), clock.instant());
+        order.setShipping(shippingFor(subtotal(lines)));
+        repository.save(order);
+        return order;
+    }
+
+    /**
+     * Charges the customer for an open order.
+     *
+     * @param orderId Identifier of the order
+     * @return True if the payment succeeded
+     * @throws PaymentException If the gateway rejects the payment
+     */
+    public boolean pay(String orderId) throws PaymentException {
+        ensureOpen();
+        Order order = require(orderId);
+        if (order.isPaid()) {
+            return true;
+        }
+        if (locks.putIfAbsent(orderId, clock.instant()) != null) {
+            return false;
+        }
+        try {
+            BigDecimal total = total(order);
+            String reference = payments.charge(order.getCustomer().getId(), total);
+            order.markPaid(reference, clock.instant());
+            repository.save(order);
+            return true;
+        } finally {
+            locks.remove(orderId);
+        }
+    }
+
+    /**
+     * Cancels an order that has not been shipped.
+     *
+     * @param orderId Identifier of the order
+     * @param reason Reason shown to the customer
+     * @throws IllegalStateException If the order has already been shipped
+     */
+    public void cancel(String orderId, String reason) throws PaymentException {
+        ensureOpen();
+        Order order = require(orderId);
+        if (order.isShipped()) {
+            throw new IllegalStateException("Order " + orderId + " has already been shipped");
+        }
+        if (order.isPaid()) {
+            payments.refund(order.getPaymentReference(), total(order));
+        }
+        order.cancel(reason, clock.instant());
+        repository.save(order);
+    }
+
+    /**
+     * @param customer Customer whose orders are listed
+     * @return Orders of the customer, newest first
+     */
+    public List<Order> ordersOf(Customer customer) {
+        return repository.findByCustomer(customer.getId()).stream()
+            .sorted((a, b) -> b.getCreatedAt().compareTo(a.getCreatedAt()))
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * @param orderId Identifier of the order
+     * @return The order, if it exists
+     */
+    public Optional<Order> find(String orderId) {
+        return Optional.ofNullable(repository.findById(orderId));
+    }
+
+    /**
+     * Sums the quantities ordered per product over all open orders.
+     *
+     * @return Quantity per product identifier
+     */
+    public Map<String, Integer> openQuantities() {
+        Map<String, Integer> quantities = new ConcurrentHashMap<>();
+        for (Order order : repository.findOpen()) {
+            for (OrderLine line : order.getLines()) {
+                quantities.merge(line.getProductId(), line.getQuantity(), Integer::sum);
+            }
+        }
+        return Collections.unmodifiableMap(quantities);
+    }
+
+    /**
+     * @param order Order to price
+     * @return Subtotal plus shipping, rounded to cents
+     */
+    public static BigDecimal total(Order order) {
+        return subtotal(order.getLines()).add(order.getShipping()).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static BigDecimal subtotal(List<OrderLine> lines) {
+        BigDecimal sum = BigDecimal.ZERO;
+        for (OrderLine line : lines) {
+            sum = sum.add(line.getUnitPrice().multiply(BigDecimal.valueOf(line.getQuantity())));
+        }
+        return sum;
+    }
+
+    private static BigDecimal shippingFor(BigDecimal subtotal) {
+        return subtotal.compareTo(FREE_SHIPPING_THRESHOLD) >= 0 ? BigDecimal.ZERO : SHIPPING_FEE;
+    }
+
+    private static void validate(OrderLine line) {
+        if (line.getQuantity() <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive for " + line.getProductId());
+        }
+        if (line.getUnitPrice().signum() < 0) {
+            throw new IllegalArgumentException("Price must not be negative for " + line.getProductId());
+        }
+    }
+
+    private Order require(String orderId) {
+        Order order = repository.findById(orderId);
+        if (order == null) {
+            throw new IllegalArgumentException("Unknown order " + orderId);
+        }
+        return order;
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Order service is closed");
+        }
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        locks.clear();
+    }
+}
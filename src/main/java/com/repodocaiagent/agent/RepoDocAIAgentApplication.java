@@ -1,139 +1,550 @@
-// src/main/java/com/repodocaiagent/agent/RepoDocAIAgentApplication.java
-package com.repodocaiagent.agent;
-
-import com.repodocaiagent.agent.model.JavaClassDoc;
-import com.repodocaiagent.agent.service.AzureOpenAiService;
-import com.repodocaiagent.agent.service.DocumentationGeneratorService;
-import com.repodocaiagent.agent.service.GitHubService;
-import com.repodocaiagent.agent.service.JavaParserService;
-import io.github.cdimascio.dotenv.Dotenv;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.StandardCopyOption;
-import java.util.ArrayList;
-import java.util.Comparator;
-import java.util.List;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
-
-/**
- * Main application class for the Java Documentation AI Agent.
- */
-public class RepoDocAIAgentApplication {
-    private static final Logger logger = LoggerFactory.getLogger(RepoDocAIAgentApplication.class);
-
-    public static void main(String[] args) {
-        try {
-            if (args.length == 0) {
-                System.err.println("Usage: java -jar java-documentation-agent.jar <github-repo-url>");
-                System.exit(1);
-            }
-            String repoUrl = args[0];
-            logger.info("Processing {}", repoUrl);
-
-            // load env
-            Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
-            String docDest = dotenv.get("documentdestination");
-            if (docDest == null || docDest.isBlank()) {
-                System.err.println("Please set documentdestination in your .env (e.g. documentdestination=C:/githublocal/RepoDocAIAgent)");
-                System.exit(1);
-            }
-
-            Path baseDir = Path.of(docDest);                   // C:/githublocal/RepoDocAIAgent
-            String repoName = extractRepoSimpleName(repoUrl);  // e.g. "azure-javaweb-app"
-            Path targetRepo = baseDir.resolve(repoName);       // → C:/githublocal/RepoDocAIAgent/azure-javaweb-app
-
-            // if it already exists, append timestamp
-            if (Files.exists(targetRepo)) {
-                String ts = String.valueOf(System.currentTimeMillis());
-                targetRepo = baseDir.resolve(repoName + "-" + ts);
-                logger.info("Target exists, using {}", targetRepo);
-            }
-
-            // initialize services
-            GitHubService git = new GitHubService(dotenv);
-            JavaParserService parser = new JavaParserService();
-            DocumentationGeneratorService docs = new DocumentationGeneratorService(
-                new AzureOpenAiService(dotenv).getChatModel()
-            );
-
-            // clone into azure-javaweb-app folder
-            Path repoPath = git.cloneRepository(repoUrl, targetRepo)
-                                .toAbsolutePath().normalize();
-
-            // ─── Flatten a nested repo folder if present ───
-            Path nested = repoPath.resolve(repoName);
-            if (Files.exists(nested) && Files.isDirectory(nested)) {
-                logger.info("Detected nested folder {}, flattening...", nested);
-                Files.walk(nested)
-                     .filter(p -> !p.equals(nested))
-                     .forEach(source -> {
-                         try {
-                             Path dest = repoPath.resolve(nested.relativize(source));
-                             if (Files.isDirectory(source)) {
-                                 Files.createDirectories(dest);
-                             } else {
-                                 Files.createDirectories(dest.getParent());
-                                 Files.move(source, dest, StandardCopyOption.REPLACE_EXISTING);
-                             }
-                         } catch (IOException ex) {
-                             logger.error("Error flattening {} → {}: {}", source, repoPath, ex.getMessage());
-                         }
-                     });
-                // Delete the now-empty nested folder
-                Files.walk(nested)
-                     .sorted(Comparator.reverseOrder())
-                     .map(Path::toFile)
-                     .forEach(File::delete);
-            }
-            // ────────────────────────────────────────────────
-
-            // find & parse Java files
-            List<Path> javaFiles = parser.findJavaFiles(repoPath);
-            List<JavaClassDoc> classes = new ArrayList<>();
-            for (Path f : javaFiles) {
-                JavaClassDoc cd = parser.parseJavaFile(f);
-                if (cd != null) classes.add(cd);
-            }
-
-            // create RepoDocAIAgent/ and api/ under the repo folder
-            Path docRoot = repoPath.resolve("RepoDocAIAgent");     // .../azure-javaweb-app/RepoDocAIAgent
-            Path apiRoot = docRoot.resolve("api");
-            Files.createDirectories(apiRoot);
-
-            // generate documentation
-            docs.generateProjectOverview(classes, repoName, docRoot);
-            docs.generateGettingStartedGuide(classes, repoName, docRoot);
-            docs.generateFaqAndTroubleshooting(classes, repoName, docRoot);
-            for (JavaClassDoc cd : classes) {
-                docs.generateClassDocumentation(cd, apiRoot);
-            }
-
-            logger.info("✅ Documentation written to {}", docRoot);
-            System.out.println("View docs at: " + docRoot);
-        }
-        catch (Exception e) {
-            logger.error("Failed", e);
-            System.err.println("Error: " + e.getMessage());
-            System.exit(1);
-        }
-    }
-
-    /** helper to pull just the repo name (without owner) */
-    private static String extractRepoSimpleName(String url) {
-        Matcher m = Pattern.compile("github\\.com[/:]([^/]+)/([^/.]+)").matcher(url);
-        if (m.find()) {
-            return m.group(2);
-        }
-        String[] parts = url.split("/");
-        String last = parts[parts.length - 1];
-        return last.endsWith(".git")
-             ? last.substring(0, last.length() - 4)
-             : last;
-    }
-}
+// src/main/java/com/repodocaiagent/agent/RepoDocAIAgentApplication.java
+package com.repodocaiagent.agent;
+
+import com.repodocaiagent.agent.service.CachingChatModel;
+import com.repodocaiagent.agent.service.ChatModelProvider;
+import com.repodocaiagent.agent.service.DocumentationGeneratorService;
+import com.repodocaiagent.agent.service.DocumentationPipeline;
+import com.repodocaiagent.agent.service.DocumentationServer;
+import com.repodocaiagent.agent.service.GitHubService;
+import com.repodocaiagent.agent.service.IncrementalDocumentationService;
+import com.repodocaiagent.agent.service.JavaParserService;
+import com.repodocaiagent.agent.service.JavaSource;
+import com.repodocaiagent.agent.service.LlmResponseCache;
+import com.repodocaiagent.agent.service.MeteredChatModel;
+import com.repodocaiagent.agent.service.MetricsSink;
+import com.repodocaiagent.agent.service.ParseCache;
+import com.repodocaiagent.agent.service.ProgressJournal;
+import com.repodocaiagent.agent.service.PromptBudget;
+import com.repodocaiagent.agent.service.PromptTemplates;
+import com.repodocaiagent.agent.service.RateLimitedChatModel;
+import com.repodocaiagent.agent.service.RepositoryJob;
+import com.repodocaiagent.agent.service.RepositoryMirrorService;
+import com.repodocaiagent.agent.service.RunMetrics;
+import com.repodocaiagent.agent.service.SourceDiscovery;
+import com.repodocaiagent.agent.service.StreamingDocumentWriter;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import io.github.cdimascio.dotenv.Dotenv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Main application class for the Java Documentation AI Agent.
+ */
+public class RepoDocAIAgentApplication {
+    private static final Logger logger = LoggerFactory.getLogger(RepoDocAIAgentApplication.class);
+
+    public static void main(String[] args) {
+        List<String> arguments = Arrays.asList(args);
+        // document every repository listed in a manifest instead of a single one
+        int batch = arguments.indexOf("--batch");
+        // keep running and document the repositories submitted over HTTP
+        boolean serve = arguments.contains("--serve");
+        // the repository URL is the first argument that is not a flag, wherever the flags are
+        String repoUrl = arguments.stream().filter(arg -> !arg.startsWith("--")).findFirst().orElse(null);
+        if (args.length == 0 || batch == args.length - 1 || (batch < 0 && !serve && repoUrl == null)) {
+            System.err.println("Usage: java -jar java-documentation-agent.jar <github-repo-url> [--resume]");
+            System.err.println("       java -jar java-documentation-agent.jar --batch <manifest> [--resume]");
+            System.err.println("       java -jar java-documentation-agent.jar --serve");
+            System.exit(1);
+        }
+        // continue the last interrupted run of each repository instead of starting a new one
+        boolean resume = arguments.contains("--resume");
+
+        // load env
+        Dotenv dotenv = Dotenv.configure().ignoreIfMissing().load();
+        String docDest = dotenv.get("documentdestination");
+        if (docDest == null || docDest.isBlank()) {
+            System.err.println("Please set documentdestination in your .env (e.g. documentdestination=C:/githublocal/RepoDocAIAgent)");
+            System.exit(1);
+        }
+
+        DocumentationAgent agent;
+        try {
+            agent = new DocumentationAgent(dotenv, Path.of(docDest), resume, serve);
+            if (serve) {
+                DocumentationServer server = new DocumentationServer(
+                    (job, metrics) -> agent.document(job, job.directoryName(), metrics), agent.metrics, dotenv);
+                server.start();
+                Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+                System.out.println("Listening on port " + server.getPort());
+                return;
+            }
+        } catch (Exception e) {
+            logger.error("Failed", e);
+            System.err.println("Error: " + e.getMessage());
+            System.exit(1);
+            return;
+        }
+        boolean succeeded = batch >= 0
+            ? documentBatch(agent, Path.of(args[batch + 1]), Integer.parseInt(dotenv.get("BATCH_CONCURRENCY", "4")))
+            : documentRepository(agent, repoUrl);
+        if (!succeeded) {
+            System.exit(1);
+        }
+    }
+
+    /** documents one repository with the run's own metrics */
+    private static boolean documentRepository(DocumentationAgent agent, String repoUrl) {
+        try {
+            RepositoryJob job = RepositoryJob.of(repoUrl);
+            Path docRoot = agent.document(job, job.directoryName(), agent.metrics);
+            logger.info("✅ Documentation written to {}", docRoot);
+            System.out.println("View docs at: " + docRoot);
+            return true;
+        } catch (Exception e) {
+            logger.error("Failed", e);
+            System.err.println("Error: " + e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * documents the repositories of a manifest, several at a time, sharing the model, rate limiter and caches;
+     * a repository that fails is reported and does not stop the others
+     */
+    private static boolean documentBatch(DocumentationAgent agent, Path manifest, int batchConcurrency) {
+        List<RepositoryJob> jobs;
+        try {
+            jobs = RepositoryJob.readManifest(manifest);
+        } catch (IOException e) {
+            logger.error("Failed to read batch manifest {}", manifest, e);
+            System.err.println("Error: " + e.getMessage());
+            return false;
+        }
+        logger.info("Documenting {} repositories from {}, {} at a time", jobs.size(), manifest, batchConcurrency);
+        Path reportFile = agent.baseDir.resolve("batch-report.json");
+        List<String> directoryNames = directoryNames(jobs);
+        List<Map<String, Object>> progress = new ArrayList<>();
+        for (RepositoryJob job : jobs) {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("repository", job.url());
+            entry.put("ref", job.ref());
+            entry.put("status", "pending");
+            progress.add(entry);
+        }
+        writeBatchReport(agent, reportFile, manifest, progress, "running");
+
+        ExecutorService repositories = Executors.newFixedThreadPool(Math.max(1, batchConcurrency));
+        try {
+            List<Future<?>> runs = new ArrayList<>();
+            for (int i = 0; i < jobs.size(); i++) {
+                RepositoryJob job = jobs.get(i);
+                String directoryName = directoryNames.get(i);
+                Map<String, Object> entry = progress.get(i);
+                runs.add(repositories.submit(() -> {
+                    long start = System.nanoTime();
+                    update(progress, entry, "status", "running");
+                    writeBatchReport(agent, reportFile, manifest, progress, "running");
+                    try {
+                        // the repository's own report, forwarded into the batch totals
+                        Path docRoot = agent.document(job, directoryName, new RunMetrics(agent.metrics));
+                        update(progress, entry, "docRoot", docRoot.toString());
+                        update(progress, entry, "status", "succeeded");
+                        logger.info("✅ Documentation of {} written to {}", job.url(), docRoot);
+                    } catch (Exception e) {
+                        logger.error("Failed to document {}", job.url(), e);
+                        update(progress, entry, "error", String.valueOf(e.getMessage()));
+                        update(progress, entry, "status", "failed");
+                    }
+                    update(progress, entry, "wallTimeMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                    writeBatchReport(agent, reportFile, manifest, progress, "running");
+                }));
+            }
+            for (Future<?> run : runs) {
+                run.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            logger.error("Interrupted while documenting batch {}", manifest);
+        } catch (ExecutionException e) {
+            logger.error("Batch {} failed", manifest, e.getCause());
+        } finally {
+            repositories.shutdownNow();
+        }
+
+        agent.recordSharedTotals(agent.metrics);
+        long failed = progress.stream().filter(entry -> !"succeeded".equals(entry.get("status"))).count();
+        writeBatchReport(agent, reportFile, manifest, progress, failed == 0 ? "succeeded" : "failed");
+        logger.info("Batch finished: {} of {} repositories documented, report at {}", jobs.size() - failed, jobs.size(), reportFile);
+        System.out.println("Batch report at: " + reportFile);
+        return failed == 0;
+    }
+
+    private static void update(List<Map<String, Object>> progress, Map<String, Object> entry, String key, Object value) {
+        synchronized (progress) {
+            entry.put(key, value);
+        }
+    }
+
+    /** rewrites the batch report with the state of every repository and the totals of the whole batch */
+    private static void writeBatchReport(DocumentationAgent agent, Path reportFile, Path manifest,
+                                         List<Map<String, Object>> progress, String status) {
+        synchronized (progress) {
+            Map<String, Object> run = new LinkedHashMap<>();
+            run.put("manifest", manifest.toString());
+            run.put("status", status);
+            Map<String, Long> counts = new TreeMap<>();
+            progress.forEach(entry -> counts.merge(String.valueOf(entry.get("status")), 1L, Long::sum));
+            run.put("repositoryCounts", counts);
+            List<Map<String, Object>> entries = new ArrayList<>();
+            progress.forEach(entry -> entries.add(new LinkedHashMap<>(entry)));
+            run.put("repositories", entries);
+            try {
+                agent.metrics.writeReport(reportFile, run);
+            } catch (IOException e) {
+                logger.warn("Could not write batch report {}: {}", reportFile, e.getMessage());
+            }
+        }
+    }
+
+    /** target folder of each job: the repository name, with the ref when one is given, made unique within the batch */
+    private static List<String> directoryNames(List<RepositoryJob> jobs) {
+        List<String> names = new ArrayList<>();
+        Set<String> used = new HashSet<>();
+        for (RepositoryJob job : jobs) {
+            String name = job.directoryName();
+            // "_" rather than "-", which would look like the timestamp of an earlier run of the same name
+            String unique = name;
+            for (int i = 2; !used.add(unique); i++) {
+                unique = name + "_" + i;
+            }
+            names.add(unique);
+        }
+        return names;
+    }
+
+    /**
+     * Services shared by every repository documented by this process: the model with its rate limiter
+     * and response cache, the streaming writer, prompt templates and the mirror store. Each repository
+     * gets its own parser, generator and pipeline on top of them.
+     */
+    private static final class DocumentationAgent {
+        private final Dotenv dotenv;
+        private final Path baseDir;
+        private final boolean resume;
+        // timers and counters of the run; a batch's repositories forward theirs into it
+        private final RunMetrics metrics;
+        private final GitHubService git;
+        private final boolean fastParser;
+        private final SourceDiscovery discovery;
+        // classes parsed by earlier jobs of a server, reused while their sources are unchanged
+        private final ParseCache parseCache;
+        private final PromptBudget promptBudget;
+        private final ChatLanguageModel chatModel;
+        private final RateLimitedChatModel scheduler;
+        private final LlmResponseCache llmCache;
+        private final StreamingDocumentWriter streamingWriter;
+        private final PromptTemplates templates;
+        private final RepositoryMirrorService mirrors;
+        // number of class documentation requests sent to the LLM at the same time, per repository
+        private final int classDocConcurrency;
+        // only regenerate docs for classes changed since the last documented commit
+        private final boolean incrementalDocs;
+        // "objectdb" reads sources from a bare clone instead of a checked-out working tree
+        private final boolean objectDbSources;
+
+        DocumentationAgent(Dotenv dotenv, Path baseDir, boolean resume, boolean serve) throws IOException {
+            this.dotenv = dotenv;
+            this.baseDir = baseDir;                      // C:/githublocal/RepoDocAIAgent
+            this.resume = resume;
+            this.classDocConcurrency = Integer.parseInt(dotenv.get("CLASS_DOC_CONCURRENCY", "1"));
+            this.incrementalDocs = Boolean.parseBoolean(dotenv.get("INCREMENTAL_DOCS", "false"));
+            this.objectDbSources = "objectdb".equalsIgnoreCase(dotenv.get("SOURCE_MODE", "worktree"));
+            // keep a local mirror per repository and fetch into it instead of cloning from scratch
+            boolean mirrorEnabled = Boolean.parseBoolean(dotenv.get("MIRROR_ENABLED", "false"));
+
+            // timers and counters for the run report, optionally published to a metrics registry
+            this.metrics = new RunMetrics(MetricsSink.fromEnvironment(dotenv));
+
+            // initialize services
+            this.git = new GitHubService(dotenv);
+            this.fastParser = "fast".equalsIgnoreCase(dotenv.get("PARSER_PROFILE", "default"));
+            this.discovery = new SourceDiscovery(dotenv);
+            this.parseCache = serve ? new ParseCache(dotenv) : new ParseCache(0);
+            // Azure OpenAI, or a local simulated model for offline runs (LLM_PROVIDER=simulated)
+            ChatModelProvider models = ChatModelProvider.fromEnvironment(dotenv);
+            this.promptBudget = new PromptBudget(dotenv);
+            // innermost, so every attempt the scheduler sends is timed and its tokens counted
+            ChatLanguageModel chatModel = new MeteredChatModel(models.getChatModel(), metrics);
+            RateLimitedChatModel scheduler = null;
+            if (Boolean.parseBoolean(dotenv.get("LLM_RATE_LIMIT_ENABLED", "false"))) {
+                // schedule against the deployment's TPM/RPM quotas; wrapped by the cache so hits cost no quota
+                scheduler = new RateLimitedChatModel(chatModel, promptBudget, models.getMaxTokens(), dotenv);
+                chatModel = scheduler;
+            }
+            this.scheduler = scheduler;
+            this.llmCache = Boolean.parseBoolean(dotenv.get("LLM_CACHE_ENABLED", "true"))
+                ? new LlmResponseCache(dotenv) : null;
+            if (llmCache != null) {
+                chatModel = new CachingChatModel(chatModel, llmCache,
+                    models.getDeploymentName(), models.getTemperature(), models.getMaxTokens());
+            }
+            this.chatModel = chatModel;
+            // stream whole documents token by token into their files instead of buffering each response;
+            // streams share the scheduler's quotas and are metered like the other requests
+            this.streamingWriter = Boolean.parseBoolean(dotenv.get("STREAMING_ENABLED", "false"))
+                ? new StreamingDocumentWriter(models.getStreamingChatModel(), llmCache,
+                    CachingChatModel.fingerprint(models.getDeploymentName(), models.getTemperature(), models.getMaxTokens()),
+                    Duration.ofSeconds(Long.parseLong(dotenv.get("STREAM_STALL_TIMEOUT_SECONDS", "60"))),
+                    Integer.parseInt(dotenv.get("STREAM_MAX_ATTEMPTS", "3")), scheduler, metrics)
+                : null;
+            // prompts bundled in the jar, optionally overridden file by file from PROMPT_TEMPLATE_DIR
+            String promptTemplateDir = dotenv.get("PROMPT_TEMPLATE_DIR", "");
+            this.templates = new PromptTemplates(promptTemplateDir.isBlank() ? null : Path.of(promptTemplateDir));
+            this.mirrors = mirrorEnabled ? new RepositoryMirrorService(dotenv, git) : null;
+        }
+
+        /**
+         * Clones, parses and documents one repository and writes its run report, also when it fails.
+         *
+         * @param job Repository, ref, discovery patterns and concurrency cap
+         * @param directoryName Folder under the destination the repository is cloned into
+         * @param metrics Metrics of this repository's run
+         * @return The RepoDocAIAgent folder the documentation was written to
+         */
+        Path document(RepositoryJob job, String directoryName, RunMetrics metrics) throws Exception {
+            String repoUrl = job.url();
+            Path reportFile = null;
+            // the mirror is leased until the run is over, since objectdb sources are read from it lazily
+            RepositoryMirrorService.Lease mirrorLease = null;
+            // the shared model records this repository's requests in its metrics
+            try (RunMetrics.Scope active = metrics.activate()) {
+                logger.info("Processing {}{}", repoUrl, job.ref() != null ? " at " + job.ref() : "");
+                JavaParserService parser = new JavaParserService(fastParser,
+                    discovery.withPatterns(job.includes(), job.excludes()), parseCache);
+                int concurrency = job.concurrency() != null ? job.concurrency() : classDocConcurrency;
+                DocumentationGeneratorService docs = new DocumentationGeneratorService(chatModel, promptBudget,
+                    concurrency, streamingWriter, templates, metrics);
+                IncrementalDocumentationService incremental = new IncrementalDocumentationService(git, parser, docs,
+                    Double.parseDouble(dotenv.get("INCREMENTAL_REPO_DOCS_THRESHOLD", "0.05")));
+
+                String repoName = job.name();                         // e.g. "azure-javaweb-app"
+                Path targetRepo = baseDir.resolve(directoryName);    // → C:/githublocal/RepoDocAIAgent/azure-javaweb-app
+
+                // an interrupted run keeps its checkout and the documents its journal recorded
+                Path resumable = resume ? findResumableRun(baseDir, directoryName) : null;
+                if (resumable != null) {
+                    targetRepo = resumable;
+                    logger.info("Resuming interrupted run in {}", targetRepo);
+                } else if (resume) {
+                    logger.info("No interrupted run of {} found, starting a new run", directoryName);
+                }
+
+                // an earlier documented clone is updated in place when running incrementally
+                boolean hasCheckout = !objectDbSources && Files.exists(targetRepo.resolve(".git"));
+                boolean updateExisting = incrementalDocs && hasCheckout && resumable == null
+                    && incremental.hasManifest(targetRepo.resolve("RepoDocAIAgent"));
+
+                // if it already exists, append timestamp (the mirror store always reuses the target)
+                if (Files.exists(targetRepo) && !updateExisting && resumable == null && mirrors == null) {
+                    String ts = String.valueOf(System.currentTimeMillis());
+                    targetRepo = baseDir.resolve(directoryName + "-" + ts);
+                    logger.info("Target exists, using {}", targetRepo);
+                }
+
+                // fetch into the local mirror; checkouts are then cloned or updated from it
+                try (RunMetrics.Scope ignored = metrics.time("clone")) {
+                    mirrorLease = mirrors != null ? mirrors.mirror(repoUrl) : null;
+                }
+                Path mirror = mirrorLease != null ? mirrorLease.path() : null;
+                String sourceUrl = mirror != null ? mirror.toUri().toString() : repoUrl;
+
+                // clone into azure-javaweb-app folder
+                Path checkout;
+                try (RunMetrics.Scope ignored = metrics.time("clone")) {
+                    if (resumable != null) {
+                        checkout = targetRepo;
+                    } else if (objectDbSources) {
+                        checkout = mirror != null ? Files.createDirectories(targetRepo)
+                            : git.cloneBareRepository(repoUrl, targetRepo, job.ref());
+                    } else if (updateExisting || (mirror != null && hasCheckout)) {
+                        checkout = git.updateRepository(targetRepo, job.ref());
+                    } else {
+                        checkout = git.cloneRepository(sourceUrl, targetRepo, job.ref());
+                    }
+                }
+                Path repoPath = checkout.toAbsolutePath().normalize();
+                // machine-readable report next to RepoDocAIAgent/
+                reportFile = repoPath.resolve("run-report.json");
+
+                // ─── Flatten a nested repo folder if present ───
+                Path nested = repoPath.resolve(repoName);
+                if (!objectDbSources && Files.exists(nested) && Files.isDirectory(nested)) {
+                    try (RunMetrics.Scope ignored = metrics.time("flatten")) {
+                        logger.info("Detected nested folder {}, flattening...", nested);
+                        Files.walk(nested)
+                             .filter(p -> !p.equals(nested))
+                             .forEach(source -> {
+                                 try {
+                                     Path dest = repoPath.resolve(nested.relativize(source));
+                                     if (Files.isDirectory(source)) {
+                                         Files.createDirectories(dest);
+                                     } else {
+                                         Files.createDirectories(dest.getParent());
+                                         Files.move(source, dest, StandardCopyOption.REPLACE_EXISTING);
+                                     }
+                                 } catch (IOException ex) {
+                                     logger.error("Error flattening {} → {}: {}", source, repoPath, ex.getMessage());
+                                 }
+                             });
+                        // Delete the now-empty nested folder
+                        Files.walk(nested)
+                             .sorted(Comparator.reverseOrder())
+                             .map(Path::toFile)
+                             .forEach(File::delete);
+                    }
+                }
+                // ────────────────────────────────────────────────
+
+                // create RepoDocAIAgent/ and api/ under the repo folder
+                Path docRoot = repoPath.resolve("RepoDocAIAgent");     // .../azure-javaweb-app/RepoDocAIAgent
+                Path apiRoot = docRoot.resolve("api");
+                Files.createDirectories(apiRoot);
+
+                // sources are read from the mirror or the repository's own clone, at the requested ref or HEAD
+                Path objectDb = mirror != null ? mirror : repoPath;
+                String revision = job.ref() != null ? job.ref() : "HEAD";
+
+                // full runs journal their progress so a run that dies can be continued with --resume;
+                // the journal is closed also when the run fails, so what it recorded is on disk
+                try (ProgressJournal journal = updateExisting ? null
+                        : openJournal(docRoot, objectDbSources ? git.resolveCommit(objectDb, revision) : git.resolveHead(repoPath),
+                            resumable != null)) {
+                    // discover, parse and document as overlapping stages with bounded queues between them
+                    DocumentationPipeline pipeline = new DocumentationPipeline(docs, metrics,
+                        Integer.parseInt(dotenv.get("PIPELINE_QUEUE_CAPACITY", "1000")));
+                    if (objectDbSources) {
+                        // parse Java blobs straight from the object database & generate documentation
+                        // only paths are kept of the sources, so blob content is dropped once parsed
+                        DocumentationPipeline.Result<String> result = pipeline.run(
+                            git.javaSources(objectDb, revision), JavaSource::path, source -> parser.parseJavaSource(source, repoPath),
+                            repoName, docRoot, journal, concurrency);
+                        if (result.complete()) {
+                            journal.recordPhase(ProgressJournal.COMPLETE);
+                        }
+                    } else if (updateExisting) {
+                        // find Java files
+                        List<Path> javaFiles;
+                        try (RunMetrics.Scope ignored = metrics.time("discovery")) {
+                            javaFiles = parser.findJavaFiles(repoPath);
+                        }
+                        metrics.increment("files.discovered", javaFiles.size());
+                        try (RunMetrics.Scope ignored = metrics.time("generate.incremental")) {
+                            incremental.regenerate(repoPath, repoName, docRoot, javaFiles, concurrency);
+                        }
+                    } else {
+                        // find Java files, parse & generate documentation
+                        DocumentationPipeline.Result<Path> result = pipeline.run(parser.streamJavaFiles(repoPath),
+                            Function.identity(), parser::parseJavaFile, repoName, docRoot, journal, concurrency);
+                        incremental.recordFullRun(repoPath, docRoot, result.sources(), result.classes(), result.documented());
+                        if (result.complete()) {
+                            journal.recordPhase(ProgressJournal.COMPLETE);
+                        }
+                    }
+                }
+
+                // a batch reports the shared components' totals once, for all of its repositories
+                if (metrics == this.metrics) {
+                    recordSharedTotals(metrics);
+                }
+                writeReport(metrics, reportFile, repoUrl, "succeeded");
+                return docRoot;
+            } catch (Exception e) {
+                if (reportFile != null) {
+                    writeReport(metrics, reportFile, repoUrl, "failed");
+                }
+                throw e;
+            } finally {
+                if (mirrorLease != null) {
+                    mirrorLease.close();
+                }
+            }
+        }
+
+        /** totals kept by the scheduler, the streaming writer and the response cache */
+        void recordSharedTotals(RunMetrics metrics) {
+            metrics.increment("llm.retries", scheduler != null ? scheduler.getRetries() : 0);
+            metrics.increment("llm.stream.retries", streamingWriter != null ? streamingWriter.getRetries() : 0);
+            metrics.increment("llm.cache.hits", llmCache != null ? llmCache.getHits() : 0);
+            metrics.increment("parse.cache.hits", parseCache.getHits());
+        }
+    }
+
+    /** finds the newest run of a repository whose journal shows it was interrupted, or null if there is none */
+    private static Path findResumableRun(Path baseDir, String repoName) throws IOException {
+        if (!Files.isDirectory(baseDir)) {
+            return null;
+        }
+        // runs are cloned into <repo-name> or, when that existed, <repo-name>-<timestamp>
+        Pattern runName = Pattern.compile(Pattern.quote(repoName) + "(-\\d+)?");
+        List<Path> runs;
+        try (Stream<Path> entries = Files.list(baseDir)) {
+            runs = entries.filter(p -> runName.matcher(p.getFileName().toString()).matches()).toList();
+        }
+        Path newest = null;
+        FileTime newestTime = null;
+        for (Path run : runs) {
+            Path docRoot = run.resolve("RepoDocAIAgent");
+            if (ProgressJournal.isResumable(docRoot)) {
+                FileTime modified = Files.getLastModifiedTime(docRoot.resolve(ProgressJournal.FILE_NAME));
+                if (newest == null || modified.compareTo(newestTime) > 0) {
+                    newest = run;
+                    newestTime = modified;
+                }
+            }
+        }
+        return newest;
+    }
+
+    /** reopens the journal of the run being resumed, or starts a new one if there is none or the commit moved on */
+    private static ProgressJournal openJournal(Path docRoot, String head, boolean resuming) throws IOException {
+        if (resuming) {
+            ProgressJournal journal = ProgressJournal.resume(docRoot);
+            if (head.equals(journal.getCommit())) {
+                return journal;
+            }
+            logger.warn("Interrupted run documented {} but the repository is at {} now, documenting it from scratch",
+                journal.getCommit(), head);
+            journal.close();
+        }
+        return ProgressJournal.create(docRoot, head);
+    }
+
+    /** writes the run report; a report that cannot be written does not fail the run */
+    private static void writeReport(RunMetrics metrics, Path reportFile, String repoUrl, String status) {
+        Map<String, Object> run = new LinkedHashMap<>();
+        run.put("repository", repoUrl);
+        run.put("status", status);
+        try {
+            metrics.writeReport(reportFile, run);
+        } catch (IOException e) {
+            logger.warn("Could not write run report {}: {}", reportFile, e.getMessage());
+        }
+    }
+}
@@ -1,21 +1,76 @@
-package com.repodocaiagent.agent.model;
-
-import lombok.Builder;
-import lombok.Data;
-import java.util.Map;
-
-/**
- * Represents documentation for a field in a Java class.
- */
-@Data
-@Builder
-public class FieldDoc {
-    private String name;
-    private String type;
-    private String description;
-    private boolean isPublic;
-    private boolean isStatic;
-    private boolean isFinal;
-    private String initialValue;
-    private Map<String, String> annotations;
-}
+package com.repodocaiagent.agent.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.Map;
+
+/**
+ * Represents documentation for a field in a Java class.
+ * Names are interned, annotations are immutable and modifiers are packed into one byte.
+ */
+@Data
+@Builder
+public class FieldDoc {
+    private static final byte PUBLIC = 1;
+    private static final byte STATIC = 1 << 1;
+    private static final byte FINAL = 1 << 2;
+
+    private String name;
+    private String type;
+    private String description;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private byte flags; // PUBLIC | STATIC | FINAL
+    private String initialValue;
+    private Map<String, String> annotations;
+
+    public boolean isPublic() {
+        return (flags & PUBLIC) != 0;
+    }
+
+    public boolean isStatic() {
+        return (flags & STATIC) != 0;
+    }
+
+    public boolean isFinal() {
+        return (flags & FINAL) != 0;
+    }
+
+    public static class FieldDocBuilder {
+        public FieldDocBuilder name(String name) {
+            this.name = Symbols.intern(name);
+            return this;
+        }
+
+        public FieldDocBuilder type(String type) {
+            this.type = Symbols.intern(type);
+            return this;
+        }
+
+        public FieldDocBuilder annotations(Map<String, String> annotations) {
+            this.annotations = Symbols.internAll(annotations);
+            return this;
+        }
+
+        public FieldDocBuilder isPublic(boolean isPublic) {
+            return flag(PUBLIC, isPublic);
+        }
+
+        public FieldDocBuilder isStatic(boolean isStatic) {
+            return flag(STATIC, isStatic);
+        }
+
+        public FieldDocBuilder isFinal(boolean isFinal) {
+            return flag(FINAL, isFinal);
+        }
+
+        private FieldDocBuilder flag(byte bit, boolean value) {
+            this.flags = (byte) (value ? flags | bit : flags & ~bit);
+            return this;
+        }
+    }
+}
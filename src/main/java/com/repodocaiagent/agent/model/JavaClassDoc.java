@@ -1,30 +1,118 @@
-package com.repodocaiagent.agent.model;
-
-import lombok.Builder;
-import lombok.Data;
-
-import java.util.List;
-import java.util.Map;
-
-/**
- * Represents a Java class or interface with its documentation details.
- */
-@Data
-@Builder
-public class JavaClassDoc {
-    private String name;
-    private String packageName;
-    private String fullyQualifiedName;
-    private String description;
-    private String type; // CLASS, INTERFACE, ENUM, RECORD, ANNOTATION
-    private List<String> implementedInterfaces;
-    private String superClass;
-    private List<FieldDoc> fields;
-    private List<MethodDoc> methods;
-    private List<String> dependencies;
-    private Map<String, String> annotations;
-    private String sourceCode;
-    private boolean isPublic;
-    private boolean isAbstract;
-    private List<String> typeParameters; // For generic classes
-}
+package com.repodocaiagent.agent.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a Java class or interface with its documentation details.
+ * Names are interned, collections are immutable and modifiers are packed into one byte,
+ * so the model of a large repository stays compact; the builder accepts the usual values.
+ */
+@Data
+@Builder
+public class JavaClassDoc {
+    private static final byte PUBLIC = 1;
+    private static final byte ABSTRACT = 1 << 1;
+
+    private String name;
+    private String packageName;
+    private String fullyQualifiedName;
+    private String description;
+    private String type; // CLASS, INTERFACE, ENUM, RECORD, ANNOTATION
+    private List<String> implementedInterfaces;
+    private String superClass;
+    private List<FieldDoc> fields;
+    private List<MethodDoc> methods;
+    private List<String> dependencies;
+    private Map<String, String> annotations;
+    private SourceHandle source; // Where the class's source text can be read from
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private byte flags; // PUBLIC | ABSTRACT
+    private List<String> typeParameters; // For generic classes
+    private Path sourceFile; // File the class was parsed from
+
+    public boolean isPublic() {
+        return (flags & PUBLIC) != 0;
+    }
+
+    public boolean isAbstract() {
+        return (flags & ABSTRACT) != 0;
+    }
+
+    /**
+     * Reads the class's source text from its file or blob.
+     *
+     * @return Source text, or null if the source is unknown
+     */
+    public String getSourceCode() {
+        return source != null ? source.text() : null;
+    }
+
+    public static class JavaClassDocBuilder {
+        public JavaClassDocBuilder packageName(String packageName) {
+            this.packageName = Symbols.intern(packageName);
+            return this;
+        }
+
+        public JavaClassDocBuilder type(String type) {
+            this.type = Symbols.intern(type);
+            return this;
+        }
+
+        public JavaClassDocBuilder implementedInterfaces(List<String> implementedInterfaces) {
+            this.implementedInterfaces = Symbols.internAll(implementedInterfaces);
+            return this;
+        }
+
+        public JavaClassDocBuilder superClass(String superClass) {
+            this.superClass = Symbols.intern(superClass);
+            return this;
+        }
+
+        public JavaClassDocBuilder fields(List<FieldDoc> fields) {
+            this.fields = Symbols.freeze(fields);
+            return this;
+        }
+
+        public JavaClassDocBuilder methods(List<MethodDoc> methods) {
+            this.methods = Symbols.freeze(methods);
+            return this;
+        }
+
+        public JavaClassDocBuilder dependencies(List<String> dependencies) {
+            this.dependencies = Symbols.internAll(dependencies);
+            return this;
+        }
+
+        public JavaClassDocBuilder annotations(Map<String, String> annotations) {
+            this.annotations = Symbols.internAll(annotations);
+            return this;
+        }
+
+        public JavaClassDocBuilder typeParameters(List<String> typeParameters) {
+            this.typeParameters = Symbols.internAll(typeParameters);
+            return this;
+        }
+
+        public JavaClassDocBuilder isPublic(boolean isPublic) {
+            return flag(PUBLIC, isPublic);
+        }
+
+        public JavaClassDocBuilder isAbstract(boolean isAbstract) {
+            return flag(ABSTRACT, isAbstract);
+        }
+
+        private JavaClassDocBuilder flag(byte bit, boolean value) {
+            this.flags = (byte) (value ? flags | bit : flags & ~bit);
+            return this;
+        }
+    }
+}
@@ -1,30 +1,113 @@
-package com.repodocaiagent.agent.model;
-
-import lombok.Builder;
-import lombok.Data;
-
-import java.util.List;
-import java.util.Map;
-
-/**
- * Represents a method in a Java class with its documentation details.
- */
-@Data
-@Builder
-public class MethodDoc {
-    private String name;
-    private String description;
-    private String returnType;
-    private String returnDescription;
-    private List<ParameterDoc> parameters;
-    private List<String> exceptions;
-    private Map<String, String> exceptionDescriptions;
-    private String signature;
-    private Map<String, String> annotations;
-    private boolean isPublic;
-    private boolean isStatic;
-    private boolean isAbstract;
-    private String sourceCode;
-    private List<String> typeParameters; // For generic methods
-    private String codeExample;
-}
+package com.repodocaiagent.agent.model;
+
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Data;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Represents a method in a Java class with its documentation details.
+ * Types are interned, collections are immutable and modifiers are packed into one byte.
+ */
+@Data
+@Builder
+public class MethodDoc {
+    private static final byte PUBLIC = 1;
+    private static final byte STATIC = 1 << 1;
+    private static final byte ABSTRACT = 1 << 2;
+
+    private String name;
+    private String description;
+    private String returnType;
+    private String returnDescription;
+    private List<ParameterDoc> parameters;
+    private List<String> exceptions;
+    private Map<String, String> exceptionDescriptions;
+    private String signature;
+    private Map<String, String> annotations;
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private byte flags; // PUBLIC | STATIC | ABSTRACT
+    private SourceHandle source; // Where the method's source text can be read from
+    private List<String> typeParameters; // For generic methods
+    private String codeExample;
+
+    public boolean isPublic() {
+        return (flags & PUBLIC) != 0;
+    }
+
+    public boolean isStatic() {
+        return (flags & STATIC) != 0;
+    }
+
+    public boolean isAbstract() {
+        return (flags & ABSTRACT) != 0;
+    }
+
+    /**
+     * Reads the method's source text from its file or blob.
+     *
+     * @return Source text, or null if the source is unknown
+     */
+    public String getSourceCode() {
+        return source != null ? source.text() : null;
+    }
+
+    public static class MethodDocBuilder {
+        public MethodDocBuilder name(String name) {
+            this.name = Symbols.intern(name);
+            return this;
+        }
+
+        public MethodDocBuilder returnType(String returnType) {
+            this.returnType = Symbols.intern(returnType);
+            return this;
+        }
+
+        public MethodDocBuilder parameters(List<ParameterDoc> parameters) {
+            this.parameters = Symbols.freeze(parameters);
+            return this;
+        }
+
+        public MethodDocBuilder exceptions(List<String> exceptions) {
+            this.exceptions = Symbols.internAll(exceptions);
+            return this;
+        }
+
+        public MethodDocBuilder exceptionDescriptions(Map<String, String> exceptionDescriptions) {
+            this.exceptionDescriptions = Symbols.internAll(exceptionDescriptions);
+            return this;
+        }
+
+        public MethodDocBuilder annotations(Map<String, String> annotations) {
+            this.annotations = Symbols.internAll(annotations);
+            return this;
+        }
+
+        public MethodDocBuilder typeParameters(List<String> typeParameters) {
+            this.typeParameters = Symbols.internAll(typeParameters);
+            return this;
+        }
+
+        public MethodDocBuilder isPublic(boolean isPublic) {
+            return flag(PUBLIC, isPublic);
+        }
+
+        public MethodDocBuilder isStatic(boolean isStatic) {
+            return flag(STATIC, isStatic);
+        }
+
+        public MethodDocBuilder isAbstract(boolean isAbstract) {
+            return flag(ABSTRACT, isAbstract);
+        }
+
+        private MethodDocBuilder flag(byte bit, boolean value) {
+            this.flags = (byte) (value ? flags | bit : flags & ~bit);
+            return this;
+        }
+    }
+}
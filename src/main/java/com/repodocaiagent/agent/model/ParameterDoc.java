@@ -1,16 +1,29 @@
-package com.repodocaiagent.agent.model;
-
-import lombok.Builder;
-import lombok.Data;
-
-/**
- * Represents a method parameter with its documentation details.
- */
-@Data
-@Builder
-public class ParameterDoc {
-    private String name;
-    private String type;
-    private String description;
-    private boolean isRequired;
-}
+package com.repodocaiagent.agent.model;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * Represents a method parameter with its documentation details.
+ * Names and types are interned because the same ones repeat across a repository.
+ */
+@Data
+@Builder
+public class ParameterDoc {
+    private String name;
+    private String type;
+    private String description;
+    private boolean isRequired;
+
+    public static class ParameterDocBuilder {
+        public ParameterDocBuilder name(String name) {
+            this.name = Symbols.intern(name);
+            return this;
+        }
+
+        public ParameterDocBuilder type(String type) {
+            this.type = Symbols.intern(type);
+            return this;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.repodocaiagent.agent.model;
+
+/**
+ * Reference to a slice of a source file whose text is only read when it is needed,
+ * so parsed classes do not keep their source in memory.
+ */
+public interface SourceHandle {
+    /**
+     * Reads the referenced source text.
+     *
+     * @return The source text
+     * @throws java.io.UncheckedIOException If the backing file or blob cannot be read
+     */
+    String text();
+}
@@ -0,0 +1,66 @@
+package com.repodocaiagent.agent.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canonicalizes the strings and collections stored in the documentation model.
+ * Type, annotation and modifier names repeat across every class of a repository, so each distinct
+ * value is kept once in the JVM string table, which still lets unused names be garbage collected.
+ * Collections are copied into immutable lists and maps; maps keep the order of their source, since they
+ * are rendered into prompts that must be the same from run to run.
+ */
+final class Symbols {
+    private Symbols() {
+    }
+
+    static String intern(String value) {
+        return value != null ? value.intern() : null;
+    }
+
+    /**
+     * @return Immutable list of the interned values, or null if the input is null
+     */
+    static List<String> internAll(List<String> values) {
+        if (values == null) {
+            return null;
+        }
+        if (values.isEmpty()) {
+            return List.of();
+        }
+        String[] interned = new String[values.size()];
+        boolean hasNull = false;
+        for (int i = 0; i < interned.length; i++) {
+            interned[i] = intern(values.get(i));
+            hasNull |= interned[i] == null;
+        }
+        return hasNull ? Collections.unmodifiableList(Arrays.asList(interned)) : List.of(interned);
+    }
+
+    /**
+     * @return Immutable map with interned keys and values in the input's order, or null if the input is null
+     */
+    static Map<String, String> internAll(Map<String, String> values) {
+        if (values == null) {
+            return null;
+        }
+        if (values.isEmpty()) {
+            return Map.of();
+        }
+        Map<String, String> interned = new LinkedHashMap<>(values.size() * 4 / 3 + 1);
+        for (Map.Entry<String, String> entry : values.entrySet()) {
+            interned.put(intern(entry.getKey()), intern(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(interned);
+    }
+
+    /**
+     * @return Immutable copy of the list, or null if the input is null
+     */
+    static <T> List<T> freeze(List<T> values) {
+        return values != null ? List.copyOf(values) : null;
+    }
+}
@@ -1,66 +1,119 @@
-package com.repodocaiagent.agent.service;
-
-import dev.langchain4j.model.azure.AzureOpenAiChatModel;
-import dev.langchain4j.model.chat.ChatLanguageModel;
-import io.github.cdimascio.dotenv.Dotenv;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-/**
- * Service for configuring and providing access to Azure OpenAI LLM.
- */
-public class AzureOpenAiService {
-    private static final Logger logger = LoggerFactory.getLogger(AzureOpenAiService.class);
-    
-    private final Dotenv dotenv;
-    private ChatLanguageModel chatModel;
-    
-    public AzureOpenAiService(Dotenv dotenv) {
-        this.dotenv = dotenv;
-        initialize();
-    }
-    
-    /**
-     * Initializes the Azure OpenAI client using credentials from .env file.
-     */
-    private void initialize() {
-        try {
-            logger.info("Initializing Azure OpenAI client");
-            
-            String endpoint = dotenv.get("AZURE_OPENAI_ENDPOINT");
-            String apiKey = dotenv.get("AZURE_OPENAI_API_KEY");
-            String deploymentId = dotenv.get("AZURE_OPENAI_DEPLOYMENT_ID");
-            String apiVersion = dotenv.get("AZURE_OPENAI_API_VERSION");
-              if (endpoint == null || apiKey == null || deploymentId == null || apiVersion == null) {
-                throw new IllegalStateException(
-                    "Missing required Azure OpenAI configuration. Please ensure your .env file contains: " +
-                    "AZURE_OPENAI_ENDPOINT, AZURE_OPENAI_API_KEY, AZURE_OPENAI_DEPLOYMENT_ID, and AZURE_OPENAI_API_VERSION"
-                );
-            }
-            // In LangChain4j 0.27.1, there's no direct method to set API version in the builder
-            // We need to construct the Azure OpenAI chat model differently
-            chatModel = AzureOpenAiChatModel.builder()
-                .endpoint(endpoint)
-                .apiKey(apiKey)
-                .deploymentName(deploymentId)
-                // API version is not directly settable in this version, removing the method call
-                .temperature(0.1) // Low temperature for more precise/deterministic outputs
-                .maxTokens(4000)  // Adjust based on model capabilities
-                .build();
-            
-            logger.info("Azure OpenAI client initialized successfully");
-        } catch (Exception e) {
-            logger.error("Failed to initialize Azure OpenAI client: {}", e.getMessage(), e);
-            throw new RuntimeException("Failed to initialize Azure OpenAI service", e);
-        }
-    }
-    
-    /**
-     * Gets the configured ChatLanguageModel instance.
-     *
-     * @return ChatLanguageModel instance
-     */
-    public ChatLanguageModel getChatModel() {
-        return chatModel;
-    }
-}
+package com.repodocaiagent.agent.service;
+
+import dev.langchain4j.model.azure.AzureOpenAiChatModel;
+import dev.langchain4j.model.azure.AzureOpenAiStreamingChatModel;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import io.github.cdimascio.dotenv.Dotenv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Service for configuring and providing access to Azure OpenAI LLM.
+ */
+public class AzureOpenAiService implements ChatModelProvider {
+    private static final Logger logger = LoggerFactory.getLogger(AzureOpenAiService.class);
+    private static final double TEMPERATURE = 0.1; // Low temperature for more precise/deterministic outputs
+    private static final int MAX_TOKENS = 4000;    // Adjust based on model capabilities
+    
+    private final Dotenv dotenv;
+    private ChatLanguageModel chatModel;
+    private StreamingChatLanguageModel streamingChatModel;
+    private String deploymentName;
+    
+    public AzureOpenAiService(Dotenv dotenv) {
+        this.dotenv = dotenv;
+        initialize();
+    }
+    
+    /**
+     * Initializes the Azure OpenAI client using credentials from .env file.
+     */
+    private void initialize() {
+        try {
+            logger.info("Initializing Azure OpenAI client");
+            
+            String endpoint = dotenv.get("AZURE_OPENAI_ENDPOINT");
+            String apiKey = dotenv.get("AZURE_OPENAI_API_KEY");
+            String deploymentId = dotenv.get("AZURE_OPENAI_DEPLOYMENT_ID");
+            String apiVersion = dotenv.get("AZURE_OPENAI_API_VERSION");
+              if (endpoint == null || apiKey == null || deploymentId == null || apiVersion == null) {
+                throw new IllegalStateException(
+                    "Missing required Azure OpenAI configuration. Please ensure your .env file contains: " +
+                    "AZURE_OPENAI_ENDPOINT, AZURE_OPENAI_API_KEY, AZURE_OPENAI_DEPLOYMENT_ID, and AZURE_OPENAI_API_VERSION"
+                );
+            }
+            // In LangChain4j 0.27.1, there's no direct method to set API version in the builder
+            // We need to construct the Azure OpenAI chat model differently
+            deploymentName = deploymentId;
+            boolean rateLimited = Boolean.parseBoolean(dotenv.get("LLM_RATE_LIMIT_ENABLED", "false"));
+            chatModel = AzureOpenAiChatModel.builder()
+                .endpoint(endpoint)
+                .apiKey(apiKey)
+                .deploymentName(deploymentId)
+                // API version is not directly settable in this version, removing the method call
+                .temperature(TEMPERATURE)
+                .maxTokens(MAX_TOKENS)
+                // the request scheduler retries throttled requests itself and needs to see every 429
+                .maxRetries(rateLimited ? 0 : null)
+                .build();
+            streamingChatModel = AzureOpenAiStreamingChatModel.builder()
+                .endpoint(endpoint)
+                .apiKey(apiKey)
+                .deploymentName(deploymentId)
+                .temperature(TEMPERATURE)
+                .maxTokens(MAX_TOKENS)
+                .maxRetries(rateLimited ? 0 : null)
+                .build();
+            
+            logger.info("Azure OpenAI client initialized successfully");
+        } catch (Exception e) {
+            logger.error("Failed to initialize Azure OpenAI client: {}", e.getMessage(), e);
+            throw new RuntimeException("Failed to initialize Azure OpenAI service", e);
+        }
+    }
+    
+    /**
+     * Gets the configured ChatLanguageModel instance.
+     *
+     * @return ChatLanguageModel instance
+     */
+    @Override
+    public ChatLanguageModel getChatModel() {
+        return chatModel;
+    }
+    
+    /**
+     * Gets a streaming model for the same deployment and settings as {@link #getChatModel()}.
+     *
+     * @return StreamingChatLanguageModel instance
+     */
+    @Override
+    public StreamingChatLanguageModel getStreamingChatModel() {
+        return streamingChatModel;
+    }
+    
+    /**
+     * @return Name of the Azure OpenAI deployment requests are sent to
+     */
+    @Override
+    public String getDeploymentName() {
+        return deploymentName;
+    }
+    
+    /**
+     * @return Sampling temperature used for every request
+     */
+    @Override
+    public double getTemperature() {
+        return TEMPERATURE;
+    }
+    
+    /**
+     * @return Maximum number of completion tokens per request
+     */
+    @Override
+    public int getMaxTokens() {
+        return MAX_TOKENS;
+    }
+}
@@ -0,0 +1,113 @@
+package com.repodocaiagent.agent.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ChatLanguageModel decorator that serves repeated prompts from an {@link LlmResponseCache}.
+ * Identical prompts that are in flight at the same time are coalesced into a single request.
+ */
+public class CachingChatModel implements ChatLanguageModel {
+    private static final Logger logger = LoggerFactory.getLogger(CachingChatModel.class);
+
+    private final ChatLanguageModel delegate;
+    private final LlmResponseCache cache;
+    private final String modelFingerprint;
+    private final ConcurrentHashMap<String, CompletableFuture<Response<AiMessage>>> inFlight = new ConcurrentHashMap<>();
+
+    /**
+     * @param delegate Model that answers cache misses
+     * @param cache Response store
+     * @param deploymentName Deployment the delegate sends requests to
+     * @param temperature Sampling temperature of the delegate
+     * @param maxTokens Maximum completion tokens of the delegate
+     */
+    public CachingChatModel(ChatLanguageModel delegate, LlmResponseCache cache,
+                            String deploymentName, double temperature, int maxTokens) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.modelFingerprint = fingerprint(deploymentName, temperature, maxTokens);
+    }
+
+    /**
+     * @return Identifier of the model settings that make up part of every cache key
+     */
+    public static String fingerprint(String deploymentName, double temperature, int maxTokens) {
+        return deploymentName + "|" + temperature + "|" + maxTokens;
+    }
+
+    /**
+     * Builds the cache key for a conversation sent with the given model settings.
+     *
+     * @param modelFingerprint Value from {@link #fingerprint(String, double, int)}
+     * @param messages Messages of the request
+     */
+    public static String cacheKey(String modelFingerprint, List<ChatMessage> messages) {
+        List<String> parts = new ArrayList<>(messages.size() * 2 + 1);
+        parts.add(modelFingerprint);
+        for (ChatMessage message : messages) {
+            parts.add(message.type().name());
+            parts.add(message.text());
+        }
+        return LlmResponseCache.key(parts.toArray(String[]::new));
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        String key = cacheKey(modelFingerprint, messages);
+        Optional<String> cached = cache.get(key);
+        if (cached.isPresent()) {
+            logger.debug("LLM cache hit {}", key);
+            return Response.from(AiMessage.from(cached.get()));
+        }
+
+        CompletableFuture<Response<AiMessage>> request = new CompletableFuture<>();
+        CompletableFuture<Response<AiMessage>> existing = inFlight.putIfAbsent(key, request);
+        if (existing != null) {
+            logger.debug("Waiting for in-flight request {}", key);
+            return await(existing);
+        }
+
+        try {
+            // another thread may have stored the response between the lookup above and claiming the key
+            cached = cache.get(key);
+            Response<AiMessage> response = cached.isPresent()
+                ? Response.from(AiMessage.from(cached.get()))
+                : delegate.generate(messages);
+            if (cached.isEmpty() && response.finishReason() != FinishReason.LENGTH) {
+                // truncated answers are not worth replaying
+                cache.put(key, response.content().text());
+            }
+            request.complete(response);
+            return response;
+        } catch (RuntimeException e) {
+            request.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(key, request);
+        }
+    }
+
+    private static Response<AiMessage> await(CompletableFuture<Response<AiMessage>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package com.repodocaiagent.agent.service;
+
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * Source of the chat models documentation is generated with, together with the settings that
+ * identify its answers in the response cache.
+ */
+public interface ChatModelProvider {
+    ChatLanguageModel getChatModel();
+
+    StreamingChatLanguageModel getStreamingChatModel();
+
+    /**
+     * @return Name of the deployment or model requests are sent to
+     */
+    String getDeploymentName();
+
+    /**
+     * @return Sampling temperature used for every request
+     */
+    double getTemperature();
+
+    /**
+     * @return Maximum number of completion tokens per request
+     */
+    int getMaxTokens();
+
+    /**
+     * Creates the provider selected by LLM_PROVIDER: "azure" (default) for Azure OpenAI, or
+     * "simulated" for a local model that answers with generated text after a simulated delay.
+     */
+    static ChatModelProvider fromEnvironment(Dotenv dotenv) {
+        String provider = dotenv.get("LLM_PROVIDER", "azure");
+        return switch (provider.toLowerCase()) {
+            case "azure" -> new AzureOpenAiService(dotenv);
+            case "simulated" -> new SimulatedChatModel(dotenv);
+            default -> throw new IllegalStateException("Unknown LLM_PROVIDER: " + provider + " (expected azure or simulated)");
+        };
+    }
+}
@@ -1,555 +1,1209 @@
-package com.repodocaiagent.agent.service;
-
-import com.repodocaiagent.agent.model.JavaClassDoc;
-import dev.langchain4j.model.chat.ChatLanguageModel;
-import dev.langchain4j.model.input.Prompt;
-import dev.langchain4j.model.input.PromptTemplate;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.HashMap;
-import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
-
-/**
- * Service responsible for generating documentation using the Azure OpenAI LLM.
- */
-public class DocumentationGeneratorService {
-    private static final Logger logger = LoggerFactory.getLogger(DocumentationGeneratorService.class);
-    
-    private final ChatLanguageModel chatModel;
-
-    public DocumentationGeneratorService(ChatLanguageModel chatModel) {
-        this.chatModel = chatModel;
-    }
-    
-    /**
-     * Loads a prompt template from the resources directory.
-     */
-    private String loadPromptTemplate(String templateName) {
-        try {
-            return Files.readString(Path.of("src/main/resources/prompts/" + templateName));
-        } catch (IOException e) {
-            logger.warn("Failed to load prompt template {}, using fallback", templateName);
-            return getFallbackPrompt(templateName);
-        }
-    }
-    
-    /**
-     * Provides fallback prompts if template files cannot be loaded.
-     */
-    private String getFallbackPrompt(String templateName) {
-        return switch (templateName) {
-            case "project-overview.md" -> "Generate a README.md for {{repositoryName}} with {{totalClasses}} classes.";
-            case "class-documentation.md" -> "Document the class {{className}} from package {{packageName}}.";
-            case "getting-started.md" -> "Create a getting started guide for {{repositoryName}}.";
-            case "faq-troubleshooting.md" -> "Create FAQ for {{repositoryName}}.";
-            default -> "Generate documentation for {{repositoryName}}.";
-        };
-    }
-    
-    /**
-     * Generates project overview documentation.
-     * 
-     * @param classes List of parsed Java classes
-     * @param repositoryName Name of the GitHub repository
-     * @param outputBasePath Base path to write generated documentation
-     * @return Path to the generated README.md file
-     * @throws IOException If an error occurs during file writing
-     */
-    public Path generateProjectOverview(List<JavaClassDoc> classes, String repositoryName, Path outputBasePath) throws IOException {
-        logger.info("Generating project overview documentation for {}", repositoryName);
-        
-        // Enhanced analysis for better prompts
-        String classSummary = classes.stream()
-            .map(c -> String.format("- %s (%s): %s", 
-                c.getFullyQualifiedName(), 
-                c.getType(),
-                c.getDescription() != null ? c.getDescription() : "No description available"))
-            .collect(Collectors.joining("\n"));
-        
-        // Package structure analysis
-        String packageStructure = classes.stream()
-            .collect(Collectors.groupingBy(JavaClassDoc::getPackageName))
-            .entrySet().stream()
-            .map(entry -> String.format("- %s (%d classes)", 
-                entry.getKey().isEmpty() ? "default package" : entry.getKey(), 
-                entry.getValue().size()))
-            .collect(Collectors.joining("\n"));
-        
-        // Identify main classes (those with main methods or public APIs)
-        String mainClasses = classes.stream()
-            .filter(c -> c.getMethods().stream()
-                .anyMatch(m -> "main".equals(m.getName()) && m.isStatic()))
-            .map(JavaClassDoc::getFullyQualifiedName)
-            .collect(Collectors.joining("\n"));
-        
-        if (mainClasses.isEmpty()) {
-            mainClasses = classes.stream()
-                .filter(JavaClassDoc::isPublic)
-                .limit(5)
-                .map(JavaClassDoc::getFullyQualifiedName)
-                .collect(Collectors.joining("\n"));
-        }
-        
-        // Count different types of classes
-        long interfaceCount = classes.stream().filter(c -> "INTERFACE".equals(c.getType())).count();
-        long classCount = classes.stream().filter(c -> "CLASS".equals(c.getType())).count();
-        long enumCount = classes.stream().filter(c -> "ENUM".equals(c.getType())).count();
-        
-        // Load prompt template from file
-        String projectOverviewTemplate = loadPromptTemplate("project-overview.md");
-        
-        PromptTemplate template = PromptTemplate.from(projectOverviewTemplate);
-        
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("repositoryName", repositoryName);
-        variables.put("totalClasses", classes.size());
-        variables.put("classCount", classCount);
-        variables.put("interfaceCount", interfaceCount);
-        variables.put("enumCount", enumCount);
-        variables.put("classSummary", classSummary);
-        variables.put("packageStructure", packageStructure);
-        variables.put("mainClasses", mainClasses.isEmpty() ? "No main classes identified" : mainClasses);
-        
-        Prompt prompt = template.apply(variables);
-        
-        // Generate content using the LLM
-        String readmeContent = chatModel.generate(prompt.text());
-        
-        // Ensure output directory exists
-        Files.createDirectories(outputBasePath);
-        
-        // Write the README.md file
-        Path readmePath = outputBasePath.resolve("README.md");
-        Files.writeString(readmePath, readmeContent);
-        
-        logger.info("Generated project overview at {}", readmePath);
-        return readmePath;
-    }
-    
-    /**
-     * Generates detailed API documentation for a Java class.
-     * 
-     * @param classDoc The Java class to document
-     * @param outputBasePath Base path to write generated documentation
-     * @return Path to the generated class documentation file
-     * @throws IOException If an error occurs during file writing
-     */
-    public Path generateClassDocumentation(JavaClassDoc classDoc, Path outputBasePath) throws IOException {
-        logger.info("Generating documentation for class: {}", classDoc.getFullyQualifiedName());
-        
-        // Detailed methods analysis
-        String methodsDetails = (classDoc.getMethods() != null) ? 
-            classDoc.getMethods().stream()
-                .map(m -> {
-                    String params = (m.getParameters() != null) ? 
-                        m.getParameters().stream()
-                            .map(p -> p.getType() + " " + p.getName())
-                            .collect(Collectors.joining(", ")) :
-                        "";
-                    String annotations = (m.getAnnotations() != null && !m.getAnnotations().isEmpty()) ? 
-                        " [Annotations: " + String.join(", ", m.getAnnotations().keySet()) + "]" : "";
-                    String visibility = m.isPublic() ? "public" : "private/protected";
-                    String modifiers = "";
-                    if (m.isStatic()) modifiers += "static ";
-                    if (m.isAbstract()) modifiers += "abstract ";
-                    
-                    return String.format("- %s %s%s %s(%s)%s%s", 
-                        visibility, 
-                        modifiers, 
-                        m.getReturnType() != null ? m.getReturnType() : "void", 
-                        m.getName(), 
-                        params,
-                        annotations,
-                        m.getDescription() != null ? ": " + m.getDescription() : "");
-                })
-                .collect(Collectors.joining("\n")) :
-            "No methods available";
-        
-        // Detailed fields analysis  
-        String fieldsDetails = (classDoc.getFields() != null) ?
-            classDoc.getFields().stream()
-                .map(f -> {
-                    String annotations = (f.getAnnotations() != null && !f.getAnnotations().isEmpty()) ? 
-                        " [Annotations: " + String.join(", ", f.getAnnotations().keySet()) + "]" : "";
-                    String visibility = f.isPublic() ? "public" : "private/protected";
-                    String modifiers = "";
-                    if (f.isStatic()) modifiers += "static ";
-                    if (f.isFinal()) modifiers += "final ";
-                    
-                    return String.format("- %s %s%s %s%s%s", 
-                        visibility, 
-                        modifiers, 
-                        f.getType() != null ? f.getType() : "unknown", 
-                        f.getName(),
-                        annotations,
-                        f.getDescription() != null ? ": " + f.getDescription() : "");
-                })
-                .collect(Collectors.joining("\n")) :
-            "No fields available";
-        
-        // Constructor analysis - look for methods with same name as class
-        String constructorsDetails = (classDoc.getMethods() != null) ?
-            classDoc.getMethods().stream()
-                .filter(m -> m.getName().equals(classDoc.getName()))
-                .map(m -> {
-                    String params = (m.getParameters() != null) ? 
-                        m.getParameters().stream()
-                            .map(p -> p.getType() + " " + p.getName())
-                            .collect(Collectors.joining(", ")) :
-                        "";
-                    String visibility = m.isPublic() ? "public" : "private/protected";
-                    return String.format("- %s %s(%s)%s", 
-                        visibility, 
-                        m.getName(), 
-                        params,
-                        m.getDescription() != null ? ": " + m.getDescription() : "");
-                })
-                .collect(Collectors.joining("\n")) :
-            "";
-        
-        // Annotations analysis
-        String classAnnotations = (classDoc.getAnnotations() != null && !classDoc.getAnnotations().isEmpty()) ? 
-            String.join(", ", classDoc.getAnnotations().keySet()) : "None";
-        
-        // Inheritance analysis
-        String inheritance = "";
-        if (classDoc.getSuperClass() != null && !classDoc.getSuperClass().equals("Object")) {
-            inheritance += "Extends: " + classDoc.getSuperClass();
-        }
-        if (classDoc.getImplementedInterfaces() != null && !classDoc.getImplementedInterfaces().isEmpty()) {
-            if (!inheritance.isEmpty()) inheritance += "\n";
-            inheritance += "Implements: " + String.join(", ", classDoc.getImplementedInterfaces());
-        }
-        if (inheritance.isEmpty()) {
-            inheritance = "No explicit inheritance";
-        }
-        
-        // Usage patterns analysis
-        String usagePatterns = "";
-        if (classDoc.getMethods() != null && classDoc.getMethods().stream().anyMatch(m -> "main".equals(m.getName()) && m.isStatic())) {
-            usagePatterns += "- Entry point class (contains main method)\n";
-        }
-        if (classDoc.getType().equals("INTERFACE")) {
-            usagePatterns += "- Interface definition\n";
-        }
-        if (classDoc.getAnnotations() != null && (classDoc.getAnnotations().containsKey("@Service") || classDoc.getAnnotations().containsKey("@Component"))) {
-            usagePatterns += "- Spring service/component\n";
-        }
-        if (classDoc.getAnnotations() != null && (classDoc.getAnnotations().containsKey("@RestController") || classDoc.getAnnotations().containsKey("@Controller"))) {
-            usagePatterns += "- Web controller\n";
-        }
-        if (classDoc.getAnnotations() != null && (classDoc.getAnnotations().containsKey("@Entity") || classDoc.getAnnotations().containsKey("@Table"))) {
-            usagePatterns += "- JPA entity/data model\n";
-        }
-        if (usagePatterns.isEmpty()) {
-            usagePatterns = "Standard Java class";
-        }
-        
-        // Load prompt template from file
-        String classDocTemplate = loadPromptTemplate("class-documentation.md");
-        
-        PromptTemplate template = PromptTemplate.from(classDocTemplate);
-        
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("className", classDoc.getName());
-        variables.put("fullyQualifiedName", classDoc.getFullyQualifiedName());
-        variables.put("packageName", classDoc.getPackageName());
-        variables.put("classType", classDoc.getType());
-        variables.put("isPublic", classDoc.isPublic());
-        variables.put("isAbstract", classDoc.isAbstract());
-        variables.put("implementedInterfaces", classDoc.getImplementedInterfaces() != null ? 
-            String.join(", ", classDoc.getImplementedInterfaces()) : "None");
-        variables.put("extendedClasses", classDoc.getSuperClass() != null ? classDoc.getSuperClass() : "None");
-        variables.put("sourceCode", classDoc.getSourceCode() != null ? classDoc.getSourceCode() : "Source code not available");
-        variables.put("classDescription", classDoc.getDescription() != null ? classDoc.getDescription() : "No description available");
-        variables.put("methodsCount", classDoc.getMethods() != null ? classDoc.getMethods().size() : 0);
-        variables.put("methodsDetails", methodsDetails.isEmpty() ? "No methods defined" : methodsDetails);
-        variables.put("fieldsCount", classDoc.getFields() != null ? classDoc.getFields().size() : 0);
-        variables.put("fieldsDetails", fieldsDetails.isEmpty() ? "No fields defined" : fieldsDetails);
-        variables.put("constructorsDetails", constructorsDetails.isEmpty() ? "Default constructor" : constructorsDetails);
-        variables.put("classAnnotations", classAnnotations);
-        variables.put("inheritance", inheritance);
-        variables.put("usagePatterns", usagePatterns);
-        
-        Prompt prompt = template.apply(variables);
-        
-        // Generate content using the LLM
-        String documentation = chatModel.generate(prompt.text());
-        
-        // Create directory structure for API documentation
-        Files.createDirectories(outputBasePath);
-        
-        // Create file name based on class name
-        String fileName = classDoc.getName() + ".md";
-        Path docPath = outputBasePath.resolve(fileName);
-        
-        Files.writeString(docPath, documentation);
-        
-        logger.info("Generated class documentation at {}", docPath);
-        return docPath;
-    }
-    
-    /**
-     * Generates a getting started guide for the project.
-     * 
-     * @param classes List of parsed Java classes
-     * @param repositoryName Name of the GitHub repository
-     * @param outputBasePath Base path to write generated documentation
-     * @return Path to the generated getting-started.md file
-     * @throws IOException If an error occurs during file writing
-     */
-    public Path generateGettingStartedGuide(List<JavaClassDoc> classes, String repositoryName, Path outputBasePath) throws IOException {
-        logger.info("Generating getting started guide for {}", repositoryName);
-        
-        // Find entry point classes (those with main methods)
-        String entryPointClasses = classes.stream()
-            .filter(c -> c.getMethods().stream()
-                .anyMatch(m -> "main".equals(m.getName()) && m.isStatic()))
-            .map(JavaClassDoc::getFullyQualifiedName)
-            .collect(Collectors.joining("\n"));
-        
-        if (entryPointClasses.isEmpty()) {
-            entryPointClasses = "No main methods found";
-        }
-        
-        // Find important public classes
-        String importantClasses = classes.stream()
-            .filter(JavaClassDoc::isPublic)
-            .filter(c -> !c.getType().equals("ENUM"))  // Skip enums for simplicity
-            .limit(10)
-            .map(c -> String.format("- %s (%s): %s", 
-                c.getName(),
-                c.getType().toLowerCase(),
-                c.getDescription() != null ? c.getDescription() : "No description available"))
-            .collect(Collectors.joining("\n"));
-        
-        // Analyze dependencies for setup instructions
-        String dependencies = classes.stream()
-            .filter(c -> c.getDependencies() != null)  // Add null check
-            .flatMap(c -> c.getDependencies().stream())
-            .distinct()
-            .filter(dep -> !dep.startsWith("java."))  // Filter out standard Java classes
-            .limit(15)
-            .collect(Collectors.joining("\n"));
-        
-        // Package structure for understanding project layout
-        String packageStructure = classes.stream()
-            .collect(Collectors.groupingBy(JavaClassDoc::getPackageName))
-            .entrySet().stream()
-            .map(entry -> String.format("- %s (%d classes)", 
-                entry.getKey().isEmpty() ? "default package" : entry.getKey(), 
-                entry.getValue().size()))
-            .collect(Collectors.joining("\n"));
-        
-        // Count different types of classes for project characterization
-        long classCount = classes.stream().filter(c -> "CLASS".equals(c.getType())).count();
-        long interfaceCount = classes.stream().filter(c -> "INTERFACE".equals(c.getType())).count();
-        long enumCount = classes.stream().filter(c -> "ENUM".equals(c.getType())).count();
-        
-        // Load prompt template from file
-        String gettingStartedTemplate = loadPromptTemplate("getting-started.md");
-        
-        PromptTemplate template = PromptTemplate.from(gettingStartedTemplate);
-        
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("repositoryName", repositoryName);
-        variables.put("totalClasses", classes.size());
-        variables.put("classCount", classCount);
-        variables.put("interfaceCount", interfaceCount);
-        variables.put("enumCount", enumCount);
-        variables.put("mainClasses", entryPointClasses);
-        variables.put("publicClasses", importantClasses.isEmpty() ? "No public classes identified" : importantClasses);
-        variables.put("dependencies", dependencies.isEmpty() ? "No external dependencies identified" : dependencies);
-        variables.put("packageStructure", packageStructure);
-        variables.put("classAnalysis", importantClasses.isEmpty() ? "No detailed class analysis available" : importantClasses);
-        variables.put("entryPointAnalysis", entryPointClasses.equals("No main methods found") ? 
-            "No main methods found. This appears to be a library project." : 
-            "Entry points identified:\n" + entryPointClasses);
-        
-        Prompt prompt = template.apply(variables);
-        
-        // Generate content using the LLM
-        String gettingStartedContent = chatModel.generate(prompt.text());
-        
-        // Write the getting-started.md file
-        Path gettingStartedPath = outputBasePath.resolve("getting-started.md");
-        Files.writeString(gettingStartedPath, gettingStartedContent);
-        
-        logger.info("Generated getting started guide at {}", gettingStartedPath);
-        return gettingStartedPath;
-    }
-    
-    /**
-     * Generates an FAQ and troubleshooting guide.
-     * 
-     * @param classes List of parsed Java classes
-     * @param repositoryName Name of the GitHub repository
-     * @param outputBasePath Base path to write generated documentation
-     * @return Path to the generated faq.md file
-     * @throws IOException If an error occurs during file writing
-     */
-    public Path generateFaqAndTroubleshooting(List<JavaClassDoc> classes, String repositoryName, Path outputBasePath) throws IOException {
-        logger.info("Generating FAQ and troubleshooting guide for {}", repositoryName);
-        
-        // Collect exception information from methods to identify potential issues
-        String exceptionTypes = classes.stream()
-            .flatMap(c -> c.getMethods().stream())
-            .flatMap(m -> m.getExceptions() != null ? m.getExceptions().stream() : List.<String>of().stream())
-            .distinct()
-            .collect(Collectors.joining("\n"));
-        
-        // Find methods that throw exceptions with their context
-        String exceptionMethods = classes.stream()
-            .flatMap(c -> c.getMethods().stream())
-            .filter(m -> m.getExceptions() != null && !m.getExceptions().isEmpty())
-            .map(m -> String.format("- %s.%s() throws: %s", 
-                m.getName().contains(".") ? m.getName().substring(0, m.getName().lastIndexOf('.')) : "Unknown",
-                m.getName(),
-                String.join(", ", m.getExceptions())))
-            .collect(Collectors.joining("\n"));
-        
-        // Analyze common patterns that might cause issues
-        String commonPatterns = "";
-        
-        // Check for file operations
-        long fileOperationMethods = classes.stream()
-            .flatMap(c -> c.getMethods().stream())
-            .filter(m -> m.getReturnType().contains("Path") || 
-                        m.getReturnType().contains("File") ||
-                        (m.getParameters() != null && m.getParameters().stream().anyMatch(p -> p.getType().contains("Path") || p.getType().contains("File"))))
-            .count();
-        
-        if (fileOperationMethods > 0) {
-            commonPatterns += "- File I/O operations (" + fileOperationMethods + " methods)\n";
-        }
-        
-        // Check for network operations  
-        long networkMethods = classes.stream()
-            .flatMap(c -> c.getMethods().stream())
-            .filter(m -> m.getReturnType().contains("Http") || 
-                        m.getReturnType().contains("URL") ||
-                        m.getName().toLowerCase().contains("connect"))
-            .count();
-        
-        if (networkMethods > 0) {
-            commonPatterns += "- Network operations (" + networkMethods + " methods)\n";
-        }
-        
-        // Check for configuration/properties
-        long configMethods = classes.stream()
-            .flatMap(c -> c.getMethods().stream())
-            .filter(m -> m.getReturnType().contains("Properties") || 
-                        m.getName().toLowerCase().contains("config"))
-            .count();
-        
-        if (configMethods > 0) {
-            commonPatterns += "- Configuration operations (" + configMethods + " methods)\n";
-        }
-        
-        if (commonPatterns.isEmpty()) {
-            commonPatterns = "Standard Java operations";
-        }
-        
-        // Analyze dependencies for setup instructions  
-        String dependencies = classes.stream()
-            .filter(c -> c.getDependencies() != null)
-            .flatMap(c -> c.getDependencies().stream())
-            .distinct()
-            .filter(dep -> !dep.startsWith("java."))
-            .limit(10)
-            .collect(Collectors.joining("\n"));
-        
-        // Analyze technology stack based on class patterns
-        String technologyStack = "";
-        if (classes.stream().anyMatch(c -> c.getAnnotations() != null && 
-            (c.getAnnotations().containsKey("@RestController") || c.getAnnotations().containsKey("@Controller")))) {
-            technologyStack += "Spring Boot Web, ";
-        }
-        if (classes.stream().anyMatch(c -> c.getAnnotations() != null && c.getAnnotations().containsKey("@Entity"))) {
-            technologyStack += "JPA/Hibernate, ";
-        }
-        if (classes.stream().anyMatch(c -> c.getName().contains("Test"))) {
-            technologyStack += "JUnit Testing, ";
-        }
-        if (technologyStack.isEmpty()) {
-            technologyStack = "Core Java";
-        } else {
-            technologyStack = technologyStack.replaceAll(", $", ""); // Remove trailing comma
-        }
-        
-        // Identify complex classes (those with many methods or complex inheritance)
-        String complexClasses = classes.stream()
-            .filter(c -> (c.getMethods() != null && c.getMethods().size() > 10) || 
-                        (c.getImplementedInterfaces() != null && !c.getImplementedInterfaces().isEmpty()))
-            .limit(5)
-            .map(c -> String.format("- %s (%d methods)", c.getName(), 
-                c.getMethods() != null ? c.getMethods().size() : 0))
-            .collect(Collectors.joining("\n"));
-        
-        if (complexClasses.isEmpty()) {
-            complexClasses = "No particularly complex classes identified";
-        }
-        
-        // Potential issues based on patterns
-        String potentialIssues = "";
-        if (fileOperationMethods > 0) {
-            potentialIssues += "- File I/O operations may cause permission or path issues\n";
-        }
-        if (networkMethods > 0) {
-            potentialIssues += "- Network connectivity and timeout issues\n";
-        }
-        if (configMethods > 0) {
-            potentialIssues += "- Configuration and properties setup issues\n";
-        }
-        if (potentialIssues.isEmpty()) {
-            potentialIssues = "Standard Java runtime issues";
-        }
-        
-        // Usage patterns for FAQ
-        String usagePatterns = classes.stream()
-            .filter(c -> c.isPublic() && c.getMethods() != null)
-            .filter(c -> c.getMethods().stream().anyMatch(m -> m.isPublic()))
-            .limit(3)
-            .map(c -> String.format("- %s: Primary public API class", c.getName()))
-            .collect(Collectors.joining("\n"));
-        
-        if (usagePatterns.isEmpty()) {
-            usagePatterns = "Standard library usage patterns";
-        }
-        
-        // Load prompt template from file
-        String faqTemplate = loadPromptTemplate("faq-troubleshooting.md");
-        
-        PromptTemplate template = PromptTemplate.from(faqTemplate);
-        
-        Map<String, Object> variables = new HashMap<>();
-        variables.put("repositoryName", repositoryName);
-        variables.put("totalClasses", classes.size());
-        variables.put("technologyStack", technologyStack);
-        variables.put("commonPatterns", commonPatterns);
-        variables.put("complexClasses", complexClasses);
-        variables.put("dependencies", dependencies.isEmpty() ? "No external dependencies identified" : dependencies);
-        variables.put("potentialIssues", potentialIssues);
-        variables.put("usagePatterns", usagePatterns);
-        variables.put("exceptionTypes", exceptionTypes.isEmpty() ? "No exceptions declared" : exceptionTypes);
-        variables.put("exceptionMethods", exceptionMethods.isEmpty() ? "No methods with declared exceptions" : exceptionMethods);
-        
-        Prompt prompt = template.apply(variables);
-        
-        // Generate content using the LLM
-        String faqContent = chatModel.generate(prompt.text());
-        
-        // Write the faq.md file
-        Path faqPath = outputBasePath.resolve("faq.md");
-        Files.writeString(faqPath, faqContent);
-        
-        logger.info("Generated FAQ and troubleshooting guide at {}", faqPath);
-        return faqPath;
-    }
-}
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.FieldDoc;
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import com.repodocaiagent.agent.model.MethodDoc;
+import com.repodocaiagent.agent.model.ParameterDoc;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Service responsible for generating documentation using the Azure OpenAI LLM.
+ */
+public class DocumentationGeneratorService {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentationGeneratorService.class);
+    private static final Pattern BATCH_SECTION_START = Pattern.compile("^<<<CLASS\\s+(\\S+)\\s*>>>[ \\t]*$", Pattern.MULTILINE);
+    private static final String BATCH_SECTION_END = "<<<END CLASS>>>";
+    
+    private final ChatLanguageModel chatModel;
+    private final PromptBudget promptBudget;
+    private final int maxConcurrency;
+    // taken by every LLM request of this generator, so together they stay within maxConcurrency
+    private final Semaphore requestPermits;
+    private final StreamingDocumentWriter streamingWriter;
+    private final PromptTemplates templates;
+    private final RunMetrics metrics;
+
+    public DocumentationGeneratorService(ChatLanguageModel chatModel) {
+        this(chatModel, null, 1);
+    }
+
+    public DocumentationGeneratorService(ChatLanguageModel chatModel, PromptBudget promptBudget, int maxConcurrency) {
+        this(chatModel, promptBudget, maxConcurrency, null, new PromptTemplates(null));
+    }
+
+    public DocumentationGeneratorService(ChatLanguageModel chatModel, PromptBudget promptBudget, int maxConcurrency,
+                                         StreamingDocumentWriter streamingWriter, PromptTemplates templates) {
+        this(chatModel, promptBudget, maxConcurrency, streamingWriter, templates, new RunMetrics());
+    }
+
+    /**
+     * @param chatModel Model used to generate documentation
+     * @param promptBudget Token budget for prompts; classes over budget are documented in chunks and
+     *                     repository-level inputs over budget are summarized. When null, prompts are sent whole.
+     * @param maxConcurrency Maximum number of LLM requests this generator has in flight at the same time,
+     *                       for every document it generates
+     * @param streamingWriter Writer that streams whole documents straight into their files, or null to
+     *                        generate each document in memory before writing it
+     * @param templates Prompt templates used to render every request
+     * @param metrics Run metrics that prompt rendering, writes and per-class LLM usage are recorded in
+     */
+    public DocumentationGeneratorService(ChatLanguageModel chatModel, PromptBudget promptBudget, int maxConcurrency,
+                                         StreamingDocumentWriter streamingWriter, PromptTemplates templates,
+                                         RunMetrics metrics) {
+        this.chatModel = chatModel;
+        this.promptBudget = promptBudget;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.requestPermits = new Semaphore(this.maxConcurrency);
+        this.streamingWriter = streamingWriter;
+        this.templates = templates;
+        this.metrics = metrics;
+    }
+    
+    /**
+     * Generates project overview documentation.
+     * 
+     * @param classes List of parsed Java classes
+     * @param repositoryName Name of the GitHub repository
+     * @param outputBasePath Base path to write generated documentation
+     * @return Path to the generated README.md file
+     * @throws IOException If an error occurs during file writing
+     */
+    public Path generateProjectOverview(List<JavaClassDoc> classes, String repositoryName, Path outputBasePath) throws IOException {
+        return generateProjectOverview(RepositoryIndex.build(classes), repositoryName, outputBasePath);
+    }
+    
+    /**
+     * Generates project overview documentation.
+     * 
+     * @param index Index of the parsed Java classes
+     * @param repositoryName Name of the GitHub repository
+     * @param outputBasePath Base path to write generated documentation
+     * @return Path to the generated README.md file
+     * @throws IOException If an error occurs during file writing
+     */
+    public Path generateProjectOverview(RepositoryIndex index, String repositoryName, Path outputBasePath) throws IOException {
+        logger.info("Generating project overview documentation for {}", repositoryName);
+        
+        // Enhanced analysis for better prompts
+        StringBuilder classSummary = new StringBuilder();
+        for (JavaClassDoc c : index.getClasses()) {
+            if (!classSummary.isEmpty()) {
+                classSummary.append('\n');
+            }
+            classSummary.append("- ").append(c.getFullyQualifiedName())
+                .append(" (").append(c.getType()).append("): ")
+                .append(c.getDescription() != null ? c.getDescription() : "No description available");
+        }
+        
+        // Identify main classes (those with main methods or public APIs)
+        List<String> mainClasses = !index.getEntryPoints().isEmpty()
+            ? index.getEntryPoints()
+            : index.getPublicClasses().stream().limit(5).map(JavaClassDoc::getFullyQualifiedName).toList();
+        
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("repositoryName", repositoryName);
+        variables.put("totalClasses", index.getTotalClasses());
+        variables.put("classCount", index.getClassCount());
+        variables.put("interfaceCount", index.getInterfaceCount());
+        variables.put("enumCount", index.getEnumCount());
+        variables.put("classSummary", summarizeClasses(index, repositoryName, classSummary.toString()));
+        variables.put("packageStructure", summarizeList(repositoryName, "package list", packageStructure(index), 8));
+        variables.put("mainClasses", mainClasses.isEmpty() ? "No main classes identified" : String.join("\n", mainClasses));
+        
+        String prompt = render(templates.get("project-overview.md"), variables::get);
+        
+        // Ensure output directory exists
+        Files.createDirectories(outputBasePath);
+        
+        // Generate the README.md file using the LLM
+        Path readmePath = outputBasePath.resolve("README.md");
+        writeDocument(prompt, readmePath);
+        
+        logger.info("Generated project overview at {}", readmePath);
+        return readmePath;
+    }
+    
+    /**
+     * Lists every package with its number of classes, one line per package.
+     */
+    private static List<String> packageStructure(RepositoryIndex index) {
+        List<String> structure = new ArrayList<>(index.getPackages().size());
+        for (Map.Entry<String, List<JavaClassDoc>> entry : index.getPackages().entrySet()) {
+            structure.add("- " + (entry.getKey().isEmpty() ? "default package" : entry.getKey())
+                + " (" + entry.getValue().size() + " classes)");
+        }
+        return structure;
+    }
+    
+    /**
+     * Produces the class summary for the project overview prompt within the prompt budget.
+     * Small repositories get the plain class list. For larger ones every package is summarized in
+     * parallel (map), and the package summaries are merged in groups, level by level, until the
+     * combined text fits (reduce), so each request stays within the budget at any repository size.
+     */
+    private String summarizeClasses(RepositoryIndex index, String repositoryName, String classList) throws IOException {
+        if (promptBudget == null) {
+            return classList;
+        }
+        int target = promptBudget.getMaxPromptTokens() / 2;
+        int listTokens = promptBudget.countTokens(classList);
+        if (listTokens <= target) {
+            return classList;
+        }
+        
+        // map: one summary per package, splitting packages whose class list alone exceeds the budget
+        PromptTemplates.Compiled packageTemplate = templates.get("package-summary.md");
+        Map<String, List<JavaClassDoc>> packages = index.getPackages();
+        List<String> prompts = new ArrayList<>();
+        for (Map.Entry<String, List<JavaClassDoc>> entry : packages.entrySet()) {
+            List<String> lines = entry.getValue().stream()
+                .map(c -> String.format("- %s (%s): %s%s",
+                    c.getName(),
+                    c.getType(),
+                    c.getDescription() != null ? c.getDescription().strip() : "No description available",
+                    c.getMethods() == null || c.getMethods().isEmpty() ? "" : " Methods: " + c.getMethods().stream()
+                        .filter(MethodDoc::isPublic)
+                        .map(MethodDoc::getName)
+                        .distinct()
+                        .limit(15)
+                        .collect(Collectors.joining(", "))))
+                .collect(Collectors.toList());
+            List<String> parts = packToBudget(lines, "\n", target);
+            String packageName = entry.getKey().isEmpty() ? "default package" : entry.getKey();
+            for (int i = 0; i < parts.size(); i++) {
+                Map<String, Object> variables = new HashMap<>();
+                variables.put("repositoryName", repositoryName);
+                variables.put("packageName", parts.size() == 1 ? packageName : packageName + " (part " + (i + 1) + " of " + parts.size() + ")");
+                variables.put("classCount", parts.get(i).lines().count());
+                variables.put("classList", parts.get(i));
+                prompts.add(render(packageTemplate, variables::get));
+            }
+        }
+        logger.info("Class list of {} tokens exceeds the budget, summarizing {} packages in {} requests",
+            listTokens, packages.size(), prompts.size());
+        return reduceSummaries(repositoryName, "packages", generateConcurrently(prompts, "summaries"), target);
+    }
+    
+    /**
+     * Produces a repository-level list, such as the package list or the exception inventory, within a
+     * share of the prompt budget. A list that does not fit is split into parts that are summarized in
+     * parallel, and the part summaries are reduced the same way as the package summaries.
+     *
+     * @param listName What the list contains, for the prompts and the log
+     * @param budgetShare Denominator of the share of the prompt budget the list may take
+     */
+    private String summarizeList(String repositoryName, String listName, List<String> items, int budgetShare) throws IOException {
+        String list = String.join("\n", items);
+        if (promptBudget == null) {
+            return list;
+        }
+        int target = promptBudget.getMaxPromptTokens() / budgetShare;
+        int listTokens = promptBudget.countTokens(list);
+        if (listTokens <= target) {
+            return list;
+        }
+        
+        PromptTemplates.Compiled template = templates.get("list-summary.md");
+        List<String> parts = packToBudget(items, "\n", promptBudget.getMaxPromptTokens() / 2);
+        List<String> prompts = new ArrayList<>(parts.size());
+        for (int i = 0; i < parts.size(); i++) {
+            Map<String, Object> variables = new HashMap<>();
+            variables.put("repositoryName", repositoryName);
+            variables.put("listName", listName);
+            variables.put("part", (i + 1) + " of " + parts.size());
+            variables.put("items", parts.get(i));
+            prompts.add(render(template, variables::get));
+        }
+        logger.info("List of {} ({} tokens) exceeds its share of the budget, summarizing it in {} requests",
+            listName, listTokens, prompts.size());
+        return reduceSummaries(repositoryName, listName, generateConcurrently(prompts, listName + " summaries"), target);
+    }
+    
+    /**
+     * Merges groups of summaries, level by level, until their combined text fits the target.
+     * Each merge request gets up to half the prompt budget of summaries.
+     *
+     * @param subject What the summaries describe, for the prompts
+     */
+    private String reduceSummaries(String repositoryName, String subject, List<String> summaries, int target) throws IOException {
+        PromptTemplates.Compiled reduceTemplate = templates.get("summary-reduce.md");
+        int level = 1;
+        while (promptBudget.countTokens(String.join("\n\n", summaries)) > target) {
+            List<String> groups = packToBudget(summaries, "\n\n", promptBudget.getMaxPromptTokens() / 2);
+            if (groups.size() >= summaries.size()) {
+                // every summary alone is close to the budget, merging cannot make progress
+                return promptBudget.truncate(String.join("\n\n", summaries), target);
+            }
+            logger.info("Reducing {} summaries into {} (level {})", summaries.size(), groups.size(), level++);
+            List<String> prompts = new ArrayList<>(groups.size());
+            for (String group : groups) {
+                prompts.add(render(reduceTemplate, Map.of(
+                    "repositoryName", repositoryName,
+                    "subject", subject,
+                    "summaries", group)::get));
+            }
+            summaries = generateConcurrently(prompts, "summaries");
+        }
+        return String.join("\n\n", summaries);
+    }
+    
+    /**
+     * Packs items, in order, into groups whose text, joined with the separator, stays within the token limit.
+     * An item that is larger than the limit on its own is truncated.
+     */
+    private List<String> packToBudget(List<String> items, String separator, int maxTokens) {
+        List<String> groups = new ArrayList<>();
+        StringBuilder group = new StringBuilder();
+        int groupTokens = 0;
+        for (String item : items) {
+            int tokens = promptBudget.countTokens(item);
+            if (tokens > maxTokens) {
+                item = promptBudget.truncate(item, maxTokens);
+                tokens = maxTokens;
+            }
+            if (group.length() > 0 && groupTokens + tokens > maxTokens) {
+                groups.add(group.toString());
+                group.setLength(0);
+                groupTokens = 0;
+            }
+            if (group.length() > 0) {
+                group.append(separator);
+            }
+            group.append(item);
+            groupTokens += tokens;
+        }
+        if (group.length() > 0) {
+            groups.add(group.toString());
+        }
+        return groups;
+    }
+    
+    /**
+     * Sends prompts concurrently on virtual threads; like every request, each waits for one of the
+     * generator's {@code maxConcurrency} request slots.
+     *
+     * @param what What the prompts generate, for error messages
+     * @return Responses in the order of the prompts
+     */
+    private List<String> generateConcurrently(List<String> prompts, String what) throws IOException {
+        List<Future<String>> futures = new ArrayList<>(prompts.size());
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (String prompt : prompts) {
+                futures.add(executor.submit(() -> generate(prompt)));
+            }
+            List<String> responses = new ArrayList<>(prompts.size());
+            for (Future<String> future : futures) {
+                responses.add(future.get());
+            }
+            return responses;
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to generate " + what, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while generating " + what, e);
+        }
+    }
+    
+    /**
+     * Sends one prompt once a request slot is free.
+     */
+    private String generate(String prompt) throws IOException {
+        acquireRequestSlot();
+        try {
+            return chatModel.generate(prompt);
+        } finally {
+            requestPermits.release();
+        }
+    }
+    
+    private void acquireRequestSlot() throws IOException {
+        try {
+            requestPermits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while waiting for a free request slot", e);
+        }
+    }
+    
+    /**
+     * Generates detailed API documentation for a Java class.
+     * 
+     * @param classDoc The Java class to document
+     * @param outputBasePath Base path to write generated documentation
+     * @return Path to the generated class documentation file
+     * @throws IOException If an error occurs during file writing
+     */
+    public Path generateClassDocumentation(JavaClassDoc classDoc, Path outputBasePath) throws IOException {
+        try (RunMetrics.Scope ignored = metrics.attribute(classDoc.getFullyQualifiedName())) {
+            return documentClass(classDoc, outputBasePath);
+        }
+    }
+    
+    private Path documentClass(JavaClassDoc classDoc, Path outputBasePath) throws IOException {
+        logger.info("Generating documentation for class: {}", classDoc.getFullyQualifiedName());
+        
+        String sourceCode = classDoc.getSourceCode();
+        String prompt = buildClassPrompt(classDoc, "class-documentation.md",
+            sourceCode != null ? sourceCode : "Source code not available");
+        
+        // Create directory structure for API documentation
+        Files.createDirectories(outputBasePath);
+        
+        // Create file name based on class name
+        String fileName = classDoc.getName() + ".md";
+        Path docPath = outputBasePath.resolve(fileName);
+        
+        // Generate content using the LLM, splitting classes that do not fit the prompt budget
+        if (promptBudget == null || promptBudget.fits(prompt)) {
+            writeDocument(prompt, docPath);
+        } else {
+            write(docPath, generateChunkedClassDocumentation(classDoc));
+        }
+        
+        logger.info("Generated class documentation at {}", docPath);
+        return docPath;
+    }
+    
+    /**
+     * Documents a class that is too large for one prompt. An overview is generated from the class
+     * outline, the methods are split into groups that fit the budget and documented in parallel,
+     * at most {@code maxConcurrency} requests at a time, and the results are merged into one document.
+     */
+    private String generateChunkedClassDocumentation(JavaClassDoc classDoc) throws IOException {
+        int maxTokens = promptBudget.getMaxPromptTokens();
+        String skeleton = promptBudget.truncate(buildClassSkeleton(classDoc), maxTokens / 4);
+        String overviewPrompt = buildClassPrompt(classDoc, "class-documentation-overview.md", skeleton);
+        
+        // Group methods greedily so each chunk's source fits what is left of the budget
+        PromptTemplates.Compiled chunkTemplate = templates.get("class-documentation-chunk.md");
+        int sourceBudget = Math.max(maxTokens / 4,
+            maxTokens - promptBudget.countTokens(chunkTemplate.text()) - promptBudget.countTokens(skeleton));
+        List<String> chunks = new ArrayList<>();
+        StringBuilder chunk = new StringBuilder();
+        int chunkTokens = 0;
+        int chunkMethods = 0;
+        List<MethodDoc> methods = classDoc.getMethods() != null ? classDoc.getMethods() : List.of();
+        for (MethodDoc method : methods) {
+            String source = method.getSourceCode();
+            if (source == null) {
+                source = method.getSignature() + ";";
+            }
+            int tokens = promptBudget.countTokens(source);
+            if (tokens > sourceBudget) {
+                source = promptBudget.truncate(source, sourceBudget);
+                tokens = sourceBudget;
+            }
+            if (chunkMethods > 0 && (chunkTokens + tokens > sourceBudget || chunkMethods >= promptBudget.getMaxMethodsPerChunk())) {
+                chunks.add(chunk.toString());
+                chunk.setLength(0);
+                chunkTokens = 0;
+                chunkMethods = 0;
+            }
+            chunk.append(source).append("\n\n");
+            chunkTokens += tokens;
+            chunkMethods++;
+        }
+        if (chunkMethods > 0) {
+            chunks.add(chunk.toString());
+        }
+        logger.info("Class {} exceeds the prompt budget of {} tokens, documenting it in {} method chunks",
+            classDoc.getFullyQualifiedName(), maxTokens, chunks.size());
+        
+        // the overview first, then the chunks in order
+        List<String> prompts = new ArrayList<>(chunks.size() + 1);
+        prompts.add(overviewPrompt);
+        for (int i = 0; i < chunks.size(); i++) {
+            int chunkNumber = i + 1;
+            String methodsSource = chunks.get(i);
+            prompts.add(render(chunkTemplate, name -> switch (name) {
+                case "className" -> classDoc.getName();
+                case "fullyQualifiedName" -> classDoc.getFullyQualifiedName();
+                case "classType" -> classDoc.getType();
+                case "chunkNumber" -> chunkNumber;
+                case "chunkCount" -> chunks.size();
+                case "classSkeleton" -> skeleton;
+                case "methodsSource" -> methodsSource;
+                default -> null;
+            }));
+        }
+        List<String> responses = generateConcurrently(prompts, "chunked documentation of " + classDoc.getFullyQualifiedName());
+        
+        StringBuilder documentation = new StringBuilder(responses.get(0).strip());
+        if (responses.size() > 1) {
+            documentation.append("\n\n## Methods\n");
+        }
+        for (String part : responses.subList(1, responses.size())) {
+            documentation.append("\n").append(part.strip()).append("\n");
+        }
+        return documentation.toString();
+    }
+    
+    /**
+     * Builds a compact outline of a class: its declaration, fields and method signatures without bodies.
+     */
+    private String buildClassSkeleton(JavaClassDoc classDoc) {
+        StringBuilder skeleton = new StringBuilder();
+        skeleton.append(classDoc.getType().equals("INTERFACE") ? "interface " : "class ").append(classDoc.getName());
+        if (classDoc.getSuperClass() != null) {
+            skeleton.append(" extends ").append(classDoc.getSuperClass());
+        }
+        if (classDoc.getImplementedInterfaces() != null && !classDoc.getImplementedInterfaces().isEmpty()) {
+            skeleton.append(" implements ").append(String.join(", ", classDoc.getImplementedInterfaces()));
+        }
+        skeleton.append(" {\n");
+        if (classDoc.getFields() != null) {
+            for (FieldDoc field : classDoc.getFields()) {
+                skeleton.append("    ")
+                    .append(field.isPublic() ? "public " : "")
+                    .append(field.isStatic() ? "static " : "")
+                    .append(field.isFinal() ? "final " : "")
+                    .append(field.getType()).append(' ').append(field.getName()).append(";\n");
+            }
+        }
+        if (classDoc.getMethods() != null) {
+            for (MethodDoc method : classDoc.getMethods()) {
+                skeleton.append("    ").append(method.getSignature()).append(";\n");
+            }
+        }
+        return skeleton.append("}").toString();
+    }
+    
+    /**
+     * Renders a class documentation prompt.
+     *
+     * @param classDoc The Java class to document
+     * @param templateName Prompt template to render
+     * @param sourceCode Source code, or class outline, to embed in the prompt
+     */
+    private String buildClassPrompt(JavaClassDoc classDoc, String templateName, String sourceCode) {
+        // values are computed only for the variables the template actually contains
+        return render(templates.get(templateName), name -> switch (name) {
+            case "className" -> classDoc.getName();
+            case "fullyQualifiedName" -> classDoc.getFullyQualifiedName();
+            case "packageName" -> classDoc.getPackageName();
+            case "classType" -> classDoc.getType();
+            case "isPublic" -> classDoc.isPublic();
+            case "isAbstract" -> classDoc.isAbstract();
+            case "implementedInterfaces" -> classDoc.getImplementedInterfaces() != null ?
+                String.join(", ", classDoc.getImplementedInterfaces()) : "None";
+            case "extendedClasses" -> classDoc.getSuperClass() != null ? classDoc.getSuperClass() : "None";
+            case "sourceCode" -> sourceCode;
+            case "classDescription" -> classDoc.getDescription() != null ? classDoc.getDescription() : "No description available";
+            case "methodsCount" -> classDoc.getMethods() != null ? classDoc.getMethods().size() : 0;
+            case "methodsDetails" -> methodsDetails(classDoc);
+            case "fieldsCount" -> classDoc.getFields() != null ? classDoc.getFields().size() : 0;
+            case "fieldsDetails" -> fieldsDetails(classDoc);
+            case "constructorsDetails" -> constructorsDetails(classDoc);
+            case "classAnnotations" -> (classDoc.getAnnotations() != null && !classDoc.getAnnotations().isEmpty()) ?
+                String.join(", ", classDoc.getAnnotations().keySet()) : "None";
+            case "inheritance" -> inheritance(classDoc);
+            case "usagePatterns" -> usagePatterns(classDoc);
+            default -> null;
+        });
+    }
+    
+    /**
+     * Detailed methods analysis, one line per method.
+     */
+    private static String methodsDetails(JavaClassDoc classDoc) {
+        if (classDoc.getMethods() == null) {
+            return "No methods available";
+        }
+        if (classDoc.getMethods().isEmpty()) {
+            return "No methods defined";
+        }
+        StringBuilder details = new StringBuilder(classDoc.getMethods().size() * 64);
+        for (MethodDoc m : classDoc.getMethods()) {
+            if (!details.isEmpty()) {
+                details.append('\n');
+            }
+            details.append("- ").append(m.isPublic() ? "public" : "private/protected").append(' ');
+            if (m.isStatic()) details.append("static ");
+            if (m.isAbstract()) details.append("abstract ");
+            details.append(m.getReturnType() != null ? m.getReturnType() : "void").append(' ').append(m.getName()).append('(');
+            appendParameters(details, m);
+            details.append(')');
+            if (m.getAnnotations() != null && !m.getAnnotations().isEmpty()) {
+                details.append(" [Annotations: ").append(String.join(", ", m.getAnnotations().keySet())).append(']');
+            }
+            if (m.getDescription() != null) {
+                details.append(": ").append(m.getDescription());
+            }
+        }
+        return details.toString();
+    }
+    
+    /**
+     * Detailed fields analysis, one line per field.
+     */
+    private static String fieldsDetails(JavaClassDoc classDoc) {
+        if (classDoc.getFields() == null) {
+            return "No fields available";
+        }
+        if (classDoc.getFields().isEmpty()) {
+            return "No fields defined";
+        }
+        StringBuilder details = new StringBuilder(classDoc.getFields().size() * 48);
+        for (FieldDoc f : classDoc.getFields()) {
+            if (!details.isEmpty()) {
+                details.append('\n');
+            }
+            details.append("- ").append(f.isPublic() ? "public" : "private/protected").append(' ');
+            if (f.isStatic()) details.append("static ");
+            if (f.isFinal()) details.append("final ");
+            details.append(f.getType() != null ? f.getType() : "unknown").append(' ').append(f.getName());
+            if (f.getAnnotations() != null && !f.getAnnotations().isEmpty()) {
+                details.append(" [Annotations: ").append(String.join(", ", f.getAnnotations().keySet())).append(']');
+            }
+            if (f.getDescription() != null) {
+                details.append(": ").append(f.getDescription());
+            }
+        }
+        return details.toString();
+    }
+    
+    /**
+     * Constructor analysis - looks for methods with the same name as the class.
+     */
+    private static String constructorsDetails(JavaClassDoc classDoc) {
+        StringBuilder details = new StringBuilder();
+        if (classDoc.getMethods() != null) {
+            for (MethodDoc m : classDoc.getMethods()) {
+                if (!m.getName().equals(classDoc.getName())) {
+                    continue;
+                }
+                if (!details.isEmpty()) {
+                    details.append('\n');
+                }
+                details.append("- ").append(m.isPublic() ? "public" : "private/protected").append(' ').append(m.getName()).append('(');
+                appendParameters(details, m);
+                details.append(')');
+                if (m.getDescription() != null) {
+                    details.append(": ").append(m.getDescription());
+                }
+            }
+        }
+        return details.isEmpty() ? "Default constructor" : details.toString();
+    }
+    
+    private static void appendParameters(StringBuilder out, MethodDoc method) {
+        if (method.getParameters() == null) {
+            return;
+        }
+        for (int i = 0; i < method.getParameters().size(); i++) {
+            if (i > 0) {
+                out.append(", ");
+            }
+            ParameterDoc p = method.getParameters().get(i);
+            out.append(p.getType()).append(' ').append(p.getName());
+        }
+    }
+    
+    /**
+     * Inheritance analysis.
+     */
+    private static String inheritance(JavaClassDoc classDoc) {
+        String inheritance = "";
+        if (classDoc.getSuperClass() != null && !classDoc.getSuperClass().equals("Object")) {
+            inheritance += "Extends: " + classDoc.getSuperClass();
+        }
+        if (classDoc.getImplementedInterfaces() != null && !classDoc.getImplementedInterfaces().isEmpty()) {
+            if (!inheritance.isEmpty()) inheritance += "\n";
+            inheritance += "Implements: " + String.join(", ", classDoc.getImplementedInterfaces());
+        }
+        return inheritance.isEmpty() ? "No explicit inheritance" : inheritance;
+    }
+    
+    /**
+     * Usage patterns analysis.
+     */
+    private static String usagePatterns(JavaClassDoc classDoc) {
+        String usagePatterns = "";
+        if (classDoc.getMethods() != null && classDoc.getMethods().stream().anyMatch(m -> "main".equals(m.getName()) && m.isStatic())) {
+            usagePatterns += "- Entry point class (contains main method)\n";
+        }
+        if (classDoc.getType().equals("INTERFACE")) {
+            usagePatterns += "- Interface definition\n";
+        }
+        if (classDoc.getAnnotations() != null && (classDoc.getAnnotations().containsKey("@Service") || classDoc.getAnnotations().containsKey("@Component"))) {
+            usagePatterns += "- Spring service/component\n";
+        }
+        if (classDoc.getAnnotations() != null && (classDoc.getAnnotations().containsKey("@RestController") || classDoc.getAnnotations().containsKey("@Controller"))) {
+            usagePatterns += "- Web controller\n";
+        }
+        if (classDoc.getAnnotations() != null && (classDoc.getAnnotations().containsKey("@Entity") || classDoc.getAnnotations().containsKey("@Table"))) {
+            usagePatterns += "- JPA entity/data model\n";
+        }
+        return usagePatterns.isEmpty() ? "Standard Java class" : usagePatterns;
+    }
+    
+    /**
+     * Generates API documentation for many classes concurrently, one virtual thread per class.
+     * When the prompt budget enables batching, small classes are documented several per request.
+     * At most {@code maxConcurrency} classes are in progress at once, and their requests, including the
+     * method chunks of large classes, share the generator's request slots. A failure for one class
+     * is logged and does not stop the remaining classes.
+     * 
+     * @param classes The Java classes to document
+     * @param outputBasePath Base path to write generated documentation
+     * @param maxConcurrency Maximum number of classes documented at the same time
+     * @return The classes whose documentation file was written
+     * @throws IOException If the output directory cannot be created
+     */
+    public List<JavaClassDoc> generateClassDocumentation(List<JavaClassDoc> classes, Path outputBasePath, int maxConcurrency) throws IOException {
+        return generateClassDocumentation(classes, outputBasePath, maxConcurrency, (classDoc, docPath) -> { });
+    }
+    
+    /**
+     * Generates API documentation for many classes concurrently, reporting each class as soon as its
+     * file has been written.
+     * 
+     * @param classes The Java classes to document
+     * @param outputBasePath Base path to write generated documentation
+     * @param maxConcurrency Maximum number of classes documented at the same time
+     * @param listener Notified on the generating thread for every class documented successfully;
+     *                 a class whose notification fails is reported as failed
+     * @return The classes whose documentation file was written
+     * @throws IOException If the output directory cannot be created
+     */
+    public List<JavaClassDoc> generateClassDocumentation(List<JavaClassDoc> classes, Path outputBasePath, int maxConcurrency,
+                                                 ClassDocumentedListener listener) throws IOException {
+        logger.info("Generating documentation for {} classes, up to {} at a time", classes.size(), maxConcurrency);
+        ClassDocumentationRun run = startClassDocumentation(outputBasePath, maxConcurrency, listener);
+        for (JavaClassDoc classDoc : classes) {
+            run.submit(classDoc);
+        }
+        return run.finish();
+    }
+    
+    /**
+     * Starts documenting classes that are handed over one at a time, for callers that produce them
+     * over time instead of as one list.
+     * 
+     * @param outputBasePath Base path to write generated documentation
+     * @param maxConcurrency Maximum number of classes in progress at the same time
+     * @param listener Notified on the generating thread for every class documented successfully;
+     *                 a class whose notification fails is reported as failed
+     * @return The run to submit classes to
+     * @throws IOException If the output directory cannot be created
+     */
+    public ClassDocumentationRun startClassDocumentation(Path outputBasePath, int maxConcurrency,
+                                                         ClassDocumentedListener listener) throws IOException {
+        Files.createDirectories(outputBasePath);
+        return new ClassDocumentationRun(outputBasePath, maxConcurrency, listener);
+    }
+    
+    /**
+     * Class documentation in progress. Every submitted class is documented on its own virtual thread,
+     * except that small classes are held back per package while the prompt budget enables batching, and
+     * documented several per request once their batch is full. {@link #submit} blocks while
+     * {@code maxConcurrency} classes or batches are in progress, so a producer faster than the model is
+     * held back instead of piling up work. Their LLM requests wait for the generator's request slots, so
+     * a large class documented in chunks does not add requests beyond the generator's limit. A failure for one class is logged and does not stop the remaining
+     * classes. Classes are submitted from one thread.
+     */
+    public final class ClassDocumentationRun {
+        private final Path outputBasePath;
+        private final ClassDocumentedListener listener;
+        private final Semaphore permits;
+        private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+        private final int batchSectionBudget;
+        private final Map<String, List<JavaClassDoc>> pendingBatches = new HashMap<>();
+        private final Map<String, Integer> pendingTokens = new HashMap<>();
+        private final List<List<JavaClassDoc>> units = new ArrayList<>();
+        private final List<Future<List<JavaClassDoc>>> futures = new ArrayList<>();
+        private int submitted;
+        private int batched;
+        
+        private ClassDocumentationRun(Path outputBasePath, int maxConcurrency, ClassDocumentedListener listener) {
+            this.outputBasePath = outputBasePath;
+            this.listener = listener;
+            this.permits = new Semaphore(Math.max(1, maxConcurrency));
+            this.batchSectionBudget = promptBudget != null && promptBudget.batchesClasses() ? batchSectionBudget() : 0;
+        }
+        
+        /**
+         * Starts documenting a class, or holds it back for a batch of small classes.
+         * 
+         * @param classDoc The class to document
+         * @throws IOException If interrupted while waiting for a free slot
+         */
+        public void submit(JavaClassDoc classDoc) throws IOException {
+            submitted++;
+            String sourceCode = classDoc.getSourceCode();
+            if (batchSectionBudget == 0 || sourceCode == null
+                    || promptBudget.countTokens(sourceCode) > promptBudget.getSmallClassTokens()) {
+                start(List.of(classDoc));
+                return;
+            }
+            String packageName = classDoc.getPackageName() != null ? classDoc.getPackageName() : "";
+            List<JavaClassDoc> batch = pendingBatches.computeIfAbsent(packageName, k -> new ArrayList<>());
+            int batchTokens = pendingTokens.getOrDefault(packageName, 0);
+            int tokens = batchItemTokens(classDoc);
+            if (!batch.isEmpty() && (batchTokens + tokens > batchSectionBudget || batch.size() >= promptBudget.getMaxClassesPerBatch())) {
+                start(List.copyOf(batch));
+                batch.clear();
+                batchTokens = 0;
+            }
+            batch.add(classDoc);
+            pendingTokens.put(packageName, batchTokens + tokens);
+        }
+        
+        /**
+         * Documents the small classes still held back and waits for every class to finish.
+         * 
+         * @return The classes whose documentation file was written
+         * @throws IOException If interrupted while waiting
+         */
+        public List<JavaClassDoc> finish() throws IOException {
+            // What is left of each package's batch is packed together, packages kept side by side
+            List<JavaClassDoc> leftovers = new ArrayList<>();
+            pendingBatches.values().forEach(leftovers::addAll);
+            pendingBatches.clear();
+            pendingTokens.clear();
+            for (List<JavaClassDoc> batch : planClassBatches(leftovers)) {
+                start(batch);
+            }
+            executor.close(); // waits for every submitted class to finish
+            if (batched > 0) {
+                logger.info("Batched small classes into {} requests", batched);
+            }
+            
+            List<JavaClassDoc> generated = new ArrayList<>(submitted);
+            for (int i = 0; i < futures.size(); i++) {
+                try {
+                    generated.addAll(futures.get(i).get());
+                } catch (ExecutionException e) {
+                    String failed = units.get(i).stream().map(JavaClassDoc::getFullyQualifiedName).collect(Collectors.joining(", "));
+                    logger.error("Failed to generate documentation for class {}: {}", failed, e.getCause().getMessage(), e.getCause());
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IOException("Interrupted while generating class documentation", e);
+                }
+            }
+            
+            metrics.increment("classes.documented", generated.size());
+            metrics.increment("classes.failed", submitted - generated.size());
+            logger.info("Generated documentation for {} of {} classes", generated.size(), submitted);
+            return generated;
+        }
+        
+        private void start(List<JavaClassDoc> unit) throws IOException {
+            try {
+                permits.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while generating class documentation", e);
+            }
+            if (unit.size() > 1) {
+                batched++;
+            }
+            units.add(unit);
+            futures.add(executor.submit(() -> {
+                try {
+                    List<Path> paths = unit.size() == 1
+                        ? List.of(generateClassDocumentation(unit.get(0), outputBasePath))
+                        : generateBatchedClassDocumentation(unit, outputBasePath);
+                    List<JavaClassDoc> documented = new ArrayList<>(unit.size());
+                    for (JavaClassDoc classDoc : unit) {
+                        Path docPath = outputBasePath.resolve(classDoc.getName() + ".md");
+                        if (paths.contains(docPath)) {
+                            listener.documented(classDoc, docPath);
+                            documented.add(classDoc);
+                        }
+                    }
+                    return documented;
+                } finally {
+                    permits.release();
+                }
+            }));
+        }
+    }
+    
+    /**
+     * Callback for {@link #generateClassDocumentation(List, Path, int, ClassDocumentedListener)}.
+     */
+    @FunctionalInterface
+    public interface ClassDocumentedListener {
+        /**
+         * @param classDoc The documented class
+         * @param docPath The documentation file that was written for it
+         */
+        void documented(JavaClassDoc classDoc, Path docPath) throws IOException;
+    }
+    
+    /**
+     * Groups small classes into batches whose prompts fit the budget. Classes of the same package
+     * are kept together so the model sees related classes side by side.
+     */
+    private List<List<JavaClassDoc>> planClassBatches(List<JavaClassDoc> smallClasses) {
+        List<JavaClassDoc> ordered = new ArrayList<>(smallClasses);
+        ordered.sort(Comparator.comparing(JavaClassDoc::getPackageName, Comparator.nullsFirst(Comparator.naturalOrder())));
+        
+        int sectionBudget = batchSectionBudget();
+        List<List<JavaClassDoc>> batches = new ArrayList<>();
+        List<JavaClassDoc> batch = new ArrayList<>();
+        int batchTokens = 0;
+        for (JavaClassDoc classDoc : ordered) {
+            int tokens = batchItemTokens(classDoc);
+            if (!batch.isEmpty() && (batchTokens + tokens > sectionBudget || batch.size() >= promptBudget.getMaxClassesPerBatch())) {
+                batches.add(batch);
+                batch = new ArrayList<>();
+                batchTokens = 0;
+            }
+            batch.add(classDoc);
+            batchTokens += tokens;
+        }
+        if (!batch.isEmpty()) {
+            batches.add(batch);
+        }
+        return batches;
+    }
+    
+    /**
+     * Tokens left for the class sections of a batched prompt.
+     */
+    private int batchSectionBudget() {
+        return promptBudget.getMaxPromptTokens() - promptBudget.countTokens(templates.get("class-documentation-batch.md").text());
+    }
+    
+    private int batchItemTokens(JavaClassDoc classDoc) {
+        return promptBudget.countTokens(buildClassPrompt(classDoc, "class-documentation-batch-item.md", classDoc.getSourceCode()));
+    }
+    
+    /**
+     * Documents several small classes with a single request and splits the answer into one file per class.
+     * Classes whose section is missing from the answer, or cut off, are documented individually.
+     * 
+     * @param batch Classes to document together
+     * @param outputBasePath Base path to write generated documentation
+     * @return Paths to the class documentation files that were generated successfully
+     */
+    private List<Path> generateBatchedClassDocumentation(List<JavaClassDoc> batch, Path outputBasePath) throws IOException {
+        String batchName = "batch of " + batch.size() + ": "
+            + batch.stream().map(JavaClassDoc::getFullyQualifiedName).collect(Collectors.joining(", "));
+        try (RunMetrics.Scope ignored = metrics.attribute(batchName)) {
+            return documentBatch(batch, outputBasePath);
+        }
+    }
+    
+    private List<Path> documentBatch(List<JavaClassDoc> batch, Path outputBasePath) throws IOException {
+        logger.info("Generating documentation for a batch of {} classes: {}", batch.size(),
+            batch.stream().map(JavaClassDoc::getName).collect(Collectors.joining(", ")));
+        
+        String classSections = batch.stream()
+            .map(classDoc -> buildClassPrompt(classDoc, "class-documentation-batch-item.md", classDoc.getSourceCode()))
+            .collect(Collectors.joining("\n\n"));
+        String prompt = render(templates.get("class-documentation-batch.md"), name -> switch (name) {
+            case "classCount" -> batch.size();
+            case "classSections" -> classSections;
+            default -> null;
+        });
+        
+        Map<String, String> sections = splitBatchResponse(generate(prompt));
+        
+        List<Path> generated = new ArrayList<>(batch.size());
+        for (JavaClassDoc classDoc : batch) {
+            String documentation = sections.get(classDoc.getFullyQualifiedName());
+            if (documentation == null || documentation.isBlank()) {
+                logger.warn("Batched response has no section for {}, documenting it individually", classDoc.getFullyQualifiedName());
+                try {
+                    generated.add(generateClassDocumentation(classDoc, outputBasePath));
+                } catch (IOException | RuntimeException e) {
+                    logger.error("Failed to generate documentation for class {}: {}", classDoc.getFullyQualifiedName(), e.getMessage(), e);
+                }
+                continue;
+            }
+            Path docPath = outputBasePath.resolve(classDoc.getName() + ".md");
+            write(docPath, documentation);
+            logger.info("Generated class documentation at {}", docPath);
+            generated.add(docPath);
+        }
+        return generated;
+    }
+    
+    /**
+     * Splits a batched response into the documents between its delimiter lines, keyed by
+     * fully qualified class name. A section without its closing delimiter is dropped.
+     */
+    private static Map<String, String> splitBatchResponse(String response) {
+        Map<String, String> sections = new HashMap<>();
+        Matcher start = BATCH_SECTION_START.matcher(response);
+        List<int[]> starts = new ArrayList<>();
+        List<String> names = new ArrayList<>();
+        while (start.find()) {
+            starts.add(new int[] {start.start(), start.end()});
+            names.add(start.group(1));
+        }
+        for (int i = 0; i < starts.size(); i++) {
+            int bodyStart = starts.get(i)[1];
+            int limit = i + 1 < starts.size() ? starts.get(i + 1)[0] : response.length();
+            int end = response.lastIndexOf(BATCH_SECTION_END, limit - BATCH_SECTION_END.length());
+            if (end >= bodyStart) {
+                sections.putIfAbsent(names.get(i), response.substring(bodyStart, end).strip());
+            }
+        }
+        return sections;
+    }
+    
+    /**
+     * Generates a getting started guide for the project.
+     * 
+     * @param classes List of parsed Java classes
+     * @param repositoryName Name of the GitHub repository
+     * @param outputBasePath Base path to write generated documentation
+     * @return Path to the generated getting-started.md file
+     * @throws IOException If an error occurs during file writing
+     */
+    public Path generateGettingStartedGuide(List<JavaClassDoc> classes, String repositoryName, Path outputBasePath) throws IOException {
+        return generateGettingStartedGuide(RepositoryIndex.build(classes), repositoryName, outputBasePath);
+    }
+    
+    /**
+     * Generates a getting started guide for the project.
+     * 
+     * @param index Index of the parsed Java classes
+     * @param repositoryName Name of the GitHub repository
+     * @param outputBasePath Base path to write generated documentation
+     * @return Path to the generated getting-started.md file
+     * @throws IOException If an error occurs during file writing
+     */
+    public Path generateGettingStartedGuide(RepositoryIndex index, String repositoryName, Path outputBasePath) throws IOException {
+        logger.info("Generating getting started guide for {}", repositoryName);
+        
+        // Entry point classes (those with main methods)
+        String entryPointClasses = index.getEntryPoints().isEmpty()
+            ? "No main methods found"
+            : String.join("\n", index.getEntryPoints());
+        
+        // Find important public classes
+        String importantClasses = index.getPublicClasses().stream()
+            .filter(c -> !"ENUM".equals(c.getType()))  // Skip enums for simplicity
+            .limit(10)
+            .map(c -> "- " + c.getName() + " (" + c.getType().toLowerCase() + "): "
+                + (c.getDescription() != null ? c.getDescription() : "No description available"))
+            .collect(Collectors.joining("\n"));
+        
+        // Dependencies for setup instructions
+        String dependencies = index.getDependencies().stream()
+            .limit(15)
+            .collect(Collectors.joining("\n"));
+        
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("repositoryName", repositoryName);
+        variables.put("totalClasses", index.getTotalClasses());
+        variables.put("classCount", index.getClassCount());
+        variables.put("interfaceCount", index.getInterfaceCount());
+        variables.put("enumCount", index.getEnumCount());
+        variables.put("mainClasses", entryPointClasses);
+        variables.put("publicClasses", importantClasses.isEmpty() ? "No public classes identified" : importantClasses);
+        variables.put("dependencies", dependencies.isEmpty() ? "No external dependencies identified" : dependencies);
+        variables.put("packageStructure", summarizeList(repositoryName, "package list", packageStructure(index), 8));
+        variables.put("classAnalysis", importantClasses.isEmpty() ? "No detailed class analysis available" : importantClasses);
+        variables.put("entryPointAnalysis", entryPointClasses.equals("No main methods found") ? 
+            "No main methods found. This appears to be a library project." : 
+            "Entry points identified:\n" + entryPointClasses);
+        
+        String prompt = render(templates.get("getting-started.md"), variables::get);
+        
+        // Generate the getting-started.md file using the LLM
+        Path gettingStartedPath = outputBasePath.resolve("getting-started.md");
+        writeDocument(prompt, gettingStartedPath);
+        
+        logger.info("Generated getting started guide at {}", gettingStartedPath);
+        return gettingStartedPath;
+    }
+    
+    /**
+     * Generates an FAQ and troubleshooting guide.
+     * 
+     * @param classes List of parsed Java classes
+     * @param repositoryName Name of the GitHub repository
+     * @param outputBasePath Base path to write generated documentation
+     * @return Path to the generated faq.md file
+     * @throws IOException If an error occurs during file writing
+     */
+    public Path generateFaqAndTroubleshooting(List<JavaClassDoc> classes, String repositoryName, Path outputBasePath) throws IOException {
+        return generateFaqAndTroubleshooting(RepositoryIndex.build(classes), repositoryName, outputBasePath);
+    }
+    
+    /**
+     * Generates an FAQ and troubleshooting guide.
+     * 
+     * @param index Index of the parsed Java classes
+     * @param repositoryName Name of the GitHub repository
+     * @param outputBasePath Base path to write generated documentation
+     * @return Path to the generated faq.md file
+     * @throws IOException If an error occurs during file writing
+     */
+    public Path generateFaqAndTroubleshooting(RepositoryIndex index, String repositoryName, Path outputBasePath) throws IOException {
+        logger.info("Generating FAQ and troubleshooting guide for {}", repositoryName);
+        
+        // Exception information from methods to identify potential issues
+        List<String> exceptionTypes = index.getExceptionTypes();
+        
+        // Methods that throw exceptions with their context
+        List<String> exceptionMethods = new ArrayList<>(index.getThrowingMethods().size());
+        for (MethodDoc m : index.getThrowingMethods()) {
+            exceptionMethods.add("- "
+                + (m.getName().contains(".") ? m.getName().substring(0, m.getName().lastIndexOf('.')) : "Unknown")
+                + '.' + m.getName() + "() throws: "
+                + String.join(", ", m.getExceptions()));
+        }
+        
+        // Common patterns that might cause issues
+        long fileOperationMethods = index.getFileOperationMethods();
+        long networkMethods = index.getNetworkMethods();
+        long configMethods = index.getConfigMethods();
+        String commonPatterns = "";
+        if (fileOperationMethods > 0) {
+            commonPatterns += "- File I/O operations (" + fileOperationMethods + " methods)\n";
+        }
+        if (networkMethods > 0) {
+            commonPatterns += "- Network operations (" + networkMethods + " methods)\n";
+        }
+        if (configMethods > 0) {
+            commonPatterns += "- Configuration operations (" + configMethods + " methods)\n";
+        }
+        if (commonPatterns.isEmpty()) {
+            commonPatterns = "Standard Java operations";
+        }
+        
+        // Dependencies for setup instructions  
+        String dependencies = index.getDependencies().stream()
+            .limit(10)
+            .collect(Collectors.joining("\n"));
+        
+        // Technology stack based on class patterns
+        String technologyStack = "";
+        if (index.hasWebControllers()) {
+            technologyStack += "Spring Boot Web, ";
+        }
+        if (index.hasJpaEntities()) {
+            technologyStack += "JPA/Hibernate, ";
+        }
+        if (index.hasTests()) {
+            technologyStack += "JUnit Testing, ";
+        }
+        if (technologyStack.isEmpty()) {
+            technologyStack = "Core Java";
+        } else {
+            technologyStack = technologyStack.replaceAll(", $", ""); // Remove trailing comma
+        }
+        
+        // Complex classes (those with many methods or complex inheritance)
+        String complexClasses = index.getComplexClasses().stream()
+            .limit(5)
+            .map(c -> "- " + c.getName() + " (" + (c.getMethods() != null ? c.getMethods().size() : 0) + " methods)")
+            .collect(Collectors.joining("\n"));
+        
+        if (complexClasses.isEmpty()) {
+            complexClasses = "No particularly complex classes identified";
+        }
+        
+        // Potential issues based on patterns
+        String potentialIssues = "";
+        if (fileOperationMethods > 0) {
+            potentialIssues += "- File I/O operations may cause permission or path issues\n";
+        }
+        if (networkMethods > 0) {
+            potentialIssues += "- Network connectivity and timeout issues\n";
+        }
+        if (configMethods > 0) {
+            potentialIssues += "- Configuration and properties setup issues\n";
+        }
+        if (potentialIssues.isEmpty()) {
+            potentialIssues = "Standard Java runtime issues";
+        }
+        
+        // Usage patterns for FAQ
+        String usagePatterns = index.getPublicApiClasses().stream()
+            .limit(3)
+            .map(c -> "- " + c.getName() + ": Primary public API class")
+            .collect(Collectors.joining("\n"));
+        
+        if (usagePatterns.isEmpty()) {
+            usagePatterns = "Standard library usage patterns";
+        }
+        
+        Map<String, Object> variables = new HashMap<>();
+        variables.put("repositoryName", repositoryName);
+        variables.put("totalClasses", index.getTotalClasses());
+        variables.put("technologyStack", technologyStack);
+        variables.put("commonPatterns", commonPatterns);
+        variables.put("complexClasses", complexClasses);
+        variables.put("dependencies", dependencies.isEmpty() ? "No external dependencies identified" : dependencies);
+        variables.put("potentialIssues", potentialIssues);
+        variables.put("usagePatterns", usagePatterns);
+        variables.put("exceptionTypes", exceptionTypes.isEmpty() ? "No exceptions declared"
+            : summarizeList(repositoryName, "declared exception types", exceptionTypes, 8));
+        variables.put("exceptionMethods", exceptionMethods.isEmpty() ? "No methods with declared exceptions"
+            : summarizeList(repositoryName, "methods declaring exceptions", exceptionMethods, 8));
+        
+        String prompt = render(templates.get("faq-troubleshooting.md"), variables::get);
+        
+        // Generate the faq.md file using the LLM
+        Path faqPath = outputBasePath.resolve("faq.md");
+        writeDocument(prompt, faqPath);
+        
+        logger.info("Generated FAQ and troubleshooting guide at {}", faqPath);
+        return faqPath;
+    }
+    
+    /**
+     * Generates a document from a single prompt and writes it to a file, streaming the
+     * response into the file when a streaming writer is configured.
+     */
+    private void writeDocument(String prompt, Path target) throws IOException {
+        if (streamingWriter != null) {
+            acquireRequestSlot();
+            try (RunMetrics.Scope ignored = metrics.time("llm.stream")) {
+                streamingWriter.write(prompt, target);
+            } finally {
+                requestPermits.release();
+            }
+            metrics.increment("bytes.written", Files.size(target));
+        } else {
+            write(target, generate(prompt));
+        }
+    }
+    
+    /**
+     * Writes a generated document and records the time and bytes it took.
+     */
+    private void write(Path target, String content) throws IOException {
+        try (RunMetrics.Scope ignored = metrics.time("write")) {
+            Files.writeString(target, content);
+        }
+        metrics.increment("bytes.written", Files.size(target));
+    }
+    
+    /**
+     * Renders a prompt and records the time it took.
+     */
+    private String render(PromptTemplates.Compiled template, Function<String, Object> values) {
+        try (RunMetrics.Scope ignored = metrics.time("prompt.render")) {
+            return template.render(values);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+package com.repodocaiagent.agent.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.TreeMap;
+
+/**
+ * Records which commit the documentation in a RepoDocAIAgent folder was generated from,
+ * together with a content hash and the documented class name for every Java source file.
+ */
+public class DocumentationManifest {
+    public static final String FILE_NAME = ".manifest.properties";
+    private static final String COMMIT_KEY = "commit";
+    private static final String FILE_PREFIX = "file.";
+    private static final char SEPARATOR = '|';
+
+    private final String commit;
+    private final Map<String, Entry> files = new TreeMap<>();
+
+    /**
+     * Manifest entry for one source file.
+     *
+     * @param hash SHA-256 of the file content
+     * @param className Simple name of the class documented from the file, or null if none
+     */
+    public record Entry(String hash, String className) {
+    }
+
+    public DocumentationManifest(String commit) {
+        this.commit = commit;
+    }
+
+    /**
+     * Loads the manifest stored in a documentation folder.
+     *
+     * @param docRoot The RepoDocAIAgent output folder
+     * @return The manifest, or empty if none has been written yet
+     */
+    public static Optional<DocumentationManifest> load(Path docRoot) throws IOException {
+        Path file = docRoot.resolve(FILE_NAME);
+        if (!Files.exists(file)) {
+            return Optional.empty();
+        }
+        Properties properties = new Properties();
+        try (InputStream in = Files.newInputStream(file)) {
+            properties.load(in);
+        }
+        DocumentationManifest manifest = new DocumentationManifest(properties.getProperty(COMMIT_KEY));
+        for (String key : properties.stringPropertyNames()) {
+            if (key.startsWith(FILE_PREFIX)) {
+                String value = properties.getProperty(key);
+                int separator = value.indexOf(SEPARATOR);
+                String className = value.substring(separator + 1);
+                manifest.put(key.substring(FILE_PREFIX.length()),
+                    new Entry(value.substring(0, separator), className.isEmpty() ? null : className));
+            }
+        }
+        return Optional.of(manifest);
+    }
+
+    /**
+     * Writes the manifest into a documentation folder, replacing any previous manifest atomically.
+     *
+     * @param docRoot The RepoDocAIAgent output folder
+     */
+    public void save(Path docRoot) throws IOException {
+        Properties properties = new Properties();
+        properties.setProperty(COMMIT_KEY, commit);
+        files.forEach((path, entry) -> properties.setProperty(FILE_PREFIX + path,
+            entry.hash() + SEPARATOR + (entry.className() != null ? entry.className() : "")));
+
+        Files.createDirectories(docRoot);
+        Path temp = Files.createTempFile(docRoot, FILE_NAME, ".tmp");
+        try (OutputStream out = Files.newOutputStream(temp)) {
+            properties.store(out, "RepoDocAIAgent documentation manifest");
+        }
+        Files.move(temp, docRoot.resolve(FILE_NAME), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Computes the SHA-256 of a file's content.
+     *
+     * @param file File to hash
+     * @return Hex encoded digest
+     */
+    public static String hashFile(Path file) throws IOException {
+        try (DigestInputStream in = new DigestInputStream(Files.newInputStream(file), MessageDigest.getInstance("SHA-256"))) {
+            in.transferTo(OutputStream.nullOutputStream());
+            return HexFormat.of().formatHex(in.getMessageDigest().digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    /**
+     * @return Entries keyed by repository-relative path using '/' separators
+     */
+    public Map<String, Entry> getFiles() {
+        return files;
+    }
+
+    public void put(String path, Entry entry) {
+        files.put(path, entry);
+    }
+
+    public void remove(String path) {
+        files.remove(path);
+    }
+}
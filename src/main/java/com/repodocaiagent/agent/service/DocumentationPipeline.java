@@ -0,0 +1,230 @@
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * Documents a whole repository as overlapping stages instead of one phase after the other. Sources are
+ * discovered on one thread and parsed on all cores, and each parsed class is handed to class
+ * documentation right away, so LLM requests start with the first parsed file and parsing continues
+ * while they wait. The stages are connected by bounded queues: a stage that gets ahead waits for the
+ * next one instead of buffering the whole repository. The repository-level documents are generated
+ * concurrently with the class documentation as soon as the last source is parsed, from an index
+ * collected while parsing.
+ */
+public class DocumentationPipeline {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentationPipeline.class);
+
+    private final DocumentationGeneratorService docs;
+    private final RunMetrics metrics;
+    private final int queueCapacity;
+    private final int parseThreads;
+
+    /**
+     * @param docs Generator for the class and repository-level documents
+     * @param metrics Run metrics the stages are timed in
+     * @param queueCapacity Maximum number of sources, and of parsed classes, waiting between two stages
+     */
+    public DocumentationPipeline(DocumentationGeneratorService docs, RunMetrics metrics, int queueCapacity) {
+        this.docs = docs;
+        this.metrics = metrics;
+        this.queueCapacity = Math.max(1, queueCapacity);
+        this.parseThreads = Runtime.getRuntime().availableProcessors();
+    }
+
+    /**
+     * Outcome of a pipeline run.
+     *
+     * @param sources Key of every source discovered, in discovery order
+     * @param classes Every class parsed, in discovery order
+     * @param documented Classes whose documentation file has been written, in this run or the interrupted one
+     * @param complete Whether every document of the repository has been written
+     */
+    public record Result<K>(List<K> sources, List<JavaClassDoc> classes, List<JavaClassDoc> documented, boolean complete) {
+    }
+
+    /**
+     * A source or parsed class with its position in discovery order; a negative position ends the stream.
+     */
+    private record Item<T>(long position, T value) {
+        static <T> Item<T> end() {
+            return new Item<>(-1, null);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RepositoryDocument {
+        Path generate(RepositoryIndex index) throws IOException;
+    }
+
+    /**
+     * Documents every source of a repository. Documents the journal holds unchanged from an interrupted
+     * run are kept; every document written is recorded in it.
+     *
+     * @param sources Sources to document, read lazily; consumed and closed by this method
+     * @param key Maps a source to what the result keeps of it, so sources holding their content are not
+     *            retained once parsed
+     * @param parse Parses one source, returning null if it cannot be parsed
+     * @param repositoryName Name of the repository
+     * @param docRoot The RepoDocAIAgent output folder; class documentation goes to its api folder
+     * @param journal Journal of the run
+     * @param maxConcurrency Maximum number of classes in progress at the same time
+     * @return What was discovered and parsed, and whether every document was written
+     * @throws IOException If discovery fails, a repository-level document cannot be generated or the journal cannot be written
+     */
+    public <T, K> Result<K> run(Stream<T> sources, Function<T, K> key, Function<T, JavaClassDoc> parse,
+                                String repositoryName, Path docRoot,
+                             ProgressJournal journal, int maxConcurrency) throws IOException {
+        logger.info("Documenting {} with {} parser threads and queues of {}", repositoryName, parseThreads, queueCapacity);
+        long start = System.nanoTime();
+        BlockingQueue<Item<T>> discovered = new ArrayBlockingQueue<>(queueCapacity);
+        BlockingQueue<Item<JavaClassDoc>> parsed = new ArrayBlockingQueue<>(queueCapacity);
+        RepositoryIndex.Builder indexBuilder = new RepositoryIndex.Builder();
+        CompletableFuture<RepositoryIndex> indexed = new CompletableFuture<>();
+        AtomicInteger parsersLeft = new AtomicInteger(parseThreads);
+
+        ExecutorService stages = Executors.newFixedThreadPool(1 + parseThreads);
+        ExecutorService repositoryDocs = Executors.newVirtualThreadPerTaskExecutor();
+        try {
+            // discover: read sources lazily, blocking while the parsers are behind
+            Future<List<K>> discovery = stages.submit(() -> {
+                List<K> all = new ArrayList<>();
+                try (sources; RunMetrics.Scope ignored = metrics.time("discovery")) {
+                    Iterator<T> iterator = sources.iterator();
+                    while (iterator.hasNext()) {
+                        T source = iterator.next();
+                        discovered.put(new Item<>(all.size(), source));
+                        all.add(key.apply(source));
+                    }
+                } finally {
+                    for (int i = 0; i < parseThreads; i++) {
+                        discovered.put(Item.end());
+                    }
+                }
+                metrics.increment("files.discovered", all.size());
+                return all;
+            });
+
+            // parse: one parser per core, the last one to finish completes the index
+            for (int i = 0; i < parseThreads; i++) {
+                stages.submit(() -> {
+                    try {
+                        for (Item<T> item = discovered.take(); item.position() >= 0; item = discovered.take()) {
+                            JavaClassDoc classDoc = parseQuietly(parse, item.value());
+                            if (classDoc != null) {
+                                indexBuilder.add(item.position(), classDoc);
+                                parsed.put(new Item<>(item.position(), classDoc));
+                            }
+                        }
+                    } finally {
+                        if (parsersLeft.decrementAndGet() == 0) {
+                            metrics.record("parse", System.nanoTime() - start);
+                            parsed.put(Item.end());
+                            indexed.complete(indexBuilder.build());
+                            journal.recordPhase("parse");
+                        }
+                    }
+                    return null;
+                });
+            }
+
+            // repository-level documents: generated side by side with the classes once parsing is done
+            List<Future<Path>> repositoryDocuments = List.of(
+                repositoryDocs.submit(() -> repositoryDocument(journal, "README.md", indexed,
+                    index -> docs.generateProjectOverview(index, repositoryName, docRoot))),
+                repositoryDocs.submit(() -> repositoryDocument(journal, "getting-started.md", indexed,
+                    index -> docs.generateGettingStartedGuide(index, repositoryName, docRoot))),
+                repositoryDocs.submit(() -> repositoryDocument(journal, "faq.md", indexed,
+                    index -> docs.generateFaqAndTroubleshooting(index, repositoryName, docRoot))));
+
+            // generate: classes in the order they are parsed, blocking while all request slots are busy
+            DocumentationGeneratorService.ClassDocumentationRun classDocs = docs.startClassDocumentation(
+                docRoot.resolve("api"), maxConcurrency,
+                (classDoc, docPath) -> journal.recordOutput(classDoc.getFullyQualifiedName(), docPath));
+            int submitted = 0;
+            List<JavaClassDoc> resumed = new ArrayList<>();
+            for (Item<JavaClassDoc> item = parsed.take(); item.position() >= 0; item = parsed.take()) {
+                if (journal.isDone(item.value().getFullyQualifiedName())) {
+                    resumed.add(item.value());
+                } else {
+                    classDocs.submit(item.value());
+                    submitted++;
+                }
+            }
+            List<JavaClassDoc> generated = classDocs.finish();
+            metrics.record("generate.classes", System.nanoTime() - start);
+            if (!resumed.isEmpty()) {
+                logger.info("Kept documentation of {} classes written before the interruption", resumed.size());
+                metrics.increment("classes.resumed", resumed.size());
+            }
+
+            List<K> all = discovery.get();
+            for (Future<Path> document : repositoryDocuments) {
+                document.get();
+            }
+            List<JavaClassDoc> classes = indexed.get().getClasses();
+            metrics.increment("classes.parsed", classes.size());
+            logger.info("Documented {} classes from {} sources of {}", classes.size(), all.size(), repositoryName);
+            List<JavaClassDoc> documented = new ArrayList<>(resumed);
+            documented.addAll(generated);
+            return new Result<>(all, classes, documented, generated.size() == submitted);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException io) {
+                throw io;
+            }
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Failed to document " + repositoryName, e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while documenting " + repositoryName, e);
+        } finally {
+            // only still running when a stage failed
+            stages.shutdownNow();
+            repositoryDocs.shutdownNow();
+        }
+    }
+
+    /**
+     * Generates one repository-level document once the index is complete, unless the journal already holds it.
+     */
+    private Path repositoryDocument(ProgressJournal journal, String name, Future<RepositoryIndex> indexed,
+                                    RepositoryDocument document) throws Exception {
+        RepositoryIndex index = indexed.get();
+        if (journal.isDone(name)) {
+            return null;
+        }
+        try (RunMetrics.Scope ignored = metrics.time("generate.repository")) {
+            Path path = document.generate(index);
+            journal.recordOutput(name, path);
+            return path;
+        }
+    }
+
+    private <T> JavaClassDoc parseQuietly(Function<T, JavaClassDoc> parse, T source) {
+        try {
+            return parse.apply(source);
+        } catch (RuntimeException e) {
+            logger.error("Error parsing {}: {}", source, e.getMessage(), e);
+            return null;
+        }
+    }
+}
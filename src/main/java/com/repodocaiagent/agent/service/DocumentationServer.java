@@ -0,0 +1,459 @@
+package com.repodocaiagent.agent.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpHandler;
+import com.sun.net.httpserver.HttpServer;
+import io.github.cdimascio.dotenv.Dotenv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * HTTP API that keeps the process running between documentation jobs, so the JVM, the LLM client and the
+ * parse and response caches stay warm, and a small repository costs little more than its LLM time. Jobs are
+ * queued per tenant, named by the X-Tenant header, in a bounded {@link FairJobQueue} and run by a fixed
+ * number of workers; two jobs writing to the same folder never run at the same time.
+ * <pre>
+ * POST /jobs                    repo=&lt;url&gt; or path=&lt;local git repository&gt;; optional ref, include, exclude, concurrency
+ * GET  /jobs                    jobs kept, optionally of one tenant=&lt;name&gt;
+ * GET  /jobs/{id}               status of a job
+ * GET  /jobs/{id}/files         documents written by a job
+ * GET  /jobs/{id}/files/{path}  one document
+ * GET  /jobs/{id}/report        run report of a job
+ * GET  /health                  queue and worker state
+ * GET  /metrics                 totals of every job run so far
+ * </pre>
+ * Parameters are read from the query string and a form-encoded body. Responses are JSON; documents are
+ * returned as they were written.
+ */
+public class DocumentationServer {
+    private static final Logger logger = LoggerFactory.getLogger(DocumentationServer.class);
+    private static final String TENANT_HEADER = "X-Tenant";
+    private static final String DEFAULT_TENANT = "default";
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+
+    private final JobRunner runner;
+    private final RunMetrics metrics;
+    private final InetSocketAddress address;
+    private final int workers;
+    private final int maxJobsKept;
+    private final FairJobQueue<Job> queue;
+    // submission order; finished jobs are evicted oldest first
+    private final Map<String, Job> jobs = new LinkedHashMap<>();
+    private HttpServer server;
+    private ExecutorService workerPool;
+
+    /**
+     * Documents the repository of one job.
+     */
+    @FunctionalInterface
+    public interface JobRunner {
+        /**
+         * @param job Repository, ref, discovery patterns and concurrency cap
+         * @param metrics Metrics of the job's run
+         * @return The RepoDocAIAgent folder the documentation was written to
+         */
+        Path document(RepositoryJob job, RunMetrics metrics) throws Exception;
+    }
+
+    /**
+     * Creates a server configured from SERVER_HOST, SERVER_PORT, SERVER_WORKERS, SERVER_QUEUE_CAPACITY,
+     * SERVER_TENANT_QUEUE_CAPACITY and SERVER_JOB_HISTORY.
+     */
+    public DocumentationServer(JobRunner runner, RunMetrics metrics, Dotenv dotenv) {
+        this(runner, metrics,
+            new InetSocketAddress(dotenv.get("SERVER_HOST", "127.0.0.1"), Integer.parseInt(dotenv.get("SERVER_PORT", "8080"))),
+            Integer.parseInt(dotenv.get("SERVER_WORKERS", "2")),
+            Integer.parseInt(dotenv.get("SERVER_QUEUE_CAPACITY", "100")),
+            Integer.parseInt(dotenv.get("SERVER_TENANT_QUEUE_CAPACITY", "20")),
+            Integer.parseInt(dotenv.get("SERVER_JOB_HISTORY", "1000")));
+    }
+
+    /**
+     * @param runner Documents the repository of a job
+     * @param metrics Metrics every job's run forwards into
+     * @param address Address to listen on
+     * @param workers Number of jobs run at the same time
+     * @param queueCapacity Maximum number of jobs waiting
+     * @param tenantQueueCapacity Maximum number of jobs waiting per tenant
+     * @param maxJobsKept Number of jobs whose status is kept; the oldest finished jobs are forgotten first
+     */
+    public DocumentationServer(JobRunner runner, RunMetrics metrics, InetSocketAddress address, int workers,
+                               int queueCapacity, int tenantQueueCapacity, int maxJobsKept) {
+        this.runner = runner;
+        this.metrics = metrics;
+        this.address = address;
+        this.workers = Math.max(1, workers);
+        this.maxJobsKept = maxJobsKept;
+        this.queue = new FairJobQueue<>(queueCapacity, tenantQueueCapacity);
+    }
+
+    /**
+     * Starts listening and running jobs.
+     */
+    public void start() throws IOException {
+        server = HttpServer.create(address, 0);
+        server.createContext("/jobs", route(this::handleJobs));
+        server.createContext("/health", route(exchange -> {
+            Map<String, Object> health = new LinkedHashMap<>();
+            health.put("status", "ok");
+            health.put("workers", workers);
+            health.put("queued", queue.size());
+            health.put("running", queue.running());
+            synchronized (jobs) {
+                health.put("jobs", jobs.size());
+            }
+            return Response.json(200, health);
+        }));
+        server.createContext("/metrics", route(exchange -> Response.json(200, metrics.report(Map.of("mode", "server")))));
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.start();
+
+        workerPool = Executors.newFixedThreadPool(workers);
+        for (int i = 0; i < workers; i++) {
+            workerPool.submit(this::work);
+        }
+        logger.info("Documentation server listening on http://{}:{} with {} workers",
+            address.getHostString(), getPort(), workers);
+    }
+
+    /**
+     * @return The port listened on, which is chosen by the system when SERVER_PORT is 0
+     */
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    /**
+     * Stops listening and interrupts running jobs.
+     */
+    public void stop() {
+        if (server != null) {
+            server.stop(0);
+            workerPool.shutdownNow();
+            logger.info("Documentation server stopped");
+        }
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            Job job;
+            try {
+                job = queue.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            try {
+                run(job);
+            } finally {
+                queue.done(job.key);
+            }
+        }
+    }
+
+    private void run(Job job) {
+        job.start();
+        logger.info("Running job {} of tenant {}: {}", job.id, job.tenant, job.repository.url());
+        try {
+            Path docRoot = runner.document(job.repository, new RunMetrics(metrics));
+            job.succeed(docRoot);
+            metrics.increment("server.jobs.succeeded");
+            logger.info("Job {} finished, documentation in {}", job.id, docRoot);
+        } catch (Exception e) {
+            logger.error("Job {} failed", job.id, e);
+            job.fail(String.valueOf(e.getMessage()));
+            metrics.increment("server.jobs.failed");
+        }
+    }
+
+    private Response handleJobs(HttpExchange exchange) throws IOException {
+        List<String> segments = Arrays.stream(exchange.getRequestURI().getPath().split("/"))
+            .filter(segment -> !segment.isEmpty())
+            .collect(Collectors.toList());
+        String method = exchange.getRequestMethod();
+        if (segments.size() == 1) {
+            return switch (method) {
+                case "POST" -> submit(exchange);
+                case "GET" -> list(parameters(exchange).get("tenant"));
+                default -> Response.error(405, "Use GET or POST on /jobs");
+            };
+        }
+        if (!"GET".equals(method)) {
+            return Response.error(405, "Use GET on " + exchange.getRequestURI().getPath());
+        }
+        Job job;
+        synchronized (jobs) {
+            job = jobs.get(segments.get(1));
+        }
+        if (job == null) {
+            return Response.error(404, "No job " + segments.get(1));
+        }
+        if (segments.size() == 2) {
+            return Response.json(200, job.toMap());
+        }
+        Path docRoot = job.docRoot();
+        if (docRoot == null) {
+            return Response.error(409, "Job " + job.id + " has not written its documentation, it is " + job.status());
+        }
+        return switch (segments.get(2)) {
+            case "files" -> segments.size() == 3
+                ? files(job, docRoot)
+                : file(docRoot, String.join("/", segments.subList(3, segments.size())));
+            case "report" -> file(docRoot.getParent(), "run-report.json");
+            default -> Response.error(404, "Unknown resource " + exchange.getRequestURI().getPath());
+        };
+    }
+
+    private Response submit(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = parameters(exchange);
+        String tenant = exchange.getRequestHeaders().getFirst(TENANT_HEADER);
+        if (tenant == null || tenant.isBlank()) {
+            tenant = parameters.getOrDefault("tenant", DEFAULT_TENANT);
+        }
+        Job job = new Job(UUID.randomUUID().toString(), tenant.strip(), repositoryJob(parameters));
+        synchronized (jobs) {
+            if (!queue.offer(job.tenant, job.key, job)) {
+                metrics.increment("server.jobs.rejected");
+                return Response.error(429, "The job queue of tenant " + job.tenant + " is full, try again later");
+            }
+            jobs.put(job.id, job);
+            evictFinishedJobs();
+        }
+        metrics.increment("server.jobs.submitted");
+        logger.info("Queued job {} of tenant {}: {}", job.id, job.tenant, job.repository.url());
+        exchange.getResponseHeaders().set("Location", "/jobs/" + job.id);
+        return Response.json(202, job.toMap());
+    }
+
+    /**
+     * Reads the repository of a job from its parameters; a local path is cloned through its file URL.
+     */
+    private static RepositoryJob repositoryJob(Map<String, String> parameters) {
+        String repo = parameters.get("repo");
+        String path = parameters.get("path");
+        if ((repo == null) == (path == null)) {
+            throw new IllegalArgumentException("Give either repo=<url> or path=<local git repository>");
+        }
+        String url = repo;
+        if (path != null) {
+            Path local = Path.of(path).toAbsolutePath().normalize();
+            if (!Files.isDirectory(local)) {
+                throw new IllegalArgumentException("Not a directory: " + path);
+            }
+            url = local.toUri().toString().replaceAll("/+$", "");
+        }
+        String ref = parameters.get("ref");
+        String concurrency = parameters.get("concurrency");
+        if (concurrency != null && Integer.parseInt(concurrency) < 1) {
+            throw new IllegalArgumentException("concurrency must be at least 1");
+        }
+        return new RepositoryJob(url,
+            ref != null && !ref.isBlank() ? ref : null,
+            parameters.containsKey("include") ? SourceDiscovery.patterns(parameters.get("include")) : null,
+            parameters.containsKey("exclude") ? SourceDiscovery.patterns(parameters.get("exclude")) : null,
+            concurrency != null ? Integer.valueOf(concurrency) : null);
+    }
+
+    /**
+     * Forgets the oldest finished jobs while more jobs than the history size are kept.
+     */
+    private void evictFinishedJobs() {
+        for (Iterator<Job> it = jobs.values().iterator(); jobs.size() > maxJobsKept && it.hasNext(); ) {
+            if (it.next().isFinished()) {
+                it.remove();
+            }
+        }
+    }
+
+    private Response list(String tenant) {
+        List<Map<String, Object>> list = new ArrayList<>();
+        synchronized (jobs) {
+            for (Job job : jobs.values()) {
+                if (tenant == null || tenant.equals(job.tenant)) {
+                    list.add(job.toMap());
+                }
+            }
+        }
+        return Response.json(200, Map.of("jobs", list));
+    }
+
+    private Response files(Job job, Path docRoot) throws IOException {
+        List<String> files;
+        try (Stream<Path> paths = Files.walk(docRoot)) {
+            files = paths.filter(Files::isRegularFile)
+                .map(file -> docRoot.relativize(file).toString().replace('\\', '/'))
+                // the journal and manifest are bookkeeping, not documentation
+                .filter(file -> !file.startsWith("."))
+                .sorted()
+                .collect(Collectors.toList());
+        }
+        Map<String, Object> listing = new LinkedHashMap<>();
+        listing.put("id", job.id);
+        listing.put("files", files);
+        return Response.json(200, listing);
+    }
+
+    private static Response file(Path directory, String relativePath) throws IOException {
+        Path file = directory.resolve(relativePath).normalize();
+        if (!file.startsWith(directory) || !Files.isRegularFile(file)) {
+            return Response.error(404, "No file " + relativePath);
+        }
+        String contentType = file.toString().endsWith(".json")
+            ? "application/json; charset=utf-8" : "text/markdown; charset=utf-8";
+        return new Response(200, contentType, Files.readAllBytes(file));
+    }
+
+    /**
+     * Reads the query string and, for a POST, the form-encoded body; body values win.
+     */
+    private static Map<String, String> parameters(HttpExchange exchange) throws IOException {
+        Map<String, String> parameters = new LinkedHashMap<>();
+        decode(exchange.getRequestURI().getRawQuery(), parameters);
+        if ("POST".equals(exchange.getRequestMethod())) {
+            byte[] body = exchange.getRequestBody().readNBytes(MAX_BODY_BYTES + 1);
+            if (body.length > MAX_BODY_BYTES) {
+                throw new IllegalArgumentException("Request body over " + MAX_BODY_BYTES + " bytes");
+            }
+            decode(new String(body, StandardCharsets.UTF_8), parameters);
+        }
+        return parameters;
+    }
+
+    private static void decode(String form, Map<String, String> parameters) {
+        if (form == null || form.isBlank()) {
+            return;
+        }
+        for (String pair : form.strip().split("&")) {
+            int separator = pair.indexOf('=');
+            String name = separator < 0 ? pair : pair.substring(0, separator);
+            String value = separator < 0 ? "" : pair.substring(separator + 1);
+            parameters.put(URLDecoder.decode(name, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Wraps a route so bad requests are answered with 400 and failures with 500.
+     */
+    private static HttpHandler route(Route route) {
+        return exchange -> {
+            Response response;
+            try {
+                response = route.handle(exchange);
+            } catch (IllegalArgumentException e) {
+                response = Response.error(400, String.valueOf(e.getMessage()));
+            } catch (IOException | RuntimeException e) {
+                logger.error("Failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), e);
+                response = Response.error(500, String.valueOf(e.getMessage()));
+            }
+            try {
+                exchange.getResponseHeaders().set("Content-Type", response.contentType());
+                exchange.sendResponseHeaders(response.status(), response.body().length);
+                exchange.getResponseBody().write(response.body());
+            } finally {
+                exchange.close();
+            }
+        };
+    }
+
+    @FunctionalInterface
+    private interface Route {
+        Response handle(HttpExchange exchange) throws IOException;
+    }
+
+    private record Response(int status, String contentType, byte[] body) {
+        static Response json(int status, Object value) {
+            return new Response(status, "application/json; charset=utf-8",
+                (RunMetrics.toJson(value) + "\n").getBytes(StandardCharsets.UTF_8));
+        }
+
+        static Response error(int status, String message) {
+            return json(status, Map.of("error", message));
+        }
+    }
+
+    /**
+     * A submitted job and its progress.
+     */
+    private static final class Job {
+        private final String id;
+        private final String tenant;
+        private final RepositoryJob repository;
+        // jobs writing to the same folder run one at a time
+        private final String key;
+        private final Instant submittedAt = Instant.now();
+        private String status = "queued";
+        private Instant startedAt;
+        private Instant finishedAt;
+        private Path docRoot;
+        private String error;
+
+        Job(String id, String tenant, RepositoryJob repository) {
+            this.id = id;
+            this.tenant = tenant;
+            this.repository = repository;
+            this.key = repository.directoryName();
+        }
+
+        synchronized void start() {
+            status = "running";
+            startedAt = Instant.now();
+        }
+
+        synchronized void succeed(Path docRoot) {
+            this.docRoot = docRoot;
+            status = "succeeded";
+            finishedAt = Instant.now();
+        }
+
+        synchronized void fail(String error) {
+            this.error = error;
+            status = "failed";
+            finishedAt = Instant.now();
+        }
+
+        synchronized String status() {
+            return status;
+        }
+
+        synchronized Path docRoot() {
+            return docRoot;
+        }
+
+        synchronized boolean isFinished() {
+            return finishedAt != null;
+        }
+
+        synchronized Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("id", id);
+            map.put("tenant", tenant);
+            map.put("repository", repository.url());
+            map.put("ref", repository.ref());
+            map.put("status", status);
+            map.put("submittedAt", submittedAt.toString());
+            map.put("startedAt", startedAt != null ? startedAt.toString() : null);
+            map.put("finishedAt", finishedAt != null ? finishedAt.toString() : null);
+            map.put("docRoot", docRoot != null ? docRoot.toString() : null);
+            map.put("error", error);
+            return map;
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.repodocaiagent.agent.service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bounded queue of jobs submitted by several tenants. Jobs are taken round-robin over the tenants that
+ * have jobs waiting, oldest first within a tenant, so a tenant that submits many jobs does not hold back
+ * the others. Jobs with the same key, such as jobs writing to the same folder, are never handed out at
+ * the same time: a job whose key is still running waits, and the tenant's next job is taken instead.
+ *
+ * @param <T> Job type
+ */
+public class FairJobQueue<T> {
+    private final int capacity;
+    private final int tenantCapacity;
+    // tenants with waiting jobs, in the order they are served next
+    private final Map<String, Deque<Entry<T>>> waiting = new LinkedHashMap<>();
+    private final Set<String> running = new HashSet<>();
+    private int size;
+
+    private record Entry<T>(String key, T job) {
+    }
+
+    /**
+     * @param capacity Maximum number of jobs waiting in total
+     * @param tenantCapacity Maximum number of jobs waiting per tenant
+     */
+    public FairJobQueue(int capacity, int tenantCapacity) {
+        this.capacity = capacity;
+        this.tenantCapacity = tenantCapacity;
+    }
+
+    /**
+     * Adds a job unless the queue or the tenant's share of it is full.
+     *
+     * @param tenant Tenant submitting the job
+     * @param key Key of the job; jobs with the same key run one at a time
+     * @param job The job
+     * @return Whether the job was queued
+     */
+    public synchronized boolean offer(String tenant, String key, T job) {
+        Deque<Entry<T>> jobs = waiting.get(tenant);
+        if (size >= capacity || (jobs != null && jobs.size() >= tenantCapacity)) {
+            return false;
+        }
+        waiting.computeIfAbsent(tenant, t -> new ArrayDeque<>()).add(new Entry<>(key, job));
+        size++;
+        notifyAll();
+        return true;
+    }
+
+    /**
+     * Takes the next job, waiting until one can run. Call {@link #done(String)} with its key once it finished.
+     *
+     * @return The job
+     * @throws InterruptedException If interrupted while waiting
+     */
+    public synchronized T take() throws InterruptedException {
+        while (true) {
+            for (Iterator<Map.Entry<String, Deque<Entry<T>>>> tenants = waiting.entrySet().iterator(); tenants.hasNext(); ) {
+                Map.Entry<String, Deque<Entry<T>>> tenant = tenants.next();
+                Entry<T> next = takeRunnable(tenant.getValue());
+                if (next != null) {
+                    // the tenant goes to the back of the rotation, or leaves it if nothing is left
+                    tenants.remove();
+                    if (!tenant.getValue().isEmpty()) {
+                        waiting.put(tenant.getKey(), tenant.getValue());
+                    }
+                    size--;
+                    running.add(next.key());
+                    return next.job();
+                }
+            }
+            wait();
+        }
+    }
+
+    private Entry<T> takeRunnable(Deque<Entry<T>> jobs) {
+        for (Iterator<Entry<T>> it = jobs.iterator(); it.hasNext(); ) {
+            Entry<T> entry = it.next();
+            if (!running.contains(entry.key())) {
+                it.remove();
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Marks the job with a key as finished, so jobs with the same key can be taken.
+     */
+    public synchronized void done(String key) {
+        running.remove(key);
+        notifyAll();
+    }
+
+    /**
+     * @return Number of jobs waiting
+     */
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * @return Number of jobs taken and not yet done
+     */
+    public synchronized int running() {
+        return running.size();
+    }
+}
@@ -0,0 +1,35 @@
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.SourceHandle;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Source slice read from a file in the working tree.
+ *
+ * @param file Source file
+ * @param offset Byte offset of the first byte of the slice
+ * @param length Length of the slice in bytes
+ */
+public record FileSourceHandle(Path file, long offset, int length) implements SourceHandle {
+    @Override
+    public String text() {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            ByteBuffer buffer = ByteBuffer.allocate(length);
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, offset + buffer.position()) < 0) {
+                    throw new IOException("File changed since it was parsed: " + file);
+                }
+            }
+            return new String(buffer.array(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
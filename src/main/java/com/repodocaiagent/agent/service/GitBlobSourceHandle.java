@@ -0,0 +1,35 @@
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.SourceHandle;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.RepositoryCache;
+import org.eclipse.jgit.util.FS;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+/**
+ * Source slice read from a blob in a git object database.
+ * Repositories are shared through JGit's {@link RepositoryCache}, so reading many slices
+ * does not reopen the pack files each time.
+ *
+ * @param gitDir Git directory holding the blob
+ * @param blobId Id of the blob
+ * @param offset Byte offset of the first byte of the slice
+ * @param length Length of the slice in bytes
+ */
+public record GitBlobSourceHandle(Path gitDir, ObjectId blobId, int offset, int length) implements SourceHandle {
+    @Override
+    public String text() {
+        try (Repository repository = RepositoryCache.open(RepositoryCache.FileKey.exact(gitDir.toFile(), FS.DETECTED))) {
+            byte[] content = repository.open(blobId, Constants.OBJ_BLOB).getCachedBytes(Integer.MAX_VALUE);
+            return new String(content, offset, length, StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
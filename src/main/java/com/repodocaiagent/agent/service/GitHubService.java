@@ -1,103 +1,615 @@
-// src/main/java/com/repodocaiagent/agent/service/GitHubService.java
-package com.repodocaiagent.agent.service;
-
-import io.github.cdimascio.dotenv.Dotenv;
-import org.eclipse.jgit.api.Git;
-import org.eclipse.jgit.api.errors.GitAPIException;
-import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.Comparator;
-
-/**
- * Service to handle GitHub repository operations.
- */
-public class GitHubService {
-    private static final Logger logger = LoggerFactory.getLogger(GitHubService.class);
-    private final Dotenv dotenv;
-
-    public GitHubService(Dotenv dotenv) {
-        this.dotenv = dotenv;
-    }
-
-    /**
-     * Clones a GitHub repository to the exact target directory (overwriting it if it exists).
-     *
-     * @param repoUrl   GitHub repository URL (e.g., "https://github.com/username/repo.git")
-     * @param targetDir Final directory into which the repo will live (must contain .git, src/, pom.xml, etc)
-     * @return Path to the cloned repository (same as targetDir)
-     */
-    public Path cloneRepository(String repoUrl, Path targetDir) throws GitAPIException, IOException {
-        // ensure a clean slate
-        if (Files.exists(targetDir)) {
-            logger.info("Target directory exists, cleaning it up: {}", targetDir);
-            cleanupDirectory(targetDir);
-        }
-
-        // use a temp folder to clone so we don't leave a half-baked repo behind
-        Path tempDir = targetDir.getParent()
-                                .resolve(targetDir.getFileName() + "_temp_" + System.currentTimeMillis());
-        Files.createDirectories(tempDir);
-        logger.info("Cloning {} into {}", repoUrl, tempDir);
-
-        String token = dotenv.get("GITHUB_TOKEN");
-        Git git = Git.cloneRepository()
-                     .setURI(repoUrl)
-                     .setDirectory(tempDir.toFile())
-                     .setCredentialsProvider(
-                         (token != null && !token.isBlank())
-                             ? new UsernamePasswordCredentialsProvider(token, "")
-                             : null
-                     )
-                     .call();
-        git.close();
-
-        // move from tempDir → targetDir
-        Files.createDirectories(targetDir);
-        Files.walk(tempDir)
-             .filter(p -> !p.equals(tempDir))
-             .forEach(source -> {
-                 try {
-                     Path dest = targetDir.resolve(tempDir.relativize(source));
-                     if (Files.isDirectory(source)) {
-                         Files.createDirectories(dest);
-                     } else {
-                         Files.createDirectories(dest.getParent());
-                         Files.move(source, dest);
-                     }
-                 } catch (IOException ex) {
-                     logger.error("Error moving {} → {}", source, targetDir.resolve(tempDir.relativize(source)), ex);
-                 }
-             });
-
-        // cleanup
-        cleanupDirectory(tempDir);
-
-        if (!Files.exists(targetDir.resolve(".git"))) {
-            throw new IOException("Clone failed: .git folder not found in " + targetDir);
-        }
-        logger.info("Repository ready at {}", targetDir);
-        return targetDir;
-    }
-
-    /**
-     * Recursively delete a directory.
-     */
-    public void cleanupDirectory(Path dir) {
-        try {
-            if (Files.exists(dir)) {
-                Files.walk(dir)
-                     .sorted(Comparator.reverseOrder())
-                     .map(Path::toFile)
-                     .forEach(File::delete);
-            }
-        } catch (IOException e) {
-            logger.warn("Failed to delete {}: {}", dir, e.getMessage());
-        }
-    }
-}
+// src/main/java/com/repodocaiagent/agent/service/GitHubService.java
+package com.repodocaiagent.agent.service;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import org.eclipse.jgit.api.CloneCommand;
+import org.eclipse.jgit.api.FetchCommand;
+import org.eclipse.jgit.api.Git;
+import org.eclipse.jgit.api.ResetCommand;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.eclipse.jgit.diff.DiffEntry;
+import org.eclipse.jgit.dircache.DirCache;
+import org.eclipse.jgit.lib.ConfigConstants;
+import org.eclipse.jgit.lib.Constants;
+import org.eclipse.jgit.lib.ObjectId;
+import org.eclipse.jgit.lib.ObjectReader;
+import org.eclipse.jgit.lib.Ref;
+import org.eclipse.jgit.lib.RefUpdate;
+import org.eclipse.jgit.lib.Repository;
+import org.eclipse.jgit.lib.StoredConfig;
+import org.eclipse.jgit.revwalk.RevCommit;
+import org.eclipse.jgit.revwalk.RevWalk;
+import org.eclipse.jgit.storage.file.FileRepositoryBuilder;
+import org.eclipse.jgit.transport.CredentialsProvider;
+import org.eclipse.jgit.transport.TagOpt;
+import org.eclipse.jgit.transport.UsernamePasswordCredentialsProvider;
+import org.eclipse.jgit.treewalk.CanonicalTreeParser;
+import org.eclipse.jgit.treewalk.TreeWalk;
+import org.eclipse.jgit.treewalk.filter.OrTreeFilter;
+import org.eclipse.jgit.treewalk.filter.PathSuffixFilter;
+import org.eclipse.jgit.treewalk.filter.TreeFilter;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Service to handle GitHub repository operations.
+ */
+public class GitHubService {
+    private static final Logger logger = LoggerFactory.getLogger(GitHubService.class);
+    // repository config flag marking clones that only hold Java sources and build files
+    private static final String CONFIG_SECTION = "repodocaiagent";
+    private static final String CONFIG_SPARSE = "sparse";
+    private static final String[] SPARSE_SUFFIXES = {
+        ".java", "pom.xml", "build.gradle", "build.gradle.kts", "settings.gradle", "settings.gradle.kts"
+    };
+
+    private final Dotenv dotenv;
+    private final boolean sparseClone;
+
+    public GitHubService(Dotenv dotenv) {
+        this.dotenv = dotenv;
+        // "sparse": depth 1, default branch only, and only Java sources and build files checked out
+        this.sparseClone = "sparse".equalsIgnoreCase(dotenv.get("CLONE_MODE", "full"));
+    }
+
+    /**
+     * Clones a GitHub repository to the exact target directory (overwriting it if it exists).
+     *
+     * @param repoUrl   GitHub repository URL (e.g., "https://github.com/username/repo.git")
+     * @param targetDir Final directory into which the repo will live (must contain .git, src/, pom.xml, etc)
+     * @return Path to the cloned repository (same as targetDir)
+     */
+    public Path cloneRepository(String repoUrl, Path targetDir) throws GitAPIException, IOException {
+        return cloneRepository(repoUrl, targetDir, null);
+    }
+
+    /**
+     * Clones a GitHub repository to the exact target directory (overwriting it if it exists) and checks out a ref.
+     *
+     * @param repoUrl   GitHub repository URL (e.g., "https://github.com/username/repo.git")
+     * @param targetDir Final directory into which the repo will live (must contain .git, src/, pom.xml, etc)
+     * @param ref       Branch or tag to check out, null for the default branch; sparse clones only take branches
+     * @return Path to the cloned repository (same as targetDir)
+     */
+    public Path cloneRepository(String repoUrl, Path targetDir, String ref) throws GitAPIException, IOException {
+        // ensure a clean slate
+        if (Files.exists(targetDir)) {
+            logger.info("Target directory exists, cleaning it up: {}", targetDir);
+            cleanupDirectory(targetDir);
+        }
+
+        // use a temp folder to clone so we don't leave a half-baked repo behind
+        Path tempDir = targetDir.getParent()
+                                .resolve(targetDir.getFileName() + "_temp_" + System.currentTimeMillis());
+        Files.createDirectories(tempDir);
+        logger.info("Cloning {} into {}", repoUrl, tempDir);
+
+        CloneCommand clone = Git.cloneRepository()
+                                .setURI(repoUrl)
+                                .setDirectory(tempDir.toFile())
+                                .setCredentialsProvider(credentials());
+        String branch = null;
+        if (sparseClone) {
+            branch = ref != null ? ref : resolveDefaultBranch(repoUrl);
+            logger.info("Shallow sparse clone of branch {}", branch);
+            clone.setDepth(1)
+                 .setCloneAllBranches(false)
+                 .setBranchesToClone(List.of(Constants.R_HEADS + branch))
+                 .setBranch(Constants.R_HEADS + branch)
+                 .setNoCheckout(true);
+        } else if (ref != null) {
+            // JGit looks the name up as a branch, then as a tag
+            logger.info("Checking out {}", ref);
+            clone.setBranch(ref);
+        }
+        try (Git git = clone.call()) {
+            if (sparseClone) {
+                Repository repository = git.getRepository();
+                Ref remoteBranch = repository.exactRef(Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME + "/" + branch);
+                if (remoteBranch == null) {
+                    throw new IOException("Branch " + branch + " not found in " + repoUrl + " (sparse clones only take branches)");
+                }
+                // without a checkout JGit leaves HEAD unborn, so create the local branch and point HEAD at it
+                setLocalBranch(repository, branch, remoteBranch.getObjectId());
+                StoredConfig config = repository.getConfig();
+                config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch, ConfigConstants.CONFIG_KEY_REMOTE, Constants.DEFAULT_REMOTE_NAME);
+                config.setString(ConfigConstants.CONFIG_BRANCH_SECTION, branch, ConfigConstants.CONFIG_KEY_MERGE, Constants.R_HEADS + branch);
+                config.setBoolean(CONFIG_SECTION, null, CONFIG_SPARSE, true);
+                config.save();
+                sparseCheckout(git, remoteBranch.getObjectId());
+            }
+        } catch (GitAPIException | IOException | RuntimeException e) {
+            // a long-running server would otherwise collect a temp folder per failed clone
+            cleanupDirectory(tempDir);
+            throw e;
+        }
+
+        // move from tempDir → targetDir
+        Files.createDirectories(targetDir);
+        Files.walk(tempDir)
+             .filter(p -> !p.equals(tempDir))
+             .forEach(source -> {
+                 try {
+                     Path dest = targetDir.resolve(tempDir.relativize(source));
+                     if (Files.isDirectory(source)) {
+                         Files.createDirectories(dest);
+                     } else {
+                         Files.createDirectories(dest.getParent());
+                         Files.move(source, dest);
+                     }
+                 } catch (IOException ex) {
+                     logger.error("Error moving {} → {}", source, targetDir.resolve(tempDir.relativize(source)), ex);
+                 }
+             });
+
+        // cleanup
+        cleanupDirectory(tempDir);
+
+        if (!Files.exists(targetDir.resolve(".git"))) {
+            throw new IOException("Clone failed: .git folder not found in " + targetDir);
+        }
+        logger.info("Repository ready at {}", targetDir);
+        return targetDir;
+    }
+
+    /**
+     * Clones only the object database of a repository, without a working tree, into {@code targetDir/.git}.
+     * Only the latest commit of the default branch is fetched.
+     *
+     * @param repoUrl   GitHub repository URL (e.g., "https://github.com/username/repo.git")
+     * @param targetDir Directory that will hold the bare repository in its .git folder
+     * @return Path to the repository (same as targetDir)
+     */
+    public Path cloneBareRepository(String repoUrl, Path targetDir) throws GitAPIException, IOException {
+        return cloneBareRepository(repoUrl, targetDir, null);
+    }
+
+    /**
+     * Clones only the object database of a repository, without a working tree, into {@code targetDir/.git}.
+     * Only the latest commit of the given branch or tag is fetched, and HEAD points to it.
+     *
+     * @param repoUrl   GitHub repository URL (e.g., "https://github.com/username/repo.git")
+     * @param targetDir Directory that will hold the bare repository in its .git folder
+     * @param ref       Branch or tag to fetch, null for the default branch
+     * @return Path to the repository (same as targetDir)
+     */
+    public Path cloneBareRepository(String repoUrl, Path targetDir, String ref) throws GitAPIException, IOException {
+        if (Files.exists(targetDir)) {
+            logger.info("Target directory exists, cleaning it up: {}", targetDir);
+            cleanupDirectory(targetDir);
+        }
+        Path gitDir = targetDir.resolve(Constants.DOT_GIT);
+        Files.createDirectories(gitDir);
+
+        String refName = ref != null ? resolveRemoteRef(repoUrl, ref) : Constants.R_HEADS + resolveDefaultBranch(repoUrl);
+        logger.info("Cloning object database of {} ({}) into {}", repoUrl, Repository.shortenRefName(refName), gitDir);
+        try (Git git = Git.cloneRepository()
+                          .setURI(repoUrl)
+                          .setDirectory(gitDir.toFile())
+                          .setBare(true)
+                          .setDepth(1)
+                          .setCloneAllBranches(false)
+                          .setBranchesToClone(List.of(refName))
+                          .setBranch(refName)
+                          .setCredentialsProvider(credentials())
+                          .call()) {
+            Repository repository = git.getRepository();
+            if (refName.startsWith(Constants.R_TAGS)) {
+                // a tag is not a branch HEAD can follow, so HEAD is detached at its commit
+                ObjectId commit = repository.resolve(refName + "^{commit}");
+                if (commit == null) {
+                    throw new IOException("Tag " + ref + " was not fetched from " + repoUrl);
+                }
+                detachHead(repository, commit);
+            }
+            logger.info("Repository object database ready at {}", gitDir);
+        } catch (GitAPIException | IOException | RuntimeException e) {
+            cleanupDirectory(targetDir);
+            throw e;
+        }
+        return targetDir;
+    }
+
+    /**
+     * Creates a mirror clone (all refs, no working tree) of a repository.
+     *
+     * @param repoUrl   GitHub repository URL (e.g., "https://github.com/username/repo.git")
+     * @param mirrorDir Directory that will hold the bare mirror
+     */
+    public void cloneMirror(String repoUrl, Path mirrorDir) throws GitAPIException, IOException {
+        Files.createDirectories(mirrorDir);
+        logger.info("Creating mirror of {} in {}", repoUrl, mirrorDir);
+        try (Git git = Git.cloneRepository()
+                          .setURI(repoUrl)
+                          .setDirectory(mirrorDir.toFile())
+                          .setMirror(true)
+                          .setCredentialsProvider(credentials())
+                          .call()) {
+            logger.info("Mirror ready at {}", mirrorDir);
+        }
+    }
+
+    /**
+     * Fetches new objects into a mirror made by {@link #cloneMirror(String, Path)}, pruning deleted refs.
+     *
+     * @param mirrorDir Directory holding the bare mirror
+     */
+    public void fetchMirror(Path mirrorDir) throws GitAPIException, IOException {
+        try (Git git = Git.open(mirrorDir.toFile())) {
+            logger.info("Fetching updates into mirror {}", mirrorDir);
+            git.fetch()
+               .setRemoveDeletedRefs(true)
+               .setCredentialsProvider(credentials())
+               .call();
+        }
+    }
+
+    /**
+     * Streams every Java source at HEAD straight from the object database, without a working tree.
+     * Blobs are read one at a time as the stream is consumed; close the stream to release the repository.
+     *
+     * @param repoDir Directory holding the repository in its .git folder, or a bare repository such as a mirror
+     * @return Java sources in tree order
+     */
+    public Stream<JavaSource> javaSources(Path repoDir) throws IOException {
+        return javaSources(repoDir, Constants.HEAD);
+    }
+
+    /**
+     * Streams every Java source of a commit straight from the object database, without a working tree.
+     * Blobs are read one at a time as the stream is consumed; close the stream to release the repository.
+     *
+     * @param repoDir Directory holding the repository in its .git folder, or a bare repository such as a mirror
+     * @param revision Branch, tag or commit whose sources are read
+     * @return Java sources in tree order
+     */
+    public Stream<JavaSource> javaSources(Path repoDir, String revision) throws IOException {
+        Path gitDir = Files.isDirectory(repoDir.resolve(Constants.DOT_GIT)) ? repoDir.resolve(Constants.DOT_GIT) : repoDir;
+        Repository repository = new FileRepositoryBuilder()
+            .setGitDir(gitDir.toFile())
+            .setMustExist(true)
+            .build();
+        TreeWalk treeWalk = new TreeWalk(repository);
+        try {
+            ObjectId headTree = repository.resolve(revision + "^{tree}");
+            if (headTree == null) {
+                throw new IOException("Repository has no " + revision + " commit: " + repoDir);
+            }
+            treeWalk.addTree(headTree);
+            treeWalk.setRecursive(true);
+            treeWalk.setFilter(PathSuffixFilter.create(".java"));
+        } catch (IOException e) {
+            treeWalk.close();
+            repository.close();
+            throw e;
+        }
+
+        Iterator<JavaSource> blobs = new Iterator<>() {
+            private Boolean hasNext;
+
+            @Override
+            public boolean hasNext() {
+                if (hasNext == null) {
+                    try {
+                        hasNext = treeWalk.next();
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                }
+                return hasNext;
+            }
+
+            @Override
+            public JavaSource next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                hasNext = null;
+                try {
+                    ObjectId blobId = treeWalk.getObjectId(0);
+                    byte[] content = treeWalk.getObjectReader()
+                                             .open(blobId, Constants.OBJ_BLOB)
+                                             .getCachedBytes(Integer.MAX_VALUE);
+                    return new JavaSource(treeWalk.getPathString(), content, gitDir, blobId);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            }
+        };
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(blobs, Spliterator.ORDERED | Spliterator.NONNULL), false)
+                            .onClose(() -> {
+                                treeWalk.close();
+                                repository.close();
+                            });
+    }
+
+    /**
+     * Brings an existing clone up to date with its remote, discarding local changes to tracked files.
+     * Untracked files such as previously generated documentation are left in place.
+     *
+     * @param repoDir Directory containing a clone made by {@link #cloneRepository(String, Path)}
+     * @return Path to the updated repository (same as repoDir)
+     */
+    public Path updateRepository(Path repoDir) throws GitAPIException, IOException {
+        return updateRepository(repoDir, null);
+    }
+
+    /**
+     * Brings an existing clone up to date with its remote and checks out a ref, discarding local changes to
+     * tracked files. A branch is checked out as the local branch of the same name, a tag with a detached HEAD.
+     * Untracked files such as previously generated documentation are left in place.
+     *
+     * @param repoDir Directory containing a clone made by {@link #cloneRepository(String, Path, String)}
+     * @param ref     Branch or tag to check out, null for the branch checked out now; sparse clones only take branches
+     * @return Path to the updated repository (same as repoDir)
+     */
+    public Path updateRepository(Path repoDir, String ref) throws GitAPIException, IOException {
+        try (Git git = Git.open(repoDir.toFile())) {
+            Repository repository = git.getRepository();
+            String name = ref != null ? ref : repository.getBranch();
+            boolean sparse = repository.getConfig().getBoolean(CONFIG_SECTION, CONFIG_SPARSE, false);
+            logger.info("Fetching updates for {} ({})", repoDir, name);
+            FetchCommand fetch = git.fetch()
+                                    .setCredentialsProvider(credentials());
+            if (sparse) {
+                fetch.setDepth(1);
+            } else {
+                fetch.setTagOpt(TagOpt.FETCH_TAGS);
+            }
+            fetch.call();
+
+            ObjectId remoteBranch = repository.resolve(Constants.R_REMOTES + Constants.DEFAULT_REMOTE_NAME + "/" + name);
+            if (remoteBranch != null) {
+                setLocalBranch(repository, name, remoteBranch);
+                if (sparse) {
+                    // a hard reset would check out every file, so redo the sparse checkout instead
+                    sparseCheckout(git, remoteBranch);
+                    logger.info("Repository updated at {}", repoDir);
+                    return repoDir;
+                }
+            } else {
+                ObjectId tag = ref != null && !sparse ? repository.resolve(Constants.R_TAGS + ref + "^{commit}") : null;
+                if (tag == null) {
+                    throw new IOException((sparse ? "Branch " : "Branch or tag ") + name + " not found in the remote of " + repoDir
+                        + (sparse ? " (sparse clones only take branches)" : ""));
+                }
+                detachHead(repository, tag);
+            }
+            git.reset()
+               .setMode(ResetCommand.ResetType.HARD)
+               .setRef(Constants.HEAD)
+               .call();
+        }
+        logger.info("Repository updated at {}", repoDir);
+        return repoDir;
+    }
+
+    /**
+     * Resolves the commit currently checked out in a repository.
+     *
+     * @param repoDir Repository directory
+     * @return Commit SHA of HEAD
+     */
+    public String resolveHead(Path repoDir) throws IOException {
+        return resolveCommit(repoDir, Constants.HEAD);
+    }
+
+    /**
+     * Resolves the commit a branch, tag or other revision of a repository points to.
+     *
+     * @param repoDir Repository directory
+     * @param revision Revision to resolve
+     * @return Commit SHA
+     */
+    public String resolveCommit(Path repoDir, String revision) throws IOException {
+        try (Git git = Git.open(repoDir.toFile())) {
+            ObjectId commit = git.getRepository().resolve(revision + "^{commit}");
+            if (commit == null) {
+                throw new IOException("Repository has no " + revision + " commit: " + repoDir);
+            }
+            return commit.name();
+        }
+    }
+
+    /**
+     * Lists the files added, modified, deleted or renamed between two commits.
+     * Renamed files are reported under both their old and new path.
+     *
+     * @param repoDir Repository directory
+     * @param fromCommit Older commit SHA
+     * @param toCommit Newer commit SHA
+     * @return Repository-relative paths, or empty if either commit is not available locally
+     */
+    public Optional<Set<String>> changedFiles(Path repoDir, String fromCommit, String toCommit) throws GitAPIException, IOException {
+        try (Git git = Git.open(repoDir.toFile())) {
+            Repository repository = git.getRepository();
+            ObjectId fromTree;
+            ObjectId toTree;
+            try {
+                fromTree = repository.resolve(fromCommit + "^{tree}");
+                toTree = repository.resolve(toCommit + "^{tree}");
+            } catch (IOException e) {
+                logger.info("Commit {} is not available locally: {}", fromCommit, e.getMessage());
+                return Optional.empty();
+            }
+            if (fromTree == null || toTree == null) {
+                return Optional.empty();
+            }
+
+            try (ObjectReader reader = repository.newObjectReader()) {
+                CanonicalTreeParser oldTree = new CanonicalTreeParser();
+                oldTree.reset(reader, fromTree);
+                CanonicalTreeParser newTree = new CanonicalTreeParser();
+                newTree.reset(reader, toTree);
+
+                List<DiffEntry> diffs = git.diff()
+                                           .setOldTree(oldTree)
+                                           .setNewTree(newTree)
+                                           .setShowNameAndStatusOnly(true)
+                                           .call();
+                Set<String> paths = new HashSet<>();
+                for (DiffEntry diff : diffs) {
+                    if (!DiffEntry.DEV_NULL.equals(diff.getOldPath())) paths.add(diff.getOldPath());
+                    if (!DiffEntry.DEV_NULL.equals(diff.getNewPath())) paths.add(diff.getNewPath());
+                }
+                logger.info("{} files changed between {} and {}", paths.size(), fromCommit, toCommit);
+                return Optional.of(paths);
+            }
+        }
+    }
+
+    /**
+     * Finds the branch the remote HEAD points to.
+     */
+    private String resolveDefaultBranch(String repoUrl) throws GitAPIException {
+        Map<String, Ref> refs = Git.lsRemoteRepository()
+                                   .setRemote(repoUrl)
+                                   .setCredentialsProvider(credentials())
+                                   .setHeads(false)
+                                   .callAsMap();
+        Ref head = refs.get(Constants.HEAD);
+        if (head != null && head.isSymbolic()) {
+            return Repository.shortenRefName(head.getTarget().getName());
+        }
+        // servers that do not advertise the HEAD symref: pick a branch at the same commit, preferring main/master
+        if (head != null && head.getObjectId() != null) {
+            for (String candidate : List.of("main", "master")) {
+                Ref ref = refs.get(Constants.R_HEADS + candidate);
+                if (ref != null && head.getObjectId().equals(ref.getObjectId())) {
+                    return candidate;
+                }
+            }
+            for (Ref ref : refs.values()) {
+                if (ref.getName().startsWith(Constants.R_HEADS) && head.getObjectId().equals(ref.getObjectId())) {
+                    return Repository.shortenRefName(ref.getName());
+                }
+            }
+        }
+        return refs.containsKey(Constants.R_HEADS + "main") ? "main" : "master";
+    }
+
+    /**
+     * Finds whether a name is a branch or a tag of a remote repository, preferring the branch like git does.
+     *
+     * @return The full ref name
+     */
+    private String resolveRemoteRef(String repoUrl, String ref) throws GitAPIException, IOException {
+        Map<String, Ref> refs = Git.lsRemoteRepository()
+                                   .setRemote(repoUrl)
+                                   .setCredentialsProvider(credentials())
+                                   .callAsMap();
+        for (String prefix : List.of(Constants.R_HEADS, Constants.R_TAGS)) {
+            if (refs.containsKey(prefix + ref)) {
+                return prefix + ref;
+            }
+        }
+        throw new IOException("Branch or tag " + ref + " not found in " + repoUrl);
+    }
+
+    private static void detachHead(Repository repository, ObjectId commit) throws IOException {
+        RefUpdate headUpdate = repository.updateRef(Constants.HEAD, true);
+        headUpdate.setNewObjectId(commit);
+        headUpdate.forceUpdate();
+    }
+
+    private static void setLocalBranch(Repository repository, String branch, ObjectId commit) throws IOException {
+        RefUpdate branchUpdate = repository.updateRef(Constants.R_HEADS + branch);
+        branchUpdate.setNewObjectId(commit);
+        branchUpdate.forceUpdate();
+        repository.updateRef(Constants.HEAD).link(Constants.R_HEADS + branch);
+    }
+
+    /**
+     * Replaces the working tree contents with only the Java sources and build files of a commit.
+     * JGit has no native sparse checkout, so the matching paths are listed from the commit tree
+     * and checked out explicitly.
+     */
+    private void sparseCheckout(Git git, ObjectId commitId) throws IOException, GitAPIException {
+        Repository repository = git.getRepository();
+        List<String> paths = new ArrayList<>();
+        RevCommit commit;
+        try (RevWalk revWalk = new RevWalk(repository);
+             TreeWalk treeWalk = new TreeWalk(repository)) {
+            commit = revWalk.parseCommit(commitId);
+            treeWalk.addTree(commit.getTree());
+            treeWalk.setRecursive(true);
+            TreeFilter[] suffixes = new TreeFilter[SPARSE_SUFFIXES.length];
+            for (int i = 0; i < SPARSE_SUFFIXES.length; i++) {
+                suffixes[i] = PathSuffixFilter.create(SPARSE_SUFFIXES[i]);
+            }
+            treeWalk.setFilter(OrTreeFilter.create(suffixes));
+            while (treeWalk.next()) {
+                paths.add(treeWalk.getPathString());
+            }
+        }
+
+        // drop files checked out for an earlier commit that are gone from this one
+        Path workTree = repository.getWorkTree().toPath();
+        Set<String> keep = new HashSet<>(paths);
+        DirCache index = repository.lockDirCache();
+        try {
+            for (int i = 0; i < index.getEntryCount(); i++) {
+                String path = index.getEntry(i).getPathString();
+                if (!keep.contains(path)) {
+                    Files.deleteIfExists(workTree.resolve(path));
+                }
+            }
+            index.builder().commit(); // empty index; the checkout below re-adds the sparse paths
+        } finally {
+            index.unlock();
+        }
+
+        if (!paths.isEmpty()) {
+            git.checkout()
+               .setStartPoint(commit)
+               .addPaths(paths)
+               .call();
+        }
+        logger.info("Checked out {} Java sources and build files at {}", paths.size(), commit.name());
+    }
+
+    /**
+     * Credentials for private repositories, taken from GITHUB_TOKEN.
+     */
+    private CredentialsProvider credentials() {
+        String token = dotenv.get("GITHUB_TOKEN");
+        return (token != null && !token.isBlank())
+            ? new UsernamePasswordCredentialsProvider(token, "")
+            : null;
+    }
+
+    /**
+     * Recursively delete a directory.
+     */
+    public void cleanupDirectory(Path dir) {
+        try {
+            if (Files.exists(dir)) {
+                Files.walk(dir)
+                     .sorted(Comparator.reverseOrder())
+                     .map(Path::toFile)
+                     .forEach(File::delete);
+            }
+        } catch (IOException e) {
+            logger.warn("Failed to delete {}: {}", dir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Regenerates only the documentation affected by source changes since the last documented commit.
+ */
+public class IncrementalDocumentationService {
+    private static final Logger logger = LoggerFactory.getLogger(IncrementalDocumentationService.class);
+    private static final List<String> REPOSITORY_DOCS = List.of("README.md", "getting-started.md", "faq.md");
+
+    private final GitHubService gitHubService;
+    private final JavaParserService parserService;
+    private final DocumentationGeneratorService generatorService;
+    private final double repositoryDocsThreshold;
+
+    /**
+     * @param repositoryDocsThreshold Fraction of classes that must be added or removed before the
+     *                                README, getting started guide and FAQ are regenerated
+     */
+    public IncrementalDocumentationService(GitHubService gitHubService, JavaParserService parserService,
+                                           DocumentationGeneratorService generatorService, double repositoryDocsThreshold) {
+        this.gitHubService = gitHubService;
+        this.parserService = parserService;
+        this.generatorService = generatorService;
+        this.repositoryDocsThreshold = repositoryDocsThreshold;
+    }
+
+    /**
+     * Checks whether a documentation folder holds a manifest from a previous run.
+     *
+     * @param docRoot The RepoDocAIAgent output folder
+     */
+    public boolean hasManifest(Path docRoot) {
+        return Files.exists(docRoot.resolve(DocumentationManifest.FILE_NAME));
+    }
+
+    /**
+     * Records the state of a full documentation run so the next run can be incremental. Files whose class
+     * documentation was not written keep the entry of an earlier manifest, or get none, so the next run
+     * documents them again.
+     *
+     * @param repoPath Repository root
+     * @param docRoot The RepoDocAIAgent output folder
+     * @param javaFiles All Java files found in the repository
+     * @param classes Classes parsed from those files
+     * @param documented Classes whose documentation file was written
+     */
+    public void recordFullRun(Path repoPath, Path docRoot, List<Path> javaFiles, List<JavaClassDoc> classes,
+                              List<JavaClassDoc> documented) throws IOException {
+        Map<Path, String> classNames = classes.stream()
+            .collect(Collectors.toMap(JavaClassDoc::getSourceFile, JavaClassDoc::getName, (first, second) -> first));
+        Set<Path> documentedFiles = documented.stream().map(JavaClassDoc::getSourceFile).collect(Collectors.toSet());
+        Map<String, DocumentationManifest.Entry> previous = DocumentationManifest.load(docRoot)
+            .map(DocumentationManifest::getFiles)
+            .orElse(Map.of());
+
+        DocumentationManifest manifest = new DocumentationManifest(gitHubService.resolveHead(repoPath));
+        for (Path javaFile : javaFiles) {
+            String path = relativePath(repoPath, javaFile);
+            String className = classNames.get(javaFile);
+            if (className == null || documentedFiles.contains(javaFile)) {
+                manifest.put(path, new DocumentationManifest.Entry(DocumentationManifest.hashFile(javaFile), className));
+            } else if (previous.containsKey(path)) {
+                manifest.put(path, previous.get(path));
+            }
+        }
+        manifest.save(docRoot);
+        logger.info("Recorded documentation manifest for {} files at {}", javaFiles.size(), manifest.getCommit());
+    }
+
+    /**
+     * Regenerates class documentation for Java files changed since the commit in the manifest,
+     * removes documentation for deleted classes, and refreshes the repository-level documents
+     * when the class inventory changed by more than the configured threshold.
+     *
+     * @param repoPath Repository root, already updated to the commit to document
+     * @param repositoryName Name of the repository
+     * @param docRoot The RepoDocAIAgent output folder containing the previous manifest
+     * @param javaFiles All Java files currently in the repository
+     * @param maxConcurrency Maximum number of classes documented at the same time
+     */
+    public void regenerate(Path repoPath, String repositoryName, Path docRoot, List<Path> javaFiles, int maxConcurrency)
+            throws IOException, GitAPIException {
+        DocumentationManifest previous = DocumentationManifest.load(docRoot)
+            .orElseThrow(() -> new IOException("No documentation manifest found in " + docRoot));
+        String head = gitHubService.resolveHead(repoPath);
+        Path apiRoot = docRoot.resolve("api");
+
+        Map<String, Path> currentFiles = new HashMap<>();
+        for (Path javaFile : javaFiles) {
+            currentFiles.put(relativePath(repoPath, javaFile), javaFile);
+        }
+
+        // Without the previous commit locally (e.g. after a shallow fetch) every file's hash is compared instead
+        Set<String> candidates = gitHubService.changedFiles(repoPath, previous.getCommit(), head)
+            .orElseGet(() -> {
+                Set<String> all = new HashSet<>(currentFiles.keySet());
+                all.addAll(previous.getFiles().keySet());
+                return all;
+            });
+
+        DocumentationManifest next = new DocumentationManifest(head);
+        List<Path> changedFiles = new ArrayList<>();
+        for (Map.Entry<String, Path> file : currentFiles.entrySet()) {
+            DocumentationManifest.Entry old = previous.getFiles().get(file.getKey());
+            if (old != null && !candidates.contains(file.getKey())) {
+                next.put(file.getKey(), old);
+                continue;
+            }
+            String hash = DocumentationManifest.hashFile(file.getValue());
+            if (old != null && old.hash().equals(hash)) {
+                next.put(file.getKey(), old);
+            } else {
+                changedFiles.add(file.getValue());
+                next.put(file.getKey(), new DocumentationManifest.Entry(hash, null));
+            }
+        }
+
+        List<JavaClassDoc> changedClasses = parserService.parseAll(changedFiles);
+        for (JavaClassDoc classDoc : changedClasses) {
+            String path = relativePath(repoPath, classDoc.getSourceFile());
+            next.put(path, new DocumentationManifest.Entry(next.getFiles().get(path).hash(), classDoc.getName()));
+        }
+
+        Set<String> previousClasses = classNames(previous);
+        Set<String> currentClasses = classNames(next);
+        Set<String> removedClasses = new HashSet<>(previousClasses);
+        removedClasses.removeAll(currentClasses);
+        Set<String> addedClasses = new HashSet<>(currentClasses);
+        addedClasses.removeAll(previousClasses);
+
+        logger.info("{} of {} Java files changed since {}: {} classes added, {} removed",
+            changedFiles.size(), currentFiles.size(), previous.getCommit(), addedClasses.size(), removedClasses.size());
+
+        for (String className : removedClasses) {
+            Path stale = apiRoot.resolve(className + ".md");
+            if (Files.deleteIfExists(stale)) {
+                logger.info("Removed documentation for deleted class {}", stale);
+            }
+        }
+        // a class whose documentation failed keeps its previous entry, or none, so the next run retries it
+        Set<JavaClassDoc> documented = Collections.newSetFromMap(new IdentityHashMap<>());
+        documented.addAll(generatorService.generateClassDocumentation(changedClasses, apiRoot, maxConcurrency));
+        for (JavaClassDoc classDoc : changedClasses) {
+            if (!documented.contains(classDoc)) {
+                String path = relativePath(repoPath, classDoc.getSourceFile());
+                DocumentationManifest.Entry old = previous.getFiles().get(path);
+                if (old != null) {
+                    next.put(path, old);
+                } else {
+                    next.remove(path);
+                }
+            }
+        }
+
+        int inventoryChanges = addedClasses.size() + removedClasses.size();
+        boolean repositoryDocsMissing = REPOSITORY_DOCS.stream().anyMatch(doc -> !Files.exists(docRoot.resolve(doc)));
+        if (repositoryDocsMissing
+                || (inventoryChanges > 0 && inventoryChanges >= repositoryDocsThreshold * Math.max(1, currentClasses.size()))) {
+            logger.info("Class inventory changed by {} classes, refreshing repository-level documentation", inventoryChanges);
+            RepositoryIndex index = RepositoryIndex.build(parserService.parseAll(javaFiles));
+            generatorService.generateProjectOverview(index, repositoryName, docRoot);
+            generatorService.generateGettingStartedGuide(index, repositoryName, docRoot);
+            generatorService.generateFaqAndTroubleshooting(index, repositoryName, docRoot);
+        } else {
+            logger.info("Class inventory unchanged enough to keep repository-level documentation");
+        }
+
+        next.save(docRoot);
+    }
+
+    private static Set<String> classNames(DocumentationManifest manifest) {
+        return manifest.getFiles().values().stream()
+            .map(DocumentationManifest.Entry::className)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
+    }
+
+    private static String relativePath(Path repoPath, Path file) {
+        return repoPath.relativize(file).toString().replace(File.separatorChar, '/');
+    }
+}
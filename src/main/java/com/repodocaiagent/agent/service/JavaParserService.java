@@ -1,286 +1,502 @@
-package com.repodocaiagent.agent.service;
-
-import com.repodocaiagent.agent.model.FieldDoc;
-import com.repodocaiagent.agent.model.JavaClassDoc;
-import com.repodocaiagent.agent.model.MethodDoc;
-import com.repodocaiagent.agent.model.ParameterDoc;
-import com.github.javaparser.JavaParser;
-import com.github.javaparser.ParseResult;
-import com.github.javaparser.ast.CompilationUnit;
-import com.github.javaparser.ast.NodeList;
-import com.github.javaparser.ast.body.*;
-import com.github.javaparser.ast.comments.JavadocComment;
-import com.github.javaparser.ast.expr.AnnotationExpr;
-import com.github.javaparser.ast.expr.MemberValuePair;
-import com.github.javaparser.ast.type.ClassOrInterfaceType;
-import com.github.javaparser.ast.type.Type;
-import com.github.javaparser.javadoc.JavadocBlockTag;
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-
-import java.io.File;
-import java.io.IOException;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.util.*;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
-
-/**
- * Service to parse Java source files and extract relevant documentation data.
- */
-public class JavaParserService {
-    private static final Logger logger = LoggerFactory.getLogger(JavaParserService.class);
-
-    /**
-     * Find all Java files in the given repository path.
-     *
-     * @param repoPath Path to the repository
-     * @return List of Java file paths
-     * @throws IOException If there is an error accessing the files
-     */
-    public List<Path> findJavaFiles(Path repoPath) throws IOException {
-        logger.info("Finding Java files in repository: {}", repoPath);
-        
-        try (Stream<Path> walk = Files.walk(repoPath)) {
-            return walk
-                .filter(Files::isRegularFile)
-                .filter(p -> p.toString().endsWith(".java"))
-                .collect(Collectors.toList());
-        }
-    }
-
-    /**
-     * Parse a Java file and extract class documentation.
-     *
-     * @param javaFile Java file to parse
-     * @return JavaClassDoc containing parsed class information or null if parsing fails
-     */
-    public JavaClassDoc parseJavaFile(Path javaFile) {
-        logger.info("Parsing Java file: {}", javaFile);
-        
-        try {
-            JavaParser parser = new JavaParser();
-            ParseResult<CompilationUnit> result = parser.parse(javaFile);
-            
-            if (!result.isSuccessful()) {
-                logger.warn("Failed to parse {}: {}", javaFile, result.getProblems());
-                return null;
-            }
-            
-            CompilationUnit cu = result.getResult().orElse(null);
-            if (cu == null) {
-                return null;
-            }
-            
-            // Extract the primary type declaration from the file
-            Optional<TypeDeclaration<?>> primaryType = cu.getPrimaryType();
-            if (primaryType.isEmpty() || !(primaryType.get() instanceof ClassOrInterfaceDeclaration)) {
-                return null;
-            }
-            
-            ClassOrInterfaceDeclaration classDecl = (ClassOrInterfaceDeclaration) primaryType.get();
-            
-            // Build the JavaClassDoc
-            JavaClassDoc.JavaClassDocBuilder builder = JavaClassDoc.builder()
-                .name(classDecl.getNameAsString())
-                .packageName(cu.getPackageDeclaration().isPresent() ?
-                             cu.getPackageDeclaration().get().getNameAsString() : "")
-                .fullyQualifiedName(
-                    (cu.getPackageDeclaration().isPresent() ?
-                    cu.getPackageDeclaration().get().getNameAsString() + "." : "") + 
-                    classDecl.getNameAsString()
-                )
-                .type(classDecl.isInterface() ? "INTERFACE" : "CLASS")
-                .isPublic(classDecl.isPublic())
-                .isAbstract(classDecl.isAbstract())
-                .sourceCode(classDecl.toString());
-            
-            // Extract class description from Javadoc
-            classDecl.getJavadoc().ifPresent(javadoc -> 
-                builder.description(javadoc.getDescription().toText())
-            );
-            
-            // Extract implemented interfaces
-            if (!classDecl.getImplementedTypes().isEmpty()) {
-                List<String> interfaces = classDecl.getImplementedTypes().stream()
-                    .map(ClassOrInterfaceType::getNameAsString)
-                    .collect(Collectors.toList());
-                builder.implementedInterfaces(interfaces);
-            }
-            
-            // Extract super class
-            if (!classDecl.getExtendedTypes().isEmpty()) {
-                builder.superClass(classDecl.getExtendedTypes(0).getNameAsString());
-            }
-            
-            // Extract type parameters
-            if (!classDecl.getTypeParameters().isEmpty()) {
-                List<String> typeParams = classDecl.getTypeParameters().stream()
-                    .map(Object::toString)
-                    .collect(Collectors.toList());
-                builder.typeParameters(typeParams);
-            }
-            
-            // Extract fields
-            List<FieldDoc> fields = new ArrayList<>();
-            for (FieldDeclaration field : classDecl.getFields()) {
-                for (VariableDeclarator var : field.getVariables()) {
-                    FieldDoc.FieldDocBuilder fieldBuilder = FieldDoc.builder()
-                        .name(var.getNameAsString())
-                        .type(var.getTypeAsString())
-                        .isPublic(field.isPublic())
-                        .isStatic(field.isStatic())
-                        .isFinal(field.isFinal());
-                    
-                    // Extract field javadoc
-                    field.getJavadoc().ifPresent(javadoc ->
-                        fieldBuilder.description(javadoc.getDescription().toText())
-                    );
-                    
-                    // Extract field initial value if present
-                    var.getInitializer().ifPresent(init ->
-                        fieldBuilder.initialValue(init.toString())
-                    );
-                    
-                    // Extract annotations
-                    if (!field.getAnnotations().isEmpty()) {
-                        Map<String, String> annotations = extractAnnotations(field.getAnnotations());
-                        fieldBuilder.annotations(annotations);
-                    }
-                    
-                    fields.add(fieldBuilder.build());
-                }
-            }
-            builder.fields(fields);
-            
-            // Extract methods
-            List<MethodDoc> methods = new ArrayList<>();
-            for (MethodDeclaration method : classDecl.getMethods()) {
-                MethodDoc.MethodDocBuilder methodBuilder = MethodDoc.builder()
-                    .name(method.getNameAsString())
-                    .returnType(method.getTypeAsString())
-                    .signature(method.getDeclarationAsString())
-                    .isPublic(method.isPublic())
-                    .isStatic(method.isStatic())
-                    .isAbstract(method.isAbstract())
-                    .sourceCode(method.toString());
-                  // Extract method Javadoc
-                if (method.getJavadoc().isPresent()) {
-                    com.github.javaparser.javadoc.Javadoc javadoc = method.getJavadoc().get();
-                    methodBuilder.description(javadoc.getDescription().toText());
-                    
-                    // Extract return description
-                    List<JavadocBlockTag> returnTags = javadoc.getBlockTags().stream()
-                        .filter(tag -> tag.getType() == JavadocBlockTag.Type.RETURN)
-                        .collect(Collectors.toList());
-                    
-                    if (!returnTags.isEmpty()) {
-                        methodBuilder.returnDescription(returnTags.get(0).getContent().toText());
-                    }
-                      // Extract exception information
-                    List<JavadocBlockTag> exceptionTags = javadoc.getBlockTags().stream()
-                        .filter(tag -> tag.getType() == JavadocBlockTag.Type.THROWS ||
-                                      tag.getType() == JavadocBlockTag.Type.EXCEPTION)
-                        .collect(Collectors.toList());
-                    
-                    if (!exceptionTags.isEmpty()) {
-                        List<String> exceptions = new ArrayList<>();
-                        Map<String, String> exceptionDescriptions = new HashMap<>();
-                        
-                        for (JavadocBlockTag tag : exceptionTags) {
-                            String exceptionName = tag.getName().isPresent() ? tag.getName().get() : "";
-                            exceptions.add(exceptionName);
-                            exceptionDescriptions.put(exceptionName, tag.getContent().toText());
-                        }
-                        
-                        methodBuilder.exceptions(exceptions);
-                        methodBuilder.exceptionDescriptions(exceptionDescriptions);
-                    }
-                }
-                
-                // Extract parameters
-                List<ParameterDoc> parameters = new ArrayList<>();
-                for (Parameter param : method.getParameters()) {
-                    ParameterDoc.ParameterDocBuilder paramBuilder = ParameterDoc.builder()
-                        .name(param.getNameAsString())
-                        .type(param.getTypeAsString())
-                        .isRequired(!param.isVarArgs());
-                      // If javadoc present, try to find parameter description
-                    if (method.getJavadoc().isPresent()) {
-                        List<JavadocBlockTag> paramTags = method.getJavadoc().get().getBlockTags().stream()
-                            .filter(tag -> tag.getType() == JavadocBlockTag.Type.PARAM &&
-                                          tag.getName().isPresent() &&
-                                          tag.getName().get().equals(param.getNameAsString()))
-                            .collect(Collectors.toList());
-                        
-                        if (!paramTags.isEmpty()) {
-                            paramBuilder.description(paramTags.get(0).getContent().toText());
-                        }
-                    }
-                    
-                    parameters.add(paramBuilder.build());
-                }
-                methodBuilder.parameters(parameters);
-                
-                // Extract method annotations
-                if (!method.getAnnotations().isEmpty()) {
-                    Map<String, String> annotations = extractAnnotations(method.getAnnotations());
-                    methodBuilder.annotations(annotations);
-                }
-                
-                // Extract method type parameters
-                if (!method.getTypeParameters().isEmpty()) {
-                    List<String> typeParams = method.getTypeParameters().stream()
-                        .map(Object::toString)
-                        .collect(Collectors.toList());
-                    methodBuilder.typeParameters(typeParams);
-                }
-                
-                methods.add(methodBuilder.build());
-            }
-            builder.methods(methods);
-            
-            // Extract class annotations
-            if (!classDecl.getAnnotations().isEmpty()) {
-                Map<String, String> annotations = extractAnnotations(classDecl.getAnnotations());
-                builder.annotations(annotations);
-            }
-            
-            return builder.build();
-        } catch (Exception e) {
-            logger.error("Error parsing Java file {}: {}", javaFile, e.getMessage(), e);
-            return null;
-        }
-    }
-    
-    /**
-     * Extract annotation names and their values.
-     *
-     * @param annotations List of annotations to process
-     * @return Map of annotation names to their value expressions
-     */
-    private Map<String, String> extractAnnotations(NodeList<AnnotationExpr> annotations) {
-        Map<String, String> result = new HashMap<>();
-        
-        for (AnnotationExpr annotation : annotations) {
-            String name = annotation.getNameAsString();
-            String value = "";
-            
-            if (annotation.isSingleMemberAnnotationExpr()) {
-                value = annotation.asSingleMemberAnnotationExpr().getMemberValue().toString();
-            } else if (annotation.isNormalAnnotationExpr()) {
-                List<MemberValuePair> pairs = annotation.asNormalAnnotationExpr().getPairs();
-                if (!pairs.isEmpty()) {
-                    value = pairs.stream()
-                        .map(pair -> pair.getNameAsString() + "=" + pair.getValue().toString())
-                        .collect(Collectors.joining(", "));
-                }
-            }
-            
-            result.put(name, value);
-        }
-        
-        return result;
-    }
-}
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.FieldDoc;
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import com.repodocaiagent.agent.model.MethodDoc;
+import com.repodocaiagent.agent.model.ParameterDoc;
+import com.repodocaiagent.agent.model.SourceHandle;
+import com.github.javaparser.JavaParser;
+import com.github.javaparser.ParseResult;
+import com.github.javaparser.ParserConfiguration;
+import com.github.javaparser.ast.CompilationUnit;
+import com.github.javaparser.ast.Node;
+import com.github.javaparser.ast.NodeList;
+import com.github.javaparser.ast.body.*;
+import com.github.javaparser.ast.comments.JavadocComment;
+import com.github.javaparser.ast.expr.AnnotationExpr;
+import com.github.javaparser.ast.expr.MemberValuePair;
+import com.github.javaparser.ast.type.ClassOrInterfaceType;
+import com.github.javaparser.ast.type.Type;
+import com.github.javaparser.javadoc.JavadocBlockTag;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Service to parse Java source files and extract relevant documentation data.
+ */
+public class JavaParserService {
+    private static final Logger logger = LoggerFactory.getLogger(JavaParserService.class);
+
+    private final boolean fastProfile;
+    private final SourceDiscovery discovery;
+    private final ParseCache cache;
+    // JavaParser instances are not thread-safe, so each worker thread keeps its own configured parser
+    private final ThreadLocal<JavaParser> parsers = ThreadLocal.withInitial(() -> new JavaParser(createConfiguration()));
+
+    public JavaParserService() {
+        this(false);
+    }
+
+    /**
+     * @param fastProfile When true, parse with a fixed language level, without token storage or
+     *                    lexical preservation, and only attribute comments directly preceding a declaration
+     */
+    public JavaParserService(boolean fastProfile) {
+        this(fastProfile, new SourceDiscovery());
+    }
+
+    /**
+     * @param fastProfile When true, parse with a fixed language level, without token storage or
+     *                    lexical preservation, and only attribute comments directly preceding a declaration
+     * @param discovery Decides which files of a repository are Java sources to document
+     */
+    public JavaParserService(boolean fastProfile, SourceDiscovery discovery) {
+        this(fastProfile, discovery, new ParseCache(0));
+    }
+
+    /**
+     * @param fastProfile When true, parse with a fixed language level, without token storage or
+     *                    lexical preservation, and only attribute comments directly preceding a declaration
+     * @param discovery Decides which files of a repository are Java sources to document
+     * @param cache Classes parsed earlier, possibly shared with other parser services
+     */
+    public JavaParserService(boolean fastProfile, SourceDiscovery discovery, ParseCache cache) {
+        this.fastProfile = fastProfile;
+        this.discovery = discovery;
+        this.cache = cache;
+    }
+
+    /**
+     * Creates the parser configuration for the selected parse profile.
+     */
+    private ParserConfiguration createConfiguration() {
+        ParserConfiguration configuration = new ParserConfiguration();
+        if (fastProfile) {
+            configuration
+                .setLanguageLevel(ParserConfiguration.LanguageLevel.JAVA_17)
+                .setStoreTokens(false)
+                .setLexicalPreservationEnabled(false)
+                // Javadoc always sits directly above its declaration; skip detached comments
+                .setAttributeComments(true)
+                .setDoNotAssignCommentsPrecedingEmptyLines(true);
+        }
+        return configuration;
+    }
+
+    /**
+     * Find all Java files in the given repository path, skipping ignored and excluded directories.
+     *
+     * @param repoPath Path to the repository
+     * @return List of Java file paths
+     * @throws IOException If there is an error accessing the files
+     */
+    public List<Path> findJavaFiles(Path repoPath) throws IOException {
+        logger.info("Finding Java files in repository: {}", repoPath);
+        
+        return discovery.find(repoPath);
+    }
+
+    /**
+     * Find all Java files in the given repository path as a stream, for consumers that take sources
+     * one at a time. The directory tree is walked in parallel when the first file is requested.
+     *
+     * @param repoPath Path to the repository
+     * @return Java file paths; reading them throws {@link UncheckedIOException} if the repository cannot be read
+     */
+    public Stream<Path> streamJavaFiles(Path repoPath) {
+        return Stream.of(repoPath).flatMap(root -> {
+            try {
+                return findJavaFiles(root).stream();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+    }
+
+    /**
+     * Parse many Java files in parallel on all available cores.
+     *
+     * @param javaFiles Java files to parse
+     * @return Parsed classes in the order of the given files, skipping files that could not be parsed
+     */
+    public List<JavaClassDoc> parseAll(List<Path> javaFiles) {
+        int workers = Runtime.getRuntime().availableProcessors();
+        logger.info("Parsing {} Java files on {} threads", javaFiles.size(), workers);
+
+        ForkJoinPool pool = new ForkJoinPool(workers);
+        try {
+            List<JavaClassDoc> classes = pool.submit(() -> javaFiles.parallelStream()
+                    .map(this::parseJavaFile)
+                    .filter(Objects::nonNull)
+                    .collect(Collectors.toList()))
+                .join();
+            logger.info("Parsed {} classes from {} Java files", classes.size(), javaFiles.size());
+            return classes;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Parse in-memory sources on all available cores while they are still being read.
+     * The number of sources buffered ahead of the parsers is bounded.
+     *
+     * @param sources Sources to parse; consumed and closed by this method
+     * @param root Directory the source paths are resolved against to form each class's source file
+     * @return Parsed classes in the order of the given sources, skipping sources that could not be parsed
+     */
+    public List<JavaClassDoc> parseAll(Stream<JavaSource> sources, Path root) {
+        int workers = Runtime.getRuntime().availableProcessors();
+        logger.info("Parsing Java sources on {} threads", workers);
+
+        ExecutorService pool = Executors.newFixedThreadPool(workers);
+        Semaphore window = new Semaphore(workers * 4);
+        List<Future<JavaClassDoc>> futures = new ArrayList<>();
+        try (sources) {
+            sources.forEach(source -> {
+                window.acquireUninterruptibly();
+                futures.add(pool.submit(() -> {
+                    try {
+                        return parseJavaSource(source, root);
+                    } finally {
+                        window.release();
+                    }
+                }));
+            });
+        } finally {
+            pool.shutdown();
+        }
+
+        List<JavaClassDoc> classes = new ArrayList<>(futures.size());
+        for (Future<JavaClassDoc> future : futures) {
+            try {
+                JavaClassDoc classDoc = future.get();
+                if (classDoc != null) {
+                    classes.add(classDoc);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while parsing Java sources", e);
+            } catch (ExecutionException e) {
+                logger.error("Error parsing Java source: {}", e.getCause().getMessage(), e.getCause());
+            }
+        }
+        logger.info("Parsed {} classes from {} Java sources", classes.size(), futures.size());
+        return classes;
+    }
+
+    /**
+     * Parse a Java file and extract class documentation.
+     *
+     * @param javaFile Java file to parse
+     * @return JavaClassDoc containing parsed class information or null if parsing fails
+     */
+    public JavaClassDoc parseJavaFile(Path javaFile) {
+        logger.debug("Parsing Java file: {}", javaFile);
+        
+        try {
+            byte[] content = Files.readAllBytes(javaFile);
+            return cache.get(javaFile, "", content,
+                () -> toClassDoc(parsers.get().parse(new ByteArrayInputStream(content)), javaFile, new SourceOffsets(content),
+                    (offset, length) -> new FileSourceHandle(javaFile, offset, length)));
+        } catch (Exception e) {
+            logger.error("Error parsing Java file {}: {}", javaFile, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Parse a Java source read from a git object database.
+     *
+     * @param source The source blob
+     * @param root Directory the source path is resolved against to form the class's source file
+     * @return JavaClassDoc containing parsed class information or null if parsing fails
+     */
+    public JavaClassDoc parseJavaSource(JavaSource source, Path root) {
+        Path sourcePath = root.resolve(source.path());
+        return cache.get(sourcePath, source.gitDir().toString(), source.content(), () -> parseSource(sourcePath, source.content(),
+            (offset, length) -> new GitBlobSourceHandle(source.gitDir(), source.blobId(), offset, length)));
+    }
+
+    /**
+     * Parse Java source held in memory, such as a blob read from a git object database.
+     *
+     * @param sourcePath Path the source is known under, used for logging and as the class source file
+     * @param content UTF-8 encoded source
+     * @param sources Creates handles through which the source text of the class and its methods is read back later
+     * @return JavaClassDoc containing parsed class information or null if parsing fails
+     */
+    public JavaClassDoc parseSource(Path sourcePath, byte[] content, SourceHandleFactory sources) {
+        logger.debug("Parsing Java source: {}", sourcePath);
+        
+        try {
+            return toClassDoc(parsers.get().parse(new ByteArrayInputStream(content)), sourcePath, new SourceOffsets(content), sources);
+        } catch (Exception e) {
+            logger.error("Error parsing Java source {}: {}", sourcePath, e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * Creates a handle for a byte range of the source being parsed.
+     */
+    @FunctionalInterface
+    public interface SourceHandleFactory {
+        SourceHandle create(int offset, int length);
+    }
+
+    /**
+     * Creates a handle for the source text of a node, or null if the node has no position.
+     */
+    private static SourceHandle sourceOf(Node node, SourceOffsets offsets, SourceHandleFactory sources) {
+        return node.getRange()
+            .map(range -> {
+                int begin = offsets.begin(range);
+                return sources.create(begin, offsets.end(range) - begin);
+            })
+            .orElse(null);
+    }
+
+    /**
+     * Extract class documentation from a parse result.
+     */
+    private JavaClassDoc toClassDoc(ParseResult<CompilationUnit> result, Path javaFile,
+                                    SourceOffsets offsets, SourceHandleFactory sources) {
+        if (!result.isSuccessful()) {
+            logger.warn("Failed to parse {}: {}", javaFile, result.getProblems());
+            return null;
+        }
+        
+        CompilationUnit cu = result.getResult().orElse(null);
+        if (cu == null) {
+            return null;
+        }
+        
+        // Extract the primary type declaration from the file; sources are parsed from memory, so the
+        // compilation unit has no storage to take the file name from and it is matched here
+        String primaryTypeName = javaFile.getFileName().toString().replaceFirst("\\.java$", "");
+        Optional<TypeDeclaration<?>> primaryType = cu.getTypes().stream()
+            .filter(type -> type.getNameAsString().equals(primaryTypeName))
+            .findFirst();
+        if (primaryType.isEmpty() || !(primaryType.get() instanceof ClassOrInterfaceDeclaration)) {
+            return null;
+        }
+        
+        ClassOrInterfaceDeclaration classDecl = (ClassOrInterfaceDeclaration) primaryType.get();
+        
+        // Build the JavaClassDoc
+        JavaClassDoc.JavaClassDocBuilder builder = JavaClassDoc.builder()
+            .name(classDecl.getNameAsString())
+            .packageName(cu.getPackageDeclaration().isPresent() ?
+                         cu.getPackageDeclaration().get().getNameAsString() : "")
+            .fullyQualifiedName(
+                (cu.getPackageDeclaration().isPresent() ?
+                cu.getPackageDeclaration().get().getNameAsString() + "." : "") + 
+                classDecl.getNameAsString()
+            )
+            .type(classDecl.isInterface() ? "INTERFACE" : "CLASS")
+            .isPublic(classDecl.isPublic())
+            .isAbstract(classDecl.isAbstract())
+            .source(sourceOf(classDecl, offsets, sources))
+            .sourceFile(javaFile);
+        
+        // Extract class description from Javadoc
+        classDecl.getJavadoc().ifPresent(javadoc -> 
+            builder.description(javadoc.getDescription().toText())
+        );
+        
+        // Extract implemented interfaces
+        if (!classDecl.getImplementedTypes().isEmpty()) {
+            List<String> interfaces = classDecl.getImplementedTypes().stream()
+                .map(ClassOrInterfaceType::getNameAsString)
+                .collect(Collectors.toList());
+            builder.implementedInterfaces(interfaces);
+        }
+        
+        // Extract super class
+        if (!classDecl.getExtendedTypes().isEmpty()) {
+            builder.superClass(classDecl.getExtendedTypes(0).getNameAsString());
+        }
+        
+        // Extract type parameters
+        if (!classDecl.getTypeParameters().isEmpty()) {
+            List<String> typeParams = classDecl.getTypeParameters().stream()
+                .map(Object::toString)
+                .collect(Collectors.toList());
+            builder.typeParameters(typeParams);
+        }
+        
+        // Extract fields
+        List<FieldDoc> fields = new ArrayList<>();
+        for (FieldDeclaration field : classDecl.getFields()) {
+            for (VariableDeclarator var : field.getVariables()) {
+                FieldDoc.FieldDocBuilder fieldBuilder = FieldDoc.builder()
+                    .name(var.getNameAsString())
+                    .type(var.getTypeAsString())
+                    .isPublic(field.isPublic())
+                    .isStatic(field.isStatic())
+                    .isFinal(field.isFinal());
+                
+                // Extract field javadoc
+                field.getJavadoc().ifPresent(javadoc ->
+                    fieldBuilder.description(javadoc.getDescription().toText())
+                );
+                
+                // Extract field initial value if present
+                var.getInitializer().ifPresent(init ->
+                    fieldBuilder.initialValue(init.toString())
+                );
+                
+                // Extract annotations
+                if (!field.getAnnotations().isEmpty()) {
+                    Map<String, String> annotations = extractAnnotations(field.getAnnotations());
+                    fieldBuilder.annotations(annotations);
+                }
+                
+                fields.add(fieldBuilder.build());
+            }
+        }
+        builder.fields(fields);
+        
+        // Extract methods
+        List<MethodDoc> methods = new ArrayList<>();
+        for (MethodDeclaration method : classDecl.getMethods()) {
+            MethodDoc.MethodDocBuilder methodBuilder = MethodDoc.builder()
+                .name(method.getNameAsString())
+                .returnType(method.getTypeAsString())
+                .signature(method.getDeclarationAsString())
+                .isPublic(method.isPublic())
+                .isStatic(method.isStatic())
+                .isAbstract(method.isAbstract())
+                .source(sourceOf(method, offsets, sources));
+              // Extract method Javadoc
+            if (method.getJavadoc().isPresent()) {
+                com.github.javaparser.javadoc.Javadoc javadoc = method.getJavadoc().get();
+                methodBuilder.description(javadoc.getDescription().toText());
+                
+                // Extract return description
+                List<JavadocBlockTag> returnTags = javadoc.getBlockTags().stream()
+                    .filter(tag -> tag.getType() == JavadocBlockTag.Type.RETURN)
+                    .collect(Collectors.toList());
+                
+                if (!returnTags.isEmpty()) {
+                    methodBuilder.returnDescription(returnTags.get(0).getContent().toText());
+                }
+                  // Extract exception information
+                List<JavadocBlockTag> exceptionTags = javadoc.getBlockTags().stream()
+                    .filter(tag -> tag.getType() == JavadocBlockTag.Type.THROWS ||
+                                  tag.getType() == JavadocBlockTag.Type.EXCEPTION)
+                    .collect(Collectors.toList());
+                
+                if (!exceptionTags.isEmpty()) {
+                    List<String> exceptions = new ArrayList<>();
+                    Map<String, String> exceptionDescriptions = new HashMap<>();
+                    
+                    for (JavadocBlockTag tag : exceptionTags) {
+                        String exceptionName = tag.getName().isPresent() ? tag.getName().get() : "";
+                        exceptions.add(exceptionName);
+                        exceptionDescriptions.put(exceptionName, tag.getContent().toText());
+                    }
+                    
+                    methodBuilder.exceptions(exceptions);
+                    methodBuilder.exceptionDescriptions(exceptionDescriptions);
+                }
+            }
+            
+            // Extract parameters
+            List<ParameterDoc> parameters = new ArrayList<>();
+            for (Parameter param : method.getParameters()) {
+                ParameterDoc.ParameterDocBuilder paramBuilder = ParameterDoc.builder()
+                    .name(param.getNameAsString())
+                    .type(param.getTypeAsString())
+                    .isRequired(!param.isVarArgs());
+                  // If javadoc present, try to find parameter description
+                if (method.getJavadoc().isPresent()) {
+                    List<JavadocBlockTag> paramTags = method.getJavadoc().get().getBlockTags().stream()
+                        .filter(tag -> tag.getType() == JavadocBlockTag.Type.PARAM &&
+                                      tag.getName().isPresent() &&
+                                      tag.getName().get().equals(param.getNameAsString()))
+                        .collect(Collectors.toList());
+                    
+                    if (!paramTags.isEmpty()) {
+                        paramBuilder.description(paramTags.get(0).getContent().toText());
+                    }
+                }
+                
+                parameters.add(paramBuilder.build());
+            }
+            methodBuilder.parameters(parameters);
+            
+            // Extract method annotations
+            if (!method.getAnnotations().isEmpty()) {
+                Map<String, String> annotations = extractAnnotations(method.getAnnotations());
+                methodBuilder.annotations(annotations);
+            }
+            
+            // Extract method type parameters
+            if (!method.getTypeParameters().isEmpty()) {
+                List<String> typeParams = method.getTypeParameters().stream()
+                    .map(Object::toString)
+                    .collect(Collectors.toList());
+                methodBuilder.typeParameters(typeParams);
+            }
+            
+            methods.add(methodBuilder.build());
+        }
+        builder.methods(methods);
+        
+        // Extract class annotations
+        if (!classDecl.getAnnotations().isEmpty()) {
+            Map<String, String> annotations = extractAnnotations(classDecl.getAnnotations());
+            builder.annotations(annotations);
+        }
+        
+        return builder.build();
+    }
+    
+    /**
+     * Extract annotation names and their values.
+     *
+     * @param annotations List of annotations to process
+     * @return Map of annotation names to their value expressions
+     */
+    private Map<String, String> extractAnnotations(NodeList<AnnotationExpr> annotations) {
+        Map<String, String> result = new HashMap<>();
+        
+        for (AnnotationExpr annotation : annotations) {
+            String name = annotation.getNameAsString();
+            String value = "";
+            
+            if (annotation.isSingleMemberAnnotationExpr()) {
+                value = annotation.asSingleMemberAnnotationExpr().getMemberValue().toString();
+            } else if (annotation.isNormalAnnotationExpr()) {
+                List<MemberValuePair> pairs = annotation.asNormalAnnotationExpr().getPairs();
+                if (!pairs.isEmpty()) {
+                    value = pairs.stream()
+                        .map(pair -> pair.getNameAsString() + "=" + pair.getValue().toString())
+                        .collect(Collectors.joining(", "));
+                }
+            }
+            
+            result.put(name, value);
+        }
+        
+        return result;
+    }
+}
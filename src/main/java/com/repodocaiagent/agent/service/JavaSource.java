@@ -0,0 +1,16 @@
+package com.repodocaiagent.agent.service;
+
+import org.eclipse.jgit.lib.ObjectId;
+
+import java.nio.file.Path;
+
+/**
+ * Java source read into memory without a working-tree checkout.
+ *
+ * @param path Repository-relative path using '/' separators
+ * @param content UTF-8 encoded source; must not be modified
+ * @param gitDir Git directory the source was read from
+ * @param blobId Id of the blob holding the source, so its text can be read again later
+ */
+public record JavaSource(String path, byte[] content, Path gitDir, ObjectId blobId) {
+}
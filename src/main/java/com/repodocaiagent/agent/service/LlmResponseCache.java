@@ -0,0 +1,249 @@
+package com.repodocaiagent.agent.service;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Content-addressed on-disk store for LLM responses.
+ * Entries expire after a maximum age, and the oldest entries are evicted when the store grows past its size budget,
+ * down to a low watermark below it so the store is not scanned again on the next write.
+ */
+public class LlmResponseCache {
+    private static final Logger logger = LoggerFactory.getLogger(LlmResponseCache.class);
+    private static final String ENTRY_SUFFIX = ".md";
+    private static final double LOW_WATERMARK = 0.9;
+
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final Duration maxAge;
+    private final AtomicLong totalBytes = new AtomicLong();
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * Creates a cache configured from LLM_CACHE_DIR, LLM_CACHE_MAX_MB and LLM_CACHE_MAX_AGE_DAYS.
+     */
+    public LlmResponseCache(Dotenv dotenv) throws IOException {
+        this(
+            Path.of(dotenv.get("LLM_CACHE_DIR", Path.of(System.getProperty("user.home"), ".repodocaiagent", "llm-cache").toString())),
+            Long.parseLong(dotenv.get("LLM_CACHE_MAX_MB", "512")) * 1024 * 1024,
+            Duration.ofDays(Long.parseLong(dotenv.get("LLM_CACHE_MAX_AGE_DAYS", "30")))
+        );
+    }
+
+    public LlmResponseCache(Path cacheDir, long maxBytes, Duration maxAge) throws IOException {
+        this.cacheDir = cacheDir;
+        this.maxBytes = maxBytes;
+        this.maxAge = maxAge;
+        Files.createDirectories(cacheDir);
+        evict();
+        logger.info("LLM response cache at {} ({} KB in use)", cacheDir, totalBytes.get() / 1024);
+    }
+
+    /**
+     * Builds a cache key as the SHA-256 hex digest of the given parts.
+     *
+     * @param parts Values that together identify a response, such as model settings and prompt text
+     * @return Hex encoded key
+     */
+    public static String key(String... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (String part : parts) {
+                digest.update(part.getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0); // separator so ("ab", "c") and ("a", "bc") differ
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Looks up a cached response.
+     *
+     * @param key Key produced by {@link #key(String...)}
+     * @return The cached response, or empty if missing or expired
+     */
+    public Optional<String> get(String key) {
+        Path entry = entryPath(key);
+        try {
+            if (!Files.exists(entry)) {
+                return Optional.empty();
+            }
+            if (isExpired(Files.getLastModifiedTime(entry).toInstant())) {
+                delete(entry);
+                return Optional.empty();
+            }
+            String response = Files.readString(entry);
+            hits.incrementAndGet();
+            return Optional.of(response);
+        } catch (IOException e) {
+            logger.warn("Failed to read cache entry {}: {}", entry, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * @return Number of lookups answered from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Stores a response, evicting the oldest entries if the cache grows past its size budget.
+     *
+     * @param key Key produced by {@link #key(String...)}
+     * @param response Response text to store
+     */
+    public void put(String key, String response) {
+        Path entry = entryPath(key);
+        try {
+            Files.createDirectories(entry.getParent());
+            // write to a temp file first so concurrent readers never see a partial entry
+            Path temp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            Files.writeString(temp, response);
+            commit(entry, temp);
+        } catch (IOException e) {
+            logger.warn("Failed to write cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    /**
+     * Stores a response that was written to a file, without loading it into memory.
+     *
+     * @param key Key produced by {@link #key(String...)}
+     * @param response File holding the response text; left in place
+     */
+    public void put(String key, Path response) {
+        Path entry = entryPath(key);
+        try {
+            Files.createDirectories(entry.getParent());
+            Path temp = Files.createTempFile(entry.getParent(), key, ".tmp");
+            Files.copy(response, temp, StandardCopyOption.REPLACE_EXISTING);
+            commit(entry, temp);
+        } catch (IOException e) {
+            logger.warn("Failed to write cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private void commit(Path entry, Path temp) throws IOException {
+        long previousSize = Files.exists(entry) ? Files.size(entry) : 0;
+        Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        if (totalBytes.addAndGet(Files.size(entry) - previousSize) > maxBytes) {
+            evictOverBudget();
+        }
+    }
+
+    /**
+     * Evicts after a write took the cache past its budget. The response is already stored, so a failed
+     * eviction is only logged and retried on a later write.
+     */
+    private synchronized void evictOverBudget() {
+        // another writer may have evicted while this one waited
+        if (totalBytes.get() <= maxBytes) {
+            return;
+        }
+        try {
+            evict();
+        } catch (IOException | UncheckedIOException e) {
+            logger.warn("Failed to evict LLM cache entries from {}: {}", cacheDir, e.getMessage());
+        }
+    }
+
+    /**
+     * Removes expired entries, then, if the cache is over its size budget, the oldest entries until it
+     * is back at the low watermark.
+     */
+    public synchronized void evict() throws IOException {
+        List<Path> entries = new ArrayList<>();
+        Files.walkFileTree(cacheDir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (file.toString().endsWith(ENTRY_SUFFIX)) {
+                    entries.add(file);
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                // temp files of concurrent writers and entries expired by readers come and go during the walk
+                return FileVisitResult.CONTINUE;
+            }
+        });
+
+        List<CacheEntry> live = new ArrayList<>();
+        long size = 0;
+        for (Path entry : entries) {
+            try {
+                BasicFileAttributes attributes = Files.readAttributes(entry, BasicFileAttributes.class);
+                if (isExpired(attributes.lastModifiedTime().toInstant())) {
+                    delete(entry);
+                } else {
+                    live.add(new CacheEntry(entry, attributes.size(), attributes.lastModifiedTime().toInstant()));
+                    size += attributes.size();
+                }
+            } catch (IOException e) {
+                // entry removed concurrently
+            }
+        }
+
+        live.sort(Comparator.comparing(CacheEntry::written));
+        long target = size > maxBytes ? (long) (maxBytes * LOW_WATERMARK) : maxBytes;
+        int evicted = 0;
+        for (CacheEntry entry : live) {
+            if (size <= target) {
+                break;
+            }
+            delete(entry.path());
+            size -= entry.size();
+            evicted++;
+        }
+        if (evicted > 0) {
+            logger.info("Evicted {} LLM cache entries to stay under {} MB", evicted, maxBytes / (1024 * 1024));
+        }
+        totalBytes.set(size);
+    }
+
+    private boolean isExpired(Instant written) {
+        return written.plus(maxAge).isBefore(Instant.now());
+    }
+
+    private Path entryPath(String key) {
+        // shard by the first two hex digits to keep directories small
+        return cacheDir.resolve(key.substring(0, 2)).resolve(key + ENTRY_SUFFIX);
+    }
+
+    private void delete(Path entry) {
+        try {
+            Files.deleteIfExists(entry);
+        } catch (IOException e) {
+            logger.warn("Failed to delete cache entry {}: {}", entry, e.getMessage());
+        }
+    }
+
+    private record CacheEntry(Path path, long size, Instant written) {
+    }
+}
@@ -0,0 +1,63 @@
+package com.repodocaiagent.agent.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+
+import java.util.List;
+
+/**
+ * ChatLanguageModel decorator that records every request sent to the model in the run metrics:
+ * its latency, the prompt and completion tokens the model reports, and whether it failed, was
+ * throttled or was cut off at the completion limit. Wrap the provider's model directly, so each
+ * retry counts as a request and cache hits do not. When several runs share the model, requests are
+ * recorded in the run {@linkplain RunMetrics#activate() active} on the calling thread. Streamed
+ * completions are recorded the same way by {@link StreamingDocumentWriter}.
+ */
+public class MeteredChatModel implements ChatLanguageModel {
+    private final ChatLanguageModel delegate;
+    private final RunMetrics metrics;
+
+    public MeteredChatModel(ChatLanguageModel delegate, RunMetrics metrics) {
+        this.delegate = delegate;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        RunMetrics metrics = this.metrics.active();
+        long start = System.nanoTime();
+        try {
+            Response<AiMessage> response = delegate.generate(messages);
+            recordResponse(metrics, System.nanoTime() - start, response);
+            return response;
+        } catch (RuntimeException e) {
+            recordFailure(metrics, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Records a request the model answered, with the tokens it reports.
+     */
+    static void recordResponse(RunMetrics metrics, long latencyNanos, Response<AiMessage> response) {
+        TokenUsage usage = response.tokenUsage();
+        metrics.recordLlmCall(latencyNanos,
+            usage != null && usage.inputTokenCount() != null ? usage.inputTokenCount() : 0,
+            usage != null && usage.outputTokenCount() != null ? usage.outputTokenCount() : 0);
+        if (response.finishReason() == FinishReason.LENGTH) {
+            metrics.increment("llm.truncated");
+        }
+    }
+
+    /**
+     * Records a request that failed or was throttled.
+     */
+    static void recordFailure(RunMetrics metrics, long latencyNanos, Throwable failure) {
+        metrics.record("llm.call.failed", latencyNanos);
+        metrics.increment(RateLimitedChatModel.throttleDelay(failure, 1).isPresent() ? "llm.throttled" : "llm.failures");
+    }
+}
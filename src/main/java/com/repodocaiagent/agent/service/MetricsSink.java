@@ -0,0 +1,37 @@
+package com.repodocaiagent.agent.service;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import io.micrometer.core.instrument.Metrics;
+
+/**
+ * Registry that run metrics are published to as they are recorded, in addition to the JSON run report.
+ */
+public interface MetricsSink {
+    /** Sink that publishes nothing. */
+    MetricsSink NONE = new MetricsSink() {
+        @Override
+        public void recordTime(String name, long nanos) {
+        }
+
+        @Override
+        public void increment(String name, long amount) {
+        }
+    };
+
+    void recordTime(String name, long nanos);
+
+    void increment(String name, long amount);
+
+    /**
+     * Creates the sink selected by METRICS_REGISTRY: "none" (default), or "micrometer" to publish
+     * to Micrometer's global registry, where any registry added by an embedding application picks them up.
+     */
+    static MetricsSink fromEnvironment(Dotenv dotenv) {
+        String registry = dotenv.get("METRICS_REGISTRY", "none");
+        return switch (registry.toLowerCase()) {
+            case "none" -> NONE;
+            case "micrometer" -> new MicrometerMetricsSink(Metrics.globalRegistry);
+            default -> throw new IllegalStateException("Unknown METRICS_REGISTRY: " + registry + " (expected none or micrometer)");
+        };
+    }
+}
@@ -0,0 +1,28 @@
+package com.repodocaiagent.agent.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Publishes run metrics to a Micrometer registry as timers and counters named {@code repodoc.<metric>}.
+ */
+public class MicrometerMetricsSink implements MetricsSink {
+    private static final String PREFIX = "repodoc.";
+
+    private final MeterRegistry registry;
+
+    public MicrometerMetricsSink(MeterRegistry registry) {
+        this.registry = registry;
+    }
+
+    @Override
+    public void recordTime(String name, long nanos) {
+        registry.timer(PREFIX + name).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    public void increment(String name, long amount) {
+        registry.counter(PREFIX + name).increment(amount);
+    }
+}
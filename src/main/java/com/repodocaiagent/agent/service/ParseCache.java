@@ -0,0 +1,94 @@
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import io.github.cdimascio.dotenv.Dotenv;
+
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * In-memory cache of parsed classes for a process that documents repositories again and again, such as
+ * the server. Entries are keyed by source path, where the source is read back from and a SHA-256 of its
+ * content, so a cached class is only reused for the same source at the same place, where its source
+ * handles still read the text it was parsed from. The least recently used entries are evicted.
+ */
+public class ParseCache {
+    private final int maxEntries;
+    private final Map<Key, JavaClassDoc> entries;
+    private final AtomicLong hits = new AtomicLong();
+
+    /**
+     * @param sourcePath Path the source is known under
+     * @param origin Where the source handles read from, such as the git directory of a blob; empty for files
+     * @param hash SHA-256 of the source
+     */
+    private record Key(Path sourcePath, String origin, String hash) {
+    }
+
+    /**
+     * Creates a cache holding up to PARSE_CACHE_ENTRIES classes.
+     */
+    public ParseCache(Dotenv dotenv) {
+        this(Integer.parseInt(dotenv.get("PARSE_CACHE_ENTRIES", "20000")));
+    }
+
+    public ParseCache(int maxEntries) {
+        this.maxEntries = maxEntries;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, JavaClassDoc> eldest) {
+                return size() > ParseCache.this.maxEntries;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached class for a source, or parses it and caches the result.
+     * Sources that cannot be parsed are not cached.
+     *
+     * @param sourcePath Path the source is known under
+     * @param origin Where the parsed class's source handles read from; empty for files
+     * @param content Source content
+     * @param parse Parses the source, returning null if it cannot be parsed
+     * @return The parsed class, or null if the source cannot be parsed
+     */
+    public JavaClassDoc get(Path sourcePath, String origin, byte[] content, Supplier<JavaClassDoc> parse) {
+        if (maxEntries <= 0) {
+            return parse.get();
+        }
+        Key key = new Key(sourcePath, origin, hash(content));
+        synchronized (entries) {
+            JavaClassDoc cached = entries.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                return cached;
+            }
+        }
+        // parsed outside the lock; a source parsed twice at the same time is cached twice, which is harmless
+        JavaClassDoc parsed = parse.get();
+        if (parsed != null) {
+            synchronized (entries) {
+                entries.put(key, parsed);
+            }
+        }
+        return parsed;
+    }
+
+    public long getHits() {
+        return hits.get();
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.repodocaiagent.agent.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Append-only journal of a full documentation run, kept in the RepoDocAIAgent folder so an interrupted
+ * run can be resumed instead of started over. The commit being documented, each completed phase and
+ * each written document with the SHA-256 of its content are appended as one line and forced to disk
+ * before the run moves on. A last line torn by a crash is dropped when the journal is reopened.
+ * <p>
+ * Lines are tab separated:
+ * <pre>
+ * run     &lt;commit&gt;
+ * phase   &lt;name&gt;
+ * output  &lt;key&gt;  &lt;path relative to the RepoDocAIAgent folder&gt;  &lt;SHA-256&gt;
+ * </pre>
+ */
+public class ProgressJournal implements Closeable {
+    public static final String FILE_NAME = ".progress.journal";
+    /** Phase recorded once every document of the run has been written. */
+    public static final String COMPLETE = "complete";
+    private static final Logger logger = LoggerFactory.getLogger(ProgressJournal.class);
+    private static final String RUN = "run";
+    private static final String PHASE = "phase";
+    private static final String OUTPUT = "output";
+
+    private final Path docRoot;
+    private final FileChannel channel;
+    private final Set<String> phases = ConcurrentHashMap.newKeySet();
+    private final Map<String, Output> outputs = new ConcurrentHashMap<>();
+    private String commit;
+
+    /**
+     * A document recorded in the journal.
+     *
+     * @param path Path relative to the RepoDocAIAgent folder, using '/' separators
+     * @param hash SHA-256 of the content that was written
+     */
+    private record Output(String path, String hash) {
+    }
+
+    private ProgressJournal(Path docRoot, FileChannel channel) {
+        this.docRoot = docRoot;
+        this.channel = channel;
+    }
+
+    /**
+     * Starts the journal of a new run, replacing any earlier journal in the folder.
+     *
+     * @param docRoot The RepoDocAIAgent output folder
+     * @param commit Commit being documented
+     */
+    public static ProgressJournal create(Path docRoot, String commit) throws IOException {
+        Files.createDirectories(docRoot);
+        FileChannel channel = FileChannel.open(docRoot.resolve(FILE_NAME),
+            StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        ProgressJournal journal = new ProgressJournal(docRoot, channel);
+        journal.commit = commit;
+        journal.append(RUN, commit);
+        return journal;
+    }
+
+    /**
+     * Reopens the journal of an earlier run to continue appending to it.
+     *
+     * @param docRoot The RepoDocAIAgent output folder containing the journal
+     */
+    public static ProgressJournal resume(Path docRoot) throws IOException {
+        Path file = docRoot.resolve(FILE_NAME);
+        String content = Files.readString(file, StandardCharsets.UTF_8);
+        // everything after the last newline was torn by a crash while it was being appended
+        String complete = content.substring(0, content.lastIndexOf('\n') + 1);
+
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        long size = complete.getBytes(StandardCharsets.UTF_8).length;
+        channel.truncate(size);
+        channel.position(size);
+        ProgressJournal journal = new ProgressJournal(docRoot, channel);
+        for (String line : complete.split("\n")) {
+            if (!line.isEmpty()) {
+                journal.apply(line.split("\t", -1));
+            }
+        }
+        logger.info("Resuming journal {} of commit {}: {} documents written, phases {}",
+            file, journal.commit, journal.outputs.size(), journal.phases);
+        return journal;
+    }
+
+    /**
+     * @param docRoot The RepoDocAIAgent output folder
+     * @return Whether the folder holds the journal of a run that did not complete
+     */
+    public static boolean isResumable(Path docRoot) throws IOException {
+        Path file = docRoot.resolve(FILE_NAME);
+        if (!Files.isRegularFile(file)) {
+            return false;
+        }
+        try (Stream<String> lines = Files.lines(file, StandardCharsets.UTF_8)) {
+            return lines.noneMatch((PHASE + '\t' + COMPLETE)::equals);
+        }
+    }
+
+    private void apply(String[] fields) {
+        switch (fields[0]) {
+            case RUN -> {
+                if (fields.length == 2) {
+                    commit = fields[1];
+                }
+            }
+            case PHASE -> {
+                if (fields.length == 2) {
+                    phases.add(fields[1]);
+                }
+            }
+            case OUTPUT -> {
+                if (fields.length == 4) {
+                    outputs.put(fields[1], new Output(fields[2], fields[3]));
+                }
+            }
+            default -> logger.warn("Ignoring unreadable journal line: {}", String.join("\t", fields));
+        }
+    }
+
+    public String getCommit() {
+        return commit;
+    }
+
+    public boolean isPhaseDone(String phase) {
+        return phases.contains(phase);
+    }
+
+    /**
+     * Checks that a document recorded in the journal is still on disk with the content that was written.
+     *
+     * @param key Key the document was recorded under
+     * @return Whether the document can be kept instead of being generated again
+     */
+    public boolean isDone(String key) throws IOException {
+        Output output = outputs.get(key);
+        if (output == null) {
+            return false;
+        }
+        Path file = docRoot.resolve(output.path());
+        if (!Files.isRegularFile(file) || !DocumentationManifest.hashFile(file).equals(output.hash())) {
+            logger.info("Journaled document {} is missing or was modified, generating it again", file);
+            return false;
+        }
+        return true;
+    }
+
+    public void recordPhase(String phase) throws IOException {
+        if (phases.add(phase)) {
+            append(PHASE, phase);
+        }
+    }
+
+    /**
+     * Records a document that has been written completely.
+     *
+     * @param key Key identifying the document, such as the fully qualified name of the documented class
+     * @param file The written document inside the RepoDocAIAgent folder
+     */
+    public void recordOutput(String key, Path file) throws IOException {
+        Output output = new Output(docRoot.relativize(file).toString().replace('\\', '/'), DocumentationManifest.hashFile(file));
+        outputs.put(key, output);
+        append(OUTPUT, key, output.path(), output.hash());
+    }
+
+    /**
+     * Appends one line and forces it to disk, so a recorded step survives a crash right after it.
+     */
+    private synchronized void append(String... fields) throws IOException {
+        ByteBuffer line = ByteBuffer.wrap((String.join("\t", fields) + "\n").getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            channel.write(line);
+        }
+        channel.force(false);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
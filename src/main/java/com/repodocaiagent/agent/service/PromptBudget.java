@@ -0,0 +1,108 @@
+package com.repodocaiagent.agent.service;
+
+import dev.langchain4j.model.Tokenizer;
+import dev.langchain4j.model.openai.OpenAiTokenizer;
+import io.github.cdimascio.dotenv.Dotenv;
+
+/**
+ * Counts prompt tokens locally so oversized prompts can be split before they are sent to the LLM.
+ */
+public class PromptBudget {
+    private final Tokenizer tokenizer;
+    private final int maxPromptTokens;
+    private final int maxMethodsPerChunk;
+    private final int smallClassTokens;
+    private final int maxClassesPerBatch;
+
+    /**
+     * Creates a budget configured from TOKENIZER_MODEL, PROMPT_TOKEN_BUDGET, CHUNK_MAX_METHODS,
+     * CLASS_BATCH_SMALL_CLASS_TOKENS and CLASS_BATCH_MAX_CLASSES.
+     */
+    public PromptBudget(Dotenv dotenv) {
+        this(
+            new OpenAiTokenizer(dotenv.get("TOKENIZER_MODEL", "gpt-4")),
+            Integer.parseInt(dotenv.get("PROMPT_TOKEN_BUDGET", "12000")),
+            Integer.parseInt(dotenv.get("CHUNK_MAX_METHODS", "20")),
+            Integer.parseInt(dotenv.get("CLASS_BATCH_SMALL_CLASS_TOKENS", "0")),
+            Integer.parseInt(dotenv.get("CLASS_BATCH_MAX_CLASSES", "6"))
+        );
+    }
+
+    /**
+     * @param tokenizer Tokenizer matching the deployed model
+     * @param maxPromptTokens Maximum number of tokens in a single prompt
+     * @param maxMethodsPerChunk Maximum number of methods documented by one request, so the answer fits the completion limit
+     */
+    public PromptBudget(Tokenizer tokenizer, int maxPromptTokens, int maxMethodsPerChunk) {
+        this(tokenizer, maxPromptTokens, maxMethodsPerChunk, 0, 1);
+    }
+
+    /**
+     * @param tokenizer Tokenizer matching the deployed model
+     * @param maxPromptTokens Maximum number of tokens in a single prompt
+     * @param maxMethodsPerChunk Maximum number of methods documented by one request, so the answer fits the completion limit
+     * @param smallClassTokens Classes whose source is at most this many tokens are documented in batches; 0 disables batching
+     * @param maxClassesPerBatch Maximum number of classes documented by one batched request, so the answer fits the completion limit
+     */
+    public PromptBudget(Tokenizer tokenizer, int maxPromptTokens, int maxMethodsPerChunk,
+                        int smallClassTokens, int maxClassesPerBatch) {
+        this.tokenizer = tokenizer;
+        this.maxPromptTokens = maxPromptTokens;
+        this.maxMethodsPerChunk = maxMethodsPerChunk;
+        this.smallClassTokens = smallClassTokens;
+        this.maxClassesPerBatch = maxClassesPerBatch;
+    }
+
+    /**
+     * @return Number of tokens in the text
+     */
+    public int countTokens(String text) {
+        return tokenizer.estimateTokenCountInText(text);
+    }
+
+    /**
+     * @return True if the prompt fits the budget
+     */
+    public boolean fits(String prompt) {
+        return countTokens(prompt) <= maxPromptTokens;
+    }
+
+    /**
+     * Shortens text to roughly the given number of tokens, marking where it was cut.
+     *
+     * @param text Text to shorten
+     * @param maxTokens Token limit
+     * @return The text unchanged if it fits, otherwise its truncated prefix
+     */
+    public String truncate(String text, int maxTokens) {
+        int tokens = countTokens(text);
+        if (tokens <= maxTokens) {
+            return text;
+        }
+        int chars = (int) ((long) text.length() * maxTokens / tokens);
+        return text.substring(0, chars) + "\n... (truncated to fit the prompt budget)";
+    }
+
+    public int getMaxPromptTokens() {
+        return maxPromptTokens;
+    }
+
+    public int getMaxMethodsPerChunk() {
+        return maxMethodsPerChunk;
+    }
+
+    /**
+     * @return True if small classes should be documented several per request
+     */
+    public boolean batchesClasses() {
+        return smallClassTokens > 0 && maxClassesPerBatch > 1;
+    }
+
+    public int getSmallClassTokens() {
+        return smallClassTokens;
+    }
+
+    public int getMaxClassesPerBatch() {
+        return maxClassesPerBatch;
+    }
+}
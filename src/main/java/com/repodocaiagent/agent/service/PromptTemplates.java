@@ -0,0 +1,160 @@
+package com.repodocaiagent.agent.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Loads prompt templates once and keeps them compiled for the lifetime of the application.
+ * A template is read from the override directory if it contains the file, otherwise from the
+ * {@code prompts/} folder on the classpath, so the fat jar behaves the same from any working directory.
+ */
+public class PromptTemplates {
+    private static final Logger logger = LoggerFactory.getLogger(PromptTemplates.class);
+    private static final Pattern VARIABLE = Pattern.compile("\\{\\{\\s*([\\w.]+)\\s*}}");
+
+    private final Path overrideDir;
+    private final ConcurrentHashMap<String, Compiled> templates = new ConcurrentHashMap<>();
+
+    /**
+     * @param overrideDir Directory whose templates take precedence over the bundled ones, or null
+     */
+    public PromptTemplates(Path overrideDir) {
+        this.overrideDir = overrideDir;
+    }
+
+    /**
+     * Returns a compiled template, loading and compiling it on first use.
+     *
+     * @param templateName File name of the template, e.g. class-documentation.md
+     */
+    public Compiled get(String templateName) {
+        return templates.computeIfAbsent(templateName, name -> new Compiled(load(name)));
+    }
+
+    private String load(String templateName) {
+        try {
+            if (overrideDir != null) {
+                Path override = overrideDir.resolve(templateName);
+                if (Files.isRegularFile(override)) {
+                    logger.info("Using prompt template override {}", override);
+                    return Files.readString(override);
+                }
+            }
+            try (InputStream in = PromptTemplates.class.getResourceAsStream("/prompts/" + templateName)) {
+                if (in != null) {
+                    return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to load prompt template " + templateName, e);
+        }
+        logger.warn("Prompt template {} not found, using fallback", templateName);
+        return getFallbackPrompt(templateName);
+    }
+
+    /**
+     * Provides fallback prompts if template files cannot be loaded.
+     */
+    private static String getFallbackPrompt(String templateName) {
+        return switch (templateName) {
+            case "project-overview.md" -> "Generate a README.md for {{repositoryName}} with {{totalClasses}} classes.";
+            case "class-documentation.md" -> "Document the class {{className}} from package {{packageName}}.";
+            case "class-documentation-overview.md" -> "Write an overview of the class {{className}} from package {{packageName}}.";
+            case "class-documentation-chunk.md" -> "Document these methods of {{className}}:\n{{methodsSource}}";
+            case "class-documentation-batch.md" -> "Document each of these {{classCount}} classes. Start each document with a line "
+                + "<<<CLASS fully.qualified.Name>>> and end it with a line <<<END CLASS>>>.\n{{classSections}}";
+            case "class-documentation-batch-item.md" -> "## {{fullyQualifiedName}}\n{{sourceCode}}";
+            case "package-summary.md" -> "Summarize the package {{packageName}} of {{repositoryName}}:\n{{classList}}";
+            case "list-summary.md" -> "Summarize part {{part}} of the {{listName}} of {{repositoryName}}:\n{{items}}";
+            case "summary-reduce.md" -> "Combine these summaries of the {{subject}} of {{repositoryName}}:\n{{summaries}}";
+            case "getting-started.md" -> "Create a getting started guide for {{repositoryName}}.";
+            case "faq-troubleshooting.md" -> "Create FAQ for {{repositoryName}}.";
+            default -> "Generate documentation for {{repositoryName}}.";
+        };
+    }
+
+    /**
+     * A template split once into literal text and {{variable}} slots.
+     * Rendering appends the parts into a single pre-sized builder.
+     */
+    public static final class Compiled {
+        private final String text;
+        private final String[] literals;   // one more literal than variables
+        private final String[] variables;
+        private final int literalLength;
+
+        private Compiled(String text) {
+            this.text = text;
+            List<String> literalParts = new ArrayList<>();
+            List<String> variableParts = new ArrayList<>();
+            Matcher matcher = VARIABLE.matcher(text);
+            int last = 0;
+            int length = 0;
+            while (matcher.find()) {
+                literalParts.add(text.substring(last, matcher.start()));
+                length += matcher.start() - last;
+                variableParts.add(matcher.group(1));
+                last = matcher.end();
+            }
+            literalParts.add(text.substring(last));
+            length += text.length() - last;
+            this.literals = literalParts.toArray(String[]::new);
+            this.variables = variableParts.toArray(String[]::new);
+            this.literalLength = length;
+        }
+
+        /**
+         * @return The template text before compilation
+         */
+        public String text() {
+            return text;
+        }
+
+        /**
+         * Renders the template, asking for each variable's value as it is reached.
+         *
+         * @param values Returns the value of a variable, or null if it has none
+         * @throws IllegalArgumentException If a variable of the template has no value
+         */
+        public String render(Function<String, Object> values) {
+            Object[] resolved = new Object[variables.length];
+            int length = literalLength;
+            for (int i = 0; i < variables.length; i++) {
+                Object value = values.apply(variables[i]);
+                if (value == null) {
+                    throw new IllegalArgumentException("Value for the variable '" + variables[i] + "' is missing");
+                }
+                resolved[i] = value;
+                length += value instanceof CharSequence chars ? chars.length() : 16;
+            }
+            StringBuilder out = new StringBuilder(length);
+            for (int i = 0; i < variables.length; i++) {
+                out.append(literals[i]).append(resolved[i]);
+            }
+            return out.append(literals[variables.length]).toString();
+        }
+
+        /**
+         * Renders the template from a map of variable values.
+         *
+         * @throws IllegalArgumentException If a variable of the template has no value
+         */
+        public String render(Map<String, ?> values) {
+            return render(values::get);
+        }
+    }
+}
@@ -0,0 +1,350 @@
+package com.repodocaiagent.agent.service;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpResponse;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.output.Response;
+import io.github.cdimascio.dotenv.Dotenv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * ChatLanguageModel decorator that schedules requests against the deployment's quotas.
+ * Every request is charged its estimated prompt and completion tokens against a tokens-per-minute
+ * bucket and one request against a requests-per-minute bucket, and waits until both can pay.
+ * The number of requests in flight follows AIMD: it grows by about one per round of successful
+ * requests that answer within the latency target and is halved when the endpoint throttles (HTTP 429).
+ * Throttled requests are retried after the endpoint's Retry-After delay, during which no other
+ * request is started. Requests sent through other models of the deployment, such as streamed
+ * completions, are scheduled the same way with {@link #schedule(List, Request)}.
+ */
+public class RateLimitedChatModel implements ChatLanguageModel {
+    private static final Logger logger = LoggerFactory.getLogger(RateLimitedChatModel.class);
+    private static final int MESSAGE_OVERHEAD_TOKENS = 4; // role and separators added around every message
+    private static final double LATENCY_BACKOFF = 0.9;
+    private static final double THROTTLE_BACKOFF = 0.5;
+    private static final Duration DEFAULT_RETRY_AFTER = Duration.ofSeconds(1);
+    private static final Duration MAX_RETRY_AFTER = Duration.ofMinutes(2);
+
+    private final ChatLanguageModel delegate;
+    private final PromptBudget tokenCounter;
+    private final int completionTokens;
+    private final Bucket tokens;
+    private final Bucket requests;
+    private final int maxConcurrency;
+    private final long latencyTargetNanos;
+    private final int maxAttempts;
+    private final AtomicLong retries = new AtomicLong();
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition changed = lock.newCondition();
+    private double concurrencyLimit;
+    private int inFlight;
+    private long pausedUntilNanos;
+    private long lastDecreaseNanos;
+
+    /**
+     * Creates a scheduler configured from LLM_TPM, LLM_RPM, LLM_MAX_CONCURRENCY,
+     * LLM_LATENCY_TARGET_SECONDS and LLM_MAX_ATTEMPTS.
+     *
+     * @param delegate Model that sends the requests, with its own retries disabled
+     * @param tokenCounter Tokenizer used to estimate prompt tokens
+     * @param completionTokens Completion tokens charged per request, normally the deployment's max tokens
+     */
+    public RateLimitedChatModel(ChatLanguageModel delegate, PromptBudget tokenCounter, int completionTokens, Dotenv dotenv) {
+        this(
+            delegate,
+            tokenCounter,
+            completionTokens,
+            Long.parseLong(dotenv.get("LLM_TPM", "0")),
+            Long.parseLong(dotenv.get("LLM_RPM", "0")),
+            Integer.parseInt(dotenv.get("LLM_MAX_CONCURRENCY", "16")),
+            Duration.ofSeconds(Long.parseLong(dotenv.get("LLM_LATENCY_TARGET_SECONDS", "60"))),
+            Integer.parseInt(dotenv.get("LLM_MAX_ATTEMPTS", "6"))
+        );
+    }
+
+    /**
+     * @param delegate Model that sends the requests, with its own retries disabled
+     * @param tokenCounter Tokenizer used to estimate prompt tokens
+     * @param completionTokens Completion tokens charged per request, normally the deployment's max tokens
+     * @param tokensPerMinute Token quota of the deployment, or 0 for no limit
+     * @param requestsPerMinute Request quota of the deployment, or 0 for no limit
+     * @param maxConcurrency Upper bound for the adaptive number of requests in flight
+     * @param latencyTarget Responses slower than this shrink the number of requests in flight
+     * @param maxAttempts Number of times a throttled request is sent in total
+     */
+    public RateLimitedChatModel(ChatLanguageModel delegate, PromptBudget tokenCounter, int completionTokens,
+                                long tokensPerMinute, long requestsPerMinute, int maxConcurrency,
+                                Duration latencyTarget, int maxAttempts) {
+        this.delegate = delegate;
+        this.tokenCounter = tokenCounter;
+        this.completionTokens = completionTokens;
+        this.tokens = tokensPerMinute > 0 ? new Bucket(tokensPerMinute) : null;
+        this.requests = requestsPerMinute > 0 ? new Bucket(requestsPerMinute) : null;
+        this.maxConcurrency = Math.max(1, maxConcurrency);
+        this.latencyTargetNanos = latencyTarget.toNanos();
+        this.maxAttempts = Math.max(1, maxAttempts);
+        // start low and let additive increase find the level the deployment sustains
+        this.concurrencyLimit = Math.min(2, this.maxConcurrency);
+        long now = System.nanoTime();
+        this.pausedUntilNanos = now;
+        this.lastDecreaseNanos = now - TimeUnit.HOURS.toNanos(1);
+    }
+
+    /**
+     * A request sent to the deployment outside of this model.
+     *
+     * @param <T> Result of the request
+     * @param <E> Checked exception the request throws, if any
+     */
+    @FunctionalInterface
+    public interface Request<T, E extends Exception> {
+        T send() throws E;
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        return schedule(messages, () -> delegate.generate(messages));
+    }
+
+    /**
+     * Sends a request for the given messages once the quotas allow it, sharing the request slots, buckets
+     * and Retry-After pauses of this model. A throttled request is sent again like the model's own.
+     *
+     * @param messages Messages the request sends, to charge their tokens
+     * @param request Sends the request
+     * @return The request's result
+     * @throws E If the request fails, or is still throttled after the last attempt
+     */
+    public <T, E extends Exception> T schedule(List<ChatMessage> messages, Request<T, E> request) throws E {
+        long cost = estimateTokens(messages);
+        for (int attempt = 1; ; attempt++) {
+            acquire(cost);
+            long start = System.nanoTime();
+            try {
+                T response = request.send();
+                release(System.nanoTime() - start, null);
+                return response;
+            } catch (Exception e) {
+                Optional<Duration> retryAfter = throttleDelay(e, attempt);
+                release(System.nanoTime() - start, retryAfter.orElse(null));
+                if (retryAfter.isEmpty() || attempt >= maxAttempts) {
+                    throw e;
+                }
+                retries.incrementAndGet();
+                logger.warn("Request throttled (attempt {} of {}), retrying in {} ms",
+                    attempt, maxAttempts, retryAfter.get().toMillis());
+            }
+        }
+    }
+
+    /**
+     * @return Current adaptive limit of requests in flight
+     */
+    public double getConcurrencyLimit() {
+        lock.lock();
+        try {
+            return concurrencyLimit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return Number of throttled requests that were sent again
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    private long estimateTokens(List<ChatMessage> messages) {
+        long prompt = 0;
+        for (ChatMessage message : messages) {
+            prompt += tokenCounter.countTokens(message.text()) + MESSAGE_OVERHEAD_TOKENS;
+        }
+        // Azure charges the requested max tokens against the quota when it admits a request
+        return prompt + completionTokens;
+    }
+
+    /**
+     * Blocks until a request slot is free, no Retry-After pause is active and both buckets can pay.
+     */
+    private void acquire(long cost) {
+        lock.lock();
+        try {
+            while (true) {
+                long now = System.nanoTime();
+                long waitNanos = 0;
+                if (pausedUntilNanos - now > 0) {
+                    waitNanos = pausedUntilNanos - now;
+                } else if (inFlight < Math.floor(concurrencyLimit)) {
+                    long tokenWait = tokens != null ? tokens.waitFor(cost, now) : 0;
+                    long requestWait = requests != null ? requests.waitFor(1, now) : 0;
+                    waitNanos = Math.max(tokenWait, requestWait);
+                    if (waitNanos == 0) {
+                        if (tokens != null) {
+                            tokens.take(cost);
+                        }
+                        if (requests != null) {
+                            requests.take(1);
+                        }
+                        inFlight++;
+                        return;
+                    }
+                }
+                if (waitNanos > 0) {
+                    changed.awaitNanos(waitNanos);
+                } else {
+                    changed.await();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for LLM quota", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Frees the request slot and adapts the concurrency limit to the outcome of the request.
+     *
+     * @param retryAfter Delay requested by the endpoint if the request was throttled, otherwise null
+     */
+    private void release(long latencyNanos, Duration retryAfter) {
+        lock.lock();
+        try {
+            inFlight--;
+            long now = System.nanoTime();
+            if (retryAfter != null) {
+                long resumeAt = now + retryAfter.toNanos();
+                if (resumeAt - pausedUntilNanos > 0) {
+                    pausedUntilNanos = resumeAt;
+                }
+                // the buckets overestimated what the endpoint accepts, so nothing is left to spend
+                if (tokens != null) {
+                    tokens.drain(now);
+                }
+                // one decrease per congestion event, not one per request throttled by it
+                if (now - lastDecreaseNanos > retryAfter.toNanos()) {
+                    decrease(THROTTLE_BACKOFF, now);
+                }
+            } else if (latencyNanos > latencyTargetNanos) {
+                if (now - lastDecreaseNanos > latencyTargetNanos) {
+                    decrease(LATENCY_BACKOFF, now);
+                }
+            } else {
+                concurrencyLimit = Math.min(maxConcurrency, concurrencyLimit + 1.0 / concurrencyLimit);
+            }
+            changed.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(double factor, long now) {
+        double previous = concurrencyLimit;
+        concurrencyLimit = Math.max(1, concurrencyLimit * factor);
+        lastDecreaseNanos = now;
+        logger.info("Reduced LLM concurrency from {} to {}", (int) previous, (int) concurrencyLimit);
+    }
+
+    /**
+     * Determines whether a failure was caused by throttling and how long to wait before retrying.
+     *
+     * @return Delay before the next attempt, or empty if the failure is not a throttling response
+     */
+    static Optional<Duration> throttleDelay(Throwable failure, int attempt) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof HttpResponseException httpFailure
+                    && httpFailure.getResponse() != null
+                    && httpFailure.getResponse().getStatusCode() == 429) {
+                Duration fallback = DEFAULT_RETRY_AFTER.multipliedBy(1L << Math.min(attempt - 1, 6));
+                Duration delay = retryAfter(httpFailure.getResponse()).orElse(fallback);
+                return Optional.of(delay.compareTo(MAX_RETRY_AFTER) > 0 ? MAX_RETRY_AFTER : delay);
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the delay from the retry-after-ms header sent by Azure OpenAI, or the standard
+     * Retry-After header in seconds or as an HTTP date.
+     */
+    private static Optional<Duration> retryAfter(HttpResponse response) {
+        String millis = response.getHeaderValue("retry-after-ms");
+        String value = response.getHeaderValue("Retry-After");
+        try {
+            if (millis != null) {
+                return Optional.of(Duration.ofMillis((long) Double.parseDouble(millis.trim())));
+            }
+            if (value != null) {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(value.trim())));
+            }
+        } catch (NumberFormatException e) {
+            try {
+                ZonedDateTime date = ZonedDateTime.parse(value.trim(), DateTimeFormatter.RFC_1123_DATE_TIME);
+                Duration delay = Duration.between(ZonedDateTime.now(date.getZone()), date);
+                return Optional.of(delay.isNegative() ? Duration.ZERO : delay);
+            } catch (DateTimeParseException | NullPointerException ignored) {
+                // fall through to exponential backoff
+            }
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Token bucket holding one minute of quota that refills continuously.
+     * Callers synchronize on the enclosing scheduler's lock.
+     */
+    private static final class Bucket {
+        private final double capacity;
+        private final double refillPerNano;
+        private double available;
+        private long refilledAt = System.nanoTime();
+
+        Bucket(long perMinute) {
+            this.capacity = perMinute;
+            this.refillPerNano = perMinute / (double) TimeUnit.MINUTES.toNanos(1);
+            this.available = perMinute;
+        }
+
+        /**
+         * @return Nanoseconds until the bucket holds the amount, 0 if it already does
+         */
+        long waitFor(long amount, long now) {
+            refill(now);
+            // a single request bigger than the quota only has to wait for a full bucket
+            double needed = Math.min(amount, capacity);
+            return available >= needed ? 0 : (long) Math.ceil((needed - available) / refillPerNano);
+        }
+
+        void take(long amount) {
+            available -= Math.min(amount, capacity);
+        }
+
+        void drain(long now) {
+            refill(now);
+            available = Math.min(available, 0);
+        }
+
+        private void refill(long now) {
+            available = Math.min(capacity, available + (now - refilledAt) * refillPerNano);
+            refilledAt = now;
+        }
+    }
+}
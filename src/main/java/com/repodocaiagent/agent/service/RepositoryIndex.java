@@ -0,0 +1,325 @@
+package com.repodocaiagent.agent.service;
+
+import com.repodocaiagent.agent.model.JavaClassDoc;
+import com.repodocaiagent.agent.model.MethodDoc;
+import com.repodocaiagent.agent.model.ParameterDoc;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.stream.Collector;
+
+/**
+ * Immutable, pre-aggregated view of a parsed repository that the repository-level generators read from.
+ * It is built in a single parallel pass over all classes and methods, so the README, getting started
+ * guide and FAQ do not each re-scan the class list.
+ */
+public final class RepositoryIndex {
+    private final List<JavaClassDoc> classes;
+    private final long classCount;
+    private final long interfaceCount;
+    private final long enumCount;
+    private final SortedMap<String, List<JavaClassDoc>> packages;
+    private final List<String> entryPoints;
+    private final List<JavaClassDoc> publicClasses;
+    private final List<JavaClassDoc> publicApiClasses;
+    private final List<JavaClassDoc> complexClasses;
+    private final List<String> dependencies;
+    private final List<String> exceptionTypes;
+    private final List<MethodDoc> throwingMethods;
+    private final long fileOperationMethods;
+    private final long networkMethods;
+    private final long configMethods;
+    private final boolean webControllers;
+    private final boolean jpaEntities;
+    private final boolean tests;
+
+    private RepositoryIndex(List<JavaClassDoc> classes, Accumulator totals) {
+        this.classes = List.copyOf(classes);
+        this.classCount = totals.classCount;
+        this.interfaceCount = totals.interfaceCount;
+        this.enumCount = totals.enumCount;
+        SortedMap<String, List<JavaClassDoc>> packageMap = new TreeMap<>();
+        totals.packages.forEach((name, members) -> packageMap.put(name, List.copyOf(members)));
+        this.packages = Collections.unmodifiableSortedMap(packageMap);
+        this.entryPoints = List.copyOf(totals.entryPoints);
+        this.publicClasses = List.copyOf(totals.publicClasses);
+        this.publicApiClasses = List.copyOf(totals.publicApiClasses);
+        this.complexClasses = List.copyOf(totals.complexClasses);
+        this.dependencies = List.copyOf(totals.dependencies);
+        this.exceptionTypes = List.copyOf(totals.exceptionTypes);
+        this.throwingMethods = List.copyOf(totals.throwingMethods);
+        this.fileOperationMethods = totals.fileOperationMethods;
+        this.networkMethods = totals.networkMethods;
+        this.configMethods = totals.configMethods;
+        this.webControllers = totals.webControllers;
+        this.jpaEntities = totals.jpaEntities;
+        this.tests = totals.tests;
+    }
+
+    /**
+     * Indexes parsed classes in one parallel pass. Lists keep the order of the input classes.
+     *
+     * @param classes Classes parsed from the repository
+     * @return The index
+     */
+    public static RepositoryIndex build(List<JavaClassDoc> classes) {
+        Accumulator totals = classes.parallelStream()
+            .collect(Collector.of(Accumulator::new, Accumulator::add, Accumulator::merge));
+        return new RepositoryIndex(classes, totals);
+    }
+
+    /**
+     * Collects classes while they are being parsed, possibly out of order, and indexes them in their
+     * original order once the last one has arrived, so the repository-level prompts do not depend on
+     * which parser thread finished first.
+     */
+    public static final class Builder {
+        private final SortedMap<Long, JavaClassDoc> classes = new TreeMap<>();
+
+        /**
+         * @param position Position of the class's source in discovery order
+         * @param classDoc The parsed class
+         */
+        public synchronized void add(long position, JavaClassDoc classDoc) {
+            classes.put(position, classDoc);
+        }
+
+        public synchronized RepositoryIndex build() {
+            return RepositoryIndex.build(new ArrayList<>(classes.values()));
+        }
+    }
+
+    public List<JavaClassDoc> getClasses() {
+        return classes;
+    }
+
+    public int getTotalClasses() {
+        return classes.size();
+    }
+
+    public long getClassCount() {
+        return classCount;
+    }
+
+    public long getInterfaceCount() {
+        return interfaceCount;
+    }
+
+    public long getEnumCount() {
+        return enumCount;
+    }
+
+    /**
+     * @return Classes grouped by package name, packages in alphabetical order
+     */
+    public SortedMap<String, List<JavaClassDoc>> getPackages() {
+        return packages;
+    }
+
+    /**
+     * @return Fully qualified names of classes with a static main method
+     */
+    public List<String> getEntryPoints() {
+        return entryPoints;
+    }
+
+    public List<JavaClassDoc> getPublicClasses() {
+        return publicClasses;
+    }
+
+    /**
+     * @return Public classes that declare at least one public method
+     */
+    public List<JavaClassDoc> getPublicApiClasses() {
+        return publicApiClasses;
+    }
+
+    /**
+     * @return Classes with more than 10 methods or with implemented interfaces
+     */
+    public List<JavaClassDoc> getComplexClasses() {
+        return complexClasses;
+    }
+
+    /**
+     * @return Distinct dependencies outside the java.* packages
+     */
+    public List<String> getDependencies() {
+        return dependencies;
+    }
+
+    /**
+     * @return Distinct exception types declared by any method
+     */
+    public List<String> getExceptionTypes() {
+        return exceptionTypes;
+    }
+
+    /**
+     * @return Methods that declare at least one exception
+     */
+    public List<MethodDoc> getThrowingMethods() {
+        return throwingMethods;
+    }
+
+    /**
+     * @return Number of methods taking or returning files or paths
+     */
+    public long getFileOperationMethods() {
+        return fileOperationMethods;
+    }
+
+    /**
+     * @return Number of methods returning HTTP or URL types, or named like a connection
+     */
+    public long getNetworkMethods() {
+        return networkMethods;
+    }
+
+    /**
+     * @return Number of methods returning properties, or named like configuration
+     */
+    public long getConfigMethods() {
+        return configMethods;
+    }
+
+    public boolean hasWebControllers() {
+        return webControllers;
+    }
+
+    public boolean hasJpaEntities() {
+        return jpaEntities;
+    }
+
+    public boolean hasTests() {
+        return tests;
+    }
+
+    /**
+     * Mutable per-thread totals; partial results are merged in encounter order.
+     */
+    private static final class Accumulator {
+        private long classCount;
+        private long interfaceCount;
+        private long enumCount;
+        private final Map<String, List<JavaClassDoc>> packages = new LinkedHashMap<>();
+        private final List<String> entryPoints = new ArrayList<>();
+        private final List<JavaClassDoc> publicClasses = new ArrayList<>();
+        private final List<JavaClassDoc> publicApiClasses = new ArrayList<>();
+        private final List<JavaClassDoc> complexClasses = new ArrayList<>();
+        private final Set<String> dependencies = new LinkedHashSet<>();
+        private final Set<String> exceptionTypes = new LinkedHashSet<>();
+        private final List<MethodDoc> throwingMethods = new ArrayList<>();
+        private long fileOperationMethods;
+        private long networkMethods;
+        private long configMethods;
+        private boolean webControllers;
+        private boolean jpaEntities;
+        private boolean tests;
+
+        void add(JavaClassDoc classDoc) {
+            switch (classDoc.getType() != null ? classDoc.getType() : "") {
+                case "CLASS" -> classCount++;
+                case "INTERFACE" -> interfaceCount++;
+                case "ENUM" -> enumCount++;
+                default -> { }
+            }
+            packages.computeIfAbsent(classDoc.getPackageName() != null ? classDoc.getPackageName() : "", k -> new ArrayList<>())
+                .add(classDoc);
+
+            Map<String, String> annotations = classDoc.getAnnotations();
+            if (annotations != null) {
+                webControllers |= annotations.containsKey("@RestController") || annotations.containsKey("@Controller");
+                jpaEntities |= annotations.containsKey("@Entity");
+            }
+            tests |= classDoc.getName() != null && classDoc.getName().contains("Test");
+
+            if (classDoc.getDependencies() != null) {
+                for (String dependency : classDoc.getDependencies()) {
+                    if (!dependency.startsWith("java.")) {
+                        dependencies.add(dependency);
+                    }
+                }
+            }
+
+            List<MethodDoc> methods = classDoc.getMethods() != null ? classDoc.getMethods() : List.of();
+            boolean entryPoint = false;
+            boolean publicMethod = false;
+            for (MethodDoc method : methods) {
+                String name = method.getName() != null ? method.getName() : "";
+                String returnType = method.getReturnType() != null ? method.getReturnType() : "";
+                entryPoint |= method.isStatic() && "main".equals(name);
+                publicMethod |= method.isPublic();
+
+                if (method.getExceptions() != null && !method.getExceptions().isEmpty()) {
+                    exceptionTypes.addAll(method.getExceptions());
+                    throwingMethods.add(method);
+                }
+                if (returnType.contains("Path") || returnType.contains("File") || hasFileParameter(method)) {
+                    fileOperationMethods++;
+                }
+                String lowerName = name.toLowerCase();
+                if (returnType.contains("Http") || returnType.contains("URL") || lowerName.contains("connect")) {
+                    networkMethods++;
+                }
+                if (returnType.contains("Properties") || lowerName.contains("config")) {
+                    configMethods++;
+                }
+            }
+
+            if (entryPoint) {
+                entryPoints.add(classDoc.getFullyQualifiedName());
+            }
+            if (classDoc.isPublic()) {
+                publicClasses.add(classDoc);
+                if (publicMethod) {
+                    publicApiClasses.add(classDoc);
+                }
+            }
+            if (methods.size() > 10 || (classDoc.getImplementedInterfaces() != null && !classDoc.getImplementedInterfaces().isEmpty())) {
+                complexClasses.add(classDoc);
+            }
+        }
+
+        Accumulator merge(Accumulator other) {
+            classCount += other.classCount;
+            interfaceCount += other.interfaceCount;
+            enumCount += other.enumCount;
+            other.packages.forEach((name, members) -> packages.computeIfAbsent(name, k -> new ArrayList<>()).addAll(members));
+            entryPoints.addAll(other.entryPoints);
+            publicClasses.addAll(other.publicClasses);
+            publicApiClasses.addAll(other.publicApiClasses);
+            complexClasses.addAll(other.complexClasses);
+            dependencies.addAll(other.dependencies);
+            exceptionTypes.addAll(other.exceptionTypes);
+            throwingMethods.addAll(other.throwingMethods);
+            fileOperationMethods += other.fileOperationMethods;
+            networkMethods += other.networkMethods;
+            configMethods += other.configMethods;
+            webControllers |= other.webControllers;
+            jpaEntities |= other.jpaEntities;
+            tests |= other.tests;
+            return this;
+        }
+
+        private static boolean hasFileParameter(MethodDoc method) {
+            if (method.getParameters() == null) {
+                return false;
+            }
+            for (ParameterDoc parameter : method.getParameters()) {
+                String type = parameter.getType() != null ? parameter.getType() : "";
+                if (type.contains("Path") || type.contains("File")) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
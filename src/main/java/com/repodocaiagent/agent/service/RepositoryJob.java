@@ -0,0 +1,113 @@
+package com.repodocaiagent.agent.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One repository of a batch run, read from a line of the batch manifest:
+ * <pre>
+ * # comment
+ * https://github.com/owner/repo.git [ref=&lt;branch or tag&gt;] [include=&lt;patterns&gt;] [exclude=&lt;patterns&gt;] [concurrency=&lt;n&gt;]
+ * </pre>
+ * Patterns are comma separated and use the syntax of DISCOVERY_INCLUDE and DISCOVERY_EXCLUDE, which they replace
+ * for this repository. {@code concurrency} caps the repository's class documentation requests in flight.
+ *
+ * @param url Repository URL
+ * @param ref Branch or tag to document, null for the default branch
+ * @param includes Include patterns, null for the configured ones
+ * @param excludes Exclude patterns, null for the configured ones
+ * @param concurrency Maximum number of class documentation requests in flight, null for CLASS_DOC_CONCURRENCY
+ */
+public record RepositoryJob(String url, String ref, List<String> includes, List<String> excludes, Integer concurrency) {
+    private static final Pattern GITHUB_URL = Pattern.compile("github\\.com[/:]([^/]+)/([^/.]+)");
+
+    /**
+     * @param url Repository URL
+     * @return A job documenting the default branch with the configured settings
+     */
+    public static RepositoryJob of(String url) {
+        return new RepositoryJob(url, null, null, null, null);
+    }
+
+    /**
+     * @return The repository name without owner, e.g. "azure-javaweb-app"
+     */
+    public String name() {
+        Matcher m = GITHUB_URL.matcher(url);
+        if (m.find()) {
+            return m.group(2);
+        }
+        // local paths and file:// URLs may end in a slash or point at the .git folder
+        String path = url.replaceAll("/+$", "").replaceFirst("/\\.git$", "");
+        String last = path.substring(path.lastIndexOf('/') + 1);
+        return last.endsWith(".git")
+             ? last.substring(0, last.length() - 4)
+             : last;
+    }
+
+    /**
+     * @return Folder the repository is cloned into under the destination: its name, followed by the ref when one is given
+     */
+    public String directoryName() {
+        return ref != null ? name() + "@" + ref.replaceAll("[^A-Za-z0-9._-]", "_") : name();
+    }
+
+    /**
+     * Reads a batch manifest; blank lines and lines starting with '#' are skipped.
+     *
+     * @param manifest Manifest file
+     * @return Jobs in manifest order
+     * @throws IOException If the manifest cannot be read or a line cannot be parsed
+     */
+    public static List<RepositoryJob> readManifest(Path manifest) throws IOException {
+        List<RepositoryJob> jobs = new ArrayList<>();
+        List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith("#")) {
+                continue;
+            }
+            try {
+                jobs.add(parse(line));
+            } catch (IllegalArgumentException e) {
+                throw new IOException(manifest + ":" + (i + 1) + ": " + e.getMessage(), e);
+            }
+        }
+        return jobs;
+    }
+
+    private static RepositoryJob parse(String line) {
+        String[] fields = line.split("\\s+");
+        String ref = null;
+        List<String> includes = null;
+        List<String> excludes = null;
+        Integer concurrency = null;
+        for (int i = 1; i < fields.length; i++) {
+            int separator = fields[i].indexOf('=');
+            if (separator < 0) {
+                throw new IllegalArgumentException("expected key=value but found " + fields[i]);
+            }
+            String value = fields[i].substring(separator + 1);
+            switch (fields[i].substring(0, separator)) {
+                case "ref" -> ref = value;
+                case "include" -> includes = SourceDiscovery.patterns(value);
+                case "exclude" -> excludes = SourceDiscovery.patterns(value);
+                case "concurrency" -> {
+                    concurrency = Integer.parseInt(value);
+                    if (concurrency < 1) {
+                        throw new IllegalArgumentException("concurrency must be at least 1");
+                    }
+                }
+                default -> throw new IllegalArgumentException("unknown option " + fields[i]
+                    + " (expected ref, include, exclude or concurrency)");
+            }
+        }
+        return new RepositoryJob(fields[0], ref, includes, excludes, concurrency);
+    }
+}
@@ -0,0 +1,231 @@
+package com.repodocaiagent.agent.service;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import org.eclipse.jgit.api.errors.GitAPIException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Stream;
+
+/**
+ * Keeps a local mirror of every documented repository so later runs only fetch new objects.
+ * Mirrors are keyed by repository URL, and the least recently used mirrors are removed
+ * when the store grows past its disk budget. A mirror is handed out as a {@link Lease}, and
+ * is not removed while a lease on it is open.
+ */
+public class RepositoryMirrorService {
+    private static final Logger logger = LoggerFactory.getLogger(RepositoryMirrorService.class);
+    private static final String LAST_USED_MARKER = "repodocaiagent-last-used";
+
+    private final GitHubService gitHubService;
+    private final Path mirrorsDir;
+    private final long maxBytes;
+    private final ConcurrentHashMap<String, ReentrantLock> locks = new ConcurrentHashMap<>();
+    // open leases per mirror; a mirror is only evicted while it has none
+    private final ConcurrentHashMap<String, Integer> leases = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a mirror store configured from MIRROR_DIR and MIRROR_MAX_GB.
+     */
+    public RepositoryMirrorService(Dotenv dotenv, GitHubService gitHubService) throws IOException {
+        this.gitHubService = gitHubService;
+        this.mirrorsDir = Path.of(dotenv.get("MIRROR_DIR", Path.of(System.getProperty("user.home"), ".repodocaiagent", "mirrors").toString()));
+        this.maxBytes = (long) (Double.parseDouble(dotenv.get("MIRROR_MAX_GB", "20")) * 1024 * 1024 * 1024);
+        Files.createDirectories(mirrorsDir);
+    }
+
+    /**
+     * Use of a mirror. The mirror is kept until the lease is closed, so sources read lazily from its
+     * object database stay readable for as long as the caller needs them.
+     */
+    public final class Lease implements AutoCloseable {
+        private final String key;
+        private final Path path;
+        private boolean closed;
+
+        private Lease(String key, Path path) {
+            this.key = key;
+            this.path = path;
+        }
+
+        /**
+         * @return Directory of the bare mirror
+         */
+        public Path path() {
+            return path;
+        }
+
+        @Override
+        public synchronized void close() {
+            if (!closed) {
+                closed = true;
+                release(key);
+            }
+        }
+    }
+
+    /**
+     * Returns an up-to-date mirror of a repository, cloning it on first use and fetching on later uses.
+     *
+     * @param repoUrl GitHub repository URL
+     * @return Lease on the bare mirror; close it once the mirror is no longer read
+     */
+    public Lease mirror(String repoUrl) throws GitAPIException, IOException {
+        String key = mirrorKey(repoUrl);
+        Path mirrorDir = mirrorsDir.resolve(key);
+        // leased before it is locked, so an eviction that has not checked the lease yet waits for the lock
+        leases.merge(key, 1, Integer::sum);
+        Lease lease = new Lease(key, mirrorDir);
+        try {
+            ReentrantLock lock = locks.computeIfAbsent(key, k -> new ReentrantLock());
+            lock.lock();
+            try {
+                if (Files.exists(mirrorDir.resolve(LAST_USED_MARKER))) {
+                    gitHubService.fetchMirror(mirrorDir);
+                } else {
+                    // clone next to the store entry and move it in, so an interrupted clone is never reused
+                    Path tempDir = mirrorsDir.resolve(key + "_temp_" + System.currentTimeMillis());
+                    try {
+                        gitHubService.cloneMirror(repoUrl, tempDir);
+                        Files.createFile(tempDir.resolve(LAST_USED_MARKER));
+                        gitHubService.cleanupDirectory(mirrorDir);
+                        Files.move(tempDir, mirrorDir, StandardCopyOption.ATOMIC_MOVE);
+                    } finally {
+                        gitHubService.cleanupDirectory(tempDir);
+                    }
+                }
+                Files.setLastModifiedTime(mirrorDir.resolve(LAST_USED_MARKER), FileTime.from(Instant.now()));
+            } finally {
+                lock.unlock();
+            }
+
+            // the mirror is ready, so a failed eviction is only logged and retried after the next fetch
+            try {
+                evict(mirrorDir);
+            } catch (IOException | RuntimeException e) {
+                logger.warn("Failed to evict mirrors from {}: {}", mirrorsDir, e.getMessage());
+            }
+            return lease;
+        } catch (GitAPIException | IOException | RuntimeException | Error e) {
+            lease.close();
+            throw e;
+        }
+    }
+
+    private void release(String key) {
+        leases.computeIfPresent(key, (k, count) -> count > 1 ? count - 1 : null);
+    }
+
+    /**
+     * Removes the least recently used mirrors until the store fits its disk budget.
+     * Mirrors that are leased or being fetched by another thread are skipped.
+     *
+     * @param keep Mirror that must not be removed
+     */
+    public synchronized void evict(Path keep) throws IOException {
+        List<Path> mirrors = new ArrayList<>();
+        try (Stream<Path> entries = Files.list(mirrorsDir)) {
+            entries.filter(p -> Files.exists(p.resolve(LAST_USED_MARKER))).forEach(mirrors::add);
+        }
+
+        long total = 0;
+        List<MirrorUsage> usages = new ArrayList<>(mirrors.size());
+        for (Path mirror : mirrors) {
+            try {
+                Instant lastUsed = Files.getLastModifiedTime(mirror.resolve(LAST_USED_MARKER)).toInstant();
+                long size = directorySize(mirror);
+                total += size;
+                usages.add(new MirrorUsage(mirror, size, lastUsed));
+            } catch (IOException e) {
+                // replaced or evicted by another thread since it was listed
+            }
+        }
+        if (total <= maxBytes) {
+            return;
+        }
+
+        usages.sort(Comparator.comparing(MirrorUsage::lastUsed));
+        for (MirrorUsage usage : usages) {
+            if (total <= maxBytes) {
+                break;
+            }
+            if (usage.mirror().equals(keep)) {
+                continue;
+            }
+            ReentrantLock lock = locks.computeIfAbsent(usage.mirror().getFileName().toString(), k -> new ReentrantLock());
+            if (!lock.tryLock()) {
+                continue;
+            }
+            try {
+                if (leases.containsKey(usage.mirror().getFileName().toString())) {
+                    continue;
+                }
+                logger.info("Evicting mirror {} ({} MB, last used {})", usage.mirror(), usage.size() / (1024 * 1024), usage.lastUsed());
+                gitHubService.cleanupDirectory(usage.mirror());
+                total -= usage.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Builds a readable, collision-free directory name for a repository URL.
+     */
+    private static String mirrorKey(String repoUrl) {
+        String normalized = repoUrl.trim().toLowerCase(Locale.ROOT).replaceAll("/+$", "").replaceAll("\\.git$", "");
+        String name = normalized.substring(normalized.lastIndexOf('/') + 1).replaceAll("[^a-z0-9._-]", "_");
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(normalized.getBytes(StandardCharsets.UTF_8));
+            return name + "-" + HexFormat.of().formatHex(digest, 0, 6) + ".git";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Sums the sizes of a directory's files. Mirrors may be fetched into while they are measured,
+     * so pack, lock and temp files that disappear during the walk are skipped.
+     */
+    private static long directorySize(Path dir) throws IOException {
+        AtomicLong size = new AtomicLong();
+        Files.walkFileTree(dir, new SimpleFileVisitor<>() {
+            @Override
+            public FileVisitResult visitFile(Path file, BasicFileAttributes attributes) {
+                if (attributes.isRegularFile()) {
+                    size.addAndGet(attributes.size());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            @Override
+            public FileVisitResult visitFileFailed(Path file, IOException e) {
+                return FileVisitResult.CONTINUE;
+            }
+        });
+        return size.get();
+    }
+
+    private record MirrorUsage(Path mirror, long size, Instant lastUsed) {
+    }
+}
@@ -0,0 +1,316 @@
+package com.repodocaiagent.agent.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Timers and counters for one documentation run, written out as a JSON report at the end.
+ * Phases such as clone, parse, prompt rendering, LLM calls and writes are timed; LLM calls are
+ * also attributed to the class being documented on the calling thread (and the threads it starts),
+ * so the report can list the classes that cost the most tokens. Every measurement is also
+ * forwarded to a {@link MetricsSink}, for example to publish it through Micrometer, or to the
+ * metrics of a batch that this run is part of.
+ */
+public class RunMetrics implements MetricsSink {
+    private static final Logger logger = LoggerFactory.getLogger(RunMetrics.class);
+    private static final int TOP_SUBJECTS = 20;
+    // run that components shared by several runs record into, inherited by the threads a run starts
+    private static final InheritableThreadLocal<RunMetrics> ACTIVE = new InheritableThreadLocal<>();
+
+    private final MetricsSink sink;
+    private final Instant startedAt = Instant.now();
+    private final long startNanos = System.nanoTime();
+    private final ConcurrentHashMap<String, Timer> timers = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, LongAdder> counters = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, Usage> usageBySubject = new ConcurrentHashMap<>();
+    // inherited by the virtual threads a class's generation starts for its chunks
+    private final InheritableThreadLocal<String> subject = new InheritableThreadLocal<>();
+
+    public RunMetrics() {
+        this(MetricsSink.NONE);
+    }
+
+    /**
+     * @param sink Registry every timing and count is forwarded to
+     */
+    public RunMetrics(MetricsSink sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * Starts timing a phase; the time is recorded when the returned scope is closed.
+     *
+     * @param phase Name of the phase, such as "clone" or "llm.call"
+     */
+    public Scope time(String phase) {
+        long start = System.nanoTime();
+        return () -> record(phase, System.nanoTime() - start);
+    }
+
+    @Override
+    public void recordTime(String name, long nanos) {
+        record(name, nanos);
+    }
+
+    public void record(String phase, long nanos) {
+        timers.computeIfAbsent(phase, k -> new Timer()).add(nanos);
+        sink.recordTime(phase, nanos);
+    }
+
+    public void increment(String counter) {
+        increment(counter, 1);
+    }
+
+    @Override
+    public void increment(String counter, long amount) {
+        counters.computeIfAbsent(counter, k -> new LongAdder()).add(amount);
+        sink.increment(counter, amount);
+    }
+
+    /**
+     * Attributes LLM calls made on this thread, and on threads it starts, to a subject until the
+     * returned scope is closed.
+     *
+     * @param name Subject of the calls, usually the fully qualified name of the class being documented
+     */
+    public Scope attribute(String name) {
+        String previous = subject.get();
+        subject.set(name);
+        return () -> subject.set(previous);
+    }
+
+    /**
+     * Makes this the run that components shared between runs, such as the metered model, record into
+     * on this thread and the threads it starts, until the returned scope is closed.
+     */
+    public Scope activate() {
+        RunMetrics previous = ACTIVE.get();
+        ACTIVE.set(this);
+        return () -> ACTIVE.set(previous);
+    }
+
+    /**
+     * @return The run activated on this thread, or this one if none is
+     */
+    public RunMetrics active() {
+        RunMetrics active = ACTIVE.get();
+        return active != null ? active : this;
+    }
+
+    /**
+     * Records one completed LLM request.
+     *
+     * @param nanos Time the request took
+     * @param promptTokens Prompt tokens reported by the model
+     * @param completionTokens Completion tokens reported by the model
+     */
+    public void recordLlmCall(long nanos, long promptTokens, long completionTokens) {
+        record("llm.call", nanos);
+        increment("llm.calls");
+        increment("llm.prompt_tokens", promptTokens);
+        increment("llm.completion_tokens", completionTokens);
+        String current = subject.get();
+        usageBySubject.computeIfAbsent(current != null ? current : "(repository documents)", k -> new Usage())
+            .add(nanos, promptTokens, completionTokens);
+    }
+
+    /**
+     * @return Current value of a counter, 0 if it was never incremented
+     */
+    public long count(String counter) {
+        LongAdder adder = counters.get(counter);
+        return adder != null ? adder.sum() : 0;
+    }
+
+    /**
+     * Writes the report as JSON, replacing an earlier report atomically.
+     *
+     * @param file Report file
+     * @param run Facts about the run, such as repository and outcome, written at the top of the report
+     */
+    public void writeReport(Path file, Map<String, ?> run) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Path temp = Files.createTempFile(file.toAbsolutePath().getParent(), file.getFileName().toString(), ".tmp");
+        Files.writeString(temp, toJson(report(run)) + '\n');
+        Files.move(temp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logger.info("Run report written to {}", file);
+    }
+
+    /**
+     * Builds the report: timers, counters and the subjects that cost the most tokens so far.
+     *
+     * @param run Facts about the run, written at the top of the report
+     */
+    public Map<String, Object> report(Map<String, ?> run) {
+        Map<String, Object> report = new LinkedHashMap<>(run);
+        report.put("startedAt", startedAt.toString());
+        report.put("wallTimeMillis", TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos));
+
+        Map<String, Object> phases = new TreeMap<>();
+        timers.forEach((name, timer) -> phases.put(name, timer.toMap()));
+        report.put("phases", phases);
+
+        Map<String, Object> counts = new TreeMap<>();
+        counters.forEach((name, adder) -> counts.put(name, adder.sum()));
+        report.put("counters", counts);
+
+        List<Map<String, Object>> topSubjects = new ArrayList<>();
+        usageBySubject.entrySet().stream()
+            .sorted(Comparator.comparingLong((Map.Entry<String, Usage> e) -> e.getValue().totalTokens()).reversed())
+            .limit(TOP_SUBJECTS)
+            .forEach(e -> {
+                Map<String, Object> entry = new LinkedHashMap<>();
+                entry.put("subject", e.getKey());
+                entry.putAll(e.getValue().toMap());
+                topSubjects.add(entry);
+            });
+        report.put("topSubjectsByTokens", topSubjects);
+        return report;
+    }
+
+    /**
+     * Formats maps, lists, strings, numbers, booleans and null as indented JSON.
+     */
+    public static String toJson(Object value) {
+        StringBuilder json = new StringBuilder();
+        writeJson(json, value, "");
+        return json.toString();
+    }
+
+    /**
+     * Writes maps, lists, strings, numbers, booleans and null as indented JSON.
+     */
+    private static void writeJson(StringBuilder out, Object value, String indent) {
+        if (value instanceof Map<?, ?> map) {
+            if (map.isEmpty()) {
+                out.append("{}");
+                return;
+            }
+            out.append("{\n");
+            int i = 0;
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                out.append(indent).append("  ");
+                writeString(out, String.valueOf(entry.getKey()));
+                out.append(": ");
+                writeJson(out, entry.getValue(), indent + "  ");
+                out.append(++i < map.size() ? ",\n" : "\n");
+            }
+            out.append(indent).append('}');
+        } else if (value instanceof List<?> list) {
+            if (list.isEmpty()) {
+                out.append("[]");
+                return;
+            }
+            out.append("[\n");
+            for (int i = 0; i < list.size(); i++) {
+                out.append(indent).append("  ");
+                writeJson(out, list.get(i), indent + "  ");
+                out.append(i + 1 < list.size() ? ",\n" : "\n");
+            }
+            out.append(indent).append(']');
+        } else if (value instanceof Number || value instanceof Boolean) {
+            out.append(value);
+        } else if (value == null) {
+            out.append("null");
+        } else {
+            writeString(out, value.toString());
+        }
+    }
+
+    private static void writeString(StringBuilder out, String text) {
+        out.append('"');
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+                case '"' -> out.append("\\\"");
+                case '\\' -> out.append("\\\\");
+                case '\n' -> out.append("\\n");
+                case '\r' -> out.append("\\r");
+                case '\t' -> out.append("\\t");
+                default -> {
+                    if (c < 0x20) {
+                        out.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.append(c);
+                    }
+                }
+            }
+        }
+        out.append('"');
+    }
+
+    /**
+     * Timing or attribution scope for try-with-resources; closing does not throw.
+     */
+    @FunctionalInterface
+    public interface Scope extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Timer {
+        private final LongAdder count = new LongAdder();
+        private final LongAdder totalNanos = new LongAdder();
+        private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+        void add(long nanos) {
+            count.increment();
+            totalNanos.add(nanos);
+            maxNanos.accumulate(nanos);
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            long n = count.sum();
+            long total = totalNanos.sum();
+            map.put("count", n);
+            map.put("totalMillis", TimeUnit.NANOSECONDS.toMillis(total));
+            map.put("meanMillis", n > 0 ? TimeUnit.NANOSECONDS.toMillis(total / n) : 0);
+            map.put("maxMillis", TimeUnit.NANOSECONDS.toMillis(maxNanos.get()));
+            return map;
+        }
+    }
+
+    private static final class Usage {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+        private final LongAdder promptTokens = new LongAdder();
+        private final LongAdder completionTokens = new LongAdder();
+
+        void add(long callNanos, long prompt, long completion) {
+            calls.increment();
+            nanos.add(callNanos);
+            promptTokens.add(prompt);
+            completionTokens.add(completion);
+        }
+
+        long totalTokens() {
+            return promptTokens.sum() + completionTokens.sum();
+        }
+
+        Map<String, Object> toMap() {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("calls", calls.sum());
+            map.put("llmMillis", TimeUnit.NANOSECONDS.toMillis(nanos.sum()));
+            map.put("promptTokens", promptTokens.sum());
+            map.put("completionTokens", completionTokens.sum());
+            return map;
+        }
+    }
+}
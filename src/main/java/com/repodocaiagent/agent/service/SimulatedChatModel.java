@@ -0,0 +1,333 @@
+package com.repodocaiagent.agent.service;
+
+import com.azure.core.exception.HttpResponseException;
+import com.azure.core.http.HttpHeaders;
+import com.azure.core.http.HttpMethod;
+import com.azure.core.http.HttpRequest;
+import com.azure.core.http.HttpResponse;
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import dev.langchain4j.model.output.TokenUsage;
+import io.github.cdimascio.dotenv.Dotenv;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Local stand-in for the Azure OpenAI deployment, for running and benchmarking the pipeline offline.
+ * Every request waits for a latency drawn from a log-normal distribution and answers with generated
+ * markdown of a random size. A configurable share of requests fails with HTTP 429 and a retry-after-ms
+ * header, or with HTTP 500, in the same exception type the Azure client throws, so the request scheduler
+ * and retries behave as they would against the real endpoint.
+ */
+public class SimulatedChatModel implements ChatLanguageModel, StreamingChatLanguageModel, ChatModelProvider {
+    private static final Logger logger = LoggerFactory.getLogger(SimulatedChatModel.class);
+    private static final double Z_99 = 2.326; // standard normal quantile of the 99th percentile
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int WORDS_PER_STREAMED_TOKEN = 3;
+    private static final String[] WORDS = {
+        "the", "class", "method", "returns", "value", "parameter", "configuration", "service", "request",
+        "documentation", "handles", "creates", "list", "of", "and", "for", "with", "instance", "thread-safe", "cache"
+    };
+    // class headings of the batched class prompt, see class-documentation-batch-item.md
+    private static final Pattern BATCH_CLASS = Pattern.compile("^## ([\\w.$]+)\\R+Type: ", Pattern.MULTILINE);
+
+    private final double latencyMu;
+    private final double latencySigma;
+    private final double throttleRate;
+    private final long retryAfterMillis;
+    private final double errorRate;
+    private final int outputTokens;
+    private final int maxTokens;
+    private final Random random;
+
+    private final AtomicLong requests = new AtomicLong();
+    private final AtomicLong throttled = new AtomicLong();
+    private final AtomicLong failed = new AtomicLong();
+    private final AtomicLong generatedTokens = new AtomicLong();
+
+    /**
+     * Creates a model configured from SIMULATED_LATENCY_MEDIAN_MS, SIMULATED_LATENCY_P99_MS,
+     * SIMULATED_THROTTLE_RATE, SIMULATED_RETRY_AFTER_MS, SIMULATED_ERROR_RATE, SIMULATED_OUTPUT_TOKENS,
+     * SIMULATED_MAX_TOKENS and SIMULATED_SEED.
+     */
+    public SimulatedChatModel(Dotenv dotenv) {
+        this(
+            Long.parseLong(dotenv.get("SIMULATED_LATENCY_MEDIAN_MS", "2000")),
+            Long.parseLong(dotenv.get("SIMULATED_LATENCY_P99_MS", "10000")),
+            Double.parseDouble(dotenv.get("SIMULATED_THROTTLE_RATE", "0")),
+            Long.parseLong(dotenv.get("SIMULATED_RETRY_AFTER_MS", "1000")),
+            Double.parseDouble(dotenv.get("SIMULATED_ERROR_RATE", "0")),
+            Integer.parseInt(dotenv.get("SIMULATED_OUTPUT_TOKENS", "800")),
+            Integer.parseInt(dotenv.get("SIMULATED_MAX_TOKENS", "4000")),
+            dotenv.get("SIMULATED_SEED", "").isBlank() ? null : Long.parseLong(dotenv.get("SIMULATED_SEED"))
+        );
+    }
+
+    /**
+     * @param latencyMedianMillis Median time a request takes
+     * @param latencyP99Millis 99th percentile of the time a request takes, at least the median
+     * @param throttleRate Share of requests rejected with HTTP 429, between 0 and 1
+     * @param retryAfterMillis Delay sent in the retry-after-ms header of throttled requests
+     * @param errorRate Share of requests failing with HTTP 500, between 0 and 1
+     * @param outputTokens Mean completion size; each answer is between half and one and a half times this
+     * @param maxTokens Completion limit; longer answers are cut off with finish reason LENGTH
+     * @param seed Seed for reproducible runs, or null
+     */
+    public SimulatedChatModel(long latencyMedianMillis, long latencyP99Millis, double throttleRate, long retryAfterMillis,
+                              double errorRate, int outputTokens, int maxTokens, Long seed) {
+        this.latencyMu = Math.log(Math.max(1, latencyMedianMillis));
+        this.latencySigma = Math.log(Math.max(latencyP99Millis, latencyMedianMillis) / (double) Math.max(1, latencyMedianMillis)) / Z_99;
+        this.throttleRate = throttleRate;
+        this.retryAfterMillis = retryAfterMillis;
+        this.errorRate = errorRate;
+        this.outputTokens = Math.max(1, outputTokens);
+        this.maxTokens = Math.max(1, maxTokens);
+        this.random = seed != null ? new Random(seed) : new Random();
+        logger.info("Using simulated LLM: median {} ms, p99 {} ms, {}% throttled, {}% failed, ~{} output tokens",
+            latencyMedianMillis, latencyP99Millis, throttleRate * 100, errorRate * 100, outputTokens);
+    }
+
+    @Override
+    public Response<AiMessage> generate(List<ChatMessage> messages) {
+        Outcome outcome = nextOutcome(messages);
+        sleep(outcome.latencyMillis());
+        if (outcome.failure() != null) {
+            throw outcome.failure();
+        }
+        return outcome.response();
+    }
+
+    @Override
+    public void generate(List<ChatMessage> messages, StreamingResponseHandler<AiMessage> handler) {
+        Outcome outcome = nextOutcome(messages);
+        Thread.ofVirtual().name("simulated-stream").start(() -> {
+            try {
+                if (outcome.failure() != null) {
+                    sleep(outcome.latencyMillis());
+                    handler.onError(outcome.failure());
+                    return;
+                }
+                // the first token arrives after a fifth of the latency, the rest spread over the remainder
+                String[] words = outcome.response().content().text().split(" ");
+                int chunks = Math.max(1, (words.length + WORDS_PER_STREAMED_TOKEN - 1) / WORDS_PER_STREAMED_TOKEN);
+                long firstTokenMillis = outcome.latencyMillis() / 5;
+                long perChunkNanos = TimeUnit.MILLISECONDS.toNanos(outcome.latencyMillis() - firstTokenMillis) / chunks;
+                sleep(firstTokenMillis);
+                for (int i = 0; i < words.length; i += WORDS_PER_STREAMED_TOKEN) {
+                    StringBuilder token = new StringBuilder();
+                    for (int j = i; j < Math.min(words.length, i + WORDS_PER_STREAMED_TOKEN); j++) {
+                        token.append(j > 0 ? " " : "").append(words[j]);
+                    }
+                    handler.onNext(token.toString());
+                    TimeUnit.NANOSECONDS.sleep(perChunkNanos);
+                }
+                handler.onComplete(outcome.response());
+            } catch (InterruptedException | RuntimeException e) {
+                handler.onError(e);
+            }
+        });
+    }
+
+    /**
+     * Draws latency, result and answer size of the next request.
+     */
+    private Outcome nextOutcome(List<ChatMessage> messages) {
+        requests.incrementAndGet();
+        long latency;
+        double roll;
+        double sizeFactor;
+        synchronized (random) {
+            latency = Math.round(Math.exp(latencyMu + latencySigma * random.nextGaussian()));
+            roll = random.nextDouble();
+            sizeFactor = 0.5 + random.nextDouble();
+        }
+        if (roll < throttleRate) {
+            throttled.incrementAndGet();
+            // the endpoint rejects throttled requests right away
+            return new Outcome(Math.min(latency, 50), null, failure(429, "Rate limit is exceeded. Try again later."));
+        }
+        if (roll < throttleRate + errorRate) {
+            failed.incrementAndGet();
+            return new Outcome(latency, null, failure(500, "The server had an error while processing your request."));
+        }
+
+        StringBuilder prompt = new StringBuilder();
+        for (ChatMessage message : messages) {
+            prompt.append(message.text()).append('\n');
+        }
+        int tokens = (int) Math.round(outputTokens * sizeFactor);
+        FinishReason finishReason = tokens > maxTokens ? FinishReason.LENGTH : FinishReason.STOP;
+        tokens = Math.min(tokens, maxTokens);
+        generatedTokens.addAndGet(tokens);
+        String text = answer(prompt, tokens);
+        TokenUsage usage = new TokenUsage(prompt.length() / CHARS_PER_TOKEN, tokens);
+        return new Outcome(latency, Response.from(AiMessage.from(text), usage, finishReason), null);
+    }
+
+    /**
+     * Generates markdown of about the given number of tokens. Batched class prompts are answered
+     * with one delimited section per class, so batches do not fall back to single requests.
+     */
+    private static String answer(CharSequence prompt, int tokens) {
+        List<String> batchClasses = new ArrayList<>();
+        if (prompt.toString().contains("<<<CLASS")) {
+            Matcher matcher = BATCH_CLASS.matcher(prompt);
+            while (matcher.find()) {
+                batchClasses.add(matcher.group(1));
+            }
+        }
+        if (batchClasses.isEmpty()) {
+            return "# Simulated documentation\n\n" + text(tokens);
+        }
+        StringBuilder out = new StringBuilder();
+        for (String className : batchClasses) {
+            out.append("<<<CLASS ").append(className).append(">>>\n")
+                .append("# ").append(className.substring(className.lastIndexOf('.') + 1)).append("\n\n")
+                .append(text(tokens / batchClasses.size())).append('\n')
+                .append("<<<END CLASS>>>\n");
+        }
+        return out.toString();
+    }
+
+    private static String text(int tokens) {
+        StringBuilder out = new StringBuilder(tokens * CHARS_PER_TOKEN);
+        for (int i = 0; out.length() < tokens * CHARS_PER_TOKEN; i++) {
+            out.append(WORDS[(i * 7) % WORDS.length]).append(i % 16 == 15 ? ".\n" : " ");
+        }
+        return out.toString();
+    }
+
+    private HttpResponseException failure(int statusCode, String message) {
+        HttpHeaders headers = new HttpHeaders();
+        if (statusCode == 429) {
+            headers.set("retry-after-ms", String.valueOf(retryAfterMillis));
+        }
+        return new HttpResponseException("Status code " + statusCode + ", \"" + message + "\"",
+            new SimulatedHttpResponse(statusCode, headers));
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(Math.max(0, millis));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted during simulated request", e);
+        }
+    }
+
+    /**
+     * @return Number of requests received, including throttled and failed ones
+     */
+    public long getRequests() {
+        return requests.get();
+    }
+
+    public long getThrottledRequests() {
+        return throttled.get();
+    }
+
+    public long getFailedRequests() {
+        return failed.get();
+    }
+
+    /**
+     * @return Completion tokens of all successful answers
+     */
+    public long getGeneratedTokens() {
+        return generatedTokens.get();
+    }
+
+    @Override
+    public ChatLanguageModel getChatModel() {
+        return this;
+    }
+
+    @Override
+    public StreamingChatLanguageModel getStreamingChatModel() {
+        return this;
+    }
+
+    @Override
+    public String getDeploymentName() {
+        return "simulated";
+    }
+
+    @Override
+    public double getTemperature() {
+        return 0;
+    }
+
+    @Override
+    public int getMaxTokens() {
+        return maxTokens;
+    }
+
+    private record Outcome(long latencyMillis, Response<AiMessage> response, RuntimeException failure) {
+    }
+
+    /**
+     * Response carried by the simulated HTTP failures; only status and headers are inspected.
+     */
+    private static final class SimulatedHttpResponse extends HttpResponse {
+        private final int statusCode;
+        private final HttpHeaders headers;
+
+        SimulatedHttpResponse(int statusCode, HttpHeaders headers) {
+            super(new HttpRequest(HttpMethod.POST, "http://localhost/simulated/chat/completions"));
+            this.statusCode = statusCode;
+            this.headers = headers;
+        }
+
+        @Override
+        public int getStatusCode() {
+            return statusCode;
+        }
+
+        @Override
+        public String getHeaderValue(String name) {
+            return headers.getValue(name);
+        }
+
+        @Override
+        public HttpHeaders getHeaders() {
+            return headers;
+        }
+
+        @Override
+        public Flux<ByteBuffer> getBody() {
+            return Flux.empty();
+        }
+
+        @Override
+        public Mono<byte[]> getBodyAsByteArray() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<String> getBodyAsString() {
+            return Mono.empty();
+        }
+
+        @Override
+        public Mono<String> getBodyAsString(Charset charset) {
+            return Mono.empty();
+        }
+    }
+}
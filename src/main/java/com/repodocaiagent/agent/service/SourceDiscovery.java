@@ -0,0 +1,244 @@
+package com.repodocaiagent.agent.service;
+
+import io.github.cdimascio.dotenv.Dotenv;
+import org.eclipse.jgit.ignore.FastIgnoreRule;
+import org.eclipse.jgit.ignore.IgnoreNode;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.stream.Collectors;
+
+/**
+ * Finds the source files of a checkout. Directories are walked in parallel on a fork-join pool, and a
+ * directory that is ignored by the repository's {@code .gitignore} files or matches an exclude pattern is
+ * skipped with everything below it, so build output, dependencies and vendored trees are never listed.
+ * {@code .git} is always skipped.
+ * <p>
+ * Include and exclude patterns use {@code .gitignore} syntax and are matched against repository-relative
+ * paths: {@code *.java} matches in every directory, {@code generated/} matches any directory of that
+ * name, {@code /tools/} only the one at the root and {@code **}{@code /src/test/} every test source root.
+ * The result lists each directory's files by name, followed by its subdirectories in name order, so it
+ * is the same from run to run.
+ */
+public class SourceDiscovery {
+    private static final Logger logger = LoggerFactory.getLogger(SourceDiscovery.class);
+    private static final String GIT_DIR = ".git";
+    private static final String GITIGNORE = ".gitignore";
+
+    private final List<String> includePatterns;
+    private final List<String> excludePatterns;
+    private final List<FastIgnoreRule> includes;
+    private final IgnoreNode excludes;
+    private final boolean gitignore;
+    private final int parallelism;
+
+    /**
+     * Finds Java files, honoring {@code .gitignore}.
+     */
+    public SourceDiscovery() {
+        this(List.of("*.java"), List.of(), true, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Reads DISCOVERY_INCLUDE and DISCOVERY_EXCLUDE (comma separated patterns), DISCOVERY_GITIGNORE and
+     * DISCOVERY_THREADS.
+     */
+    public SourceDiscovery(Dotenv dotenv) {
+        this(patterns(dotenv.get("DISCOVERY_INCLUDE", "*.java")),
+            patterns(dotenv.get("DISCOVERY_EXCLUDE", "")),
+            Boolean.parseBoolean(dotenv.get("DISCOVERY_GITIGNORE", "true")),
+            Integer.parseInt(dotenv.get("DISCOVERY_THREADS", String.valueOf(Runtime.getRuntime().availableProcessors()))));
+    }
+
+    /**
+     * @param includes Patterns a file must match one of to be found
+     * @param excludes Patterns of files and directories to skip; later patterns win, and {@code !} re-includes
+     * @param gitignore Whether to skip what the repository's {@code .gitignore} files and {@code .git/info/exclude} ignore
+     * @param parallelism Number of threads walking directories
+     */
+    public SourceDiscovery(List<String> includes, List<String> excludes, boolean gitignore, int parallelism) {
+        this.includePatterns = List.copyOf(includes);
+        this.excludePatterns = List.copyOf(excludes);
+        this.includes = includes.stream().map(FastIgnoreRule::new).collect(Collectors.toList());
+        this.excludes = new IgnoreNode(excludes.stream().map(FastIgnoreRule::new).collect(Collectors.toList()));
+        this.gitignore = gitignore;
+        this.parallelism = Math.max(1, parallelism);
+    }
+
+    /**
+     * @param includes Patterns replacing the include patterns, null to keep them
+     * @param excludes Patterns replacing the exclude patterns, null to keep them
+     * @return A discovery with other patterns and the same {@code .gitignore} and threading settings
+     */
+    public SourceDiscovery withPatterns(List<String> includes, List<String> excludes) {
+        return new SourceDiscovery(includes != null ? includes : includePatterns,
+            excludes != null ? excludes : excludePatterns, gitignore, parallelism);
+    }
+
+    /**
+     * Splits a comma separated list of patterns.
+     */
+    public static List<String> patterns(String value) {
+        return Arrays.stream(value.split(","))
+            .map(String::strip)
+            .filter(pattern -> !pattern.isEmpty())
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Finds the source files below a directory.
+     *
+     * @param root Repository root
+     * @return Matching files
+     * @throws IOException If the root cannot be read
+     */
+    public List<Path> find(Path root) throws IOException {
+        List<Rules> rules = new ArrayList<>();
+        if (gitignore) {
+            // .git/info/exclude applies like a .gitignore at the root, below every .gitignore file
+            IgnoreNode infoExclude = load(root.resolve(GIT_DIR).resolve("info").resolve("exclude"));
+            if (infoExclude != null) {
+                rules.add(new Rules(root, infoExclude));
+            }
+        }
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+        try {
+            List<Path> files = pool.invoke(new DirectoryTask(root, root, rules));
+            logger.info("Found {} source files in {}", files.size(), root);
+            return files;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Ignore rules of one {@code .gitignore} file, matched against paths relative to its directory.
+     */
+    private record Rules(Path base, IgnoreNode node) {
+    }
+
+    private static IgnoreNode load(Path file) throws IOException {
+        if (!Files.isRegularFile(file)) {
+            return null;
+        }
+        IgnoreNode node = new IgnoreNode();
+        try (InputStream in = Files.newInputStream(file)) {
+            node.parse(file.toString(), in);
+        }
+        return node;
+    }
+
+    private static String relative(Path base, Path path) {
+        return base.relativize(path).toString().replace('\\', '/');
+    }
+
+    /**
+     * Lists one directory and forks a task per subdirectory that is not skipped.
+     */
+    private final class DirectoryTask extends RecursiveTask<List<Path>> {
+        private final Path root;
+        private final Path directory;
+        private final List<Rules> rules;
+
+        DirectoryTask(Path root, Path directory, List<Rules> inherited) {
+            this.root = root;
+            this.directory = directory;
+            this.rules = inherited;
+        }
+
+        @Override
+        protected List<Path> compute() {
+            List<Rules> active = rules;
+            List<Path> entries = new ArrayList<>();
+            try {
+                if (gitignore) {
+                    IgnoreNode node = load(directory.resolve(GITIGNORE));
+                    if (node != null) {
+                        active = new ArrayList<>(rules);
+                        active.add(new Rules(directory, node));
+                    }
+                }
+                try (DirectoryStream<Path> children = Files.newDirectoryStream(directory)) {
+                    children.forEach(entries::add);
+                }
+            } catch (IOException e) {
+                if (directory.equals(root)) {
+                    throw new UncheckedIOException(e);
+                }
+                logger.warn("Skipping unreadable directory {}: {}", directory, e.getMessage());
+                return List.of();
+            }
+            entries.sort(null);
+
+            List<Path> files = new ArrayList<>();
+            List<DirectoryTask> subdirectories = new ArrayList<>();
+            for (Path entry : entries) {
+                if (entry.getFileName().toString().equals(GIT_DIR)) {
+                    continue;
+                }
+                BasicFileAttributes attributes;
+                try {
+                    attributes = Files.readAttributes(entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS);
+                } catch (IOException e) {
+                    logger.warn("Skipping unreadable path {}: {}", entry, e.getMessage());
+                    continue;
+                }
+                boolean isDirectory = attributes.isDirectory();
+                if ((!isDirectory && !attributes.isRegularFile()) || isSkipped(entry, isDirectory, active)) {
+                    continue;
+                }
+                if (isDirectory) {
+                    subdirectories.add(new DirectoryTask(root, entry, active));
+                } else if (isIncluded(relative(root, entry))) {
+                    files.add(entry);
+                }
+            }
+
+            ForkJoinTask.invokeAll(subdirectories);
+            for (DirectoryTask subdirectory : subdirectories) {
+                files.addAll(subdirectory.join());
+            }
+            return files;
+        }
+
+        private boolean isSkipped(Path entry, boolean isDirectory, List<Rules> active) {
+            if (Boolean.TRUE.equals(excludes.checkIgnored(relative(root, entry), isDirectory))) {
+                return true;
+            }
+            // the deepest .gitignore with a matching rule decides
+            for (int i = active.size() - 1; i >= 0; i--) {
+                Rules rules = active.get(i);
+                Boolean ignored = rules.node().checkIgnored(relative(rules.base(), entry), isDirectory);
+                if (ignored != null) {
+                    return ignored;
+                }
+            }
+            return false;
+        }
+
+        private boolean isIncluded(String path) {
+            for (FastIgnoreRule include : includes) {
+                if (include.isMatch(path, false)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
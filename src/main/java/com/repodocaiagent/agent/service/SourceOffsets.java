@@ -0,0 +1,69 @@
+package com.repodocaiagent.agent.service;
+
+import com.github.javaparser.Position;
+import com.github.javaparser.Range;
+
+/**
+ * Converts JavaParser line/column positions into byte offsets of the UTF-8 encoded source they were parsed from.
+ * JavaParser counts columns in UTF-16 characters with a tab size of one.
+ */
+final class SourceOffsets {
+    private final byte[] content;
+    private final int[] lineStarts;
+
+    SourceOffsets(byte[] content) {
+        this.content = content;
+        // a UTF-8 byte order mark is skipped by the parser and not counted as a column
+        int start = content.length >= 3 && (content[0] & 0xFF) == 0xEF && (content[1] & 0xFF) == 0xBB && (content[2] & 0xFF) == 0xBF ? 3 : 0;
+        int lines = 1;
+        for (int i = start; i < content.length; i++) {
+            if (content[i] == '\n' || (content[i] == '\r' && (i + 1 == content.length || content[i + 1] != '\n'))) {
+                lines++;
+            }
+        }
+        lineStarts = new int[lines];
+        lineStarts[0] = start;
+        int line = 1;
+        for (int i = start; i < content.length; i++) {
+            if (content[i] == '\n' || (content[i] == '\r' && (i + 1 == content.length || content[i + 1] != '\n'))) {
+                lineStarts[line++] = i + 1;
+            }
+        }
+    }
+
+    /**
+     * @return Byte offset of the first character of the range
+     */
+    int begin(Range range) {
+        return offset(range.begin.line, range.begin.column);
+    }
+
+    /**
+     * @return Byte offset just past the last character of the range
+     */
+    int end(Range range) {
+        Position end = range.end;
+        return offset(end.line, end.column + 1);
+    }
+
+    private int offset(int line, int column) {
+        int offset = lineStarts[Math.min(line, lineStarts.length) - 1];
+        for (int chars = 1; chars < column && offset < content.length; ) {
+            int lead = content[offset] & 0xFF;
+            if (lead < 0x80) {
+                offset += 1;
+                chars += 1;
+            } else if (lead >= 0xF0) {
+                offset += 4;
+                chars += 2; // supplementary characters are a surrogate pair in UTF-16
+            } else if (lead >= 0xE0) {
+                offset += 3;
+                chars += 1;
+            } else {
+                offset += 2;
+                chars += 1;
+            }
+        }
+        return Math.min(offset, content.length);
+    }
+}
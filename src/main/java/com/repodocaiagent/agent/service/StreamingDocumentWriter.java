@@ -0,0 +1,219 @@
+package com.repodocaiagent.agent.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.UserMessage;
+import dev.langchain4j.model.StreamingResponseHandler;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.output.FinishReason;
+import dev.langchain4j.model.output.Response;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Streams LLM completions token by token into documentation files.
+ * Tokens are appended to a temp file next to the target as they arrive, and the target only
+ * appears, through an atomic rename, once the completion has finished. A stream that produces
+ * no token for the stall timeout is abandoned and retried. Streams are scheduled against the
+ * deployment's quotas together with the other requests, and recorded in the run metrics.
+ */
+public class StreamingDocumentWriter {
+    private static final Logger logger = LoggerFactory.getLogger(StreamingDocumentWriter.class);
+
+    private final StreamingChatLanguageModel streamingModel;
+    private final LlmResponseCache cache;
+    private final String modelFingerprint;
+    private final Duration stallTimeout;
+    private final int maxAttempts;
+    private final RateLimitedChatModel scheduler;
+    private final RunMetrics metrics;
+    private final AtomicLong retries = new AtomicLong();
+
+    /**
+     * @param streamingModel Model that streams completions
+     * @param cache Response cache consulted before streaming and filled afterwards, or null
+     * @param modelFingerprint Model settings for cache keys, from {@link CachingChatModel#fingerprint(String, double, int)}
+     * @param stallTimeout Longest gap between two tokens before the stream is considered stalled
+     * @param maxAttempts Number of times a stalled or failed stream is attempted in total
+     * @param scheduler Scheduler of the deployment's quotas every stream is sent through, or null
+     * @param metrics Metrics every stream is recorded in, in the run active on the calling thread, or null
+     */
+    public StreamingDocumentWriter(StreamingChatLanguageModel streamingModel, LlmResponseCache cache,
+                                   String modelFingerprint, Duration stallTimeout, int maxAttempts,
+                                   RateLimitedChatModel scheduler, RunMetrics metrics) {
+        this.streamingModel = streamingModel;
+        this.scheduler = scheduler;
+        this.metrics = metrics;
+        this.cache = cache;
+        this.modelFingerprint = modelFingerprint;
+        this.stallTimeout = stallTimeout;
+        this.maxAttempts = Math.max(1, maxAttempts);
+    }
+
+    /**
+     * Streams the completion of a prompt into a file.
+     *
+     * @param prompt Prompt text
+     * @param target File to create or replace once the completion is done
+     * @throws IOException If every attempt failed or stalled, or the file cannot be written
+     */
+    public void write(String prompt, Path target) throws IOException {
+        Files.createDirectories(target.getParent());
+        String cacheKey = cache != null ? CachingChatModel.cacheKey(modelFingerprint, List.of(UserMessage.from(prompt))) : null;
+        if (cache != null) {
+            Optional<String> cached = cache.get(cacheKey);
+            if (cached.isPresent()) {
+                logger.debug("LLM cache hit {} for {}", cacheKey, target);
+                Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+                Files.writeString(temp, cached.get());
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return;
+            }
+        }
+
+        IOException lastFailure = null;
+        for (int attempt = 1; attempt <= maxAttempts; attempt++) {
+            Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".part");
+            try {
+                Response<AiMessage> response = stream(prompt, temp);
+                if (cache != null && response.finishReason() != FinishReason.LENGTH) {
+                    cache.put(cacheKey, temp);
+                }
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                return;
+            } catch (IOException e) {
+                // the scheduler already sent a throttled stream again as often as it is allowed to
+                if (scheduler != null && RateLimitedChatModel.throttleDelay(e, attempt).isPresent()) {
+                    throw e;
+                }
+                lastFailure = e;
+                logger.warn("Streaming {} failed on attempt {} of {}: {}", target, attempt, maxAttempts, e.getMessage());
+                if (attempt < maxAttempts) {
+                    retries.incrementAndGet();
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+        }
+        throw lastFailure;
+    }
+
+    /**
+     * @return Number of failed or stalled streams that were started again
+     */
+    public long getRetries() {
+        return retries.get();
+    }
+
+    /**
+     * Streams one completion into a file once the scheduler admits it, returning once it has finished.
+     *
+     * @return The final response reported by the model
+     */
+    private Response<AiMessage> stream(String prompt, Path file) throws IOException {
+        if (scheduler == null) {
+            return meteredStream(prompt, file);
+        }
+        return scheduler.schedule(List.of(UserMessage.from(prompt)), () -> meteredStream(prompt, file));
+    }
+
+    /**
+     * Streams one completion into a file and records its latency and the tokens the model reports.
+     */
+    private Response<AiMessage> meteredStream(String prompt, Path file) throws IOException {
+        if (metrics == null) {
+            return sendStream(prompt, file);
+        }
+        RunMetrics active = metrics.active();
+        long start = System.nanoTime();
+        try {
+            Response<AiMessage> response = sendStream(prompt, file);
+            MeteredChatModel.recordResponse(active, System.nanoTime() - start, response);
+            return response;
+        } catch (IOException e) {
+            MeteredChatModel.recordFailure(active, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Streams one completion into a file, returning once it has finished.
+     *
+     * @return The final response reported by the model
+     */
+    private Response<AiMessage> sendStream(String prompt, Path file) throws IOException {
+        CompletableFuture<Response<AiMessage>> done = new CompletableFuture<>();
+        AtomicBoolean abandoned = new AtomicBoolean();
+        AtomicLong lastTokenNanos = new AtomicLong(System.nanoTime());
+
+        try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+            streamingModel.generate(prompt, new StreamingResponseHandler<AiMessage>() {
+                @Override
+                public void onNext(String token) {
+                    if (abandoned.get()) {
+                        return;
+                    }
+                    lastTokenNanos.set(System.nanoTime());
+                    try {
+                        synchronized (writer) {
+                            writer.write(token);
+                        }
+                    } catch (IOException e) {
+                        done.completeExceptionally(e);
+                    }
+                }
+
+                @Override
+                public void onComplete(Response<AiMessage> response) {
+                    done.complete(response);
+                }
+
+                @Override
+                public void onError(Throwable error) {
+                    done.completeExceptionally(error);
+                }
+            });
+
+            // wake up every stall interval and give up if no token arrived in the meantime
+            long stallNanos = stallTimeout.toNanos();
+            Response<AiMessage> response;
+            while (true) {
+                try {
+                    response = done.get(stallNanos, TimeUnit.NANOSECONDS);
+                    break;
+                } catch (TimeoutException e) {
+                    if (System.nanoTime() - lastTokenNanos.get() >= stallNanos) {
+                        throw new IOException("Stream stalled for " + stallTimeout.toSeconds() + "s");
+                    }
+                }
+            }
+            synchronized (writer) {
+                writer.flush();
+            }
+            return response;
+        } catch (ExecutionException e) {
+            throw new IOException("Streaming completion failed: " + e.getCause().getMessage(), e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while streaming completion", e);
+        } finally {
+            // the model API cannot cancel a stream, so late tokens of an abandoned stream are dropped
+            abandoned.set(true);
+        }
+    }
+}